@@ -0,0 +1,104 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateTimeComponents;
+import org.orekit.time.TimeScale;
+import org.orekit.time.TimeScalesFactory;
+
+/** Benchmarks for {@link AbsoluteDate} arithmetic and conversions.
+ * @author agent
+ * @since 14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class AbsoluteDateBenchmark {
+
+    /** UTC time scale. */
+    private TimeScale utc;
+
+    /** Reference date. */
+    private AbsoluteDate date;
+
+    /** Other date. */
+    private AbsoluteDate other;
+
+    /** Shift. */
+    private double dt;
+
+    /** Set up benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        utc   = TimeScalesFactory.getUTC();
+        date  = new AbsoluteDate(2020, 3, 14, 15, 9, 26.535897932, utc);
+        other = date.shiftedBy(86400.0 * 365.25 + 0.125);
+        dt    = 123.456789;
+    }
+
+    /** Benchmark date shift.
+     * @return shifted date
+     */
+    @Benchmark
+    public AbsoluteDate shiftedBy() {
+        return date.shiftedBy(dt);
+    }
+
+    /** Benchmark duration between dates.
+     * @return duration
+     */
+    @Benchmark
+    public double durationFrom() {
+        return other.durationFrom(date);
+    }
+
+    /** Benchmark date to UTC components.
+     * @return date components
+     */
+    @Benchmark
+    public DateTimeComponents getComponentsUTC() {
+        return date.getComponents(utc);
+    }
+
+    /** Benchmark date to string.
+     * @return string representation
+     */
+    @Benchmark
+    public String toStringUTC() {
+        return date.toString(utc);
+    }
+
+}
@@ -0,0 +1,115 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.KinematicTransform;
+import org.orekit.frames.StaticTransform;
+import org.orekit.frames.Transform;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmarks for {@link Frame#getTransformTo(Frame, AbsoluteDate)}.
+ * <p>
+ * Dates change at each call, in order to avoid measuring only the
+ * transforms caches.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FrameTransformBenchmark {
+
+    /** Number of distinct dates. */
+    private static final int NB_DATES = 100000;
+
+    /** Inertial frame. */
+    private Frame gcrf;
+
+    /** Earth frame. */
+    private Frame itrf;
+
+    /** Reference date. */
+    private AbsoluteDate t0;
+
+    /** Dates counter. */
+    private int counter;
+
+    /** Set up benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        gcrf    = FramesFactory.getGCRF();
+        itrf    = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        t0      = new AbsoluteDate(2003, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        counter = 0;
+    }
+
+    /** Get next date.
+     * @return next date
+     */
+    private AbsoluteDate nextDate() {
+        counter = (counter + 1) % NB_DATES;
+        return t0.shiftedBy(17.0 * counter);
+    }
+
+    /** Benchmark full transform.
+     * @return transform
+     */
+    @Benchmark
+    public Transform fullTransform() {
+        return gcrf.getTransformTo(itrf, nextDate());
+    }
+
+    /** Benchmark kinematic transform.
+     * @return transform
+     */
+    @Benchmark
+    public KinematicTransform kinematicTransform() {
+        return gcrf.getKinematicTransformTo(itrf, nextDate());
+    }
+
+    /** Benchmark static transform.
+     * @return transform
+     */
+    @Benchmark
+    public StaticTransform staticTransform() {
+        return gcrf.getStaticTransformTo(itrf, nextDate());
+    }
+
+}
@@ -0,0 +1,108 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.ICGEMFormatReader;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmarks for {@link HolmesFeatherstoneAttractionModel}.
+ * @author agent
+ * @since 14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class HolmesFeatherstoneBenchmark {
+
+    /** Degree and order of the gravity field. */
+    @Param({ "8", "20" })
+    private int degree;
+
+    /** Gravity model. */
+    private HolmesFeatherstoneAttractionModel model;
+
+    /** Spacecraft state. */
+    private SpacecraftState state;
+
+    /** Model parameters. */
+    private double[] parameters;
+
+    /** Central attraction coefficient. */
+    private double mu;
+
+    /** Set up benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new ICGEMFormatReader("^eigen-6s-truncated$", false));
+        final NormalizedSphericalHarmonicsProvider provider = GravityFieldFactory.getNormalizedProvider(degree, degree);
+        model = new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                                      provider);
+        final AbsoluteDate date = new AbsoluteDate(2003, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        state = new SpacecraftState(new KeplerianOrbit(7.0e6, 0.001, FastMath.toRadians(98.0), 0.5, 1.0, 0.0,
+                                                       PositionAngleType.TRUE, FramesFactory.getEME2000(),
+                                                       date, provider.getMu()));
+        parameters = model.getParameters(date);
+        mu         = provider.getMu();
+    }
+
+    /** Benchmark acceleration.
+     * @return acceleration
+     */
+    @Benchmark
+    public Vector3D acceleration() {
+        return model.acceleration(state, parameters);
+    }
+
+    /** Benchmark gradient in body frame (the position is used as is, without frame conversion).
+     * @return gradient
+     */
+    @Benchmark
+    public double[] gradient() {
+        return model.gradient(state.getDate(), state.getPosition(), mu);
+    }
+
+}
@@ -0,0 +1,100 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+/** Benchmarks for {@link OneAxisEllipsoid} conversions.
+ * @author agent
+ * @since 14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class OneAxisEllipsoidBenchmark {
+
+    /** Earth model. */
+    private OneAxisEllipsoid earth;
+
+    /** Earth frame. */
+    private Frame itrf;
+
+    /** Date. */
+    private AbsoluteDate date;
+
+    /** Cartesian point. */
+    private Vector3D point;
+
+    /** Geodetic point. */
+    private GeodeticPoint geodetic;
+
+    /** Set up benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        itrf     = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        earth    = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                        Constants.WGS84_EARTH_FLATTENING,
+                                        itrf);
+        date     = new AbsoluteDate(2003, 1, 1, 0, 0, 0.0, TimeScalesFactory.getUTC());
+        geodetic = new GeodeticPoint(FastMath.toRadians(43.6), FastMath.toRadians(1.44), 450000.0);
+        point    = earth.transform(geodetic);
+    }
+
+    /** Benchmark Cartesian to geodetic conversion.
+     * @return geodetic point
+     */
+    @Benchmark
+    public GeodeticPoint toGeodetic() {
+        return earth.transform(point, itrf, date);
+    }
+
+    /** Benchmark geodetic to Cartesian conversion.
+     * @return Cartesian point
+     */
+    @Benchmark
+    public Vector3D toCartesian() {
+        return earth.transform(geodetic);
+    }
+
+}
@@ -0,0 +1,125 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.orekit.Utils;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.tle.TLE;
+import org.orekit.propagation.analytical.tle.TLEBatchPropagator;
+import org.orekit.propagation.analytical.tle.TLEPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/** Benchmarks for {@link TLEPropagator} and {@link TLEBatchPropagator}.
+ * @author agent
+ * @since 14.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class TLEPropagatorBenchmark {
+
+    /** Number of satellites in batch. */
+    private static final int BATCH_SIZE = 1000;
+
+    /** Near-Earth TLE. */
+    private TLE tle;
+
+    /** Regular propagator. */
+    private TLEPropagator propagator;
+
+    /** Batch propagator. */
+    private TLEBatchPropagator batch;
+
+    /** Positions buffer. */
+    private double[] positions;
+
+    /** Velocities buffer. */
+    private double[] velocities;
+
+    /** Dates counter. */
+    private int counter;
+
+    /** Set up benchmark state.
+     */
+    @Setup
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        tle = new TLE("1 43196U 18015E   21055.59816856  .00000894  00000-0  38966-4 0  9996",
+                      "2 43196  97.4662 188.8169 0016935 299.6845  60.2706 15.24746686170319");
+        propagator = TLEPropagator.selectExtrapolator(tle);
+        final List<TLE> tles = new ArrayList<>(BATCH_SIZE);
+        for (int i = 0; i < BATCH_SIZE; ++i) {
+            tles.add(tle);
+        }
+        batch      = new TLEBatchPropagator(tles);
+        positions  = new double[3 * BATCH_SIZE];
+        velocities = new double[3 * BATCH_SIZE];
+        counter    = 0;
+    }
+
+    /** Get next date.
+     * @return next date
+     */
+    private AbsoluteDate nextDate() {
+        counter = (counter + 1) % 1440;
+        return tle.getDate().shiftedBy(60.0 * counter);
+    }
+
+    /** Benchmark full propagation.
+     * @return propagated state
+     */
+    @Benchmark
+    public SpacecraftState propagate() {
+        return propagator.propagate(nextDate());
+    }
+
+    /** Benchmark position-velocity computation.
+     * @return position-velocity
+     */
+    @Benchmark
+    public PVCoordinates getPVCoordinates() {
+        return propagator.getPVCoordinates(nextDate());
+    }
+
+    /** Benchmark batch propagation of {@link #BATCH_SIZE} satellites.
+     * @return positions buffer
+     */
+    @Benchmark
+    public double[] batch() {
+        batch.propagate(nextDate(), positions, velocities);
+        return positions;
+    }
+
+}
@@ -0,0 +1,34 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+/**
+ * JMH micro-benchmarks for Orekit hot paths.
+ * <p>
+ * These benchmarks are not part of the library nor of the test suite,
+ * they are compiled and run only with the {@code benchmarks} Maven profile:
+ * </p>
+ * <pre>
+ *   mvn -Pbenchmarks -DskipTests verify
+ * </pre>
+ * <p>
+ * Results are written in JSON format in {@code target/jmh-result.json}, so
+ * they can be compared across versions. Reference data are loaded from the
+ * test resources.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+package org.orekit.benchmarks;
@@ -18,7 +18,13 @@ package org.orekit.bodies;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -27,8 +33,10 @@ import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.regex.Pattern;
 
 import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.util.FastMath;
@@ -74,6 +82,15 @@ import org.orekit.utils.units.UnitsConverter;
  * Usually, big-endian files contain <code>bigendian</code> in their names, while little-endian files
  * contain <code>littleendian</code> in their names.</p>
  * <p>The loader supports files in TDB or TCB time scales.</p>
+ * <p>Two loading modes are available. The first one, selected by the constructors using
+ * a {@link DataProvidersManager}, reads the files as streams and stores the Chebyshev
+ * polynomials in a cache as they are needed. The second one, selected by the constructors
+ * using a {@link Path}, memory-maps a single uncompressed binary file and evaluates the
+ * Chebyshev polynomials directly from the mapped buffer. The second mode has almost no
+ * startup cost and does not use heap memory for the polynomials, which is interesting
+ * for large files like DE 440 or DE 441 covering centuries or millennia. The mapped
+ * buffer is read-only and is shared between the loaders created for the parent bodies
+ * and between threads.</p>
  * @author Luc Maisonobe
  */
 public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
@@ -221,6 +238,9 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
     /** Ephemeris for selected body. */
     private final GenericTimeStampedCache<PosVelChebyshev> ephemerides;
 
+    /** Memory-mapped ephemeris file (null if files are read as streams). */
+    private final MappedFile mappedFile;
+
     /** Constants defined in the file. */
     private final AtomicReference<Map<String, Double>> constants;
 
@@ -302,6 +322,7 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
 
         this.timeScales = timeScales;
         this.gcrf = gcrf;
+        this.mappedFile = null;
         constants = new AtomicReference<>();
 
         this.generateType  = generateType;
@@ -322,6 +343,150 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
 
     }
 
+    /** Create a loader for a memory-mapped JPL ephemerides binary file. This constructor
+     * uses the {@link DataContext#getDefault() default data context}.
+     *
+     * @param ephemerisFile uncompressed JPL or INPOP binary file
+     * @param generateType ephemeris type to generate
+     * @see #JPLEphemeridesLoader(Path, EphemerisType, TimeScales, Frame)
+     * @since 14.0
+     */
+    @DefaultDataContext
+    public JPLEphemeridesLoader(final Path ephemerisFile, final EphemerisType generateType) {
+        this(ephemerisFile, generateType,
+             DataContext.getDefault().getTimeScales(),
+             DataContext.getDefault().getFrames().getGCRF());
+    }
+
+    /** Create a loader for a memory-mapped JPL ephemerides binary file.
+     * <p>
+     * The file is mapped in memory at construction, and the Chebyshev polynomials
+     * are evaluated directly from the mapped buffer, without building any intermediate
+     * objects. The file must therefore be uncompressed. Contrary to the loaders using
+     * a {@link DataProvidersManager}, only one file is used, so it must cover the
+     * whole time range needed by the application.
+     * </p>
+     * @param ephemerisFile uncompressed JPL or INPOP binary file
+     * @param generateType ephemeris type to generate
+     * @param timeScales used to access the TCB and TDB time scales while loading data.
+     * @param gcrf Earth centered frame aligned with ICRF.
+     * @since 14.0
+     */
+    public JPLEphemeridesLoader(final Path ephemerisFile,
+                                final EphemerisType generateType,
+                                final TimeScales timeScales,
+                                final Frame gcrf) {
+        this(ephemerisFile, null, generateType, timeScales, gcrf);
+    }
+
+    /** Create a loader for a memory-mapped JPL ephemerides binary file.
+     * @param ephemerisFile uncompressed JPL or INPOP binary file
+     * @param shared already mapped file (null if file must be mapped)
+     * @param generateType ephemeris type to generate
+     * @param timeScales used to access the TCB and TDB time scales while loading data.
+     * @param gcrf Earth centered frame aligned with ICRF.
+     */
+    private JPLEphemeridesLoader(final Path ephemerisFile,
+                                 final MappedFile shared,
+                                 final EphemerisType generateType,
+                                 final TimeScales timeScales,
+                                 final Frame gcrf) {
+        super(Pattern.quote(ephemerisFile.getFileName().toString()), null);
+
+        this.timeScales = timeScales;
+        this.gcrf       = gcrf;
+        this.mappedFile = shared == null ? mapFile(ephemerisFile) : shared;
+
+        this.generateType  = generateType;
+        if (generateType == EphemerisType.SOLAR_SYSTEM_BARYCENTER) {
+            loadType = EphemerisType.EARTH_MOON;
+        } else if (generateType == EphemerisType.EARTH_MOON) {
+            loadType = EphemerisType.MOON;
+        } else {
+            loadType = generateType;
+        }
+
+        // the stream-based cache is never fed in this mode
+        ephemerides = null;
+        maxChunksDuration = Double.NaN;
+        chunksDuration    = Double.NaN;
+
+        // parse header for the selected body
+        bigEndian = mappedFile.bigEndian;
+        constants = new AtomicReference<>(parseConstants(mappedFile.first, mappedFile.second));
+        checkConstants(mappedFile.first, mappedFile.name);
+        if (loadType != EphemerisType.EARTH) {
+            parseFirstHeaderRecord(mappedFile.first, mappedFile.name);
+        }
+
+    }
+
+    /** Build a loader for a parent body, sharing the same data source.
+     * @param parentType ephemeris type of the parent body
+     * @return loader for the parent body
+     */
+    private JPLEphemeridesLoader buildParentLoader(final EphemerisType parentType) {
+        if (mappedFile == null) {
+            return new JPLEphemeridesLoader(getSupportedNames(), parentType,
+                                            getDataProvidersManager(), timeScales, gcrf);
+        } else {
+            return new JPLEphemeridesLoader(mappedFile.path, mappedFile, parentType, timeScales, gcrf);
+        }
+    }
+
+    /** Build the raw position-velocity provider for the loaded body.
+     * @return raw position-velocity provider
+     */
+    private RawPVProvider buildRawPVProvider() {
+        return mappedFile == null ? new EphemerisRawPVProvider() : new MappedRawPVProvider();
+    }
+
+    /** Map an ephemeris file in memory.
+     * @param ephemerisFile uncompressed JPL or INPOP binary file
+     * @return mapped file
+     */
+    private MappedFile mapFile(final Path ephemerisFile) {
+
+        final String name = ephemerisFile.toString();
+        try {
+
+            // read the two header records
+            final byte[] first;
+            final byte[] second;
+            try (InputStream input = Files.newInputStream(ephemerisFile)) {
+                first  = readFirstRecord(input, name);
+                second = new byte[first.length];
+                if (!readInRecord(input, second, 0)) {
+                    throw new OrekitException(OrekitMessages.UNABLE_TO_READ_JPL_HEADER, name);
+                }
+            }
+
+            // map the data records, splitting the file in several buffers if it is too large
+            try (FileChannel channel = FileChannel.open(ephemerisFile, StandardOpenOption.READ)) {
+                final int  recordSize        = first.length;
+                final long nbRecords         = channel.size() / recordSize - 2;
+                if (nbRecords < 1) {
+                    throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
+                }
+                final int  recordsPerSegment = Integer.MAX_VALUE / recordSize;
+                final ByteBuffer[] segments  = new ByteBuffer[(int) ((nbRecords + recordsPerSegment - 1) / recordsPerSegment)];
+                for (int i = 0; i < segments.length; ++i) {
+                    final long start   = (long) i * recordsPerSegment;
+                    final long records = FastMath.min(recordsPerSegment, nbRecords - start);
+                    segments[i] = channel.
+                                  map(FileChannel.MapMode.READ_ONLY, (start + 2) * recordSize, records * recordSize).
+                                  order(bigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+                }
+                return new MappedFile(ephemerisFile, first, second, bigEndian,
+                                      segments, recordSize, recordsPerSegment, nbRecords);
+            }
+
+        } catch (IOException ioe) {
+            throw new OrekitException(ioe, LocalizedCoreFormats.SIMPLE_MESSAGE, ioe.getLocalizedMessage());
+        }
+
+    }
+
     /** Load celestial body.
      * @param name name of the celestial body
      * @return loaded celestial body
@@ -339,16 +504,11 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
         switch (generateType) {
             case SOLAR_SYSTEM_BARYCENTER : {
                 scale = -1.0;
-                final JPLEphemeridesLoader parentLoader = new JPLEphemeridesLoader(
-                        getSupportedNames(),
-                        EphemerisType.EARTH_MOON,
-                        getDataProvidersManager(),
-                        timeScales,
-                        gcrf);
+                final JPLEphemeridesLoader parentLoader = buildParentLoader(EphemerisType.EARTH_MOON);
                 final CelestialBody parentBody =
                         parentLoader.loadCelestialBody(CelestialBodyFactory.EARTH_MOON);
                 definingFrameAlignedWithICRF = parentBody.getInertiallyOrientedFrame();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = buildRawPVProvider();
                 inertialFrameName = Predefined.ICRF.getName();
                 bodyOrientedFrameName = null;
                 break;
@@ -356,7 +516,7 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
             case EARTH_MOON :
                 scale         = 1.0 / (1.0 + getLoadedEarthMoonMassRatio());
                 definingFrameAlignedWithICRF = gcrf;
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = buildRawPVProvider();
                 break;
             case EARTH :
                 scale         = 1.0;
@@ -366,20 +526,15 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
             case MOON :
                 scale         =  1.0;
                 definingFrameAlignedWithICRF = gcrf;
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = buildRawPVProvider();
                 break;
             default : {
                 scale = 1.0;
-                final JPLEphemeridesLoader parentLoader = new JPLEphemeridesLoader(
-                        getSupportedNames(),
-                        EphemerisType.SOLAR_SYSTEM_BARYCENTER,
-                        getDataProvidersManager(),
-                        timeScales,
-                        gcrf);
+                final JPLEphemeridesLoader parentLoader = buildParentLoader(EphemerisType.SOLAR_SYSTEM_BARYCENTER);
                 final CelestialBody parentBody =
                         parentLoader.loadCelestialBody(CelestialBodyFactory.SOLAR_SYSTEM_BARYCENTER);
                 definingFrameAlignedWithICRF = parentBody.getInertiallyOrientedFrame();
-                rawPVProvider = new EphemerisRawPVProvider();
+                rawPVProvider = buildRawPVProvider();
             }
         }
 
@@ -594,6 +749,34 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
 
     }
 
+    /** Check astronomical unit and Earth-Moon mass ratio consistency.
+     * @param first first header record
+     * @param name name of the file (or zip entry)
+     */
+    private void checkConstants(final byte[] first, final String name) {
+
+        // check astronomical unit consistency
+        final double au = 1000 * extractDouble(first, HEADER_ASTRONOMICAL_UNIT_OFFSET);
+        if (au < 1.4e11 || au > 1.6e11) {
+            throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
+        }
+        if (FastMath.abs(getLoadedAstronomicalUnit() - au) >= 10.0) {
+            throw new OrekitException(OrekitMessages.INCONSISTENT_ASTRONOMICAL_UNIT_IN_FILES,
+                                      getLoadedAstronomicalUnit(), au);
+        }
+
+        // check Earth-Moon mass ratio consistency
+        final double emRat = extractDouble(first, HEADER_EM_RATIO_OFFSET);
+        if (emRat < 80 || emRat > 82) {
+            throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
+        }
+        if (FastMath.abs(getLoadedEarthMoonMassRatio() - emRat) >= 1.0e-5) {
+            throw new OrekitException(OrekitMessages.INCONSISTENT_EARTH_MOON_RATIO_IN_FILES,
+                                      getLoadedEarthMoonMassRatio(), emRat);
+        }
+
+    }
+
     /** Read first header record.
      * @param input input stream
      * @param name name of the file (or zip entry)
@@ -771,8 +954,14 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
      * @return extracted date
      */
     private AbsoluteDate extractDate(final byte[] record, final int offset) {
+        return julianDate(extractDouble(record, offset));
+    }
 
-        final double t = extractDouble(record, offset);
+    /** Convert a Julian day into a date.
+     * @param t Julian day
+     * @return converted date
+     */
+    private AbsoluteDate julianDate(final double t) {
         int    jDay    = (int) FastMath.floor(t);
         double seconds = (t + 0.5 - jDay) * Constants.JULIAN_DAY;
         if (seconds >= Constants.JULIAN_DAY) {
@@ -962,25 +1151,8 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
                 constants.compareAndSet(null, parseConstants(first, second));
             }
 
-            // check astronomical unit consistency
-            final double au = 1000 * extractDouble(first, HEADER_ASTRONOMICAL_UNIT_OFFSET);
-            if (au < 1.4e11 || au > 1.6e11) {
-                throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
-            }
-            if (FastMath.abs(getLoadedAstronomicalUnit() - au) >= 10.0) {
-                throw new OrekitException(OrekitMessages.INCONSISTENT_ASTRONOMICAL_UNIT_IN_FILES,
-                                          getLoadedAstronomicalUnit(), au);
-            }
-
-            // check Earth-Moon mass ratio consistency
-            final double emRat = extractDouble(first, HEADER_EM_RATIO_OFFSET);
-            if (emRat < 80 || emRat > 82) {
-                throw new OrekitException(OrekitMessages.NOT_A_JPL_EPHEMERIDES_BINARY_FILE, name);
-            }
-            if (FastMath.abs(getLoadedEarthMoonMassRatio() - emRat) >= 1.0e-5) {
-                throw new OrekitException(OrekitMessages.INCONSISTENT_EARTH_MOON_RATIO_IN_FILES,
-                                          getLoadedEarthMoonMassRatio(), emRat);
-            }
+            // check astronomical unit and Earth-Moon mass ratio consistency
+            checkConstants(first, name);
 
             // parse first header record
             parseFirstHeaderRecord(first, name);
@@ -1129,6 +1301,363 @@ public class JPLEphemeridesLoader extends AbstractSelfFeedingLoader
 
     }
 
+    /** Raw position-velocity provider evaluating polynomials directly from memory-mapped file.
+     * <p>
+     * The mapped buffers are only accessed using absolute reads, which do not change their
+     * state, so the same buffers can be used concurrently by several threads.
+     * </p>
+     */
+    private class MappedRawPVProvider implements RawPVProvider {
+
+        /** Tolerance for dates slightly outside of the file range (in seconds). */
+        private static final double TOLERANCE = 0.001;
+
+        /** Mapped data records. */
+        private final ByteBuffer[] segments;
+
+        /** Size of the records in bytes. */
+        private final int recordSize;
+
+        /** Number of records in each segment. */
+        private final int recordsPerSegment;
+
+        /** Number of data records. */
+        private final long nbRecords;
+
+        /** Start of the first data record. */
+        private final AbsoluteDate dataStart;
+
+        /** End of the last data record. */
+        private final AbsoluteDate dataEnd;
+
+        /** Duration of each data record. */
+        private final double recordDuration;
+
+        /** Duration of each chunk. */
+        private final double duration;
+
+        /** Index of the first coefficient for selected body. */
+        private final int first;
+
+        /** Number of coefficients for selected body. */
+        private final int nbCoeffs;
+
+        /** Number of chunks in each record for selected body. */
+        private final int nbChunks;
+
+        /** Number of components in the file. */
+        private final int nbComponents;
+
+        /** Unit of the position coordinates (as a multiple of meters). */
+        private final double unit;
+
+        /** Time scale of the date coordinates. */
+        private final TimeScale scale;
+
+        /** Velocity scale. */
+        private final double vScale;
+
+        /** Acceleration scale. */
+        private final double aScale;
+
+        /** Simple constructor.
+         */
+        MappedRawPVProvider() {
+            this.segments          = mappedFile.segments;
+            this.recordSize        = mappedFile.recordSize;
+            this.recordsPerSegment = mappedFile.recordsPerSegment;
+            this.nbRecords         = mappedFile.nbRecords;
+            this.duration          = chunksDuration;
+            this.first             = firstIndex;
+            this.nbCoeffs          = coeffs;
+            this.nbChunks          = chunks;
+            this.nbComponents      = components;
+            this.unit              = positionUnit;
+            this.scale             = timeScale;
+            this.vScale            = 2 / duration;
+            this.aScale            = vScale * vScale;
+
+            final AbsoluteDate firstEnd = julianDate(segments[0].getDouble(DATE_END_RANGE_OFFSET));
+            this.dataStart         = julianDate(segments[0].getDouble(DATA_START_RANGE_OFFSET));
+            this.recordDuration    = firstEnd.durationFrom(dataStart);
+            this.dataEnd           = dataStart.shiftedBy(nbRecords * recordDuration);
+
+        }
+
+        /** Locate the chunk covering a date.
+         * @param date date
+         * @return chunk index, counted from the first chunk of the first data record
+         */
+        private long locate(final AbsoluteDate date) {
+
+            final double dt = date.offsetFrom(dataStart, scale);
+            if (dt < -TOLERANCE) {
+                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE,
+                                          date, dataStart, dataEnd, -dt);
+            }
+            if (dt > nbRecords * recordDuration + TOLERANCE) {
+                throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER,
+                                          date, dataStart, dataEnd, dt - nbRecords * recordDuration);
+            }
+
+            final long record = FastMath.max(0, FastMath.min(nbRecords - 1, (long) FastMath.floor(dt / recordDuration)));
+            final int  chunk  = FastMath.max(0, FastMath.min(nbChunks - 1,
+                                                             (int) FastMath.floor((dt - record * recordDuration) / duration)));
+            return record * nbChunks + chunk;
+
+        }
+
+        /** Get the start date of a chunk.
+         * @param index chunk index, counted from the first chunk of the first data record
+         * @return start date of the chunk
+         */
+        private AbsoluteDate chunkStart(final long index) {
+            final long record = index / nbChunks;
+            final int  chunk  = (int) (index % nbChunks);
+            return dataStart.shiftedBy(record * recordDuration).shiftedBy(chunk * duration);
+        }
+
+        /** Get the buffer containing a chunk.
+         * @param index chunk index, counted from the first chunk of the first data record
+         * @return buffer containing the chunk
+         */
+        private ByteBuffer buffer(final long index) {
+            return segments[(int) (index / nbChunks / recordsPerSegment)];
+        }
+
+        /** Get the byte offset of the first X coefficient of a chunk.
+         * @param index chunk index, counted from the first chunk of the first data record
+         * @return byte offset of the first X coefficient within the {@link #buffer(long) buffer}
+         */
+        private int offset(final long index) {
+            final long record = index / nbChunks;
+            final int  chunk  = (int) (index % nbChunks);
+            return (int) (record % recordsPerSegment) * recordSize +
+                   8 * (first + nbComponents * chunk * nbCoeffs - 1);
+        }
+
+        /** Compute value of Chebyshev's polynomial independent variable.
+         * @param date date
+         * @param index chunk index, counted from the first chunk of the first data record
+         * @return independent variable value
+         */
+        private double independentVariable(final AbsoluteDate date, final long index) {
+            return (2 * date.offsetFrom(chunkStart(index), scale) - duration) / duration;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public PVCoordinates getRawPV(final AbsoluteDate date) {
+
+            final long       index  = locate(date);
+            final ByteBuffer buffer = buffer(index);
+            final int        xBase  = offset(index);
+            final int        yBase  = xBase + 8 * nbCoeffs;
+            final int        zBase  = yBase + 8 * nbCoeffs;
+
+            // normalize date
+            final double t    = independentVariable(date, index);
+            final double twoT = 2 * t;
+
+            // initialize Chebyshev polynomials recursion
+            double pKm1 = 1;
+            double pK   = t;
+            double xP   = unit * buffer.getDouble(xBase);
+            double yP   = unit * buffer.getDouble(yBase);
+            double zP   = unit * buffer.getDouble(zBase);
+
+            // initialize Chebyshev polynomials derivatives recursion
+            double qKm1 = 0;
+            double qK   = 1;
+            double xV   = 0;
+            double yV   = 0;
+            double zV   = 0;
+
+            // initialize Chebyshev polynomials second derivatives recursion
+            double rKm1 = 0;
+            double rK   = 0;
+            double xA   = 0;
+            double yA   = 0;
+            double zA   = 0;
+
+            // combine polynomials by applying coefficients read from the mapped buffer
+            for (int k = 1; k < nbCoeffs; ++k) {
+
+                final double xC = unit * buffer.getDouble(xBase + 8 * k);
+                final double yC = unit * buffer.getDouble(yBase + 8 * k);
+                final double zC = unit * buffer.getDouble(zBase + 8 * k);
+
+                // consider last computed polynomials on position
+                xP += xC * pK;
+                yP += yC * pK;
+                zP += zC * pK;
+
+                // consider last computed polynomials on velocity
+                xV += xC * qK;
+                yV += yC * qK;
+                zV += zC * qK;
+
+                // consider last computed polynomials on acceleration
+                xA += xC * rK;
+                yA += yC * rK;
+                zA += zC * rK;
+
+                // compute next Chebyshev polynomial value
+                final double pKm2 = pKm1;
+                pKm1 = pK;
+                pK   = twoT * pKm1 - pKm2;
+
+                // compute next Chebyshev polynomial derivative
+                final double qKm2 = qKm1;
+                qKm1 = qK;
+                qK   = twoT * qKm1 + 2 * pKm1 - qKm2;
+
+                // compute next Chebyshev polynomial second derivative
+                final double rKm2 = rKm1;
+                rKm1 = rK;
+                rK   = twoT * rKm1 + 4 * qKm1 - rKm2;
+
+            }
+
+            return new PVCoordinates(new Vector3D(xP, yP, zP),
+                                     new Vector3D(xV * vScale, yV * vScale, zV * vScale),
+                                     new Vector3D(xA * aScale, yA * aScale, zA * aScale));
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public Vector3D getRawPosition(final AbsoluteDate date) {
+
+            final long       index  = locate(date);
+            final ByteBuffer buffer = buffer(index);
+            final int        xBase  = offset(index);
+            final int        yBase  = xBase + 8 * nbCoeffs;
+            final int        zBase  = yBase + 8 * nbCoeffs;
+
+            // normalize date
+            final double t    = independentVariable(date, index);
+            final double twoT = 2 * t;
+
+            // initialize Chebyshev polynomials recursion
+            double pKm1 = 1;
+            double pK   = t;
+            double xP   = unit * buffer.getDouble(xBase);
+            double yP   = unit * buffer.getDouble(yBase);
+            double zP   = unit * buffer.getDouble(zBase);
+
+            // combine polynomials by applying coefficients read from the mapped buffer
+            for (int k = 1; k < nbCoeffs; ++k) {
+
+                // consider last computed polynomials on position
+                xP += unit * buffer.getDouble(xBase + 8 * k) * pK;
+                yP += unit * buffer.getDouble(yBase + 8 * k) * pK;
+                zP += unit * buffer.getDouble(zBase + 8 * k) * pK;
+
+                // compute next Chebyshev polynomial value
+                final double pKm2 = pKm1;
+                pKm1 = pK;
+                pK   = twoT * pKm1 - pKm2;
+
+            }
+
+            return new Vector3D(xP, yP, zP);
+
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <T extends CalculusFieldElement<T>> FieldPVCoordinates<T> getRawPV(final FieldAbsoluteDate<T> date) {
+            return getChebyshev(date.toAbsoluteDate()).getPositionVelocityAcceleration(date);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public <T extends CalculusFieldElement<T>> FieldVector3D<T> getRawPosition(final FieldAbsoluteDate<T> date) {
+            return getChebyshev(date.toAbsoluteDate()).getPosition(date);
+        }
+
+        /** Build a transient Chebyshev polynomial for given date.
+         * <p>
+         * This is used only for field evaluation, where the cost of copying
+         * the coefficients is negligible with respect to the evaluation itself.
+         * </p>
+         * @param date date
+         * @return Chebyshev polynomial covering the date
+         */
+        private PosVelChebyshev getChebyshev(final AbsoluteDate date) {
+            final long       index   = locate(date);
+            final ByteBuffer buffer  = buffer(index);
+            final int        xBase   = offset(index);
+            final double[]   xCoeffs = new double[nbCoeffs];
+            final double[]   yCoeffs = new double[nbCoeffs];
+            final double[]   zCoeffs = new double[nbCoeffs];
+            for (int k = 0; k < nbCoeffs; ++k) {
+                xCoeffs[k] = unit * buffer.getDouble(xBase + 8 * k);
+                yCoeffs[k] = unit * buffer.getDouble(xBase + 8 * (k +     nbCoeffs));
+                zCoeffs[k] = unit * buffer.getDouble(xBase + 8 * (k + 2 * nbCoeffs));
+            }
+            return new PosVelChebyshev(chunkStart(index), scale, duration, xCoeffs, yCoeffs, zCoeffs);
+        }
+
+    }
+
+    /** Memory-mapped ephemeris file, shared between the loaders of all bodies. */
+    private static class MappedFile {
+
+        /** Path of the file. */
+        private final Path path;
+
+        /** Name of the file. */
+        private final String name;
+
+        /** First header record. */
+        private final byte[] first;
+
+        /** Second header record. */
+        private final byte[] second;
+
+        /** Indicator for binary file endianness. */
+        private final boolean bigEndian;
+
+        /** Mapped data records. */
+        private final ByteBuffer[] segments;
+
+        /** Size of the records in bytes. */
+        private final int recordSize;
+
+        /** Number of records in each segment. */
+        private final int recordsPerSegment;
+
+        /** Number of data records. */
+        private final long nbRecords;
+
+        /** Simple constructor.
+         * @param path path of the file
+         * @param first first header record
+         * @param second second header record
+         * @param bigEndian indicator for binary file endianness
+         * @param segments mapped data records
+         * @param recordSize size of the records in bytes
+         * @param recordsPerSegment number of records in each segment
+         * @param nbRecords number of data records
+         */
+        MappedFile(final Path path, final byte[] first, final byte[] second, final boolean bigEndian,
+                   final ByteBuffer[] segments, final int recordSize,
+                   final int recordsPerSegment, final long nbRecords) {
+            this.path              = path;
+            this.name              = path.toString();
+            this.first             = first;
+            this.second            = second;
+            this.bigEndian         = bigEndian;
+            this.segments          = segments;
+            this.recordSize        = recordSize;
+            this.recordsPerSegment = recordsPerSegment;
+            this.nbRecords         = nbRecords;
+        }
+
+    }
+
     /** Raw position-velocity provider providing always zero. */
     private static class ZeroRawPVProvider implements RawPVProvider {
 
@@ -37,6 +37,12 @@ import org.orekit.errors.OrekitException;
  * <p>
  * Zip archives entries are supported recursively.
  * </p>
+ * <p>
+ * If a {@link DataProvidersManager#setParsingPool(java.util.concurrent.ForkJoinPool)
+ * parsing pool} has been configured and the loader is a {@link ParallelDataLoader},
+ * all the supported inputs are parsed concurrently (zip archives entries are still
+ * read sequentially) and merged in the same order as in sequential loading.
+ * </p>
  * @since 10.1
  * @see DataProvidersManager
  * @see NetworkCrawler
@@ -103,6 +109,11 @@ public abstract class AbstractListCrawler<T> implements DataProvider {
                         final DataProvidersManager manager) {
 
         try {
+
+            if (manager.getParsingPool() != null && visitor instanceof ParallelDataLoader) {
+                return feedConcurrently(supported, (ParallelDataLoader<?>) visitor, manager);
+            }
+
             OrekitException delayedException = null;
             boolean loaded = false;
             for (T input : inputs) {
@@ -153,4 +164,55 @@ public abstract class AbstractListCrawler<T> implements DataProvider {
 
     }
 
+    /** Feed a parallel data loader with all inputs.
+     * @param <P> type of the data parsed from one input
+     * @param supported pattern for file names supported by the visitor
+     * @param visitor data loader to feed
+     * @param manager with the filters to apply and the parsing pool
+     * @return true if something has been loaded
+     * @exception IOException if data cannot be read
+     * @exception ParseException if data cannot be parsed
+     * @since 14.0
+     */
+    private <P> boolean feedConcurrently(final Pattern supported,
+                                         final ParallelDataLoader<P> visitor,
+                                         final DataProvidersManager manager)
+        throws IOException, ParseException {
+
+        final ConcurrentFeeder<P> feeder = new ConcurrentFeeder<>(visitor, manager.getParsingPool());
+        for (T input : inputs) {
+            try {
+
+                final String name     = getCompleteName(input);
+                final String fileName = getBaseName(input);
+                if (ZIP_ARCHIVE_PATTERN.matcher(fileName).matches()) {
+
+                    // browse inside the zip/jar file, sequentially
+                    feeder.addSequential(() -> {
+                        getZipJarCrawler(input).feed(supported, visitor, manager);
+                        return true;
+                    });
+
+                } else {
+
+                    // apply all registered filters
+                    DataSource data = new DataSource(fileName, () -> getStream(input));
+                    data = manager.getFiltersManager().applyRelevantFilters(data);
+
+                    if (supported.matcher(data.getName()).matches()) {
+                        // parse the current input concurrently
+                        feeder.addSource(data, name);
+                    }
+
+                }
+
+            } catch (OrekitException oe) {
+                feeder.addFailure(oe);
+            }
+        }
+
+        return feeder.mergeAll();
+
+    }
+
 }
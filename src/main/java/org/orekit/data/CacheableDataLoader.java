@@ -0,0 +1,40 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+/** Interface for loaders whose parsed data can be stored in a {@link ParsedDataCache}.
+ * <p>
+ * When a {@link DataProvidersManager#setParsedDataCache(ParsedDataCache) cache} has been
+ * configured, the data parsed from each source are {@link ParsedDataCodec#encode(Object,
+ * java.io.DataOutput) encoded} in the cache, and later loadings of the same source
+ * content just {@link ParsedDataCodec#decode(java.nio.ByteBuffer, String) decode} them
+ * instead of calling {@link #parse(java.io.InputStream, String)}.
+ * </p>
+ * @param <T> type of the data parsed from one data source
+ * @see ParsedDataCache
+ * @author agent
+ * @since 14.0
+ */
+public interface CacheableDataLoader<T> extends ParallelDataLoader<T> {
+
+    /** Get the codec for parsed data.
+     * @return codec for parsed data (null if parsed data cannot be cached
+     * in the current configuration)
+     */
+    ParsedDataCodec<T> getCodec();
+
+}
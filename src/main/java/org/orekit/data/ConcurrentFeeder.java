@@ -0,0 +1,212 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.orekit.errors.OrekitException;
+
+/** Helper feeding a {@link ParallelDataLoader} with concurrent parsing.
+ * <p>
+ * Data providers register the data sources in crawling order. Parsing of each
+ * source is submitted to the pool as soon as it is registered, and {@link #mergeAll()}
+ * merges the parsed data in registration order, so the result does not depend on
+ * the order in which parsing tasks complete.
+ * </p>
+ * @param <T> type of the data parsed from one data source
+ * @author agent
+ * @since 14.0
+ */
+class ConcurrentFeeder<T> {
+
+    /** Loader to feed. */
+    private final ParallelDataLoader<T> loader;
+
+    /** Pool for parsing tasks. */
+    private final ForkJoinPool pool;
+
+    /** Steps to perform, in crawling order. */
+    private final List<Step> steps;
+
+    /** Simple constructor.
+     * @param loader loader to feed
+     * @param pool pool for parsing tasks
+     */
+    ConcurrentFeeder(final ParallelDataLoader<T> loader, final ForkJoinPool pool) {
+        this.loader = loader;
+        this.pool   = pool;
+        this.steps  = new ArrayList<>();
+    }
+
+    /** Add a data source, parsing it concurrently.
+     * @param data data source (with filters already applied)
+     * @param name name of the data source
+     */
+    void addSource(final DataSource data, final String name) {
+        final ForkJoinTask<Parsed<T>> task = pool.submit(() -> {
+            try (InputStream input = data.getOpener().openStreamOnce()) {
+                return new Parsed<>(loader.parse(input, name), null);
+            } catch (IOException | ParseException | OrekitException e) {
+                return new Parsed<>(null, e);
+            }
+        });
+        steps.add(new Step() {
+
+            /** {@inheritDoc} */
+            @Override
+            public boolean perform() throws IOException, ParseException {
+                final Parsed<T> parsed = task.join();
+                if (parsed.exception instanceof IOException) {
+                    throw (IOException) parsed.exception;
+                } else if (parsed.exception instanceof ParseException) {
+                    throw (ParseException) parsed.exception;
+                } else if (parsed.exception != null) {
+                    throw (OrekitException) parsed.exception;
+                }
+                loader.merge(parsed.data, name);
+                return true;
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancel() {
+                task.cancel(false);
+            }
+
+        });
+    }
+
+    /** Add a step to perform sequentially, in the merging thread.
+     * <p>
+     * This is used for example for zip archives, which entries are read sequentially.
+     * </p>
+     * @param step step to perform
+     */
+    void addSequential(final Step step) {
+        steps.add(step);
+    }
+
+    /** Add a failure encountered during crawling.
+     * @param failure failure encountered
+     */
+    void addFailure(final OrekitException failure) {
+        steps.add(() -> {
+            throw failure;
+        });
+    }
+
+    /** Merge all parsed data, in crawling order.
+     * <p>
+     * As in sequential loading, {@link OrekitException} errors are delayed and
+     * rethrown only if nothing has been loaded, whereas other errors are thrown
+     * immediately.
+     * </p>
+     * @return true if something has been loaded
+     * @exception IOException if data cannot be read
+     * @exception ParseException if data cannot be parsed
+     */
+    boolean mergeAll() throws IOException, ParseException {
+
+        OrekitException delayedException = null;
+        boolean loaded = false;
+        try {
+            for (int i = 0; i < steps.size(); ++i) {
+                if (!loader.stillAcceptsData()) {
+                    // the remaining parsed data are not needed
+                    cancel(i);
+                    break;
+                }
+                try {
+                    loaded = steps.get(i).perform() || loaded;
+                } catch (OrekitException oe) {
+                    delayedException = oe;
+                } catch (IOException | ParseException | RuntimeException e) {
+                    cancel(i + 1);
+                    throw e;
+                }
+            }
+        } finally {
+            steps.clear();
+        }
+
+        if (!loaded && delayedException != null) {
+            throw delayedException;
+        }
+
+        return loaded;
+
+    }
+
+    /** Cancel remaining steps.
+     * @param start index of the first step to cancel
+     */
+    private void cancel(final int start) {
+        for (int i = start; i < steps.size(); ++i) {
+            steps.get(i).cancel();
+        }
+    }
+
+    /** Interface for one step of the merging process. */
+    interface Step {
+
+        /** Perform the step.
+         * @return true if something has been loaded
+         * @exception IOException if data cannot be read
+         * @exception ParseException if data cannot be parsed
+         */
+        boolean perform() throws IOException, ParseException;
+
+        /** Cancel the step.
+         * <p>
+         * The default implementation does nothing.
+         * </p>
+         */
+        default void cancel() {
+            // nothing to do by default
+        }
+
+    }
+
+    /** Container for the outcome of a parsing task.
+     * @param <T> type of the data parsed from one data source
+     */
+    private static class Parsed<T> {
+
+        /** Parsed data (null if parsing failed). */
+        private final T data;
+
+        /** Exception thrown during parsing (null if parsing succeeded). */
+        private final Exception exception;
+
+        /** Simple constructor.
+         * @param data parsed data (null if parsing failed)
+         * @param exception exception thrown during parsing (null if parsing succeeded)
+         */
+        Parsed(final T data, final Exception exception) {
+            this.data      = data;
+            this.exception = exception;
+        }
+
+    }
+
+}
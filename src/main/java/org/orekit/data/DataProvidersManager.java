@@ -26,6 +26,7 @@ import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 import org.orekit.errors.OrekitException;
@@ -87,11 +88,23 @@ public class DataProvidersManager {
     /** Loaded data. */
     private final Set<String> loaded;
 
+    /** Pool for parsing data sources concurrently (null for sequential parsing).
+     * @since 14.0
+     */
+    private ForkJoinPool parsingPool;
+
+    /** Cache for parsed data (null if no cache is used).
+     * @since 14.0
+     */
+    private ParsedDataCache parsedDataCache;
+
     /** Build an instance with default configuration. */
     public DataProvidersManager() {
-        providers      = new ArrayList<>();
-        filtersManager = new FiltersManager();
-        loaded         = new LinkedHashSet<>();
+        providers       = new ArrayList<>();
+        filtersManager  = new FiltersManager();
+        loaded          = new LinkedHashSet<>();
+        parsingPool     = null;
+        parsedDataCache = null;
         resetFiltersToDefault();
     }
 
@@ -271,6 +284,61 @@ public class DataProvidersManager {
         loaded.clear();
     }
 
+    /** Set the pool for parsing data sources concurrently.
+     * <p>
+     * When a pool is set, the data providers that support it ({@link DirectoryCrawler}
+     * and the providers based on {@link AbstractListCrawler}) parse all the data sources
+     * supported by {@link ParallelDataLoader parallel loaders} concurrently, and merge
+     * the parsed data in crawling order. Loaders that do not implement
+     * {@link ParallelDataLoader} are always fed sequentially. Entries of zip archives
+     * are always read sequentially.
+     * </p>
+     * <p>
+     * By default, no pool is set and all data sources are parsed sequentially.
+     * </p>
+     * @param parsingPool pool for parsing data sources (null for sequential parsing)
+     * @see #getParsingPool()
+     * @since 14.0
+     */
+    public void setParsingPool(final ForkJoinPool parsingPool) {
+        this.parsingPool = parsingPool;
+    }
+
+    /** Get the pool for parsing data sources concurrently.
+     * @return pool for parsing data sources (null for sequential parsing)
+     * @see #setParsingPool(ForkJoinPool)
+     * @since 14.0
+     */
+    public ForkJoinPool getParsingPool() {
+        return parsingPool;
+    }
+
+    /** Set the cache for parsed data.
+     * <p>
+     * When a cache is set, the data parsed by {@link CacheableDataLoader cacheable
+     * loaders} are stored in it, and retrieved from it instead of being parsed again
+     * when the same data sources are loaded later on, possibly by another JVM.
+     * </p>
+     * <p>
+     * By default, no cache is set.
+     * </p>
+     * @param parsedDataCache cache for parsed data (null if no cache is used)
+     * @see #getParsedDataCache()
+     * @since 14.0
+     */
+    public void setParsedDataCache(final ParsedDataCache parsedDataCache) {
+        this.parsedDataCache = parsedDataCache;
+    }
+
+    /** Get the cache for parsed data.
+     * @return cache for parsed data (null if no cache is used)
+     * @see #setParsedDataCache(ParsedDataCache)
+     * @since 14.0
+     */
+    public ParsedDataCache getParsedDataCache() {
+        return parsedDataCache;
+    }
+
     /** Feed a data file loader by browsing all data providers.
      * <p>
      * If this method is called with an empty list of providers, a default
@@ -301,7 +369,9 @@ public class DataProvidersManager {
         }
 
         // monitor the data that the loader will load
-        final DataLoader monitoredLoader = new MonitoringWrapper(loader);
+        final DataLoader monitoredLoader = (loader instanceof ParallelDataLoader) ?
+                                           monitor((ParallelDataLoader<?>) loader) :
+                                           new MonitoringWrapper(loader);
 
         // crawl the data collection
         OrekitException delayedException = null;
@@ -327,6 +397,16 @@ public class DataProvidersManager {
 
     }
 
+    /** Build a monitoring wrapper for a parallel loader.
+     * @param <T> type of the data parsed from one data source
+     * @param loader loader to monitor
+     * @return monitoring wrapper
+     * @since 14.0
+     */
+    private <T> DataLoader monitor(final ParallelDataLoader<T> loader) {
+        return new ParallelMonitoringWrapper<>(loader);
+    }
+
     /** Data loading monitoring wrapper class. */
     private class MonitoringWrapper implements DataLoader {
 
@@ -360,4 +440,56 @@ public class DataProvidersManager {
 
     }
 
+    /** Data loading monitoring wrapper class for parallel loaders.
+     * @param <T> type of the data parsed from one data source
+     * @since 14.0
+     */
+    private class ParallelMonitoringWrapper<T> implements ParallelDataLoader<T> {
+
+        /** Wrapped loader. */
+        private final ParallelDataLoader<T> loader;
+
+        /** Cache for parsed data (null if loader is not cacheable or no cache is used). */
+        private final ParsedDataCache cache;
+
+        /** Simple constructor.
+         * @param loader loader to monitor
+         */
+        ParallelMonitoringWrapper(final ParallelDataLoader<T> loader) {
+            this.loader = loader;
+            this.cache  = (loader instanceof CacheableDataLoader &&
+                           ((CacheableDataLoader<?>) loader).getCodec() != null) ? parsedDataCache : null;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean stillAcceptsData() {
+            // delegate to monitored loader
+            return loader.stillAcceptsData();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public T parse(final InputStream input, final String name)
+            throws IOException, ParseException {
+            // delegate to monitored loader, possibly through the cache
+            return (cache == null) ?
+                   loader.parse(input, name) :
+                   cache.parse((CacheableDataLoader<T>) loader, input, name);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void merge(final T parsed, final String name) {
+
+            // delegate to monitored loader
+            loader.merge(parsed, name);
+
+            // monitor the fact new data has been loaded
+            loaded.add(name);
+
+        }
+
+    }
+
 }
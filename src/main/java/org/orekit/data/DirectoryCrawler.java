@@ -44,6 +44,12 @@ import org.orekit.errors.OrekitMessages;
  * Zip archives entries are supported recursively.
  * </p>
  * <p>
+ * If a {@link DataProvidersManager#setParsingPool(java.util.concurrent.ForkJoinPool)
+ * parsing pool} has been configured and the loader is a {@link ParallelDataLoader},
+ * all the supported files are parsed concurrently (zip archives entries are still
+ * read sequentially) and merged in the same order as in sequential loading.
+ * </p>
+ * <p>
  * This is a simple application of the <code>visitor</code> design pattern for
  * directory hierarchy crawling.
  * </p>
@@ -70,6 +76,9 @@ public class DirectoryCrawler implements DataProvider {
                         final DataLoader visitor,
                         final DataProvidersManager manager) {
         try {
+            if (manager.getParsingPool() != null && visitor instanceof ParallelDataLoader) {
+                return feedConcurrently(supported, (ParallelDataLoader<?>) visitor, manager);
+            }
             return feed(supported, visitor, manager, root);
         } catch (IOException | ParseException ioe) {
             throw new OrekitException(ioe, new DummyLocalizable(ioe.getMessage()));
@@ -145,4 +154,79 @@ public class DirectoryCrawler implements DataProvider {
 
     }
 
+    /** Feed a parallel data file loader by browsing the directory hierarchy.
+     * @param <T> type of the data parsed from one data file
+     * @param supported pattern for file names supported by the visitor
+     * @param visitor data file visitor to feed
+     * @param manager with the filters to apply and the parsing pool
+     * @return true if something has been loaded
+     * @exception IOException if data cannot be read
+     * @exception ParseException if data cannot be read
+     * @since 14.0
+     */
+    private <T> boolean feedConcurrently(final Pattern supported,
+                                         final ParallelDataLoader<T> visitor,
+                                         final DataProvidersManager manager)
+        throws IOException, ParseException {
+        final ConcurrentFeeder<T> feeder = new ConcurrentFeeder<>(visitor, manager.getParsingPool());
+        crawl(supported, visitor, manager, root, feeder);
+        return feeder.mergeAll();
+    }
+
+    /** Register the data files found by browsing a directory hierarchy.
+     * @param supported pattern for file names supported by the visitor
+     * @param visitor data file visitor to feed
+     * @param manager with the filters to apply
+     * @param directory current directory
+     * @param feeder feeder in which files are registered
+     * @exception IOException if filters cannot be applied
+     * @since 14.0
+     */
+    private void crawl(final Pattern supported,
+                       final DataLoader visitor,
+                       final DataProvidersManager manager,
+                       final File directory,
+                       final ConcurrentFeeder<?> feeder)
+        throws IOException {
+
+        // search in current directory
+        final File[] list = directory.listFiles();
+        if (list == null) {
+            // notify about race condition if directory is removed by another program
+            feeder.addFailure(new OrekitException(OrekitMessages.NOT_A_DIRECTORY, directory.getAbsolutePath()));
+            return;
+        }
+        Arrays.sort(list, File::compareTo);
+
+        for (final File file : list) {
+            try {
+                if (file.isDirectory()) {
+
+                    // recurse in the sub-directory
+                    crawl(supported, visitor, manager, file, feeder);
+
+                } else if (ZIP_ARCHIVE_PATTERN.matcher(file.getName()).matches()) {
+
+                    // browse inside the zip/jar file, sequentially
+                    feeder.addSequential(() -> new ZipJarCrawler(file).feed(supported, visitor, manager));
+
+                } else {
+
+                    // apply all registered filters
+                    DataSource data = new DataSource(file.getName(), () -> new FileInputStream(file));
+                    data = manager.getFiltersManager().applyRelevantFilters(data);
+
+                    if (supported.matcher(data.getName()).matches()) {
+                        // parse the current file concurrently
+                        feeder.addSource(data, file.getPath());
+                    }
+
+                }
+            } catch (OrekitException oe) {
+                feeder.addFailure(oe);
+            }
+        }
+
+    }
+
 }
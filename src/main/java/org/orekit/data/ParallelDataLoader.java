@@ -0,0 +1,80 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+
+/** Interface for loaders that can parse several data sources concurrently.
+ * <p>
+ * Loading one data source is split in two steps. The first step, {@link #parse(InputStream,
+ * String) parsing}, must be thread-safe and independent of other data sources. The second
+ * step, {@link #merge(Object, String) merging}, is always called from the thread that
+ * requested data loading, once for each data source, in the order in which sources were
+ * found by the {@link DataProvider data provider}. This order does not depend on the
+ * order in which concurrent parsing completes, so the loaded data are deterministic.
+ * </p>
+ * <p>
+ * Concurrent parsing is used only if a {@link DataProvidersManager#setParsingPool(java.util.concurrent.ForkJoinPool)
+ * parsing pool} has been configured and only by data providers that support it
+ * ({@link DirectoryCrawler} and the providers based on {@link AbstractListCrawler}).
+ * In all other cases, {@link #loadData(InputStream, String)} just parses and merges
+ * each data source in turn.
+ * </p>
+ * @param <T> type of the data parsed from one data source
+ * @see DataProvidersManager#setParsingPool(java.util.concurrent.ForkJoinPool)
+ * @author agent
+ * @since 14.0
+ */
+public interface ParallelDataLoader<T> extends DataLoader {
+
+    /** Parse one data source.
+     * <p>
+     * This method may be called concurrently from several threads.
+     * </p>
+     * @param input data input stream
+     * @param name name of the file (or zip entry)
+     * @return data parsed from the source
+     * @exception IOException if data can't be read
+     * @exception ParseException if data can't be parsed
+     * or if some loader specific error occurs
+     */
+    T parse(InputStream input, String name) throws IOException, ParseException;
+
+    /** Merge data parsed from one data source.
+     * <p>
+     * This method is called from a single thread, in data sources crawling order.
+     * </p>
+     * @param parsed data parsed from the source
+     * @param name name of the file (or zip entry)
+     */
+    void merge(T parsed, String name);
+
+    /** {@inheritDoc}
+     * <p>
+     * The default implementation {@link #parse(InputStream, String) parses}
+     * and {@link #merge(Object, String) merges} the source.
+     * </p>
+     */
+    @Override
+    default void loadData(final InputStream input, final String name)
+        throws IOException, ParseException {
+        merge(parse(input, name), name);
+    }
+
+}
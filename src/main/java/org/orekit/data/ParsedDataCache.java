@@ -0,0 +1,262 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.ParseException;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.errors.OrekitMessages;
+
+/** On-disk cache for data parsed by {@link CacheableDataLoader cacheable loaders}.
+ * <p>
+ * Each entry of the cache holds the data parsed from one data source, encoded in
+ * binary form by the {@link ParsedDataCodec codec} of the loader. Entries are keyed
+ * by a SHA-256 checksum of the codec identifier and of the raw (filtered) source content,
+ * so they remain valid as long as the source and the parsing configuration do not change,
+ * regardless of the source name or location. Valid entries are decoded from memory-mapped
+ * files, invalid or unreadable entries are ignored and replaced by parsing the source again.
+ * Each entry also stores a SHA-256 checksum of its encoded payload, which is verified
+ * before decoding, so entries corrupted on disk are detected even when they could
+ * still be decoded.
+ * </p>
+ * <p>
+ * Entries are written atomically, so several threads or several processes can share
+ * the same cache directory. Entries corresponding to obsolete sources are never read
+ * again and can be removed at will. Failing to write an entry (for example due to a
+ * read-only directory) does not prevent data from being loaded.
+ * </p>
+ * <p>
+ * The cache is opt-in: it is used only when {@link
+ * DataProvidersManager#setParsedDataCache(ParsedDataCache) set up} in a data providers
+ * manager, and hence is scoped to the corresponding {@link DataContext data context}.
+ * </p>
+ * <p>
+ * Only Earth Orientation Parameters loaders implement {@link CacheableDataLoader} for
+ * now, and only when loaded for known {@link org.orekit.utils.IERSConventions IERS
+ * conventions}. Other loaders (space weather, gravity fields...) always parse their sources.
+ * </p>
+ * @see CacheableDataLoader
+ * @author agent
+ * @since 14.0
+ */
+public class ParsedDataCache {
+
+    /** Format identifier. */
+    static final String FORMAT = "ORKPDC";
+
+    /** Format version. */
+    static final int VERSION = 2;
+
+    /** Suffix for cache entries. */
+    private static final String SUFFIX = ".bin";
+
+    /** Size of the buffer for reading sources. */
+    private static final int BUFFER_SIZE = 8192;
+
+    /** Size of SHA-256 checksums. */
+    private static final int DIGEST_SIZE = 32;
+
+    /** Hexadecimal digits. */
+    private static final char[] HEXA = "0123456789abcdef".toCharArray();
+
+    /** Cache directory. */
+    private final File directory;
+
+    /** Simple constructor.
+     * @param directory cache directory (must exist)
+     */
+    public ParsedDataCache(final File directory) {
+        if (!directory.isDirectory()) {
+            throw new OrekitException(OrekitMessages.NOT_A_DIRECTORY, directory.getAbsolutePath());
+        }
+        this.directory = directory;
+    }
+
+    /** Get the cache directory.
+     * @return cache directory
+     */
+    public File getDirectory() {
+        return directory;
+    }
+
+    /** Parse a data source, using the cache if possible.
+     * @param <T> type of the data parsed from one data source
+     * @param loader loader to use if data are not available in cache
+     * @param input data input stream
+     * @param name name of the file (or zip entry)
+     * @return parsed data
+     * @exception IOException if data can't be read
+     * @exception ParseException if data can't be parsed
+     */
+    public <T> T parse(final CacheableDataLoader<T> loader, final InputStream input, final String name)
+        throws IOException, ParseException {
+
+        final ParsedDataCodec<T> codec = loader.getCodec();
+
+        // the raw content is needed both for checksum and for parsing
+        final byte[] raw  = readAll(input);
+        final Path   path = new File(directory, entryName(codec.getIdentifier(), raw)).toPath();
+
+        if (Files.isRegularFile(path)) {
+            final T decoded = read(path, codec, name);
+            if (decoded != null) {
+                return decoded;
+            }
+        }
+
+        final T parsed = loader.parse(new ByteArrayInputStream(raw), name);
+        write(path, codec, parsed);
+        return parsed;
+
+    }
+
+    /** Read a cache entry.
+     * @param <T> type of the data parsed from one data source
+     * @param path path of the cache entry
+     * @param codec codec for parsed data
+     * @param name name of the data source
+     * @return decoded data, or null if entry is invalid
+     */
+    private <T> T read(final Path path, final ParsedDataCodec<T> codec, final String name) {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            final ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (FORMAT.equals(ParsedDataCodec.getString(buffer)) && buffer.getInt() == VERSION &&
+                codec.getIdentifier().equals(ParsedDataCodec.getString(buffer))) {
+
+                // check payload integrity before decoding it
+                final byte[] expected = new byte[DIGEST_SIZE];
+                buffer.get(expected);
+                final MessageDigest digest = sha256();
+                digest.update(buffer.duplicate());
+                if (MessageDigest.isEqual(expected, digest.digest())) {
+                    return codec.decode(buffer, name);
+                }
+
+            }
+        } catch (IOException | RuntimeException e) {
+            // the entry is unreadable or corrupted (or the codec failed to decode it),
+            // it will be replaced
+        }
+        return null;
+    }
+
+    /** Write a cache entry.
+     * @param <T> type of the data parsed from one data source
+     * @param path path of the cache entry
+     * @param codec codec for parsed data
+     * @param parsed parsed data
+     */
+    private <T> void write(final Path path, final ParsedDataCodec<T> codec, final T parsed) {
+        Path tmp = null;
+        try {
+
+            // encode payload first, as its checksum is stored before it
+            final ByteArrayOutputStream payload = new ByteArrayOutputStream();
+            try (DataOutputStream dos = new DataOutputStream(payload)) {
+                codec.encode(parsed, dos);
+            }
+            final byte[] encoded = payload.toByteArray();
+
+            tmp = Files.createTempFile(directory.toPath(), "orekit-", ".tmp");
+            try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                ParsedDataCodec.putString(dos, FORMAT);
+                dos.writeInt(VERSION);
+                ParsedDataCodec.putString(dos, codec.getIdentifier());
+                dos.write(sha256().digest(encoded));
+                dos.write(encoded);
+            }
+            try {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException amnse) {
+                Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+            tmp = null;
+        } catch (IOException ioe) {
+            // the cache is only an optimization, failing to update it must not prevent loading
+        } finally {
+            if (tmp != null) {
+                try {
+                    Files.deleteIfExists(tmp);
+                } catch (IOException ioe) {
+                    // ignored
+                }
+            }
+        }
+    }
+
+    /** Read all bytes from a stream.
+     * @param input input stream
+     * @return bytes read
+     * @exception IOException if stream cannot be read
+     */
+    private static byte[] readAll(final InputStream input) throws IOException {
+        final ByteArrayOutputStream output = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        for (int n = input.read(buffer); n >= 0; n = input.read(buffer)) {
+            output.write(buffer, 0, n);
+        }
+        return output.toByteArray();
+    }
+
+    /** Compute the name of a cache entry.
+     * @param identifier codec identifier
+     * @param raw raw content of the data source
+     * @return name of the cache entry
+     */
+    private static String entryName(final String identifier, final byte[] raw) {
+        final MessageDigest digest = sha256();
+        digest.update(identifier.getBytes(StandardCharsets.UTF_8));
+        digest.update((byte) 0);
+        digest.update(raw);
+        final StringBuilder builder = new StringBuilder();
+        for (final byte b : digest.digest()) {
+            builder.append(HEXA[(b >> 4) & 0xF]).append(HEXA[b & 0xF]);
+        }
+        return builder.append(SUFFIX).toString();
+    }
+
+    /** Create a SHA-256 message digest.
+     * @return new SHA-256 message digest
+     */
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException nsae) {
+            // SHA-256 is available in all Java platforms
+            throw new OrekitInternalError(nsae);
+        }
+    }
+
+}
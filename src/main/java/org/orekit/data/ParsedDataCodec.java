@@ -0,0 +1,91 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/** Codec for storing parsed data in a {@link ParsedDataCache}.
+ * <p>
+ * The identifier of the codec is stored with the encoded data and must be equal
+ * when data are decoded, otherwise the data source is parsed again. It must therefore
+ * change whenever the binary layout changes, and it must also reflect any configuration
+ * the parsed data depend on (for example the conventions used for converting some
+ * values while parsing).
+ * </p>
+ * @param <T> type of the data parsed from one data source
+ * @see CacheableDataLoader
+ * @author agent
+ * @since 14.0
+ */
+public interface ParsedDataCodec<T> {
+
+    /** Get the identifier of the codec.
+     * @return identifier of the codec, including binary layout version and configuration
+     */
+    String getIdentifier();
+
+    /** Encode parsed data.
+     * @param parsed data parsed from one data source
+     * @param output output where to encode data
+     * @exception IOException if data cannot be written
+     */
+    void encode(T parsed, DataOutput output) throws IOException;
+
+    /** Decode parsed data.
+     * <p>
+     * The buffer is positioned at the start of the data {@link #encode(Object, DataOutput)
+     * encoded} by this codec, using big-endian byte order.
+     * </p>
+     * @param buffer buffer containing the encoded data
+     * @param name name of the data source
+     * @return decoded data
+     */
+    T decode(ByteBuffer buffer, String name);
+
+    /** Encode a string.
+     * @param output output where to encode string
+     * @param s string to encode
+     * @exception IOException if string cannot be written
+     * @see #getString(ByteBuffer)
+     */
+    static void putString(final DataOutput output, final String s) throws IOException {
+        final byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+        output.writeInt(bytes.length);
+        output.write(bytes);
+    }
+
+    /** Decode a string.
+     * @param buffer buffer containing the encoded string
+     * @return decoded string
+     * @exception BufferUnderflowException if buffer does not contain the string
+     * @see #putString(DataOutput, String)
+     */
+    static String getString(final ByteBuffer buffer) {
+        final int length = buffer.getInt();
+        if (length < 0 || length > buffer.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        final byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
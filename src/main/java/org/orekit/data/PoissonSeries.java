@@ -18,8 +18,10 @@ package org.orekit.data;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.stream.IntStream;
 
 import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.util.FastMath;
 import org.hipparchus.util.MathArrays;
 import org.hipparchus.util.MathUtils;
 import org.hipparchus.util.MathUtils.SumAndResidual;
@@ -40,6 +42,9 @@ import org.hipparchus.util.MathUtils.SumAndResidual;
  */
 public class PoissonSeries {
 
+    /** Number of dates evaluated together in batch evaluation of compiled series. */
+    private static final int BATCH_BLOCK_SIZE = 64;
+
     /** Polynomial part. */
     private final PolynomialNutation polynomial;
 
@@ -128,6 +133,23 @@ public class PoissonSeries {
          */
         double[] value(BodiesElements elements);
 
+        /** Evaluate a set of Poisson series for several dates.
+         * <p>
+         * This is equivalent to calling {@link #value(BodiesElements)} for each
+         * elements, but implementations may be faster when evaluating large batches.
+         * </p>
+         * @param elements bodies elements for nutation, one for each date
+         * @param parallel if true, dates may be split across several threads
+         * @return value of the series (first index is date index, second index is series index)
+         * @since 14.0
+         */
+        default double[][] value(final BodiesElements[] elements, final boolean parallel) {
+            final double[][] values = new double[elements.length][];
+            final IntStream indices = IntStream.range(0, elements.length);
+            (parallel ? indices.parallel() : indices).forEach(i -> values[i] = value(elements[i]));
+            return values;
+        }
+
         /** Evaluate time derivative of a set of Poisson series.
          * @param elements bodies elements for nutation
          * @return time derivative of the series
@@ -211,6 +233,61 @@ public class PoissonSeries {
 
         return new CompiledSeries() {
 
+            /** {@inheritDoc} */
+            @Override
+            public double[][] value(final BodiesElements[] elements, final boolean parallel) {
+                final double[][] values  = new double[elements.length][polynomials.length];
+                final int        nBlocks = (elements.length + BATCH_BLOCK_SIZE - 1) / BATCH_BLOCK_SIZE;
+                final IntStream  blocks  = IntStream.range(0, nBlocks);
+                (parallel ? blocks.parallel() : blocks).
+                    forEach(b -> valueBlock(elements, b * BATCH_BLOCK_SIZE,
+                                            FastMath.min(elements.length, (b + 1) * BATCH_BLOCK_SIZE),
+                                            values));
+                return values;
+            }
+
+            /** Evaluate a set of Poisson series for a block of dates.
+             * <p>
+             * The loops are ordered term first and date second, so the coefficients
+             * of each term are used for all dates of the block while they are in
+             * cache. The summation order for each date is the same as in
+             * {@link #value(BodiesElements)}, so results are identical.
+             * </p>
+             * @param elements bodies elements for nutation, one for each date
+             * @param start index of the first date of the block
+             * @param end index after the last date of the block
+             * @param values placeholder for the values of the series
+             */
+            private void valueBlock(final BodiesElements[] elements, final int start, final int end,
+                                    final double[][] values) {
+
+                // non-polynomial part
+                final double[][] npLow     = new double[end - start][polynomials.length];
+                final double[]   termValue = new double[polynomials.length];
+                for (final SeriesTerm term : joinedTerms) {
+                    for (int k = start; k < end; ++k) {
+                        term.value(elements[k], termValue);
+                        final double[] npHigh = values[k];
+                        final double[] low    = npLow[k - start];
+                        for (int i = 0; i < termValue.length; ++i) {
+                            // Use 2Sum for high precision.
+                            final SumAndResidual sumAndResidual = MathUtils.twoSum(npHigh[i], termValue[i]);
+                            npHigh[i] = sumAndResidual.getSum();
+                            low[i]   += sumAndResidual.getResidual();
+                        }
+                    }
+                }
+
+                // add residual and polynomial part
+                for (int k = start; k < end; ++k) {
+                    final double tc = elements[k].getTC();
+                    for (int i = 0; i < polynomials.length; ++i) {
+                        values[k][i] += npLow[k - start][i] + polynomials[i].value(tc);
+                    }
+                }
+
+            }
+
             /** {@inheritDoc} */
             @Override
             public double[] value(final BodiesElements elements) {
@@ -111,6 +111,18 @@ abstract class SeriesTerm {
      * @return value of the series term
      */
     public double[] value(final BodiesElements elements) {
+        final double[] values = new double[sinCoeff.length];
+        value(elements, values);
+        return values;
+    }
+
+    /** Evaluate the value of the series term, storing it in a caller-supplied array.
+     * @param elements bodies elements for nutation
+     * @param values placeholder where to store the value of the series term
+     * (must have at least one element for each function component)
+     * @since 14.0
+     */
+    public void value(final BodiesElements elements, final double[] values) {
 
         // preliminary computation
         final double tc  = elements.getTC();
@@ -118,8 +130,7 @@ abstract class SeriesTerm {
         final SinCos sc  = FastMath.sinCos(a);
 
         // compute each function
-        final double[] values = new double[sinCoeff.length];
-        for (int i = 0; i < values.length; ++i) {
+        for (int i = 0; i < sinCoeff.length; ++i) {
             double s = 0;
             double c = 0;
             for (int j = sinCoeff[i].length - 1; j >= 0; --j) {
@@ -129,8 +140,6 @@ abstract class SeriesTerm {
             values[i] = s * sc.sin() + c * sc.cos();
         }
 
-        return values;
-
     }
 
     /** Evaluate the time derivative of the series term.
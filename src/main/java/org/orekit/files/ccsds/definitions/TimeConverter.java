@@ -18,6 +18,7 @@ package org.orekit.files.ccsds.definitions;
 
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.DateTimeComponents;
+import org.orekit.time.DateTimeParser;
 import org.orekit.time.SatelliteClockScale;
 import org.orekit.time.TimeScale;
 
@@ -34,6 +35,11 @@ public class TimeConverter {
     /** Reference date for relative dates (may be null if no relative dates are used). */
     private final AbsoluteDate referenceDate;
 
+    /** Parser for absolute dates.
+     * @since 14.0
+     */
+    private final DateTimeParser parser;
+
     /** Build a time system.
      * @param timeScale base time scale
      * @param referenceDate reference date for relative dates (may be null if no relative dates are used)
@@ -41,9 +47,14 @@ public class TimeConverter {
     public TimeConverter(final TimeScale timeScale, final AbsoluteDate referenceDate) {
         this.timeScale     = timeScale;
         this.referenceDate = referenceDate;
+        this.parser        = new DateTimeParser(timeScale);
     }
 
     /** Parse a relative or absolute date.
+     * <p>
+     * Absolute dates parsing memorizes the last parsed day, so the same
+     * converter should be reused when parsing many dates in a row.
+     * </p>
      * @param s string to parse
      * @return parsed date
      */
@@ -64,7 +75,7 @@ public class TimeConverter {
         } else {
 
             // absolute date
-            return new AbsoluteDate(s, timeScale);
+            return parser.parse(s);
 
         }
 
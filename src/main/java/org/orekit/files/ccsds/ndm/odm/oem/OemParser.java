@@ -25,6 +25,7 @@ import org.orekit.data.DataContext;
 import org.orekit.data.DataSource;
 import org.orekit.errors.OrekitException;
 import org.orekit.errors.OrekitMessages;
+import org.orekit.files.ccsds.definitions.TimeConverter;
 import org.orekit.files.ccsds.definitions.Units;
 import org.orekit.files.ccsds.ndm.ParsedUnitsBehavior;
 import org.orekit.files.ccsds.ndm.odm.CartesianCovariance;
@@ -105,6 +106,11 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     /** State vector logical block being read. */
     private StateVector stateVectorBlock;
 
+    /** Converter for data lines dates (reused throughout one data block).
+     * @since 14.0
+     */
+    private TimeConverter dataConverter;
+
     /**
      * Complete constructor.
      * <p>
@@ -224,7 +230,8 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
     /** {@inheritDoc} */
     @Override
     public boolean prepareData() {
-        currentBlock = new OemData();
+        currentBlock  = new OemData();
+        dataConverter = null;
         anticipateNext(getFileFormat() == FileFormat.XML ? this::processXmlSubStructureToken : this::processMetadataToken);
         return true;
     }
@@ -249,6 +256,7 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
         inCovariance      = false;
         currentCovariance = null;
         currentRow        = -1;
+        dataConverter     = null;
         return true;
     }
 
@@ -367,8 +375,12 @@ public class OemParser extends OdmParser<Oem, OemParser> implements EphemerisFil
                     throw new OrekitException(OrekitMessages.UNABLE_TO_PARSE_LINE_IN_FILE,
                                               token.getLineNumber(), token.getFileName(), token.getContentAsNormalizedString());
                 }
+                if (dataConverter == null) {
+                    // metadata are complete when data lines start, the converter can be reused
+                    dataConverter = context.getTimeSystem().getConverter(context);
+                }
                 stateVectorBlock = new StateVector();
-                stateVectorBlock.setEpoch(context.getTimeSystem().getConverter(context).parse(fields[0]));
+                stateVectorBlock.setEpoch(dataConverter.parse(fields[0]));
                 stateVectorBlock.setP(0, Unit.KILOMETRE.toSI(Double.parseDouble(fields[1])));
                 stateVectorBlock.setP(1, Unit.KILOMETRE.toSI(Double.parseDouble(fields[2])));
                 stateVectorBlock.setP(2, Unit.KILOMETRE.toSI(Double.parseDouble(fields[3])));
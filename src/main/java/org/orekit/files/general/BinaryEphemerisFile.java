@@ -0,0 +1,333 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.DoubleBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.analytical.AggregateBoundedPropagator;
+import org.orekit.propagation.analytical.ChebyshevEphemeris;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+
+/** Orekit binary ephemeris file, loaded using memory-mapping.
+ * <p>
+ * Only the file header is read when the file is opened. The segments boundaries
+ * and Chebyshev coefficients of each satellite are memory-mapped, so the operating
+ * system loads them lazily as they are accessed, and shares them between processes
+ * that use the same file. The propagators built from this file are {@link
+ * ChebyshevEphemeris} instances, which find the segment containing a date by
+ * binary search in the mapped boundaries.
+ * </p>
+ * <p>
+ * Satellites whose ephemeris has gaps are stored as several covered ranges. Their
+ * propagators aggregate one Chebyshev ephemeris per range, and fail with an
+ * out of range error for dates inside the gaps. Each covered range is mapped
+ * separately, and its data must not exceed 2 GiB.
+ * </p>
+ * <p>
+ * Instances of this class are immutable and can be shared between threads.
+ * </p>
+ * @see BinaryEphemerisWriter
+ * @author agent
+ * @since 14.0
+ */
+public class BinaryEphemerisFile {
+
+    /** Satellites data, indexed by identifier. */
+    private final Map<String, Satellite> satellites;
+
+    /** Resolver for frames names. */
+    private final Function<String, Frame> frames;
+
+    /** Simple constructor.
+     * @param satellites satellites data, indexed by identifier
+     * @param frames resolver for frames names
+     */
+    private BinaryEphemerisFile(final Map<String, Satellite> satellites, final Function<String, Frame> frames) {
+        this.satellites = satellites;
+        this.frames     = frames;
+    }
+
+    /** Open a binary ephemeris file.
+     * <p>
+     * Frames are stored by name in the file, the {@code frames} resolver is used
+     * to retrieve the corresponding frames when propagators are built. It may be
+     * as simple as {@code name -> FramesFactory.getEME2000()} if all satellites
+     * are known to use the same frame.
+     * </p>
+     * @param path path to the file
+     * @param frames resolver for frames names
+     * @return opened file
+     * @exception IOException if file cannot be read
+     */
+    public static BinaryEphemerisFile open(final Path path, final Function<String, Frame> frames)
+        throws IOException {
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+
+            final DataInputStream dis =
+                    new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            final String name = path.toString();
+
+            // header
+            if (!BinaryEphemerisWriter.FORMAT.equals(dis.readUTF())) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+            }
+            final int version = dis.readInt();
+            if (version != BinaryEphemerisWriter.VERSION) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION,
+                                          version, name, BinaryEphemerisWriter.VERSION);
+            }
+            final long dataStart = dis.readLong();
+            final int  count     = dis.readInt();
+
+            // directory and memory-mapped data
+            final Map<String, Satellite> satellites = new LinkedHashMap<>();
+            for (int i = 0; i < count; ++i) {
+                final String      id            = dis.readUTF();
+                final String      timeScaleName = dis.readUTF();
+                final int         nbRanges      = dis.readInt();
+                final List<Range> ranges        = new ArrayList<>(nbRanges);
+                for (int j = 0; j < nbRanges; ++j) {
+                    final ChebyshevEphemeris.Header header       = ChebyshevEphemeris.readHeader(dis, name);
+                    final long                      offset       = dataStart + dis.readLong();
+                    final long                      nbBoundaries = header.getBoundariesSize();
+                    final DoubleBuffer              boundaries   = map(channel, name, offset, nbBoundaries);
+                    final DoubleBuffer              coefficients = map(channel, name,
+                                                                       offset + Double.BYTES * nbBoundaries,
+                                                                       header.getCoefficientsSize());
+                    header.checkBoundaries(boundaries);
+                    ranges.add(new Range(header, boundaries, coefficients));
+                }
+                if (ranges.isEmpty()) {
+                    throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+                }
+                satellites.put(id, new Satellite(ranges, timeScaleName));
+            }
+
+            return new BinaryEphemerisFile(satellites, frames);
+
+        }
+
+    }
+
+    /** Map a section of the file.
+     * @param channel file channel
+     * @param name name of the file (for error messages)
+     * @param offset offset of the section in the file
+     * @param size number of doubles in the section
+     * @return mapped buffer
+     * @exception IOException if the section cannot be mapped
+     */
+    private static DoubleBuffer map(final FileChannel channel, final String name,
+                                    final long offset, final long size)
+        throws IOException {
+        final long bytes = Double.BYTES * size;
+        if (bytes > Integer.MAX_VALUE) {
+            // a single mapped buffer cannot exceed 2 GiB
+            throw new OrekitException(LocalizedCoreFormats.NUMBER_TOO_LARGE, bytes, Integer.MAX_VALUE);
+        }
+        if (offset + bytes > channel.size()) {
+            throw new OrekitException(OrekitMessages.UNEXPECTED_END_OF_FILE, name);
+        }
+        return channel.map(FileChannel.MapMode.READ_ONLY, offset, bytes).asDoubleBuffer();
+    }
+
+    /** Get the identifiers of the satellites in the file.
+     * @return identifiers of the satellites, in file order
+     */
+    public List<String> getSatellites() {
+        return Collections.unmodifiableList(new ArrayList<>(satellites.keySet()));
+    }
+
+    /** Get the name of the frame of a satellite ephemeris.
+     * @param id satellite identifier
+     * @return name of the frame
+     */
+    public String getFrameName(final String id) {
+        return getSatellite(id).frameName;
+    }
+
+    /** Get the name of the time scale stored as metadata for a satellite.
+     * @param id satellite identifier
+     * @return name of the time scale
+     */
+    public String getTimeScaleName(final String id) {
+        return getSatellite(id).timeScaleName;
+    }
+
+    /** Get the time ranges covered by a satellite ephemeris.
+     * @param id satellite identifier
+     * @return covered time ranges, in chronological order
+     */
+    public List<TimeInterval> getCoveredRanges(final String id) {
+        final List<TimeInterval> covered = new ArrayList<>();
+        for (final Range range : getSatellite(id).ranges) {
+            final AbsoluteDate reference = range.header.getReferenceDate();
+            covered.add(TimeInterval.of(reference.shiftedBy(range.boundaries.get(0)),
+                                        reference.shiftedBy(range.boundaries.get(range.header.getSegments()))));
+        }
+        return covered;
+    }
+
+    /** Get the propagator for a satellite, using a frame aligned attitude provider.
+     * <p>
+     * If the satellite ephemeris has gaps, the propagator fails for dates inside them.
+     * </p>
+     * @param id satellite identifier
+     * @return propagator for the satellite
+     */
+    public BoundedPropagator getPropagator(final String id) {
+        final Satellite satellite = getSatellite(id);
+        final Frame     frame     = resolve(satellite);
+        return satellite.build(frame, new FrameAlignedProvider(frame));
+    }
+
+    /** Get the propagator for a satellite.
+     * <p>
+     * If the satellite ephemeris has gaps, the propagator fails for dates inside them.
+     * </p>
+     * @param id satellite identifier
+     * @param attitudeProvider attitude provider
+     * @return propagator for the satellite
+     */
+    public BoundedPropagator getPropagator(final String id, final AttitudeProvider attitudeProvider) {
+        final Satellite satellite = getSatellite(id);
+        return satellite.build(resolve(satellite), attitudeProvider);
+    }
+
+    /** Get a satellite data.
+     * @param id satellite identifier
+     * @return satellite data
+     */
+    private Satellite getSatellite(final String id) {
+        final Satellite satellite = satellites.get(id);
+        if (satellite == null) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.INVALID_SATELLITE_ID, id);
+        }
+        return satellite;
+    }
+
+    /** Resolve the frame of a satellite.
+     * @param satellite satellite data
+     * @return frame of the satellite
+     */
+    private Frame resolve(final Satellite satellite) {
+        final Frame frame = frames.apply(satellite.frameName);
+        if (frame == null) {
+            throw new OrekitException(OrekitMessages.FRAME_NOT_ATTACHED, satellite.frameName);
+        }
+        return frame;
+    }
+
+    /** Container for satellite data. */
+    private static class Satellite {
+
+        /** Covered ranges. */
+        private final List<Range> ranges;
+
+        /** Name of the frame. */
+        private final String frameName;
+
+        /** Name of the time scale. */
+        private final String timeScaleName;
+
+        /** Simple constructor.
+         * @param ranges covered ranges (at least one)
+         * @param timeScaleName name of the time scale
+         */
+        Satellite(final List<Range> ranges, final String timeScaleName) {
+            this.ranges        = ranges;
+            this.frameName     = ranges.get(0).header.getFrameName();
+            this.timeScaleName = timeScaleName;
+        }
+
+        /** Build the propagator.
+         * @param frame frame of the ephemeris
+         * @param attitudeProvider attitude provider
+         * @return propagator
+         */
+        BoundedPropagator build(final Frame frame, final AttitudeProvider attitudeProvider) {
+            if (ranges.size() == 1) {
+                return ranges.get(0).build(frame, attitudeProvider);
+            }
+            final List<ChebyshevEphemeris> propagators = new ArrayList<>(ranges.size());
+            for (final Range range : ranges) {
+                propagators.add(range.build(frame, attitudeProvider));
+            }
+            return new AggregateBoundedPropagator(propagators);
+        }
+
+    }
+
+    /** Container for one covered range of a satellite. */
+    private static class Range {
+
+        /** Ephemeris header. */
+        private final ChebyshevEphemeris.Header header;
+
+        /** Memory-mapped segments boundaries. */
+        private final DoubleBuffer boundaries;
+
+        /** Memory-mapped Chebyshev coefficients. */
+        private final DoubleBuffer coefficients;
+
+        /** Simple constructor.
+         * @param header ephemeris header
+         * @param boundaries memory-mapped segments boundaries
+         * @param coefficients memory-mapped Chebyshev coefficients
+         */
+        Range(final ChebyshevEphemeris.Header header,
+              final DoubleBuffer boundaries, final DoubleBuffer coefficients) {
+            this.header       = header;
+            this.boundaries   = boundaries;
+            this.coefficients = coefficients;
+        }
+
+        /** Build the propagator.
+         * @param frame frame of the ephemeris
+         * @param attitudeProvider attitude provider
+         * @return propagator
+         */
+        ChebyshevEphemeris build(final Frame frame, final AttitudeProvider attitudeProvider) {
+            return header.build(frame, attitudeProvider, boundaries, coefficients);
+        }
+
+    }
+
+}
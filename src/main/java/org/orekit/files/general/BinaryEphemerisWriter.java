@@ -0,0 +1,237 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.analytical.ChebyshevEphemeris;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScale;
+
+/** Writer for Orekit binary ephemeris files.
+ * <p>
+ * Binary ephemeris files contain one or more satellites, each one stored as
+ * a {@link ChebyshevEphemeris}, i.e. a set of segments with Chebyshev
+ * polynomials for position, velocity and mass. They are much more compact and
+ * much faster to load than text formats like OEM or SP3, and they can be loaded
+ * back using memory-mapping by {@link BinaryEphemerisFile}.
+ * </p>
+ * <p>
+ * The file layout (all numbers in big-endian order) is:
+ * </p>
+ * <ul>
+ *   <li>format identifier, as a modified UTF-8 string (see {@link DataOutputStream#writeUTF(String)})</li>
+ *   <li>format version (int)</li>
+ *   <li>offset of the data section (long), which is a multiple of 8</li>
+ *   <li>number of satellites (int)</li>
+ *   <li>for each satellite: identifier and time scale name (modified UTF-8 strings),
+ *       number of covered ranges (int), and for each covered range the ephemeris header
+ *       as written by {@link ChebyshevEphemeris#writeHeader(java.io.DataOutput)} and the
+ *       offset of the range data with respect to the data section (long)</li>
+ *   <li>padding up to the data section</li>
+ *   <li>for each satellite and each covered range: the segments boundaries and the Chebyshev
+ *       coefficients, as written by {@link ChebyshevEphemeris#writeData(java.io.DataOutput)}</li>
+ * </ul>
+ * <p>
+ * A satellite is covered by several time ranges when its ephemeris has gaps. There
+ * are no data inside the gaps, so propagators built from the file fail for dates
+ * inside them.
+ * </p>
+ * <p>
+ * The time scale is only metadata, dates are stored as absolute offsets.
+ * </p>
+ * @see BinaryEphemerisFile
+ * @author agent
+ * @since 14.0
+ */
+public class BinaryEphemerisWriter {
+
+    /** Format identifier. */
+    static final String FORMAT = "OREKIT-BINARY-EPHEMERIS";
+
+    /** Format version. */
+    static final int VERSION = 1;
+
+    /** Approximate duration of the segments (s). */
+    private final double segmentDuration;
+
+    /** Number of Chebyshev nodes per segment. */
+    private final int nodes;
+
+    /** Satellites to write, indexed by identifier. */
+    private final Map<String, Satellite> satellites;
+
+    /** Simple constructor.
+     * @param segmentDuration approximate duration of the segments (s)
+     * @param nodes number of Chebyshev nodes per segment (i.e. polynomials degree + 1)
+     */
+    public BinaryEphemerisWriter(final double segmentDuration, final int nodes) {
+        if (!(segmentDuration > 0)) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, segmentDuration);
+        }
+        if (nodes < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, nodes);
+        }
+        this.segmentDuration = segmentDuration;
+        this.nodes           = nodes;
+        this.satellites      = new LinkedHashMap<>();
+    }
+
+    /** Add a satellite.
+     * <p>
+     * If the propagator is already a {@link ChebyshevEphemeris}, it is written
+     * as is, otherwise it is fitted using the segment duration and number of
+     * nodes specified at writer construction. If a satellite with the same
+     * identifier was already added, it is replaced.
+     * </p>
+     * @param id satellite identifier
+     * @param propagator ephemeris of the satellite (must contain orbit-defined states)
+     * @param timeScale time scale to store as metadata
+     */
+    public void addSatellite(final String id, final BoundedPropagator propagator, final TimeScale timeScale) {
+        final ChebyshevEphemeris ephemeris = propagator instanceof ChebyshevEphemeris ?
+                                             (ChebyshevEphemeris) propagator :
+                                             new ChebyshevEphemeris(propagator, segmentDuration, nodes);
+        satellites.put(id, new Satellite(Collections.singletonList(ephemeris), timeScale.getName()));
+    }
+
+    /** Add all satellites from an ephemeris file.
+     * <p>
+     * Segments boundaries of the ephemeris file are preserved, so discontinuities
+     * between segments (typically maneuvers) do not degrade the fit. Contiguous
+     * (or overlapping) segments are stored in the same covered range, and each gap
+     * between segments starts a new covered range.
+     * </p>
+     * @param file ephemeris file
+     * @param timeScale time scale to store as metadata
+     */
+    public void addSatellites(final EphemerisFile<?, ?> file, final TimeScale timeScale) {
+        for (final EphemerisFile.SatelliteEphemeris<?, ?> satellite : file.getSatellites().values()) {
+
+            // set up boundaries, preserving ephemeris file segments
+            final List<ChebyshevEphemeris> ranges     = new ArrayList<>();
+            final List<AbsoluteDate>       boundaries = new ArrayList<>();
+            for (final EphemerisFile.EphemerisSegment<?> segment : satellite.getSegments()) {
+                final AbsoluteDate start = segment.getStart();
+                if (!boundaries.isEmpty() && start.isAfter(boundaries.get(boundaries.size() - 1))) {
+                    // there is a gap before this segment, close the current covered range
+                    ranges.add(new ChebyshevEphemeris(satellite.getPropagator(), boundaries, nodes));
+                    boundaries.clear();
+                }
+                final double       span  = segment.getStop().durationFrom(start);
+                final int          n     = FastMath.max(1, (int) FastMath.ceil(span / segmentDuration));
+                for (int i = 0; i <= n; ++i) {
+                    final AbsoluteDate boundary = i == n ? segment.getStop() : start.shiftedBy(i * span / n);
+                    if (boundaries.isEmpty() || boundary.isAfter(boundaries.get(boundaries.size() - 1))) {
+                        boundaries.add(boundary);
+                    }
+                }
+            }
+
+            ranges.add(new ChebyshevEphemeris(satellite.getPropagator(), boundaries, nodes));
+
+            satellites.put(satellite.getId(), new Satellite(ranges, timeScale.getName()));
+
+        }
+    }
+
+    /** Write the file.
+     * @param output output stream (will be flushed but not closed)
+     * @exception IOException if data cannot be written
+     */
+    public void write(final OutputStream output) throws IOException {
+
+        // directory
+        final ByteArrayOutputStream directory = new ByteArrayOutputStream();
+        final DataOutputStream      dirStream = new DataOutputStream(directory);
+        long dataOffset = 0;
+        for (final Map.Entry<String, Satellite> entry : satellites.entrySet()) {
+            dirStream.writeUTF(entry.getKey());
+            dirStream.writeUTF(entry.getValue().timeScaleName);
+            dirStream.writeInt(entry.getValue().ranges.size());
+            for (final ChebyshevEphemeris ephemeris : entry.getValue().ranges) {
+                ephemeris.writeHeader(dirStream);
+                dirStream.writeLong(dataOffset);
+                dataOffset += (long) Double.BYTES *
+                              (ephemeris.getBoundaries().capacity() + ephemeris.getCoefficients().capacity());
+            }
+        }
+        dirStream.flush();
+
+        // the data section starts at the first multiple of 8 after the header
+        final long headerSize = 2 + FORMAT.getBytes(StandardCharsets.UTF_8).length +
+                                Integer.BYTES + Long.BYTES + Integer.BYTES + directory.size();
+        final long dataStart  = Long.BYTES * ((headerSize + Long.BYTES - 1) / Long.BYTES);
+
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(output));
+
+        // header
+        dos.writeUTF(FORMAT);
+        dos.writeInt(VERSION);
+        dos.writeLong(dataStart);
+        dos.writeInt(satellites.size());
+        directory.writeTo(dos);
+        for (long i = headerSize; i < dataStart; ++i) {
+            dos.writeByte(0);
+        }
+
+        // data
+        for (final Satellite satellite : satellites.values()) {
+            for (final ChebyshevEphemeris ephemeris : satellite.ranges) {
+                ephemeris.writeData(dos);
+            }
+        }
+
+        dos.flush();
+
+    }
+
+    /** Container for satellite data. */
+    private static class Satellite {
+
+        /** Ephemerides for the covered ranges. */
+        private final List<ChebyshevEphemeris> ranges;
+
+        /** Name of the time scale. */
+        private final String timeScaleName;
+
+        /** Simple constructor.
+         * @param ranges ephemerides for the covered ranges
+         * @param timeScaleName name of the time scale
+         */
+        Satellite(final List<ChebyshevEphemeris> ranges, final String timeScaleName) {
+            this.ranges        = ranges;
+            this.timeScaleName = timeScaleName;
+        }
+
+    }
+
+}
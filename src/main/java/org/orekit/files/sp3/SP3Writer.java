@@ -58,12 +58,22 @@ public class SP3Writer {
     /** Format for one 2 digits integer field. */
     private static final FastLongFormatter TWO_DIGITS_INTEGER = new FastLongFormatter(2, false);
 
+    /** Format for one 4 digits integer field.
+     * @since 14.0
+     */
+    private static final FastLongFormatter FOUR_DIGITS_INTEGER = new FastLongFormatter(4, false);
+
     /** Format for one 3 digits integer field. */
     private static final FastLongFormatter THREE_DIGITS_INTEGER = new FastLongFormatter(3, false);
 
     /** Format for one 14.6 digits float field. */
     private static final FastDoubleFormatter FOURTEEN_SIX_DIGITS_FLOAT = new FastDecimalFormatter(14, 6);
 
+    /** Format for one 11.8 digits float field.
+     * @since 14.0
+     */
+    private static final FastDoubleFormatter ELEVEN_EIGHT_DIGITS_FLOAT = new FastDecimalFormatter(11, 8);
+
     /** Format for three blanks field. */
     private static final String THREE_BLANKS = "   ";
 
@@ -79,15 +89,21 @@ public class SP3Writer {
     /** Set of time scales used for parsing dates. */
     private final TimeScales timeScales;
 
+    /** Builder for coordinates lines, reused for all lines.
+     * @since 14.0
+     */
+    private final StringBuilder lineBuilder;
+
     /** Simple constructor.
      * @param output destination of generated output
      * @param outputName output name for error messages
      * @param timeScales set of time scales used for parsing dates
      */
     public SP3Writer(final Appendable output, final String outputName, final TimeScales timeScales) {
-        this.output     = output;
-        this.outputName = outputName;
-        this.timeScales = timeScales;
+        this.output      = output;
+        this.outputName  = outputName;
+        this.timeScales  = timeScales;
+        this.lineBuilder = new StringBuilder();
     }
 
     /** Write a SP3 file.
@@ -111,13 +127,19 @@ public class SP3Writer {
 
             // epoch
             final DateTimeComponents dtc = date.getComponents(timeScale).roundIfNeeded(60, 8);
-            output.append(String.format(Locale.US, "*  %4d %2d %2d %2d %2d %11.8f%n",
-                                        dtc.getDate().getYear(),
-                                        dtc.getDate().getMonth(),
-                                        dtc.getDate().getDay(),
-                                        dtc.getTime().getHour(),
-                                        dtc.getTime().getMinute(),
-                                        dtc.getTime().getSecond()));
+            output.append("*  ");
+            FOUR_DIGITS_INTEGER.appendTo(output, dtc.getDate().getYear());
+            output.append(' ');
+            TWO_DIGITS_INTEGER.appendTo(output, dtc.getDate().getMonth());
+            output.append(' ');
+            TWO_DIGITS_INTEGER.appendTo(output, dtc.getDate().getDay());
+            output.append(' ');
+            TWO_DIGITS_INTEGER.appendTo(output, dtc.getTime().getHour());
+            output.append(' ');
+            TWO_DIGITS_INTEGER.appendTo(output, dtc.getTime().getMinute());
+            output.append(' ');
+            ELEVEN_EIGHT_DIGITS_FLOAT.appendTo(output, dtc.getTime().getSecond());
+            output.append(EOL);
 
             for (final CoordinatesIterator iter : iterators) {
 
@@ -149,6 +171,17 @@ public class SP3Writer {
 
     }
 
+    /** Append a satellite identifier, right-justified on 3 characters.
+     * @param builder builder to append to
+     * @param satId satellite identifier
+     */
+    private static void appendSatelliteId(final StringBuilder builder, final String satId) {
+        for (int i = satId.length(); i < 3; ++i) {
+            builder.append(' ');
+        }
+        builder.append(satId);
+    }
+
     /** Find earliest date in ephemerides.
      * @param iterators ephemerides iterators
      * @return earliest date in iterators
@@ -172,14 +205,14 @@ public class SP3Writer {
     private void writePosition(final SP3Header header, final String satId, final SP3Coordinate coordinate)
         throws IOException {
 
-        final StringBuilder lineBuilder = new StringBuilder();
+        lineBuilder.setLength(0);
 
         // position
-        lineBuilder.append(String.format(Locale.US, "P%3s%14.6f%14.6f%14.6f",
-                                         satId,
-                                         SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getX()),
-                                         SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getY()),
-                                         SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getZ())));
+        lineBuilder.append('P');
+        appendSatelliteId(lineBuilder, satId);
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getX()));
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getY()));
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.POSITION_UNIT.fromSI(coordinate.getPosition().getZ()));
 
         // clock
         FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder,
@@ -237,13 +270,13 @@ public class SP3Writer {
     private void writeVelocity(final SP3Header header, final String satId, final SP3Coordinate coordinate)
         throws IOException {
 
-        final StringBuilder lineBuilder = new StringBuilder();
+        lineBuilder.setLength(0);
          // velocity
-        lineBuilder.append(String.format(Locale.US, "V%3s%14.6f%14.6f%14.6f",
-                                         satId,
-                                         SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getX()),
-                                         SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getY()),
-                                         SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getZ())));
+        lineBuilder.append('V');
+        appendSatelliteId(lineBuilder, satId);
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getX()));
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getY()));
+        FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.VELOCITY_UNIT.fromSI(coordinate.getVelocity().getZ()));
 
         // clock rate
         FOURTEEN_SIX_DIGITS_FLOAT.appendTo(lineBuilder, SP3Utils.CLOCK_RATE_UNIT.fromSI(coordinate.getClockRateChange()));
@@ -184,6 +184,29 @@ public interface ForceModel extends ParameterDriversProvider, EventDetectorsProv
      */
     Vector3D acceleration(SpacecraftState s, double[] parameters);
 
+    /** Compute acceleration for several spacecraft states.
+     * <p>
+     * This method is intended for propagators that integrate several satellites
+     * together, hence evaluate force models for all of them at the same date.
+     * Implementations can override it to compute quantities shared between
+     * states (frames transforms, bodies positions...) only once. The default
+     * implementation simply calls {@link #acceleration(SpacecraftState, double[])}
+     * for each state.
+     * </p>
+     * @param states current states information: date, kinematics, attitude
+     * @param parameters values of the force model parameters at states date,
+     * only 1 value for each parameterDriver
+     * @return accelerations in same frames as states
+     * @since 14.0
+     */
+    default Vector3D[] acceleration(final SpacecraftState[] states, final double[] parameters) {
+        final Vector3D[] accelerations = new Vector3D[states.length];
+        for (int i = 0; i < states.length; ++i) {
+            accelerations[i] = acceleration(states[i], parameters);
+        }
+        return accelerations;
+    }
+
     /** Compute acceleration.
      * @param s current state information: date, kinematics, attitude
      * @param parameters values of the force model parameters at state date,
@@ -0,0 +1,569 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+
+/** Force model wrapper memoizing accelerations for repeated evaluations.
+ * <p>
+ * Some computations evaluate the same force model several times at exactly
+ * the same date and position, for example when derivatives are recomputed
+ * after an event or when the same trajectory is integrated again during an
+ * orbit determination iteration. For expensive models like high degree
+ * gravity fields, this wrapper recognizes such repeated inputs and returns
+ * the previously computed acceleration.
+ * </p>
+ * <p>
+ * The cache key is built from the date, the frame, the position and the parameters.
+ * It therefore applies only to models that {@link ForceModel#dependsOnPositionOnly()
+ * depend on position only}. For other models, the wrapper simply delegates to the
+ * underlying model. Field evaluations (typically {@link
+ * org.hipparchus.analysis.differentiation.Gradient Gradient} evaluations for state
+ * transition matrix or parameters derivatives) are cached separately, with keys
+ * that include the derivatives of the inputs, so they are reused only when the
+ * same field evaluation is repeated. The real part of field evaluations
+ * is never used for {@code double} evaluations, as it may differ from a direct
+ * {@code double} evaluation by a few units in the last place: the value returned
+ * for some input is always the one the underlying model would return, regardless
+ * of the order of previous evaluations.
+ * </p>
+ * <p>
+ * The wrapper can be shared between threads. Cache hits never block, and
+ * concurrent requests for the same missing key wait for the first evaluation
+ * instead of evaluating the underlying model again. When the cache is full,
+ * entries are evicted using a CLOCK policy, which approximates a least recently
+ * used policy.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+public class MemoizingForceModel implements ForceModelModifier {
+
+    /** Default number of cached accelerations. */
+    public static final int DEFAULT_CAPACITY = 16;
+
+    /** Underlying force model. */
+    private final ForceModel underlying;
+
+    /** Indicator for cacheable model. */
+    private final boolean cacheable;
+
+    /** Cached accelerations. */
+    private final ConcurrentHashMap<Object, Entry> cache;
+
+    /** Circular buffer of registered entries. */
+    private final Entry[] ring;
+
+    /** Lock for the circular buffer. */
+    private final ReentrantLock ringLock;
+
+    /** Number of registered entries. */
+    private int registered;
+
+    /** Position of the clock hand. */
+    private int hand;
+
+    /** Number of cache hits. */
+    private final LongAdder hits;
+
+    /** Number of cache misses. */
+    private final LongAdder misses;
+
+    /** Simple constructor, with {@link #DEFAULT_CAPACITY default capacity}.
+     * @param underlying underlying force model
+     */
+    public MemoizingForceModel(final ForceModel underlying) {
+        this(underlying, DEFAULT_CAPACITY);
+    }
+
+    /** Simple constructor.
+     * @param underlying underlying force model
+     * @param capacity maximum number of cached accelerations ({@code double}
+     * and field evaluations are counted together)
+     */
+    public MemoizingForceModel(final ForceModel underlying, final int capacity) {
+        if (capacity <= 0) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, capacity);
+        }
+        this.underlying = underlying;
+        this.cacheable  = underlying.dependsOnPositionOnly();
+        this.cache      = new ConcurrentHashMap<>(2 * capacity);
+        this.ring       = new Entry[capacity];
+        this.ringLock   = new ReentrantLock();
+        this.registered = 0;
+        this.hand       = 0;
+        this.hits       = new LongAdder();
+        this.misses     = new LongAdder();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public ForceModel getUnderlyingModel() {
+        return underlying;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+
+        if (!cacheable) {
+            return underlying.acceleration(s, parameters);
+        }
+
+        return (Vector3D) get(new Key(s.getDate(), s.getFrame(), s.getPosition(), parameters),
+                              () -> underlying.acceleration(s, parameters));
+
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * Cached accelerations are reused, and the remaining states are evaluated
+     * together by the underlying model batched method.
+     * </p>
+     */
+    @Override
+    public Vector3D[] acceleration(final SpacecraftState[] states, final double[] parameters) {
+
+        if (!cacheable) {
+            return underlying.acceleration(states, parameters);
+        }
+
+        // look up cached accelerations, reserving the missing ones
+        final Entry[]   entries = new Entry[states.length];
+        final boolean[] owned   = new boolean[states.length];
+        int nbMisses = 0;
+        for (int i = 0; i < states.length; ++i) {
+            final Key key = new Key(states[i].getDate(), states[i].getFrame(), states[i].getPosition(), parameters);
+            entries[i] = lookup(key);
+            if (entries[i] == null) {
+                final Entry created = new Entry(key);
+                entries[i] = reserve(created);
+                if (entries[i] == null) {
+                    entries[i] = created;
+                    owned[i]   = true;
+                    ++nbMisses;
+                }
+            }
+        }
+
+        if (nbMisses > 0) {
+
+            // evaluate the missing accelerations together
+            final SpacecraftState[] missing = new SpacecraftState[nbMisses];
+            int k = 0;
+            for (int i = 0; i < states.length; ++i) {
+                if (owned[i]) {
+                    missing[k++] = states[i];
+                }
+            }
+            final Vector3D[] computed;
+            try {
+                computed = underlying.acceleration(missing, parameters);
+            } catch (RuntimeException | Error e) {
+                for (int i = 0; i < states.length; ++i) {
+                    if (owned[i]) {
+                        abort(entries[i], e);
+                    }
+                }
+                throw e;
+            }
+
+            k = 0;
+            for (int i = 0; i < states.length; ++i) {
+                if (owned[i]) {
+                    complete(entries[i], computed[k++]);
+                }
+            }
+
+        }
+
+        // gather all accelerations, waiting for the ones computed by other threads
+        final Vector3D[] accelerations = new Vector3D[states.length];
+        for (int i = 0; i < states.length; ++i) {
+            accelerations[i] = (Vector3D) entries[i].getValue();
+        }
+        return accelerations;
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends CalculusFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
+                                                                         final T[] parameters) {
+
+        if (!cacheable) {
+            return underlying.acceleration(s, parameters);
+        }
+
+        return (FieldVector3D<T>) get(new FieldKey<>(s.getDate(), s.getFrame(), s.getPosition(), parameters),
+                                      () -> underlying.acceleration(s, parameters));
+
+    }
+
+    /** Clear the cache.
+     */
+    public void clear() {
+        ringLock.lock();
+        try {
+            cache.clear();
+            Arrays.fill(ring, null);
+            registered = 0;
+            hand       = 0;
+        } finally {
+            ringLock.unlock();
+        }
+    }
+
+    /** Get the number of cache hits.
+     * @return number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Get the number of cache misses.
+     * @return number of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Get a cached acceleration, computing it if needed.
+     * @param key cache key
+     * @param computer computer for the acceleration
+     * @return acceleration
+     */
+    private Object get(final Object key, final Supplier<Object> computer) {
+
+        final Entry existing = lookup(key);
+        if (existing != null) {
+            return existing.getValue();
+        }
+
+        final Entry created  = new Entry(key);
+        final Entry previous = reserve(created);
+        if (previous != null) {
+            return previous.getValue();
+        }
+
+        // compute the acceleration outside of any map lock
+        final Object acceleration;
+        try {
+            acceleration = computer.get();
+        } catch (RuntimeException | Error e) {
+            abort(created, e);
+            throw e;
+        }
+        complete(created, acceleration);
+        return acceleration;
+
+    }
+
+    /** Look up a cached entry.
+     * @param key cache key
+     * @return cached entry (possibly still being computed by another thread),
+     * or null if the key is not cached
+     */
+    private Entry lookup(final Object key) {
+        final Entry existing = cache.get(key);
+        if (existing != null) {
+            hits.increment();
+            existing.referenced = true;
+        }
+        return existing;
+    }
+
+    /** Reserve a key for an acceleration computed by the caller.
+     * <p>
+     * If this method returns null, the entry has been inserted in the cache and the caller
+     * must then either {@link #complete(Entry, Object) complete} or {@link #abort(Entry,
+     * Throwable) abort} it. Other threads needing the same key wait for this computation.
+     * </p>
+     * @param created new entry, not completed yet
+     * @return entry inserted by another thread in the meantime, or null if the
+     * caller must compute the acceleration
+     */
+    private Entry reserve(final Entry created) {
+        final Entry previous = cache.putIfAbsent(created.key, created);
+        if (previous == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+            previous.referenced = true;
+        }
+        return previous;
+    }
+
+    /** Complete a reserved entry.
+     * @param entry entry reserved by the caller
+     * @param acceleration computed acceleration
+     */
+    private void complete(final Entry entry, final Object acceleration) {
+        entry.future.complete(acceleration);
+        register(entry);
+    }
+
+    /** Abort a reserved entry.
+     * <p>
+     * Failed computations are not kept, the next request will try again.
+     * </p>
+     * @param entry entry reserved by the caller
+     * @param failure failure that prevented computing the acceleration
+     */
+    private void abort(final Entry entry, final Throwable failure) {
+        cache.remove(entry.key, entry);
+        entry.future.completeExceptionally(failure);
+    }
+
+    /** Register a new entry in the circular buffer, evicting an older one if needed.
+     * @param entry entry to register
+     */
+    private void register(final Entry entry) {
+        ringLock.lock();
+        try {
+
+            if (registered < ring.length) {
+                // the buffer is not full yet
+                ring[registered++] = entry;
+            } else {
+                // sweep the buffer until we find an entry that was not referenced recently
+                while (true) {
+                    final Entry candidate = ring[hand];
+                    if (candidate.referenced) {
+                        // give a second chance to this entry
+                        candidate.referenced = false;
+                        hand = (hand + 1) % ring.length;
+                    } else {
+                        // evict this entry
+                        cache.remove(candidate.key, candidate);
+                        ring[hand] = entry;
+                        hand = (hand + 1) % ring.length;
+                        break;
+                    }
+                }
+            }
+
+        } finally {
+            ringLock.unlock();
+        }
+    }
+
+    /** Cache entry. */
+    private static class Entry {
+
+        /** Cache key. */
+        private final Object key;
+
+        /** Future acceleration. */
+        private final CompletableFuture<Object> future;
+
+        /** Indicator for recent access. */
+        private volatile boolean referenced;
+
+        /** Simple constructor.
+         * @param key cache key
+         */
+        Entry(final Object key) {
+            this.key        = key;
+            this.future     = new CompletableFuture<>();
+            this.referenced = false;
+        }
+
+        /** Get the acceleration, waiting for its computation if needed.
+         * @return cached acceleration
+         */
+        Object getValue() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return future.get();
+                    } catch (InterruptedException ie) {
+                        // keep waiting, as the acceleration is needed, but preserve the interruption
+                        interrupted = true;
+                    } catch (ExecutionException ee) {
+                        final Throwable cause = ee.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        } else {
+                            // this should never happen as force models cannot throw checked exceptions
+                            throw new OrekitInternalError(cause);
+                        }
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+    }
+
+    /** Cache key for regular evaluations.
+     * <p>
+     * Coordinates are compared by their bit patterns, consistently with
+     * {@link Arrays#equals(double[], double[])} for parameters, so
+     * {@code 0.0} and {@code -0.0} are different keys and equal keys
+     * always have equal hash codes.
+     * </p>
+     */
+    private static class Key {
+
+        /** Evaluation date. */
+        private final AbsoluteDate date;
+
+        /** Frame of the position. */
+        private final Frame frame;
+
+        /** Position coordinates. */
+        private final double[] position;
+
+        /** Force model parameters. */
+        private final double[] parameters;
+
+        /** Simple constructor.
+         * @param date evaluation date
+         * @param frame frame of the position
+         * @param position position
+         * @param parameters force model parameters (will be copied)
+         */
+        Key(final AbsoluteDate date, final Frame frame, final Vector3D position, final double[] parameters) {
+            this.date       = date;
+            this.frame      = frame;
+            this.position   = position.toArray();
+            this.parameters = parameters.clone();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (other instanceof Key) {
+                final Key key = (Key) other;
+                return frame == key.frame && date.equals(key.date) &&
+                       Arrays.equals(position, key.position) && Arrays.equals(parameters, key.parameters);
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return 31 * (31 * date.hashCode() + Arrays.hashCode(position)) + Arrays.hashCode(parameters);
+        }
+
+    }
+
+    /** Cache key for field evaluations.
+     * <p>
+     * Field elements may consider {@code 0.0} and {@code -0.0} as equal while
+     * hashing them differently, so the hash code is computed from the real
+     * parts, normalized so signed zeros are hashed the same way.
+     * </p>
+     * @param <T> type of the field elements
+     */
+    private static class FieldKey<T extends CalculusFieldElement<T>> {
+
+        /** Evaluation date. */
+        private final FieldAbsoluteDate<T> date;
+
+        /** Frame of the position. */
+        private final Frame frame;
+
+        /** Position. */
+        private final FieldVector3D<T> position;
+
+        /** Force model parameters. */
+        private final T[] parameters;
+
+        /** Simple constructor.
+         * @param date evaluation date
+         * @param frame frame of the position
+         * @param position position
+         * @param parameters force model parameters (will be copied)
+         */
+        FieldKey(final FieldAbsoluteDate<T> date, final Frame frame,
+                 final FieldVector3D<T> position, final T[] parameters) {
+            this.date       = date;
+            this.frame      = frame;
+            this.position   = position;
+            this.parameters = parameters.clone();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(final Object other) {
+            if (other == this) {
+                return true;
+            }
+            if (other instanceof FieldKey) {
+                final FieldKey<?> key = (FieldKey<?>) other;
+                return frame == key.frame && date.equals(key.date) &&
+                       position.equals(key.position) && Arrays.equals(parameters, key.parameters);
+            }
+            return false;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            int hash = date.toAbsoluteDate().hashCode();
+            hash = 31 * hash + hash(position.getX());
+            hash = 31 * hash + hash(position.getY());
+            hash = 31 * hash + hash(position.getZ());
+            for (final T parameter : parameters) {
+                hash = 31 * hash + hash(parameter);
+            }
+            return hash;
+        }
+
+        /** Hash the real part of a field element.
+         * @param element field element
+         * @return hash code of the real part, with signed zeros normalized
+         */
+        private int hash(final T element) {
+            // adding 0.0 converts -0.0 into 0.0 and leaves all other values unchanged
+            return Double.hashCode(element.getReal() + 0.0);
+        }
+
+    }
+
+}
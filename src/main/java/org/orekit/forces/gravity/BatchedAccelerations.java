@@ -0,0 +1,84 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.util.function.BiFunction;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.forces.ForceModel;
+import org.orekit.frames.Frame;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+
+/** Utility for force models sharing computation between several states.
+ * @author agent
+ * @since 14.0
+ */
+class BatchedAccelerations {
+
+    /** Private constructor for a utility class.
+     */
+    private BatchedAccelerations() {
+        // nothing to do
+    }
+
+    /** Compute acceleration for several spacecraft states, sharing computation when possible.
+     * <p>
+     * This helper is intended for implementations of {@link ForceModel#acceleration(SpacecraftState[],
+     * double[])}. If all states share the same date and frame, the {@code shared} function
+     * is called once with this date and frame, and it must compute the accelerations of all
+     * states. Otherwise, each state is evaluated separately using {@link
+     * ForceModel#acceleration(SpacecraftState, double[])}.
+     * </p>
+     * @param model force model
+     * @param states current states information: date, kinematics, attitude
+     * @param parameters values of the force model parameters at states date,
+     * only 1 value for each parameterDriver
+     * @param shared function computing the accelerations of all states
+     * when they share the date and frame passed as arguments
+     * @return accelerations in same frames as states
+     */
+    static Vector3D[] compute(final ForceModel model, final SpacecraftState[] states,
+                              final double[] parameters,
+                              final BiFunction<AbsoluteDate, Frame, Vector3D[]> shared) {
+
+        if (states.length == 0) {
+            return new Vector3D[0];
+        }
+
+        // check if states can be evaluated together
+        final AbsoluteDate date  = states[0].getDate();
+        final Frame        frame = states[0].getFrame();
+        boolean sharing = true;
+        for (final SpacecraftState state : states) {
+            sharing = sharing && state.getDate().isEqualTo(date) && state.getFrame() == frame;
+        }
+
+        if (sharing) {
+            return shared.apply(date, frame);
+        }
+
+        // fall back to single state evaluation
+        final Vector3D[] accelerations = new Vector3D[states.length];
+        for (int i = 0; i < states.length; ++i) {
+            accelerations[i] = model.acceleration(states[i], parameters);
+        }
+        return accelerations;
+
+    }
+
+}
@@ -17,6 +17,7 @@
 package org.orekit.forces.gravity;
 
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -392,6 +393,167 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute the gradients of the non-central part of the gravity field for several positions.
+     * <p>
+     * This method is equivalent to calling {@link #gradient(AbsoluteDate, Vector3D, double)}
+     * for each position, and the same floating point operations are performed in the same order,
+     * so the results are identical. The data layout is however different: all positions are
+     * processed simultaneously, with intermediate arrays interleaved so that for each degree
+     * and order, the innermost loop runs over positions with unit stride in memory and with
+     * the same recursion coefficients. This layout allows the JIT compiler to vectorize these
+     * loops, and the spherical harmonics coefficients are retrieved only once for all positions.
+     * This is suited to evaluating several satellites at the same date.
+     * </p>
+     * @param date current date
+     * @param positions positions at which gravity field is desired in body frame
+     * @param mu central attraction coefficient to use
+     * @return gradients of the non-central part of the gravity field (one row per position)
+     * @since 14.0
+     */
+    public double[][] gradient(final AbsoluteDate date, final Vector3D[] positions, final double mu) {
+
+        final int nb     = positions.length;
+        final int degree = provider.getMaxDegree();
+        final int order  = provider.getMaxOrder();
+        final NormalizedSphericalHarmonics harmonics = provider.onDate(date);
+
+        // allocate the interleaved columns for recursion, element (n, p) is at index n * nb + p
+        double[] pnm0Plus2  = new double[(degree + 1) * nb];
+        double[] pnm0Plus1  = new double[(degree + 1) * nb];
+        double[] pnm0       = new double[(degree + 1) * nb];
+        final double[] pnm1 = new double[(degree + 1) * nb];
+
+        // compute polar coordinates
+        final double[] r    = new double[nb];
+        final double[] t    = new double[nb];
+        final double[] u    = new double[nb];
+        final double[] u2   = new double[nb];
+        final double[] tOu  = new double[nb];
+        final double[] aOr  = new double[nb];
+        final double[] cosL = new double[nb];
+        final double[] sinL = new double[nb];
+        for (int p = 0; p < nb; ++p) {
+            final double x    = positions[p].getX();
+            final double y    = positions[p].getY();
+            final double z    = positions[p].getZ();
+            final double x2   = x * x;
+            final double y2   = y * y;
+            final double z2   = z * z;
+            final double r2   = x2 + y2 + z2;
+            final double rho2 = x2 + y2;
+            final double rho  = FastMath.sqrt(rho2);
+            r[p]    = FastMath.sqrt(r2);
+            t[p]    = z / r[p];   // cos(theta), where theta is the polar angle
+            u[p]    = rho / r[p]; // sin(theta), where theta is the polar angle
+            u2[p]   = u[p] * u[p];
+            tOu[p]  = z / rho;
+            aOr[p]  = provider.getAe() / r[p];
+            cosL[p] = x / rho;
+            sinL[p] = y / rho;
+        }
+
+        // compute distance powers
+        final double[] aOrN = createInterleavedDistancePowersArray(aOr);
+
+        // compute longitude cosines/sines
+        final double[][] cosSinLambda = createInterleavedCosSinArrays(cosL, sinL);
+
+        // outer summation over order
+        int index = 0;
+        final double[] value             = new double[nb];
+        final double[] gradient0         = new double[nb];
+        final double[] gradient1         = new double[nb];
+        final double[] gradient2         = new double[nb];
+        final double[] sumDegreeS        = new double[nb];
+        final double[] sumDegreeC        = new double[nb];
+        final double[] dSumDegreeSdR     = new double[nb];
+        final double[] dSumDegreeCdR     = new double[nb];
+        final double[] dSumDegreeSdTheta = new double[nb];
+        final double[] dSumDegreeCdTheta = new double[nb];
+        for (int m = degree; m >= 0; --m) {
+
+            // compute tesseral terms with derivatives
+            index = computeInterleavedTesseral(m, degree, index, nb, t, u, u2, tOu, pnm0Plus2, pnm0Plus1, pnm0, pnm1);
+
+            if (m <= order) {
+                // compute contribution of current order to field (equation 5 of the paper)
+
+                // inner summation over degree, for fixed order
+                Arrays.fill(sumDegreeS,        0.0);
+                Arrays.fill(sumDegreeC,        0.0);
+                Arrays.fill(dSumDegreeSdR,     0.0);
+                Arrays.fill(dSumDegreeCdR,     0.0);
+                Arrays.fill(dSumDegreeSdTheta, 0.0);
+                Arrays.fill(dSumDegreeCdTheta, 0.0);
+                for (int n = FastMath.max(2, m); n <= degree; ++n) {
+                    final double snm = harmonics.getNormalizedSnm(n, m);
+                    final double cnm = harmonics.getNormalizedCnm(n, m);
+                    final int    k0  = n * nb;
+                    for (int p = 0; p < nb; ++p) {
+                        final double qSnm  = aOrN[k0 + p] * snm;
+                        final double qCnm  = aOrN[k0 + p] * cnm;
+                        final double nOr   = n / r[p];
+                        final double s0    = pnm0[k0 + p] * qSnm;
+                        final double c0    = pnm0[k0 + p] * qCnm;
+                        final double s1    = pnm1[k0 + p] * qSnm;
+                        final double c1    = pnm1[k0 + p] * qCnm;
+                        sumDegreeS[p]        += s0;
+                        sumDegreeC[p]        += c0;
+                        dSumDegreeSdR[p]     -= nOr * s0;
+                        dSumDegreeCdR[p]     -= nOr * c0;
+                        dSumDegreeSdTheta[p] += s1;
+                        dSumDegreeCdTheta[p] += c1;
+                    }
+                }
+
+                // contribution to outer summation over order
+                // (see single position method for components ordering)
+                final int k0 = m * nb;
+                for (int p = 0; p < nb; ++p) {
+                    final double sML = cosSinLambda[1][k0 + p];
+                    final double cML = cosSinLambda[0][k0 + p];
+                    value[p]     = value[p]     * u[p] + sML * sumDegreeS[p]        + cML * sumDegreeC[p];
+                    gradient0[p] = gradient0[p] * u[p] + sML * dSumDegreeSdR[p]     + cML * dSumDegreeCdR[p];
+                    gradient1[p] = gradient1[p] * u[p] + m * (cML * sumDegreeS[p] - sML * sumDegreeC[p]);
+                    gradient2[p] = gradient2[p] * u[p] + sML * dSumDegreeSdTheta[p] + cML * dSumDegreeCdTheta[p];
+                }
+
+            }
+
+            // rotate the recursion arrays
+            final double[] tmp = pnm0Plus2;
+            pnm0Plus2 = pnm0Plus1;
+            pnm0Plus1 = pnm0;
+            pnm0      = tmp;
+
+        }
+
+        final double[][] gradients = new double[nb][];
+        for (int p = 0; p < nb; ++p) {
+
+            // scale back
+            final double[] gradient = new double[] {
+                FastMath.scalb(gradient0[p], SCALING),
+                FastMath.scalb(gradient1[p], SCALING),
+                FastMath.scalb(gradient2[p], SCALING)
+            };
+
+            // apply the global mu/r factor
+            final double muOr = mu / r[p];
+            final double v    = FastMath.scalb(value[p], SCALING) * muOr;
+            gradient[0]       = muOr * gradient[0] - v / r[p];
+            gradient[1]      *= muOr;
+            gradient[2]      *= muOr;
+
+            // convert gradient from spherical to Cartesian
+            gradients[p] = new SphericalCoordinates(positions[p]).toCartesianGradient(gradient);
+
+        }
+
+        return gradients;
+
+    }
+
     /** Compute the gradient of the non-central part of the gravity field.
      * @param date current date
      * @param position position at which gravity field is desired in body frame
@@ -747,6 +909,34 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
         return aOrN;
 
     }
+    /** Compute interleaved a/r powers array for several positions.
+     * @param aOr a/r for all positions
+     * @return array containing (a/r)<sup>n</sup> for position p at index n &times; nb + p
+     */
+    private double[] createInterleavedDistancePowersArray(final double[] aOr) {
+
+        // initialize array
+        final int nb = aOr.length;
+        final double[] aOrN = new double[(provider.getMaxDegree() + 1) * nb];
+        Arrays.fill(aOrN, 0, nb, 1.0);
+        if (provider.getMaxDegree() > 0) {
+            System.arraycopy(aOr, 0, aOrN, nb, nb);
+        }
+
+        // fill up array
+        for (int n = 2; n <= provider.getMaxDegree(); ++n) {
+            final int k0 = n * nb;
+            final int kp = (n / 2) * nb;
+            final int kq = (n - n / 2) * nb;
+            for (int p = 0; p < nb; ++p) {
+                aOrN[k0 + p] = aOrN[kp + p] * aOrN[kq + p];
+            }
+        }
+
+        return aOrN;
+
+    }
+
     /** Compute a/r powers array.
      * @param aOr a/r
      * @param <T> type of field used
@@ -808,6 +998,38 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute interleaved longitude cosines and sines for several positions.
+     * @param cosLambda cos(λ) for all positions
+     * @param sinLambda sin(λ) for all positions
+     * @return array containing cos(m &times; λ) in row 0
+     * and sin(m &times; λ) in row 1, for position p at index m &times; nb + p
+     */
+    private double[][] createInterleavedCosSinArrays(final double[] cosLambda, final double[] sinLambda) {
+
+        // initialize arrays
+        final int nb = cosLambda.length;
+        final double[][] cosSin = new double[2][(provider.getMaxOrder() + 1) * nb];
+        Arrays.fill(cosSin[0], 0, nb, 1.0);
+        if (provider.getMaxOrder() > 0) {
+            System.arraycopy(cosLambda, 0, cosSin[0], nb, nb);
+            System.arraycopy(sinLambda, 0, cosSin[1], nb, nb);
+
+            // fill up array, using the same splitting as the single position method
+            for (int m = 2; m <= provider.getMaxOrder(); ++m) {
+                final int k0 = m * nb;
+                final int kp = (m / 2) * nb;
+                final int kq = (m - m / 2) * nb;
+                for (int p = 0; p < nb; ++p) {
+                    cosSin[0][k0 + p] = cosSin[0][kp + p] * cosSin[0][kq + p] - cosSin[1][kp + p] * cosSin[1][kq + p];
+                    cosSin[1][k0 + p] = cosSin[1][kp + p] * cosSin[0][kq + p] + cosSin[0][kp + p] * cosSin[1][kq + p];
+                }
+            }
+        }
+
+        return cosSin;
+
+    }
+
     /** Compute longitude cosines and sines.
      * @param cosLambda cos(λ)
      * @param sinLambda sin(λ)
@@ -945,6 +1167,78 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute one order of tesseral terms and their first derivatives for several positions.
+     * <p>
+     * This corresponds to equations 27 and 30 of the paper. All arrays are interleaved,
+     * with element (n, p) at index n &times; nb + p.
+     * </p>
+     * @param m current order
+     * @param degree max degree
+     * @param index index in the flattened array
+     * @param nb number of positions
+     * @param t cos(θ) for all positions, where θ is the polar angle
+     * @param u sin(θ) for all positions, where θ is the polar angle
+     * @param u2 sin²(θ) for all positions, where θ is the polar angle
+     * @param tOu t/u for all positions
+     * @param pnm0Plus2 array containing scaled P<sub>n,m+2</sub>/u<sup>m+2</sup>
+     * @param pnm0Plus1 array containing scaled P<sub>n,m+1</sub>/u<sup>m+1</sup>
+     * @param pnm0 array to fill with scaled P<sub>n,m</sub>/u<sup>m</sup>
+     * @param pnm1 array to fill with scaled dP<sub>n,m</sub>/u<sup>m</sup>
+     * @return new value for index
+     */
+    private int computeInterleavedTesseral(final int m, final int degree, final int index, final int nb,
+                                final double[] t, final double[] u, final double[] u2, final double[] tOu,
+                                final double[] pnm0Plus2, final double[] pnm0Plus1,
+                                final double[] pnm0, final double[] pnm1) {
+
+        final int nStart = FastMath.max(2, m);
+
+        // initialize recursion from sectorial terms
+        int n = nStart;
+        if (n == m) {
+            Arrays.fill(pnm0, n * nb, (n + 1) * nb, sectorial[n]);
+            ++n;
+        }
+
+        // compute tesseral values (equation 27 of the paper)
+        int localIndex = index;
+        while (n <= degree) {
+            final double gnm = gnmOj[localIndex];
+            final double hnm = hnmOj[localIndex];
+            final int    k0  = n * nb;
+            for (int p = 0; p < nb; ++p) {
+                pnm0[k0 + p] = gnm * t[p] * pnm0Plus1[k0 + p] - hnm * u2[p] * pnm0Plus2[k0 + p];
+            }
+            ++localIndex;
+            ++n;
+        }
+
+        // initialize recursion from sectorial terms
+        n = nStart;
+        if (n == m) {
+            final int k0 = n * nb;
+            for (int p = 0; p < nb; ++p) {
+                pnm1[k0 + p] = m * tOu[p] * pnm0[k0 + p];
+            }
+            ++n;
+        }
+
+        // compute tesseral derivatives with respect to polar angle (equation 30 of the paper)
+        localIndex = index;
+        while (n <= degree) {
+            final double e  = enm[localIndex];
+            final int    k0 = n * nb;
+            for (int p = 0; p < nb; ++p) {
+                pnm1[k0 + p] = m * tOu[p] * pnm0[k0 + p] - e * u[p] * pnm0Plus1[k0 + p];
+            }
+            ++localIndex;
+            ++n;
+        }
+
+        return localIndex;
+
+    }
+
     /** Compute one order of tesseral terms.
      * <p>
      * This corresponds to equations 27 and 30 of the paper.
@@ -1056,6 +1350,42 @@ public class HolmesFeatherstoneAttractionModel implements ForceModel, TideSystem
 
     }
 
+    /** Compute acceleration for several spacecraft states.
+     * <p>
+     * If all states share the same date and frame, the body frame transform is computed
+     * only once and the gradients are evaluated together using {@link #gradient(AbsoluteDate,
+     * Vector3D[], double)}, otherwise each state is handled separately using {@link
+     * #acceleration(SpacecraftState, double[])}. In both cases, the results are identical
+     * to the ones of the single state method.
+     * </p>
+     * @param states current states information: date, kinematics, attitude
+     * @param parameters values of the force model parameters at states date
+     * @return accelerations due to the non-central part of the gravity field, in states frames
+     * @since 14.0
+     */
+    @Override
+    public Vector3D[] acceleration(final SpacecraftState[] states, final double[] parameters) {
+        return BatchedAccelerations.compute(this, states, parameters, (date, frame) -> {
+
+            // get the positions in body frame
+            final StaticTransform fromBodyFrame = bodyFrame.getStaticTransformTo(frame, date);
+            final StaticTransform toBodyFrame   = fromBodyFrame.getInverse();
+            final Vector3D[] positions = new Vector3D[states.length];
+            for (int i = 0; i < states.length; ++i) {
+                positions[i] = toBodyFrame.transformPosition(states[i].getPosition());
+            }
+
+            // gradients of the non-central part of the gravity field
+            final double[][] gradients     = gradient(date, positions, parameters[0]);
+            final Vector3D[] accelerations = new Vector3D[states.length];
+            for (int i = 0; i < states.length; ++i) {
+                accelerations[i] = fromBodyFrame.transformVector(new Vector3D(gradients[i]));
+            }
+            return accelerations;
+
+        });
+    }
+
     /** {@inheritDoc} */
     public <T extends CalculusFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
                                                                          final T[] parameters) {
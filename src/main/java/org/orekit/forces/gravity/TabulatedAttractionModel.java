@@ -0,0 +1,637 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathArrays;
+import org.hipparchus.util.MathUtils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.ForceModel;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FieldStaticTransform;
+import org.orekit.frames.Frame;
+import org.orekit.frames.StaticTransform;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.ParameterDriver;
+
+/** Gravity field model interpolating the non-central part of the acceleration on a precomputed grid.
+ * <p>
+ * The non-central part of the acceleration computed by a {@link HolmesFeatherstoneAttractionModel}
+ * is tabulated once, in the body frame, on a spherical grid covering an altitude shell. The grid
+ * is regular in radius, colatitude and longitude. During propagation, accelerations are interpolated
+ * using tensor product Lagrange polynomials, which costs a fixed number of operations independent
+ * of the gravity field degree. This is interesting for long term studies of low orbits with high
+ * degree fields. Outside of the shell, the exact model is used.
+ * </p>
+ * <p>
+ * The grid is computed in parallel at construction. As this can take some time for fine grids and
+ * high degree fields, it can be {@link #write(OutputStream) saved} in a compact binary form and
+ * {@link #read(InputStream, String, Frame, NormalizedSphericalHarmonicsProvider) loaded} again later on.
+ * The interpolation error depends on the grid steps, the number of interpolation points and
+ * the field degree, it can be estimated using {@link #estimateMaxError(int, long)}.
+ * </p>
+ * <p>
+ * The grid is computed for a reference date and central attraction coefficient. Time-dependent
+ * coefficients are therefore frozen at the reference date inside the shell. Changes in the central
+ * attraction coefficient (for example during orbit determination) are taken into account as the
+ * acceleration is proportional to it. In {@link org.hipparchus.analysis.differentiation.Gradient
+ * Gradient} evaluations, the derivatives with respect to position are the derivatives of the
+ * interpolating polynomials.
+ * </p>
+ * @see HolmesFeatherstoneAttractionModel
+ * @author agent
+ * @since 14.0
+ */
+public class TabulatedAttractionModel implements ForceModel {
+
+    /** Format identifier for binary files. */
+    private static final String FORMAT = "OREKIT-GRAVITY-GRID";
+
+    /** Version of binary files. */
+    private static final int VERSION = 1;
+
+    /** Exact model. */
+    private final HolmesFeatherstoneAttractionModel exact;
+
+    /** Rotating body. */
+    private final Frame bodyFrame;
+
+    /** Provider for spherical harmonics. */
+    private final NormalizedSphericalHarmonicsProvider provider;
+
+    /** Reference date. */
+    private final AbsoluteDate date;
+
+    /** Central attraction coefficient used for the grid. */
+    private final double referenceMu;
+
+    /** Inner radius of the shell. */
+    private final double rMin;
+
+    /** Outer radius of the shell. */
+    private final double rMax;
+
+    /** Number of radial nodes. */
+    private final int nR;
+
+    /** Number of colatitude nodes. */
+    private final int nTheta;
+
+    /** Number of longitude nodes. */
+    private final int nLambda;
+
+    /** Radial step. */
+    private final double dR;
+
+    /** Colatitude step. */
+    private final double dTheta;
+
+    /** Longitude step. */
+    private final double dLambda;
+
+    /** Number of interpolation points along each dimension. */
+    private final int points;
+
+    /** Denominators of Lagrange basis polynomials. */
+    private final double[] denominators;
+
+    /** Tabulated accelerations (x, y, z in body frame). */
+    private final double[] table;
+
+    /** Simple constructor.
+     * <p>
+     * The steps are adjusted so the grid exactly covers the shell and the longitude circle.
+     * The colatitude grid avoids the poles, where the spherical harmonics recursion is
+     * singular, by using nodes shifted by half a step.
+     * </p>
+     * @param centralBodyFrame rotating body frame
+     * @param provider provider for spherical harmonics
+     * @param date reference date for the grid
+     * @param rMin inner radius of the shell
+     * @param rMax outer radius of the shell
+     * @param radialStep maximum radial step
+     * @param angularStep maximum colatitude and longitude step
+     * @param points number of interpolation points along each dimension
+     */
+    public TabulatedAttractionModel(final Frame centralBodyFrame,
+                                    final NormalizedSphericalHarmonicsProvider provider,
+                                    final AbsoluteDate date,
+                                    final double rMin, final double rMax,
+                                    final double radialStep, final double angularStep,
+                                    final int points) {
+
+        if (points < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, points);
+        }
+        if (radialStep <= 0) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, radialStep);
+        }
+        if (angularStep <= 0) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, angularStep);
+        }
+        if (rMax <= rMin) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     rMax, rMin);
+        }
+
+        this.exact       = new HolmesFeatherstoneAttractionModel(centralBodyFrame, provider);
+        this.bodyFrame   = centralBodyFrame;
+        this.provider    = provider;
+        this.date        = date;
+        this.referenceMu = exact.getMu();
+        this.rMin        = rMin;
+        this.rMax        = rMax;
+        this.nR          = FastMath.max(points, (int) FastMath.ceil((rMax - rMin) / radialStep) + 1);
+        this.nTheta      = FastMath.max(points, (int) FastMath.ceil(FastMath.PI / angularStep));
+        this.nLambda     = 2 * nTheta;
+        this.dR          = (rMax - rMin) / (nR - 1);
+        this.dTheta      = FastMath.PI / nTheta;
+        this.dLambda     = MathUtils.TWO_PI / nLambda;
+        this.points      = points;
+        this.denominators = lagrangeDenominators(points);
+
+        // compute exact accelerations at grid nodes
+        this.table = new double[3 * nR * nTheta * nLambda];
+        IntStream.range(0, nR * nTheta).parallel().forEach(k -> {
+            final int    iR      = k / nTheta;
+            final int    iTheta  = k % nTheta;
+            final double r       = rMin + iR * dR;
+            final double theta   = (iTheta + 0.5) * dTheta;
+            final double rSin    = r * FastMath.sin(theta);
+            final double rCos    = r * FastMath.cos(theta);
+            for (int iLambda = 0; iLambda < nLambda; ++iLambda) {
+                final double   lambda   = iLambda * dLambda;
+                final Vector3D node     = new Vector3D(rSin * FastMath.cos(lambda), rSin * FastMath.sin(lambda), rCos);
+                final double[] gradient = exact.gradient(date, node, referenceMu);
+                System.arraycopy(gradient, 0, table, 3 * (k * nLambda + iLambda), 3);
+            }
+        });
+
+    }
+
+    /** Constructor for loaded grids.
+     * @param exact exact model
+     * @param bodyFrame rotating body frame
+     * @param provider provider for spherical harmonics
+     * @param date reference date for the grid
+     * @param referenceMu central attraction coefficient used for the grid
+     * @param rMin inner radius of the shell
+     * @param rMax outer radius of the shell
+     * @param nR number of radial nodes
+     * @param nTheta number of colatitude nodes
+     * @param nLambda number of longitude nodes
+     * @param points number of interpolation points along each dimension
+     * @param table tabulated accelerations
+     */
+    private TabulatedAttractionModel(final HolmesFeatherstoneAttractionModel exact, final Frame bodyFrame,
+                                     final NormalizedSphericalHarmonicsProvider provider,
+                                     final AbsoluteDate date, final double referenceMu,
+                                     final double rMin, final double rMax,
+                                     final int nR, final int nTheta, final int nLambda,
+                                     final int points, final double[] table) {
+        this.exact        = exact;
+        this.bodyFrame    = bodyFrame;
+        this.provider     = provider;
+        this.date         = date;
+        this.referenceMu  = referenceMu;
+        this.rMin         = rMin;
+        this.rMax         = rMax;
+        this.nR           = nR;
+        this.nTheta       = nTheta;
+        this.nLambda      = nLambda;
+        this.dR           = (rMax - rMin) / (nR - 1);
+        this.dTheta       = FastMath.PI / nTheta;
+        this.dLambda      = MathUtils.TWO_PI / nLambda;
+        this.points       = points;
+        this.denominators = lagrangeDenominators(points);
+        this.table        = table;
+    }
+
+    /** Load a grid previously saved with {@link #write(OutputStream)}.
+     * <p>
+     * Exactly the bytes written by {@link #write(OutputStream)} are consumed, so
+     * other data following the grid in the stream can be read afterwards.
+     * </p>
+     * @param input input stream (will not be closed)
+     * @param name name of the input (for error messages)
+     * @param centralBodyFrame rotating body frame
+     * @param provider provider for spherical harmonics, used outside of the shell
+     * (must have the same degree and order as the one used to build the grid)
+     * @return loaded model
+     * @exception IOException if data cannot be read
+     */
+    public static TabulatedAttractionModel read(final InputStream input, final String name,
+                                                final Frame centralBodyFrame,
+                                                final NormalizedSphericalHarmonicsProvider provider)
+        throws IOException {
+
+        // no buffering here, as it could consume bytes beyond the grid from a caller-owned stream
+        final DataInputStream dis = new DataInputStream(input);
+
+        // header
+        if (!FORMAT.equals(dis.readUTF())) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = dis.readInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+        final int degree = dis.readInt();
+        if (degree != provider.getMaxDegree()) {
+            throw new OrekitException(OrekitMessages.INCONSISTENT_NUMBER_OF_ELEMENTS, degree, provider.getMaxDegree());
+        }
+        final int order = dis.readInt();
+        if (order != provider.getMaxOrder()) {
+            throw new OrekitException(OrekitMessages.INCONSISTENT_NUMBER_OF_ELEMENTS, order, provider.getMaxOrder());
+        }
+        final AbsoluteDate date        = new AbsoluteDate(new TimeOffset(dis.readLong(), dis.readLong()));
+        final double       referenceMu = dis.readDouble();
+        final double       rMin        = dis.readDouble();
+        final double       rMax        = dis.readDouble();
+        final int          nR          = dis.readInt();
+        final int          nTheta      = dis.readInt();
+        final int          nLambda     = dis.readInt();
+        final int          points      = dis.readInt();
+
+        // tabulated accelerations, read in one bulk operation
+        final double[] table = new double[3 * nR * nTheta * nLambda];
+        final byte[]   bytes = new byte[table.length * Double.BYTES];
+        dis.readFully(bytes);
+        ByteBuffer.wrap(bytes).asDoubleBuffer().get(table);
+
+        return new TabulatedAttractionModel(new HolmesFeatherstoneAttractionModel(centralBodyFrame, provider),
+                                            centralBodyFrame, provider, date, referenceMu, rMin, rMax,
+                                            nR, nTheta, nLambda, points, table);
+
+    }
+
+    /** Save the grid.
+     * @param output output stream (will be flushed but not closed)
+     * @exception IOException if data cannot be written
+     */
+    public void write(final OutputStream output) throws IOException {
+
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(output));
+
+        // header
+        dos.writeUTF(FORMAT);
+        dos.writeInt(VERSION);
+        dos.writeInt(provider.getMaxDegree());
+        dos.writeInt(provider.getMaxOrder());
+        dos.writeLong(date.getSeconds());
+        dos.writeLong(date.getAttoSeconds());
+        dos.writeDouble(referenceMu);
+        dos.writeDouble(rMin);
+        dos.writeDouble(rMax);
+        dos.writeInt(nR);
+        dos.writeInt(nTheta);
+        dos.writeInt(nLambda);
+        dos.writeInt(points);
+
+        // tabulated accelerations
+        for (final double value : table) {
+            dos.writeDouble(value);
+        }
+
+        dos.flush();
+
+    }
+
+    /** Get the exact model used to build the grid and outside of the shell.
+     * @return exact model
+     */
+    public HolmesFeatherstoneAttractionModel getExactModel() {
+        return exact;
+    }
+
+    /** Get the reference date of the grid.
+     * @return reference date of the grid
+     */
+    public AbsoluteDate getDate() {
+        return date;
+    }
+
+    /** Get the inner radius of the shell.
+     * @return inner radius of the shell
+     */
+    public double getMinRadius() {
+        return rMin;
+    }
+
+    /** Get the outer radius of the shell.
+     * @return outer radius of the shell
+     */
+    public double getMaxRadius() {
+        return rMax;
+    }
+
+    /** Get the number of grid nodes.
+     * @return number of grid nodes
+     */
+    public int getNodesNumber() {
+        return nR * nTheta * nLambda;
+    }
+
+    /** Estimate the maximum interpolation error with respect to the exact model.
+     * <p>
+     * The error is computed at pseudo-random points uniformly distributed in the shell,
+     * at the reference date and for the reference central attraction coefficient.
+     * The exact model is evaluated in parallel.
+     * </p>
+     * @param samples number of sample points
+     * @param seed seed for the pseudo-random points generator
+     * @return maximum norm of the difference between interpolated and exact accelerations (m/s²)
+     */
+    public double estimateMaxError(final int samples, final long seed) {
+
+        // generate sample points
+        final Random random = new Random(seed);
+        final Vector3D[] sample = new Vector3D[samples];
+        for (int i = 0; i < samples; ++i) {
+            final double r      = rMin + random.nextDouble() * (rMax - rMin);
+            final double z      = 2 * random.nextDouble() - 1;
+            final double rho    = FastMath.sqrt(1 - z * z);
+            final double lambda = random.nextDouble() * MathUtils.TWO_PI;
+            sample[i] = new Vector3D(r * rho * FastMath.cos(lambda), r * rho * FastMath.sin(lambda), r * z);
+        }
+
+        // compare interpolated and exact accelerations
+        return IntStream.range(0, samples).parallel().
+               mapToDouble(i -> Vector3D.distance(new Vector3D(exact.gradient(date, sample[i], referenceMu)),
+                                                  interpolate(sample[i]))).
+               max().orElse(0.0);
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean dependsOnPositionOnly() {
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+
+        // get the position in body frame
+        final StaticTransform fromBodyFrame = bodyFrame.getStaticTransformTo(s.getFrame(), s.getDate());
+        final Vector3D        position      = fromBodyFrame.getInverse().transformPosition(s.getPosition());
+
+        final double r = position.getNorm();
+        if (r < rMin || r > rMax) {
+            // we are outside of the shell
+            return exact.acceleration(s, parameters);
+        }
+
+        return fromBodyFrame.transformVector(new Vector3D(parameters[0] / referenceMu, interpolate(position)));
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
+                                                                         final T[] parameters) {
+
+        // get the position in body frame
+        final FieldStaticTransform<T> fromBodyFrame = bodyFrame.getStaticTransformTo(s.getFrame(), s.getDate());
+        final FieldVector3D<T>        position      = fromBodyFrame.getInverse().transformPosition(s.getPosition());
+
+        final double r = position.getNorm().getReal();
+        if (r < rMin || r > rMax) {
+            // we are outside of the shell
+            return exact.acceleration(s, parameters);
+        }
+
+        return fromBodyFrame.transformVector(new FieldVector3D<>(parameters[0].divide(referenceMu),
+                                                                 interpolate(position)));
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<ParameterDriver> getParametersDrivers() {
+        return exact.getParametersDrivers();
+    }
+
+    /** Interpolate acceleration.
+     * @param position position in body frame (must be within the shell)
+     * @return interpolated acceleration in body frame, for the reference central attraction coefficient
+     */
+    private Vector3D interpolate(final Vector3D position) {
+
+        // spherical coordinates, in grid index units
+        final double sR      = (position.getNorm() - rMin) / dR;
+        final double sTheta  = FastMath.atan2(FastMath.hypot(position.getX(), position.getY()), position.getZ()) / dTheta - 0.5;
+        final double sLambda = MathUtils.normalizeAngle(FastMath.atan2(position.getY(), position.getX()), FastMath.PI) / dLambda;
+
+        // interpolation stencils and weights
+        final int      iR      = radialStart(sR);
+        final int      iTheta  = angularStart(sTheta);
+        final int      iLambda = angularStart(sLambda);
+        final double[] wR      = weights(sR      - iR);
+        final double[] wTheta  = weights(sTheta  - iTheta);
+        final double[] wLambda = weights(sLambda - iLambda);
+
+        // tensor product interpolation
+        double x = 0;
+        double y = 0;
+        double z = 0;
+        for (int a = 0; a < points; ++a) {
+            for (int b = 0; b < points; ++b) {
+                final double wab = wR[a] * wTheta[b];
+                for (int c = 0; c < points; ++c) {
+                    final int    k = nodeIndex(iR + a, iTheta + b, iLambda + c);
+                    final double w = wab * wLambda[c];
+                    x += w * table[k];
+                    y += w * table[k + 1];
+                    z += w * table[k + 2];
+                }
+            }
+        }
+
+        return new Vector3D(x, y, z);
+
+    }
+
+    /** Interpolate acceleration.
+     * @param position position in body frame (must be within the shell)
+     * @param <T> type of the field elements
+     * @return interpolated acceleration in body frame, for the reference central attraction coefficient
+     */
+    private <T extends CalculusFieldElement<T>> FieldVector3D<T> interpolate(final FieldVector3D<T> position) {
+
+        // spherical coordinates, in grid index units
+        final T sR      = position.getNorm().subtract(rMin).divide(dR);
+        final T sTheta  = position.getX().hypot(position.getY()).atan2(position.getZ()).divide(dTheta).subtract(0.5);
+        T       lambda  = position.getY().atan2(position.getX());
+        if (lambda.getReal() < 0) {
+            lambda = lambda.add(MathUtils.TWO_PI);
+        }
+        final T sLambda = lambda.divide(dLambda);
+
+        // interpolation stencils and weights
+        final int iR      = radialStart(sR.getReal());
+        final int iTheta  = angularStart(sTheta.getReal());
+        final int iLambda = angularStart(sLambda.getReal());
+        final T[] wR      = weights(sR.subtract(iR));
+        final T[] wTheta  = weights(sTheta.subtract(iTheta));
+        final T[] wLambda = weights(sLambda.subtract(iLambda));
+
+        // tensor product interpolation
+        final T zero = sR.getField().getZero();
+        T x = zero;
+        T y = zero;
+        T z = zero;
+        for (int a = 0; a < points; ++a) {
+            for (int b = 0; b < points; ++b) {
+                final T wab = wR[a].multiply(wTheta[b]);
+                for (int c = 0; c < points; ++c) {
+                    final int k = nodeIndex(iR + a, iTheta + b, iLambda + c);
+                    final T   w = wab.multiply(wLambda[c]);
+                    x = x.add(w.multiply(table[k]));
+                    y = y.add(w.multiply(table[k + 1]));
+                    z = z.add(w.multiply(table[k + 2]));
+                }
+            }
+        }
+
+        return new FieldVector3D<>(x, y, z);
+
+    }
+
+    /** Get the first radial index of an interpolation stencil.
+     * @param s radial coordinate in grid index units
+     * @return first radial index of the stencil
+     */
+    private int radialStart(final double s) {
+        final int start = (int) FastMath.floor(s) - (points - 1) / 2;
+        return FastMath.max(0, FastMath.min(nR - points, start));
+    }
+
+    /** Get the first angular index of an interpolation stencil.
+     * <p>
+     * Angular stencils may extend beyond the grid, they are wrapped
+     * by {@link #nodeIndex(int, int, int)}.
+     * </p>
+     * @param s angular coordinate in grid index units
+     * @return first angular index of the stencil
+     */
+    private int angularStart(final double s) {
+        return (int) FastMath.floor(s) - (points - 1) / 2;
+    }
+
+    /** Get the index of a node in the table.
+     * <p>
+     * Colatitude indices beyond the poles are reflected to the opposite meridian,
+     * longitude indices are wrapped around the circle.
+     * </p>
+     * @param iR radial index
+     * @param iTheta colatitude index (may be outside of grid)
+     * @param iLambda longitude index (may be outside of grid)
+     * @return index of the first component of the node acceleration in the table
+     */
+    private int nodeIndex(final int iR, final int iTheta, final int iLambda) {
+        int theta  = iTheta;
+        int lambda = iLambda;
+        if (theta < 0) {
+            // crossing North pole
+            theta   = -theta - 1;
+            lambda += nLambda / 2;
+        } else if (theta >= nTheta) {
+            // crossing South pole
+            theta   = 2 * nTheta - 1 - theta;
+            lambda += nLambda / 2;
+        }
+        lambda = Math.floorMod(lambda, nLambda);
+        return 3 * ((iR * nTheta + theta) * nLambda + lambda);
+    }
+
+    /** Compute Lagrange basis polynomials denominators for nodes 0, 1 ... n-1.
+     * @param n number of nodes
+     * @return denominators
+     */
+    private static double[] lagrangeDenominators(final int n) {
+        final double[] d = new double[n];
+        for (int j = 0; j < n; ++j) {
+            d[j] = 1;
+            for (int m = 0; m < n; ++m) {
+                if (m != j) {
+                    d[j] *= j - m;
+                }
+            }
+        }
+        return d;
+    }
+
+    /** Compute Lagrange interpolation weights for nodes 0, 1 ... n-1.
+     * @param u evaluation point, relative to first node
+     * @return interpolation weights
+     */
+    private double[] weights(final double u) {
+        final double[] w = new double[points];
+        for (int j = 0; j < points; ++j) {
+            double p = 1;
+            for (int m = 0; m < points; ++m) {
+                if (m != j) {
+                    p *= u - m;
+                }
+            }
+            w[j] = p / denominators[j];
+        }
+        return w;
+    }
+
+    /** Compute Lagrange interpolation weights for nodes 0, 1 ... n-1.
+     * @param u evaluation point, relative to first node
+     * @param <T> type of the field elements
+     * @return interpolation weights
+     */
+    private <T extends CalculusFieldElement<T>> T[] weights(final T u) {
+        final T[] w = MathArrays.buildArray(u.getField(), points);
+        for (int j = 0; j < points; ++j) {
+            T p = u.getField().getOne();
+            for (int m = 0; m < points; ++m) {
+                if (m != j) {
+                    p = p.multiply(u.subtract(m));
+                }
+            }
+            w[j] = p.divide(denominators[j]);
+        }
+        return w;
+    }
+
+}
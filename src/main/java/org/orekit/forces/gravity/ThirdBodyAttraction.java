@@ -70,6 +70,37 @@ public class ThirdBodyAttraction extends AbstractBodyAttraction {
 
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * If all states share the same date and frame, the body position is computed
+     * only once. In both cases, the results are identical to the ones of the single
+     * state method.
+     * </p>
+     * @since 14.0
+     */
+    @Override
+    public Vector3D[] acceleration(final SpacecraftState[] states, final double[] parameters) {
+        return BatchedAccelerations.compute(this, states, parameters, (date, frame) -> {
+
+            final double gm = parameters[0];
+
+            // the central body to third body vector is shared by all states
+            final Vector3D centralToBody = getBodyPosition(date, frame);
+            final double   r2Central     = centralToBody.getNorm2Sq();
+            final double   centralFactor = -gm / (r2Central * FastMath.sqrt(r2Central));
+
+            final Vector3D[] accelerations = new Vector3D[states.length];
+            for (int i = 0; i < states.length; ++i) {
+                final Vector3D satToBody = centralToBody.subtract(states[i].getPosition());
+                final double   r2Sat     = satToBody.getNorm2Sq();
+                accelerations[i] = new Vector3D(gm / (r2Sat * FastMath.sqrt(r2Sat)), satToBody,
+                                                centralFactor, centralToBody);
+            }
+            return accelerations;
+
+        });
+    }
+
     /** {@inheritDoc} */
     @Override
     public <T extends CalculusFieldElement<T>> FieldVector3D<T> acceleration(final FieldSpacecraftState<T> s,
@@ -236,14 +236,29 @@ class BulletinBFilesLoader extends AbstractEopLoader implements EopHistoryLoader
         super(supportedNames, manager, utcSupplier);
     }
 
-    /** {@inheritDoc} */
+    /** {@inheritDoc}
+     * <p>
+     * As the conventions are unknown, parsed entries are not cached.
+     * </p>
+     */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
+        fillHistory(null, converter, history);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillHistory(final IERSConventions conventions,
+                            final IERSConventions.NutationCorrectionConverter converter,
+                            final SortedSet<EOPEntry> history) {
         final ItrfVersionProvider itrfVersionProvider = new ITRFVersionLoader(
                 ITRFVersionLoader.SUPPORTED_NAMES,
                 getDataProvidersManager());
-        final Parser parser = new Parser(converter, itrfVersionProvider, getUtc());
-        final EopParserLoader loader = new EopParserLoader(parser);
+        // UTC is retrieved once, as parsers may be created from several threads
+        final TimeScale utc = getUtc();
+        final EopParserLoader loader =
+                new EopParserLoader(() -> new Parser(converter, itrfVersionProvider, utc),
+                                    EopEntriesCodec.build("bulletinB", conventions, itrfVersionProvider, utc));
         this.feed(loader);
         history.addAll(loader.getEop());
     }
@@ -18,16 +18,19 @@ package org.orekit.frames;
 
 import org.orekit.time.AbsoluteDate;
 
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Function;
 
 /** Thread-safe cached provider for frame transforms.
  * <p>
- * This provider is based on a thread-safe Least Recently Used cache
- * using date as it access key, hence saving computation time on
- * transform building.
+ * This provider is based on a concurrent cache using date as it access key,
+ * hence saving computation time on transform building. Cache hits never block,
+ * and eviction follows a CLOCK policy, which is an approximation of Least
+ * Recently Used policy well suited to concurrent accesses.
+ * </p>
+ * <p>
+ * Before a parallel run on a known set of dates, the caches can be pre-populated
+ * using {@link #populate(Iterable)}, {@link #populateKinematic(Iterable)} or
+ * {@link #populateStatic(Iterable)}, so the worker threads only hit the cache.
  * </p>
  * <p>
  * This class is thread-safe.
@@ -46,26 +49,14 @@ public class CachedTransformProvider {
     /** Number of transforms kept in the date-based cache. */
     private final int cacheSize;
 
-    /** Generator for full transforms. */
-    private final Function<AbsoluteDate, Transform> fullGenerator;
-
-    /** Generator for kinematic transforms. */
-    private final Function<AbsoluteDate, KinematicTransform> kinematicGenerator;
-
-    /** Generator for static transforms. */
-    private final Function<AbsoluteDate, StaticTransform> staticGenerator;
+    /** Full transforms cache. */
+    private final ClockCache<Transform> fullCache;
 
-    /** Lock for concurrent access. */
-    private final ReentrantLock lock;
+    /** Kinematic transforms cache. */
+    private final ClockCache<KinematicTransform> kinematicCache;
 
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, Transform> fullCache;
-
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, KinematicTransform> kinematicCache;
-
-    /** Transforms LRU cache. */
-    private final Map<AbsoluteDate, StaticTransform> staticCache;
+    /** Static transforms cache. */
+    private final ClockCache<StaticTransform> staticCache;
 
     /** Simple constructor.
      * @param origin             origin frame
@@ -81,40 +72,12 @@ public class CachedTransformProvider {
                                    final Function<AbsoluteDate, StaticTransform> staticGenerator,
                                    final int cacheSize) {
 
-        this.origin             = origin;
-        this.destination        = destination;
-        this.cacheSize          = cacheSize;
-        this.fullGenerator      = fullGenerator;
-        this.kinematicGenerator = kinematicGenerator;
-        this.staticGenerator    = staticGenerator;
-        this.lock               = new ReentrantLock();
-
-        // cache for full transforms
-        this.fullCache = new LinkedHashMap<AbsoluteDate, Transform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, Transform> eldest) {
-                return size() > cacheSize;
-            }
-        };
-
-        // cache for kinematic transforms
-        this.kinematicCache = new LinkedHashMap<AbsoluteDate, KinematicTransform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, KinematicTransform> eldest) {
-                return size() > cacheSize;
-            }
-        };
-
-        // cache for static transforms
-        this.staticCache = new LinkedHashMap<AbsoluteDate, StaticTransform>(cacheSize, 0.75f, true) {
-            /** {@inheritDoc} */
-            @Override
-            protected boolean removeEldestEntry(final Map.Entry<AbsoluteDate, StaticTransform> eldest) {
-                return size() > cacheSize;
-            }
-        };
+        this.origin         = origin;
+        this.destination    = destination;
+        this.cacheSize      = cacheSize;
+        this.fullCache      = new ClockCache<>(cacheSize, fullGenerator);
+        this.kinematicCache = new ClockCache<>(cacheSize, kinematicGenerator);
+        this.staticCache    = new ClockCache<>(cacheSize, staticGenerator);
 
     }
 
@@ -144,12 +107,7 @@ public class CachedTransformProvider {
      * @return transform at specified date
      */
     public Transform getTransform(final AbsoluteDate date) {
-        lock.lock();
-        try {
-            return fullCache.computeIfAbsent(date, fullGenerator);
-        } finally {
-            lock.unlock();
-        }
+        return fullCache.get(date);
     }
 
     /** Get the {@link Transform} corresponding to specified date.
@@ -157,12 +115,7 @@ public class CachedTransformProvider {
      * @return transform at specified date
      */
     public KinematicTransform getKinematicTransform(final AbsoluteDate date) {
-        lock.lock();
-        try {
-            return kinematicCache.computeIfAbsent(date, kinematicGenerator);
-        } finally {
-            lock.unlock();
-        }
+        return kinematicCache.get(date);
     }
 
     /** Get the {@link Transform} corresponding to specified date.
@@ -170,12 +123,76 @@ public class CachedTransformProvider {
      * @return transform at specified date
      */
     public StaticTransform getStaticTransform(final AbsoluteDate date) {
-        lock.lock();
-        try {
-            return staticCache.computeIfAbsent(date, staticGenerator);
-        } finally {
-            lock.unlock();
+        return staticCache.get(date);
+    }
+
+    /** Pre-populate the cache for full transforms.
+     * <p>
+     * If there are more dates than the {@link #getCacheSize() cache size},
+     * the transforms for the earliest dates in iteration order will be evicted.
+     * </p>
+     * @param dates dates at which transforms should be computed
+     * @since 14.0
+     */
+    public void populate(final Iterable<AbsoluteDate> dates) {
+        for (final AbsoluteDate date : dates) {
+            fullCache.get(date);
+        }
+    }
+
+    /** Pre-populate the cache for kinematic transforms.
+     * <p>
+     * If there are more dates than the {@link #getCacheSize() cache size},
+     * the transforms for the earliest dates in iteration order will be evicted.
+     * </p>
+     * @param dates dates at which transforms should be computed
+     * @since 14.0
+     */
+    public void populateKinematic(final Iterable<AbsoluteDate> dates) {
+        for (final AbsoluteDate date : dates) {
+            kinematicCache.get(date);
         }
     }
 
+    /** Pre-populate the cache for static transforms.
+     * <p>
+     * If there are more dates than the {@link #getCacheSize() cache size},
+     * the transforms for the earliest dates in iteration order will be evicted.
+     * </p>
+     * @param dates dates at which transforms should be computed
+     * @since 14.0
+     */
+    public void populateStatic(final Iterable<AbsoluteDate> dates) {
+        for (final AbsoluteDate date : dates) {
+            staticCache.get(date);
+        }
+    }
+
+    /** Get the number of cache hits, for all transforms types.
+     * @return number of cache hits
+     * @since 14.0
+     */
+    public long getHits() {
+        return fullCache.getHits() + kinematicCache.getHits() + staticCache.getHits();
+    }
+
+    /** Get the number of cache misses, for all transforms types.
+     * <p>
+     * Each cache miss corresponds to one transform computation.
+     * </p>
+     * @return number of cache misses
+     * @since 14.0
+     */
+    public long getMisses() {
+        return fullCache.getMisses() + kinematicCache.getMisses() + staticCache.getMisses();
+    }
+
+    /** Get the number of cache evictions, for all transforms types.
+     * @return number of cache evictions
+     * @since 14.0
+     */
+    public long getEvictions() {
+        return fullCache.getEvictions() + kinematicCache.getEvictions() + staticCache.getEvictions();
+    }
+
 }
@@ -0,0 +1,261 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.time.AbsoluteDate;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/** Concurrent date-based cache with CLOCK eviction policy.
+ * <p>
+ * Cache hits only read a concurrent map and set a reference flag, they never
+ * block. Cache misses insert a placeholder in the map and generate the value
+ * outside of any map lock, so expensive generations do not block unrelated
+ * dates; concurrent requests for the same date wait for the first generation.
+ * The new entry is then registered in a circular buffer. When the buffer is full, the clock hand sweeps it, giving
+ * a second chance to recently referenced entries and evicting the first entry
+ * that was not referenced since the previous sweep. This is an approximation
+ * of a Least Recently Used policy that does not require reordering entries on
+ * each access.
+ * </p>
+ * @param <T> type of the cached values
+ * @author agent
+ * @since 14.0
+ */
+class ClockCache<T> {
+
+    /** Generator for missing values. */
+    private final Function<AbsoluteDate, T> generator;
+
+    /** Cached entries. */
+    private final ConcurrentHashMap<AbsoluteDate, Entry<T>> map;
+
+    /** Circular buffer of registered entries. */
+    private final Object[] ring;
+
+    /** Lock for the circular buffer. */
+    private final ReentrantLock ringLock;
+
+    /** Number of registered entries. */
+    private int registered;
+
+    /** Position of the clock hand. */
+    private int hand;
+
+    /** Number of cache hits. */
+    private final LongAdder hits;
+
+    /** Number of cache misses. */
+    private final LongAdder misses;
+
+    /** Number of evictions. */
+    private final LongAdder evictions;
+
+    /** Simple constructor.
+     * @param capacity maximum number of entries kept in the cache
+     * @param generator generator for missing values
+     */
+    ClockCache(final int capacity, final Function<AbsoluteDate, T> generator) {
+        this.generator  = generator;
+        this.map        = new ConcurrentHashMap<>(2 * FastMath.max(capacity, 1));
+        this.ring       = new Object[FastMath.max(capacity, 0)];
+        this.ringLock   = new ReentrantLock();
+        this.registered = 0;
+        this.hand       = 0;
+        this.hits       = new LongAdder();
+        this.misses     = new LongAdder();
+        this.evictions  = new LongAdder();
+    }
+
+    /** Get the value associated with a date, generating it if needed.
+     * @param date date
+     * @return value associated with the date
+     */
+    public T get(final AbsoluteDate date) {
+
+        // fast path, for entries already cached (or being generated by another thread)
+        final Entry<T> existing = map.get(date);
+        if (existing != null) {
+            hits.increment();
+            existing.referenced = true;
+            return existing.getValue();
+        }
+
+        if (ring.length == 0) {
+            // caching is disabled
+            misses.increment();
+            return generator.apply(date);
+        }
+
+        // slow path, insert a placeholder so the entry is generated only once even if several threads need it
+        final Entry<T> created  = new Entry<>(date, generator);
+        final Entry<T> previous = map.putIfAbsent(date, created);
+        if (previous != null) {
+            // another thread is generating (or has generated) the entry
+            hits.increment();
+            previous.referenced = true;
+            return previous.getValue();
+        }
+
+        // generate the value outside of the map lock
+        misses.increment();
+        created.generate();
+        final T value;
+        try {
+            value = created.getValue();
+        } catch (RuntimeException | Error e) {
+            // don't keep failed generations, the next request will try again
+            map.remove(date, created);
+            throw e;
+        }
+
+        register(created);
+        return value;
+
+    }
+
+    /** Register a new entry in the circular buffer, evicting an older one if needed.
+     * <p>
+     * This method must not be called while holding a lock on the map, as eviction
+     * removes entries from the map.
+     * </p>
+     * @param entry entry to register
+     */
+    @SuppressWarnings("unchecked")
+    private void register(final Entry<T> entry) {
+        ringLock.lock();
+        try {
+
+            if (registered < ring.length) {
+                // the buffer is not full yet
+                ring[registered++] = entry;
+            } else {
+                // sweep the buffer until we find an entry that was not referenced recently
+                while (true) {
+                    final Entry<T> candidate = (Entry<T>) ring[hand];
+                    if (candidate.referenced) {
+                        // give a second chance to this entry
+                        candidate.referenced = false;
+                        hand = (hand + 1) % ring.length;
+                    } else {
+                        // evict this entry
+                        map.remove(candidate.date, candidate);
+                        evictions.increment();
+                        ring[hand] = entry;
+                        hand = (hand + 1) % ring.length;
+                        break;
+                    }
+                }
+            }
+
+        } finally {
+            ringLock.unlock();
+        }
+    }
+
+    /** Get the number of cache hits.
+     * @return number of cache hits
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /** Get the number of cache misses.
+     * @return number of cache misses
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /** Get the number of evictions.
+     * @return number of evictions
+     */
+    public long getEvictions() {
+        return evictions.sum();
+    }
+
+    /** Cache entry.
+     * @param <T> type of the cached value
+     */
+    private static class Entry<T> {
+
+        /** Entry date. */
+        private final AbsoluteDate date;
+
+        /** Task generating the cached value. */
+        private final FutureTask<T> task;
+
+        /** Indicator for recent access. */
+        private volatile boolean referenced;
+
+        /** Simple constructor.
+         * @param date entry date
+         * @param generator generator for the value
+         */
+        Entry(final AbsoluteDate date, final Function<AbsoluteDate, T> generator) {
+            this.date       = date;
+            this.task       = new FutureTask<>(() -> generator.apply(date));
+            this.referenced = false;
+        }
+
+        /** Generate the value.
+         */
+        void generate() {
+            task.run();
+        }
+
+        /** Get the value, waiting for its generation if needed.
+         * @return cached value
+         */
+        T getValue() {
+            boolean interrupted = false;
+            try {
+                while (true) {
+                    try {
+                        return task.get();
+                    } catch (InterruptedException ie) {
+                        // keep waiting, as the value is needed, but preserve the interruption
+                        interrupted = true;
+                    } catch (ExecutionException ee) {
+                        final Throwable cause = ee.getCause();
+                        if (cause instanceof RuntimeException) {
+                            throw (RuntimeException) cause;
+                        } else if (cause instanceof Error) {
+                            throw (Error) cause;
+                        } else {
+                            // this should never happen as generators cannot throw checked exceptions
+                            throw new OrekitInternalError(cause);
+                        }
+                    }
+                }
+            } finally {
+                if (interrupted) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+    }
+
+}
@@ -84,11 +84,26 @@ class EopC04FilesLoader extends AbstractEopLoader implements EopHistoryLoader {
         super(supportedNames, manager, utcSupplier);
     }
 
-    /** {@inheritDoc} */
+    /** {@inheritDoc}
+     * <p>
+     * As the conventions are unknown, parsed entries are not cached.
+     * </p>
+     */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter, getUtc());
-        final EopParserLoader loader = new EopParserLoader(parser);
+        fillHistory(null, converter, history);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillHistory(final IERSConventions conventions,
+                            final IERSConventions.NutationCorrectionConverter converter,
+                            final SortedSet<EOPEntry> history) {
+        // UTC is retrieved once, as parsers may be created from several threads
+        final TimeScale utc = getUtc();
+        final EopParserLoader loader =
+                new EopParserLoader(() -> new Parser(converter, utc),
+                                    EopEntriesCodec.build("C04", conventions, null, utc));
         this.feed(loader);
         history.addAll(loader.getEop());
     }
@@ -111,11 +111,28 @@ class EopCsvFilesLoader extends AbstractEopLoader implements EopHistoryLoader {
         super(supportedNames, manager, utcSupplier);
     }
 
-    /** {@inheritDoc} */
+    /** {@inheritDoc}
+     * <p>
+     * As the conventions are unknown, parsed entries are not cached.
+     * </p>
+     */
     public void fillHistory(final IERSConventions.NutationCorrectionConverter converter,
                             final SortedSet<EOPEntry> history) {
-        final Parser parser = new Parser(converter, getUtc());
-        final EopParserLoader loader = new EopParserLoader(parser);
+        fillHistory(null, converter, history);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillHistory(final IERSConventions conventions,
+                            final IERSConventions.NutationCorrectionConverter converter,
+                            final SortedSet<EOPEntry> history) {
+        // UTC and ITRF versions are retrieved once, as parsers may be created from several threads
+        final TimeScale utc = getUtc();
+        final ItrfVersionProvider itrfVersionProvider =
+                new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES, getDataProvidersManager());
+        final EopParserLoader loader =
+                new EopParserLoader(() -> new Parser(converter, itrfVersionProvider, utc),
+                                    EopEntriesCodec.build("CSV", conventions, itrfVersionProvider, utc));
         this.feed(loader);
         history.addAll(loader.getEop());
     }
@@ -123,9 +140,6 @@ class EopCsvFilesLoader extends AbstractEopLoader implements EopHistoryLoader {
     /** Internal class performing the parsing. */
     class Parser extends AbstractEopParser {
 
-        /** Configuration for ITRF versions. */
-        private final ItrfVersionProvider itrfVersionProvider;
-
         /** Column number for MJD field. */
         private int mjdColumn;
 
@@ -173,13 +187,13 @@ class EopCsvFilesLoader extends AbstractEopLoader implements EopHistoryLoader {
 
         /** Simple constructor.
          * @param converter converter to use
+         * @param itrfVersionProvider to use for determining the ITRF version of the EOP
          * @param utc       time scale for parsing dates.
          */
         Parser(final NutationCorrectionConverter converter,
+               final ItrfVersionProvider itrfVersionProvider,
                final TimeScale utc) {
-            super(converter, null, utc);
-            this.itrfVersionProvider = new ITRFVersionLoader(ITRFVersionLoader.SUPPORTED_NAMES,
-                                                             getDataProvidersManager());
+            super(converter, itrfVersionProvider, utc);
         }
 
         /** {@inheritDoc} */
@@ -325,7 +339,7 @@ class EopCsvFilesLoader extends AbstractEopLoader implements EopHistoryLoader {
 
             if (configuration == null || !configuration.isValid(mjd)) {
                 // get a configuration for current name and date range
-                configuration = itrfVersionProvider.getConfiguration(name, mjd);
+                configuration = getItrfVersionProvider().getConfiguration(name, mjd);
             }
 
             final double x     = parseField(fields, xPoleColumn,     AS);
@@ -0,0 +1,188 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.orekit.data.ParsedDataCodec;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.DateComponents;
+import org.orekit.time.TimeScale;
+import org.orekit.utils.IERSConventions;
+
+/** Codec for caching Earth Orientation Parameters parsed from one file.
+ * <p>
+ * Dates are stored as offsets with respect to the start of the entry day in UTC,
+ * and rebuilt using the current UTC time scale when decoded, so cached entries
+ * remain valid if leap seconds are updated. When ITRF versions are determined by an
+ * {@link ItrfVersionProvider} rather than by the file content, they are also rebuilt
+ * when decoded. The codec identifier includes the IERS conventions from which the
+ * nutation corrections converter was built, so entries cached with different
+ * conventions are not mixed.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+class EopEntriesCodec implements ParsedDataCodec<Collection<EOPEntry>> {
+
+    /** Version of the binary layout. */
+    private static final int LAYOUT_VERSION = 1;
+
+    /** Name of the file format. */
+    private final String format;
+
+    /** IERS conventions from which the nutation corrections converter was built. */
+    private final IERSConventions conventions;
+
+    /** Configuration for ITRF versions (null if ITRF versions are read from files). */
+    private final ItrfVersionProvider itrfVersionProvider;
+
+    /** UTC time scale. */
+    private final TimeScale utc;
+
+    /** Simple constructor.
+     * @param format name of the file format
+     * @param conventions IERS conventions from which the nutation corrections converter was built
+     * @param itrfVersionProvider configuration for ITRF versions
+     * (null if ITRF versions are read from files)
+     * @param utc UTC time scale
+     */
+    private EopEntriesCodec(final String format, final IERSConventions conventions,
+                            final ItrfVersionProvider itrfVersionProvider, final TimeScale utc) {
+        this.format              = format;
+        this.conventions         = conventions;
+        this.itrfVersionProvider = itrfVersionProvider;
+        this.utc                 = utc;
+    }
+
+    /** Build a codec.
+     * @param format name of the file format
+     * @param conventions IERS conventions from which the nutation corrections converter
+     * was built (may be null if unknown)
+     * @param itrfVersionProvider configuration for ITRF versions
+     * (null if ITRF versions are read from files)
+     * @param utc UTC time scale
+     * @return codec, or null if conventions are unknown, as entries could not be identified
+     */
+    static EopEntriesCodec build(final String format, final IERSConventions conventions,
+                                 final ItrfVersionProvider itrfVersionProvider, final TimeScale utc) {
+        return conventions == null ? null : new EopEntriesCodec(format, conventions, itrfVersionProvider, utc);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getIdentifier() {
+        return "EOP-" + LAYOUT_VERSION + "/" + format + "/" + conventions.name();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode(final Collection<EOPEntry> parsed, final DataOutput output)
+        throws IOException {
+
+        // enumerates are stored by name, to be independent of constants order
+        final ITRFVersion[] versions = ITRFVersion.values();
+        output.writeInt(versions.length);
+        for (final ITRFVersion version : versions) {
+            ParsedDataCodec.putString(output, version.name());
+        }
+        final EopDataType[] types = EopDataType.values();
+        output.writeInt(types.length);
+        for (final EopDataType type : types) {
+            ParsedDataCodec.putString(output, type.name());
+        }
+
+        output.writeInt(parsed.size());
+        for (final EOPEntry entry : parsed) {
+            output.writeInt(entry.getMjd());
+            output.writeDouble(entry.getDate().durationFrom(dayStart(entry.getMjd())));
+            output.writeDouble(entry.getUT1MinusUTC());
+            output.writeDouble(entry.getLOD());
+            output.writeDouble(entry.getX());
+            output.writeDouble(entry.getY());
+            output.writeDouble(entry.getXRate());
+            output.writeDouble(entry.getYRate());
+            output.writeDouble(entry.getDdPsi());
+            output.writeDouble(entry.getDdEps());
+            output.writeDouble(entry.getDx());
+            output.writeDouble(entry.getDy());
+            output.writeByte(entry.getITRFType().ordinal());
+            output.writeByte(entry.getEopDataType().ordinal());
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Collection<EOPEntry> decode(final ByteBuffer buffer, final String name) {
+
+        final ITRFVersion[] versions = new ITRFVersion[buffer.getInt()];
+        for (int i = 0; i < versions.length; ++i) {
+            versions[i] = ITRFVersion.valueOf(ParsedDataCodec.getString(buffer));
+        }
+        final EopDataType[] types = new EopDataType[buffer.getInt()];
+        for (int i = 0; i < types.length; ++i) {
+            types[i] = EopDataType.valueOf(ParsedDataCodec.getString(buffer));
+        }
+
+        final int n = buffer.getInt();
+        final List<EOPEntry> entries = new ArrayList<>(n);
+        ITRFVersionLoader.ITRFVersionConfiguration configuration = null;
+        for (int i = 0; i < n; ++i) {
+            final int          mjd   = buffer.getInt();
+            final AbsoluteDate date  = dayStart(mjd).shiftedBy(buffer.getDouble());
+            final double       dt    = buffer.getDouble();
+            final double       lod   = buffer.getDouble();
+            final double       x     = buffer.getDouble();
+            final double       y     = buffer.getDouble();
+            final double       xRate = buffer.getDouble();
+            final double       yRate = buffer.getDouble();
+            final double       ddPsi = buffer.getDouble();
+            final double       ddEps = buffer.getDouble();
+            final double       dx    = buffer.getDouble();
+            final double       dy    = buffer.getDouble();
+            ITRFVersion        itrf  = versions[buffer.get()];
+            final EopDataType  type  = types[buffer.get()];
+            if (itrfVersionProvider != null) {
+                if (configuration == null || !configuration.isValid(mjd)) {
+                    // get a configuration for current name and date range
+                    configuration = itrfVersionProvider.getConfiguration(name, mjd);
+                }
+                itrf = configuration.getVersion();
+            }
+            entries.add(new EOPEntry(mjd, dt, lod, x, y, xRate, yRate, ddPsi, ddEps, dx, dy,
+                                     itrf, date, type));
+        }
+
+        return entries;
+
+    }
+
+    /** Get the start of a day in UTC.
+     * @param mjd modified Julian day
+     * @return start of the day
+     */
+    private AbsoluteDate dayStart(final int mjd) {
+        return new AbsoluteDate(new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd), utc);
+    }
+
+}
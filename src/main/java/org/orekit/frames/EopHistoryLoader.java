@@ -37,6 +37,25 @@ public interface EopHistoryLoader {
     void fillHistory(IERSConventions.NutationCorrectionConverter converter,
                      SortedSet<EOPEntry> history);
 
+    /** Load celestial body.
+     * <p>
+     * The conventions identify the nutation corrections converter, so loaders
+     * can store the parsed entries in a {@link org.orekit.data.ParsedDataCache
+     * parsed data cache} without mixing entries converted with different conventions.
+     * The default implementation ignores them and calls {@link
+     * #fillHistory(IERSConventions.NutationCorrectionConverter, SortedSet)}.
+     * </p>
+     * @param conventions IERS conventions from which the converter was built
+     * @param converter converter to use for nutation corrections
+     * @param history history to fill up
+     * @since 14.0
+     */
+    default void fillHistory(final IERSConventions conventions,
+                             final IERSConventions.NutationCorrectionConverter converter,
+                             final SortedSet<EOPEntry> history) {
+        fillHistory(converter, history);
+    }
+
     /**
      * Interface for parsing EOP data files.
      *
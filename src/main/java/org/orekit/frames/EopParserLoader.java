@@ -22,20 +22,36 @@ import java.text.ParseException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.function.Supplier;
 
+import org.orekit.data.CacheableDataLoader;
 import org.orekit.data.DataLoader;
+import org.orekit.data.ParallelDataLoader;
+import org.orekit.data.ParsedDataCodec;
 
 /**
  * Implementation of {@link DataLoader} based on {@link EopHistoryLoader.Parser} that
  * loads all files and compiles the results into one data structure.
+ * <p>
+ * As a new parser is built for each file, files can be {@link ParallelDataLoader
+ * parsed concurrently} even if the parsers themselves are not thread-safe. Parsed
+ * entries can also be stored in a {@link org.orekit.data.ParsedDataCache parsed data cache}.
+ * </p>
  *
  * @author Evan Ward
  * @since 10.1
  */
-class EopParserLoader implements DataLoader {
+class EopParserLoader implements CacheableDataLoader<Collection<EOPEntry>> {
 
-    /** Parser for EOP data files. */
-    private final EopHistoryLoader.Parser parser;
+    /** Factory for parsers for EOP data files.
+     * @since 14.0
+     */
+    private final Supplier<EopHistoryLoader.Parser> parserFactory;
+
+    /** Codec for parsed entries.
+     * @since 14.0
+     */
+    private final ParsedDataCodec<Collection<EOPEntry>> codec;
 
     /** History entries. */
     private final List<EOPEntry> history;
@@ -44,11 +60,15 @@ class EopParserLoader implements DataLoader {
      * Create a {@link DataLoader} based on a {@link EopHistoryLoader.Parser}. Loads
      * all EOP data into a single collection.
      *
-     * @param parser for the EOP data files.
+     * @param parserFactory factory for parsers for the EOP data files,
+     * called once for each file (since 14.0, was a single parser before)
+     * @param codec codec for parsed entries, null if entries cannot be cached (since 14.0)
      */
-    EopParserLoader(final EopHistoryLoader.Parser parser) {
-        this.parser = parser;
-        this.history = new ArrayList<>();
+    EopParserLoader(final Supplier<EopHistoryLoader.Parser> parserFactory,
+                    final ParsedDataCodec<Collection<EOPEntry>> codec) {
+        this.parserFactory = parserFactory;
+        this.codec         = codec;
+        this.history       = new ArrayList<>();
     }
 
     /**
@@ -66,10 +86,23 @@ class EopParserLoader implements DataLoader {
         return true;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public ParsedDataCodec<Collection<EOPEntry>> getCodec() {
+        return codec;
+    }
+
+    /** {@inheritDoc} */
     @Override
-    public void loadData(final InputStream input, final String name)
+    public Collection<EOPEntry> parse(final InputStream input, final String name)
             throws IOException, ParseException {
-        history.addAll(parser.parse(input, name));
+        return parserFactory.get().parse(input, name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void merge(final Collection<EOPEntry> parsed, final String name) {
+        history.addAll(parsed);
     }
 
 }
@@ -338,6 +338,19 @@ public class Frame {
         return peerCache.getPeer();
     }
 
+    /** Get the cached transform provider associated with the peer of this frame.
+     * <p>
+     * This can be used to pre-populate the cache before a parallel run,
+     * or to monitor cache hits and misses.
+     * </p>
+     * @return cached transform provider, null if not peered at all
+     * @since 14.0
+     */
+    public CachedTransformProvider getPeerCachedTransformProvider() {
+        final Frame peer = getPeer();
+        return peer == null ? null : peerCache.getCachedTransformProvider(peer);
+    }
+
     /** Get the transform from the instance to another frame.
      * @param destination destination frame to which we want to transform vectors
      * @param date the date (can be null if it is certain that no date dependent frame is used)
@@ -21,8 +21,11 @@ import java.util.function.BiFunction;
 import java.util.function.Supplier;
 
 import org.orekit.bodies.CelestialBodies;
+import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeScales;
 import org.orekit.time.UT1Scale;
+import org.orekit.utils.AngularDerivativesFilter;
+import org.orekit.utils.CartesianDerivativesFilter;
 import org.orekit.utils.IERSConventions;
 
 /**
@@ -145,6 +148,56 @@ public interface Frames {
      */
     Frame buildUncachedITRF(UT1Scale ut1);
 
+    /** Build an International Terrestrial Reference Frame with a tabulated CIRF.
+     * <p>
+     * The CIRF transforms (including the full precession-nutation series) are
+     * computed once on a regular grid covering the specified range, using a
+     * {@link TabulatedTransformProvider} built from the exact chain of the
+     * {@link #getCIRF(IERSConventions, boolean) regular CIRF}. The TIRF and ITRF
+     * transforms are then applied on top of this tabulated CIRF. The returned frame
+     * and its parents are not cached, they are rebuilt each time this method is called.
+     * Outside of the tabulated range, the exact CIRF transforms are used.
+     * </p>
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param start start of the tabulated range
+     * @param end end of the tabulated range
+     * @param step grid points time step (s)
+     * @return an ITRF frame with a tabulated CIRF parent
+     * @since 14.0
+     */
+    default Frame buildTabulatedITRF(IERSConventions conventions, boolean simpleEOP,
+                                     AbsoluteDate start, AbsoluteDate end, double step) {
+
+        final FactoryManagedFrame cirf = getCIRF(conventions, simpleEOP);
+        final FactoryManagedFrame tirf = getTIRF(conventions, simpleEOP);
+        final FactoryManagedFrame itrf = getITRF(conventions, simpleEOP);
+
+        // tabulate CIRF from the exact chain, peeling off the caching layer if any
+        final TransformProvider cirfProvider = cirf.getTransformProvider();
+        final TransformProvider cirfRaw;
+        if (cirfProvider instanceof ShiftingTransformProvider) {
+            cirfRaw = ((ShiftingTransformProvider) cirfProvider).getRawProvider();
+        } else if (cirfProvider instanceof InterpolatingTransformProvider) {
+            cirfRaw = ((InterpolatingTransformProvider) cirfProvider).getRawProvider();
+        } else {
+            cirfRaw = cirfProvider;
+        }
+        final TransformProvider tabulated =
+                        new TabulatedTransformProvider(cirfRaw,
+                                CartesianDerivativesFilter.USE_PVA,
+                                AngularDerivativesFilter.USE_R,
+                                6, start, end, step);
+        final Frame tabulatedCIRF = new Frame(getGCRF(), tabulated, cirf.getName() + " (tabulated)", true);
+
+        // build TIRF and ITRF on top of tabulated CIRF
+        final Frame tabulatedTIRF = new Frame(tabulatedCIRF, tirf.getTransformProvider(),
+                                              tirf.getName() + " (tabulated)", false);
+        return new Frame(tabulatedTIRF, itrf.getTransformProvider(),
+                         itrf.getName() + " (tabulated)", false);
+
+    }
+
     /** Get the TIRF reference frame.
      * @param conventions IERS conventions to apply
      * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
@@ -483,6 +483,35 @@ public class FramesFactory {
         return frames.buildUncachedITRF(ut1);
     }
 
+    /** Build an International Terrestrial Reference Frame with a tabulated CIRF.
+     * <p>
+     * The CIRF transforms (including the full precession-nutation series) are
+     * computed once on a regular grid covering the specified range, using a
+     * {@link TabulatedTransformProvider} built from the exact chain of the
+     * {@link #getCIRF(IERSConventions, boolean) regular CIRF}. The TIRF and ITRF
+     * transforms are then applied on top of this tabulated CIRF. The returned frame
+     * and its parents are not cached, they are rebuilt each time this method is called.
+     * Outside of the tabulated range, the exact CIRF transforms are used.
+     * </p>
+     * <p>
+     * This method uses the {@link DataContext#getDefault() default data context}.
+     * </p>
+     * @param conventions IERS conventions to apply
+     * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
+     * @param start start of the tabulated range
+     * @param end end of the tabulated range
+     * @param step grid points time step (s)
+     * @return an ITRF frame with a tabulated CIRF parent
+     * @see Frames#buildTabulatedITRF(IERSConventions, boolean, AbsoluteDate, AbsoluteDate, double)
+     * @since 14.0
+     */
+    @DefaultDataContext
+    public static Frame buildTabulatedITRF(final IERSConventions conventions, final boolean simpleEOP,
+                                           final AbsoluteDate start, final AbsoluteDate end,
+                                           final double step) {
+        return getFrames().buildTabulatedITRF(conventions, simpleEOP, start, end, step);
+    }
+
     /** Get the TIRF reference frame.
      * @param conventions IERS conventions to apply
      * @param simpleEOP if true, tidal effects are ignored when interpolating EOP
@@ -777,6 +806,8 @@ public class FramesFactory {
             while (peeling) {
                 if (peeled instanceof InterpolatingTransformProvider) {
                     peeled = ((InterpolatingTransformProvider) peeled).getRawProvider();
+                } else if (peeled instanceof TabulatedTransformProvider) {
+                    peeled = ((TabulatedTransformProvider) peeled).getRawProvider();
                 } else if (peeled instanceof ShiftingTransformProvider) {
                     peeled = ((ShiftingTransformProvider) peeled).getRawProvider();
                 } else if (peeled instanceof EOPBasedTransformProvider &&
@@ -806,6 +837,8 @@ public class FramesFactory {
         while (peeling) {
             if (peeled instanceof InterpolatingTransformProvider) {
                 peeled = ((InterpolatingTransformProvider) peeled).getRawProvider();
+            } else if (peeled instanceof TabulatedTransformProvider) {
+                peeled = ((TabulatedTransformProvider) peeled).getRawProvider();
             } else if (peeled instanceof ShiftingTransformProvider) {
                 peeled = ((ShiftingTransformProvider) peeled).getRawProvider();
             } else if (peeled instanceof EOPBasedTransformProvider &&
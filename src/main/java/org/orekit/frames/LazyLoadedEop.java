@@ -334,7 +334,8 @@ public class LazyLoadedEop {
             if (eopHistoryLoaders.containsKey(conventions)) {
                 for (final EopHistoryLoader loader : eopHistoryLoaders.get(conventions)) {
                     try {
-                        loader.fillHistory(conventions.getNutationCorrectionConverter(timeScales),
+                        loader.fillHistory(conventions,
+                                           conventions.getNutationCorrectionConverter(timeScales),
                                            data);
                     } catch (OrekitException oe) {
                         pendingException = oe;
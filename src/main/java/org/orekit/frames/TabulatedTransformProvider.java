@@ -0,0 +1,395 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.hipparchus.CalculusFieldElement;
+import org.hipparchus.Field;
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.utils.AngularCoordinates;
+import org.orekit.utils.AngularDerivativesFilter;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.PVCoordinates;
+
+/** Transform provider using interpolation on a transforms table computed once.
+ * <p>
+ * Contrary to {@link InterpolatingTransformProvider} and {@link ShiftingTransformProvider}
+ * which populate their caches lazily as dates are requested, this provider computes
+ * all raw transforms on a regular grid covering a user-specified range at construction
+ * time (using parallel streams), and stores them in a primitive array. The table is
+ * immutable afterwards, so it is shared by all threads without any synchronization.
+ * This is well suited for long runs where the raw transform is expensive but smooth,
+ * like for example CIRF with the full IERS nutation series.
+ * </p>
+ * <p>
+ * Transforms are interpolated using {@link Transform#interpolate(AbsoluteDate,
+ * CartesianDerivativesFilter, AngularDerivativesFilter, java.util.Collection) Hermite
+ * interpolation} on the grid points surrounding the date. For dates outside of the
+ * tabulated range, the raw provider is used directly.
+ * </p>
+ * <p>
+ * For a component with maximum derivative of order k (k being the number of constraints
+ * used in the Hermite interpolation), the interpolation error is bounded by
+ * max|f<sup>(k)</sup>| h<sup>k</sup> / k! with h the grid step. As the derivatives of
+ * the raw transforms are generally not known in closed form, the construction also
+ * evaluates the raw provider at the middle of each grid interval, where the error
+ * is largest, and records the maximum observed errors. These errors are available
+ * through {@link #getMaxRotationError()} and {@link #getMaxTranslationError()} and
+ * should be checked against the accuracy required by the application.
+ * </p>
+ * @see InterpolatingTransformProvider
+ * @see ShiftingTransformProvider
+ * @author agent
+ * @since 14.0
+ */
+public class TabulatedTransformProvider implements TransformProvider {
+
+    /** Number of doubles stored for each grid point. */
+    private static final int NODE_SIZE = 19;
+
+    /** Provider for raw (non-interpolated) transforms. */
+    private final TransformProvider rawProvider;
+
+    /** Filter for Cartesian derivatives to use in interpolation. */
+    private final CartesianDerivativesFilter cFilter;
+
+    /** Filter for angular derivatives to use in interpolation. */
+    private final AngularDerivativesFilter aFilter;
+
+    /** Number of interpolation grid points. */
+    private final int gridPoints;
+
+    /** Date of the first grid point. */
+    private final AbsoluteDate start;
+
+    /** Grid points time step. */
+    private final double step;
+
+    /** Number of grid points in the table. */
+    private final int nodes;
+
+    /** Tabulated transforms (translation, velocity, acceleration, quaternion, rate, rate derivative). */
+    private final double[] table;
+
+    /** Maximum rotation error observed at grid intervals middle points (rad). */
+    private final double maxRotationError;
+
+    /** Maximum translation error observed at grid intervals middle points (m). */
+    private final double maxTranslationError;
+
+    /** Simple constructor.
+     * <p>
+     * The raw provider is called concurrently from several threads
+     * during construction, it must therefore be thread-safe.
+     * </p>
+     * @param rawProvider provider for raw (non-interpolated) transforms
+     * @param cFilter filter for derivatives from the sample to use in interpolation
+     * @param aFilter filter for derivatives from the sample to use in interpolation
+     * @param gridPoints number of interpolation grid points
+     * @param start start of the tabulated range
+     * @param end end of the tabulated range
+     * @param step grid points time step
+     */
+    public TabulatedTransformProvider(final TransformProvider rawProvider,
+                                      final CartesianDerivativesFilter cFilter,
+                                      final AngularDerivativesFilter aFilter,
+                                      final int gridPoints,
+                                      final AbsoluteDate start, final AbsoluteDate end,
+                                      final double step) {
+
+        if (gridPoints < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, gridPoints);
+        }
+        if (step <= 0) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, step);
+        }
+        final double duration = end.durationFrom(start);
+        if (duration <= 0) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.NUMBER_TOO_SMALL_BOUND_EXCLUDED,
+                                                     duration, 0);
+        }
+
+        this.rawProvider = rawProvider;
+        this.cFilter     = cFilter;
+        this.aFilter     = aFilter;
+        this.gridPoints  = gridPoints;
+        this.start       = start;
+        this.step        = step;
+        this.nodes       = FastMath.max(gridPoints, (int) FastMath.ceil(duration / step) + 1);
+
+        // compute raw transforms at grid points, then estimate interpolation errors
+        // (using only static helpers, as the instance is not fully built yet)
+        this.table = tabulate(rawProvider, start, step, nodes);
+        final double[] errors = estimateErrors(rawProvider, cFilter, aFilter, gridPoints, start, step, table);
+        this.maxRotationError    = errors[0];
+        this.maxTranslationError = errors[1];
+
+    }
+
+    /** Get the underlying provider for raw (non-interpolated) transforms.
+     * @return provider for raw (non-interpolated) transforms
+     */
+    public TransformProvider getRawProvider() {
+        return rawProvider;
+    }
+
+    /** Get the number of interpolation grid points.
+     * @return number of interpolation grid points
+     */
+    public int getGridPoints() {
+        return gridPoints;
+    }
+
+    /** Get the grid points time step.
+     * @return grid points time step
+     */
+    public double getStep() {
+        return step;
+    }
+
+    /** Get the start of the tabulated range.
+     * @return start of the tabulated range
+     */
+    public AbsoluteDate getStart() {
+        return start;
+    }
+
+    /** Get the end of the tabulated range.
+     * <p>
+     * The end of the tabulated range may be slightly after the end
+     * specified at construction, as it is aligned with the grid.
+     * </p>
+     * @return end of the tabulated range
+     */
+    public AbsoluteDate getEnd() {
+        return nodeDate(start, step, nodes - 1);
+    }
+
+    /** Get the maximum rotation error observed at grid intervals middle points.
+     * @return maximum rotation error with respect to raw provider (rad)
+     */
+    public double getMaxRotationError() {
+        return maxRotationError;
+    }
+
+    /** Get the maximum translation error observed at grid intervals middle points.
+     * @return maximum translation error with respect to raw provider (m)
+     */
+    public double getMaxTranslationError() {
+        return maxTranslationError;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Transform getTransform(final AbsoluteDate date) {
+        final int first = firstNode(date, gridPoints, start, step, nodes);
+        if (first < 0) {
+            // we are outside of the tabulated range
+            return rawProvider.getTransform(date);
+        }
+        return interpolate(date, first, cFilter, aFilter, gridPoints, start, step, table);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T extends CalculusFieldElement<T>> FieldTransform<T> getTransform(final FieldAbsoluteDate<T> date) {
+        final int first = firstNode(date.toAbsoluteDate(), gridPoints, start, step, nodes);
+        if (first < 0) {
+            // we are outside of the tabulated range
+            return rawProvider.getTransform(date);
+        }
+        final Field<T> field = date.getField();
+        final List<FieldTransform<T>> sample = new ArrayList<>(gridPoints);
+        for (int i = 0; i < gridPoints; ++i) {
+            sample.add(new FieldTransform<>(field, node(start, step, table, first + i)));
+        }
+        return FieldTransform.interpolate(date, cFilter, aFilter, sample);
+    }
+
+    /** Compute raw transforms at grid points.
+     * @param rawProvider provider for raw (non-interpolated) transforms
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param nodes number of grid points in the table
+     * @return tabulated transforms
+     */
+    private static double[] tabulate(final TransformProvider rawProvider,
+                                     final AbsoluteDate start, final double step, final int nodes) {
+        final double[] table = new double[NODE_SIZE * nodes];
+        IntStream.range(0, nodes).parallel().
+                  forEach(i -> store(table, i, rawProvider.getTransform(nodeDate(start, step, i))));
+        return table;
+    }
+
+    /** Estimate interpolation errors at grid intervals middle points.
+     * @param rawProvider provider for raw (non-interpolated) transforms
+     * @param cFilter filter for derivatives from the sample to use in interpolation
+     * @param aFilter filter for derivatives from the sample to use in interpolation
+     * @param gridPoints number of interpolation grid points
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param table tabulated transforms
+     * @return maximum rotation error (rad) and maximum translation error (m)
+     */
+    private static double[] estimateErrors(final TransformProvider rawProvider,
+                                           final CartesianDerivativesFilter cFilter,
+                                           final AngularDerivativesFilter aFilter,
+                                           final int gridPoints, final AbsoluteDate start,
+                                           final double step, final double[] table) {
+        final int      nodes  = table.length / NODE_SIZE;
+        final double[] errors = new double[2 * (nodes - 1)];
+        IntStream.range(0, nodes - 1).parallel().forEach(i -> {
+            final AbsoluteDate middle       = nodeDate(start, step, i).shiftedBy(0.5 * step);
+            final Transform    raw          = rawProvider.getTransform(middle);
+            final Transform    interpolated =
+                            interpolate(middle, firstNode(middle, gridPoints, start, step, nodes),
+                                        cFilter, aFilter, gridPoints, start, step, table);
+            errors[2 * i]     = Rotation.distance(raw.getRotation(), interpolated.getRotation());
+            errors[2 * i + 1] = Vector3D.distance(raw.getTranslation(), interpolated.getTranslation());
+        });
+        double rotationError    = 0;
+        double translationError = 0;
+        for (int i = 0; i < nodes - 1; ++i) {
+            rotationError    = FastMath.max(rotationError,    errors[2 * i]);
+            translationError = FastMath.max(translationError, errors[2 * i + 1]);
+        }
+        return new double[] {
+            rotationError, translationError
+        };
+    }
+
+    /** Interpolate a transform from the table.
+     * @param date interpolation date
+     * @param first index of the first grid point to use
+     * @param cFilter filter for derivatives from the sample to use in interpolation
+     * @param aFilter filter for derivatives from the sample to use in interpolation
+     * @param gridPoints number of interpolation grid points
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param table tabulated transforms
+     * @return interpolated transform
+     */
+    private static Transform interpolate(final AbsoluteDate date, final int first,
+                                         final CartesianDerivativesFilter cFilter,
+                                         final AngularDerivativesFilter aFilter,
+                                         final int gridPoints, final AbsoluteDate start,
+                                         final double step, final double[] table) {
+        final List<Transform> sample = new ArrayList<>(gridPoints);
+        for (int i = 0; i < gridPoints; ++i) {
+            sample.add(node(start, step, table, first + i));
+        }
+        return Transform.interpolate(date, cFilter, aFilter, sample);
+    }
+
+    /** Get the index of the first grid point to use for interpolation.
+     * @param date interpolation date
+     * @param gridPoints number of interpolation grid points
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param nodes number of grid points in the table
+     * @return index of the first grid point, or -1 if date is outside of tabulated range
+     */
+    private static int firstNode(final AbsoluteDate date, final int gridPoints,
+                                 final AbsoluteDate start, final double step, final int nodes) {
+        final double offset = date.durationFrom(start) / step;
+        if (!(offset >= 0 && offset <= nodes - 1)) {
+            return -1;
+        }
+        final int central = (int) FastMath.floor(offset);
+        final int first   = central - (gridPoints - 1) / 2;
+        return FastMath.max(0, FastMath.min(nodes - gridPoints, first));
+    }
+
+    /** Get the date of a grid point.
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param i index of the grid point
+     * @return date of the grid point
+     */
+    private static AbsoluteDate nodeDate(final AbsoluteDate start, final double step, final int i) {
+        return start.shiftedBy(i * step);
+    }
+
+    /** Store a raw transform in the table.
+     * @param table tabulated transforms
+     * @param i index of the grid point
+     * @param transform raw transform at grid point
+     */
+    private static void store(final double[] table, final int i, final Transform transform) {
+        final int k = NODE_SIZE * i;
+        final PVCoordinates      cartesian = transform.getCartesian();
+        final AngularCoordinates angular   = transform.getAngular();
+        storeVector(table, k,      cartesian.getPosition());
+        storeVector(table, k +  3, cartesian.getVelocity());
+        storeVector(table, k +  6, cartesian.getAcceleration());
+        final Rotation rotation = angular.getRotation();
+        table[k +  9] = rotation.getQ0();
+        table[k + 10] = rotation.getQ1();
+        table[k + 11] = rotation.getQ2();
+        table[k + 12] = rotation.getQ3();
+        storeVector(table, k + 13, angular.getRotationRate());
+        storeVector(table, k + 16, angular.getRotationAcceleration());
+    }
+
+    /** Store a vector in the table.
+     * @param table tabulated transforms
+     * @param k index of the first component in the table
+     * @param v vector to store
+     */
+    private static void storeVector(final double[] table, final int k, final Vector3D v) {
+        table[k]     = v.getX();
+        table[k + 1] = v.getY();
+        table[k + 2] = v.getZ();
+    }
+
+    /** Rebuild a transform from the table.
+     * @param start date of the first grid point
+     * @param step grid points time step
+     * @param table tabulated transforms
+     * @param i index of the grid point
+     * @return transform at grid point
+     */
+    private static Transform node(final AbsoluteDate start, final double step, final double[] table, final int i) {
+        final int k = NODE_SIZE * i;
+        return new Transform(nodeDate(start, step, i),
+                             new PVCoordinates(vector(table, k), vector(table, k + 3), vector(table, k + 6)),
+                             new AngularCoordinates(new Rotation(table[k +  9], table[k + 10],
+                                                                 table[k + 11], table[k + 12],
+                                                                 false),
+                                                    vector(table, k + 13), vector(table, k + 16)));
+    }
+
+    /** Rebuild a vector from the table.
+     * @param table tabulated transforms
+     * @param k index of the first component in the table
+     * @return vector
+     */
+    private static Vector3D vector(final double[] table, final int k) {
+        return new Vector3D(table[k], table[k + 1], table[k + 2]);
+    }
+
+}
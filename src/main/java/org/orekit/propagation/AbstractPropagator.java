@@ -227,6 +227,12 @@ public abstract class AbstractPropagator implements Propagator {
         // start with original state and unmanaged data
         SpacecraftState updated = updateUnmanagedData(original);
 
+        if (additionalDataProviders.isEmpty()) {
+            // nothing more to do, avoid setting up the queue
+            // (this method is called at each derivatives evaluation in integrated propagators)
+            return updated;
+        }
+
         // set up queue for providers
         final Queue<AdditionalDataProvider<?>> pending = new LinkedList<>(getAdditionalDataProviders());
 
@@ -0,0 +1,326 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathRuntimeException;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.propagation.sampling.BatchStateHandler;
+import org.orekit.propagation.sampling.OrekitStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+
+/** This class propagates independent satellites concurrently to a common output dates grid.
+ * <p>
+ * Contrary to {@link PropagatorsParallelizer}, satellites are not synchronized
+ * with each other: each propagator runs on its own as one task of a
+ * {@link ForkJoinPool fork-join pool}, hence idle threads steal tasks from
+ * busy ones and the load is balanced even when propagators have very
+ * different computation costs (analytical, semi-analytical and numerical
+ * propagators can be mixed). This is intended for catalog-wide runs with
+ * thousands of unrelated satellites.
+ * </p>
+ * <p>
+ * Each propagator is run once from the first to the last date of the grid,
+ * and the states at grid dates are interpolated within its steps, so the
+ * grid may be dense without restarting the propagators at each output date.
+ * The states are streamed to a {@link BatchStateHandler} as soon as they
+ * are available, so there is no need to keep all of them in memory.
+ * </p>
+ * <p>
+ * Failures are isolated: if one propagation fails, the failure is reported
+ * to the handler and the other propagations continue. Failures that the handler
+ * does not accept (i.e. for which {@link BatchStateHandler#handleFailure(int,
+ * OrekitException)} throws an exception, which is the default behavior) are
+ * rethrown once all propagations are completed. The whole batch can also be
+ * {@link #cancel() cancelled} from any thread.
+ * </p>
+ * <p>
+ * As with {@link PropagatorsParallelizer}, all propagators must be built
+ * independently and must not share mutable objects (maneuvers, atmosphere
+ * models with caches...). Frames, time scales and celestial bodies are
+ * thread-safe and can be shared.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+public class BatchPropagator {
+
+    /** Underlying propagators. */
+    private final List<Propagator> propagators;
+
+    /** Output dates, sorted in propagation order. */
+    private final List<AbsoluteDate> dates;
+
+    /** Cancellation indicator. */
+    private final AtomicBoolean cancelled;
+
+    /** Simple constructor.
+     * <p>
+     * Output dates are sorted chronologically, unless the first
+     * date in the list is after the last one, in which case they
+     * are sorted in reverse chronological order and propagation
+     * is performed backward.
+     * </p>
+     * @param propagators propagators to run
+     * @param dates output dates (at least one date is needed)
+     */
+    public BatchPropagator(final List<Propagator> propagators, final List<AbsoluteDate> dates) {
+        if (dates.isEmpty()) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, 0);
+        }
+        final List<AbsoluteDate> sorted = new ArrayList<>(dates);
+        Collections.sort(sorted);
+        if (dates.get(0).isAfter(dates.get(dates.size() - 1))) {
+            Collections.reverse(sorted);
+        }
+        this.propagators = new ArrayList<>(propagators);
+        this.dates       = Collections.unmodifiableList(sorted);
+        this.cancelled   = new AtomicBoolean(false);
+    }
+
+    /** Get an unmodifiable list of the underlying propagators.
+     * @return unmodifiable list of the underlying propagators
+     */
+    public List<Propagator> getPropagators() {
+        return Collections.unmodifiableList(propagators);
+    }
+
+    /** Get the output dates, sorted in propagation order.
+     * @return unmodifiable list of output dates
+     */
+    public List<AbsoluteDate> getDates() {
+        return dates;
+    }
+
+    /** Cancel the batch propagation.
+     * <p>
+     * This method can be called from any thread, including from within
+     * the handler. Propagations not yet started are skipped and propagations
+     * already running are stopped at the end of their current step. If this
+     * method is called while no batch propagation is running, the cancellation
+     * applies to the next call to {@link #propagate(ForkJoinPool, BatchStateHandler)}.
+     * The cancellation request is cleared when the run it applies to ends.
+     * </p>
+     */
+    public void cancel() {
+        cancelled.set(true);
+    }
+
+    /** Check if a cancellation of the batch propagation is pending.
+     * @return true if the current (or next) batch propagation has been cancelled
+     */
+    public boolean isCancelled() {
+        return cancelled.get();
+    }
+
+    /** Propagate all satellites using the {@link ForkJoinPool#commonPool() common pool}.
+     * @param handler handler for output states
+     * @return final states, with null elements for failed or cancelled propagations
+     * @exception OrekitException if some propagation failed and the handler did not accept the failure
+     */
+    public List<SpacecraftState> propagate(final BatchStateHandler handler) {
+        return propagate(ForkJoinPool.commonPool(), handler);
+    }
+
+    /** Propagate all satellites.
+     * <p>
+     * This method blocks until all propagations are completed, failed or cancelled.
+     * </p>
+     * @param pool fork-join pool in which propagations should be run
+     * @param handler handler for output states
+     * @return final states, with null elements for failed or cancelled propagations
+     * @exception OrekitException if some propagation failed and the handler did not accept
+     * the failure (the first such failure is thrown, the other ones are added as suppressed)
+     */
+    public List<SpacecraftState> propagate(final ForkJoinPool pool, final BatchStateHandler handler) {
+
+        final AtomicReferenceArray<RuntimeException> unhandled = new AtomicReferenceArray<>(propagators.size());
+        final List<SpacecraftState> finalStates = new ArrayList<>(propagators.size());
+        try {
+
+            // submit one task per satellite
+            final List<ForkJoinTask<SpacecraftState>> tasks = new ArrayList<>(propagators.size());
+            for (int i = 0; i < propagators.size(); ++i) {
+                final int index = i;
+                tasks.add(pool.submit(() -> propagateSingle(index, handler, unhandled)));
+            }
+
+            // wait for completion
+            for (final ForkJoinTask<SpacecraftState> task : tasks) {
+                finalStates.add(task.join());
+            }
+
+        } finally {
+            // the cancellation request applies only to the run that has just ended
+            cancelled.set(false);
+        }
+
+        // rethrow failures the handler did not accept
+        RuntimeException first = null;
+        for (int i = 0; i < unhandled.length(); ++i) {
+            final RuntimeException failure = unhandled.get(i);
+            if (failure != null) {
+                if (first == null) {
+                    first = failure;
+                } else {
+                    first.addSuppressed(failure);
+                }
+            }
+        }
+        if (first != null) {
+            throw first;
+        }
+
+        return finalStates;
+
+    }
+
+    /** Propagate one satellite.
+     * @param index index of the satellite
+     * @param handler handler for output states
+     * @param unhandled placeholder for failures not accepted by the handler
+     * @return final state, or null if propagation failed or was cancelled
+     */
+    private SpacecraftState propagateSingle(final int index, final BatchStateHandler handler,
+                                            final AtomicReferenceArray<RuntimeException> unhandled) {
+
+        if (cancelled.get()) {
+            return null;
+        }
+
+        final Propagator     propagator = propagators.get(index);
+        final GridDispatcher dispatcher = new GridDispatcher(index, handler);
+        propagator.getMultiplexer().add(dispatcher);
+        try {
+            final SpacecraftState finalState =
+                            propagator.propagate(dates.get(0), dates.get(dates.size() - 1));
+            if (dispatcher.next < dates.size() &&
+                finalState.getDate().isEqualTo(dates.get(dispatcher.next))) {
+                // degenerate grid, propagation did not produce any step
+                handler.handleState(index, finalState);
+            }
+            handler.finish(index, finalState);
+            return finalState;
+        } catch (BatchCancelledException ce) {
+            return null;
+        } catch (OrekitException oe) {
+            reportFailure(index, handler, oe, unhandled);
+            return null;
+        } catch (MathRuntimeException mre) {
+            reportFailure(index, handler, new OrekitException(mre), unhandled);
+            return null;
+        } catch (RuntimeException re) {
+            // any other failure (from force models, user handlers...) is isolated too
+            reportFailure(index, handler,
+                          new OrekitException(re, LocalizedCoreFormats.SIMPLE_MESSAGE, re.toString()),
+                          unhandled);
+            return null;
+        } finally {
+            propagator.getMultiplexer().remove(dispatcher);
+        }
+
+    }
+
+    /** Report a failure to the handler.
+     * @param index index of the satellite
+     * @param handler handler for output states
+     * @param failure failure to report
+     * @param unhandled placeholder for failures not accepted by the handler
+     */
+    private void reportFailure(final int index, final BatchStateHandler handler, final OrekitException failure,
+                               final AtomicReferenceArray<RuntimeException> unhandled) {
+        try {
+            handler.handleFailure(index, failure);
+        } catch (RuntimeException re) {
+            unhandled.set(index, re);
+        }
+    }
+
+    /** Local exception to stop cancelled propagations. */
+    private static class BatchCancelledException extends OrekitException {
+
+        /** Serializable UID.*/
+        private static final long serialVersionUID = 20261018L;
+
+        /** Simple constructor.
+         */
+        BatchCancelledException() {
+            super(LocalizedCoreFormats.SIMPLE_MESSAGE, "cancelled");
+        }
+
+    }
+
+    /** Local step handler dispatching grid states to the batch handler. */
+    private class GridDispatcher implements OrekitStepHandler {
+
+        /** Index of the satellite. */
+        private final int index;
+
+        /** Batch handler. */
+        private final BatchStateHandler handler;
+
+        /** Index of the next output date. */
+        private int next;
+
+        /** Simple constructor.
+         * @param index index of the satellite
+         * @param handler batch handler
+         */
+        GridDispatcher(final int index, final BatchStateHandler handler) {
+            this.index   = index;
+            this.handler = handler;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final SpacecraftState s0, final AbsoluteDate t) {
+            next = 0;
+            handler.init(index, s0, t);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final OrekitStepInterpolator interpolator) {
+
+            if (cancelled.get()) {
+                throw new BatchCancelledException();
+            }
+
+            // dispatch all output dates covered by the step
+            final AbsoluteDate stepEnd = interpolator.getCurrentState().getDate();
+            final boolean      forward = interpolator.isForward();
+            while (next < dates.size() &&
+                   (forward ? !dates.get(next).isAfter(stepEnd) : !dates.get(next).isBefore(stepEnd))) {
+                handler.handleState(index, interpolator.getInterpolatedState(dates.get(next++)));
+            }
+
+        }
+
+    }
+
+}
@@ -34,6 +34,7 @@ import org.orekit.propagation.sampling.OrekitStepHandler;
 import org.orekit.propagation.sampling.StepHandlerMultiplexer;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.DoubleArrayDictionary;
+import org.orekit.utils.PVCoordinates;
 import org.orekit.utils.PVCoordinatesProvider;
 import org.orekit.utils.TimeStampedPVCoordinates;
 
@@ -315,4 +316,54 @@ public interface Propagator extends PVCoordinatesProvider {
         return propagate(date).getPosition(frame);
     }
 
+    /** Get raw position-velocity coordinates in a caller-supplied array.
+     * <p>
+     * This method is intended for very intensive loops (visibility, coverage...)
+     * where only the position-velocity is needed. Implementations are allowed
+     * to skip attitude, mass and additional data computation, to ignore
+     * events detectors and step handlers, as {@link #getPVCoordinates(AbsoluteDate, Frame)}
+     * does for propagators that override it, and to avoid building intermediate
+     * objects. The default implementation simply delegates to {@link
+     * #getPVCoordinates(AbsoluteDate, Frame)}, so it builds a full state.
+     * </p>
+     * @param date current date
+     * @param frame the frame where to define the position
+     * @param pv placeholder where to put position (elements 0 to 2, in m)
+     * and velocity (elements 3 to 5, in m/s), its length must be at least 6
+     * @since 14.0
+     */
+    default void getRawPVCoordinates(final AbsoluteDate date, final Frame frame, final double[] pv) {
+        final PVCoordinates raw = getPVCoordinates(date, frame);
+        final Vector3D      p   = raw.getPosition();
+        final Vector3D      v   = raw.getVelocity();
+        pv[0] = p.getX();
+        pv[1] = p.getY();
+        pv[2] = p.getZ();
+        pv[3] = v.getX();
+        pv[4] = v.getY();
+        pv[5] = v.getZ();
+    }
+
+    /** Get raw position in a caller-supplied array.
+     * <p>
+     * This method is intended for very intensive loops (visibility, coverage...)
+     * where only the position is needed. Implementations are allowed
+     * to skip attitude, mass and additional data computation, to ignore
+     * events detectors and step handlers, as {@link #getPosition(AbsoluteDate, Frame)}
+     * does for propagators that override it, and to avoid building intermediate
+     * objects. The default implementation simply delegates to {@link
+     * #getPosition(AbsoluteDate, Frame)}, so it builds a full state.
+     * </p>
+     * @param date current date
+     * @param frame the frame where to define the position
+     * @param position placeholder where to put position (m), its length must be at least 3
+     * @since 14.0
+     */
+    default void getRawPosition(final AbsoluteDate date, final Frame frame, final double[] position) {
+        final Vector3D p = getPosition(date, frame);
+        position[0] = p.getX();
+        position[1] = p.getY();
+        position[2] = p.getZ();
+    }
+
 }
@@ -16,8 +16,10 @@
  */
 package org.orekit.propagation;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
@@ -56,6 +58,17 @@ import org.orekit.time.AbsoluteDate;
  * handlers that are preserved.
  * </p>
  * <p>
+ * The {@link #propagate(AbsoluteDate, AbsoluteDate) default propagation mode}
+ * uses one dedicated thread per propagator, which does not scale to very large
+ * numbers of satellites. The {@link #propagate(AbsoluteDate, AbsoluteDate, double,
+ * ExecutorService) sliced propagation mode} splits the propagation time range
+ * into slices and runs the propagators slice by slice as independent tasks
+ * on a caller-supplied executor, so the number of threads is bounded by the
+ * executor and not by the number of propagators. The steps produced within
+ * each slice are batched and then synchronized exactly as in the default
+ * mode before being fed to the {@link MultiSatStepHandler global handler}.
+ * </p>
+ * <p>
  * All propagators remain independent of each other (they don't even know
  * they are managed by the parallelizer) and advance their simulation
  * time following their own algorithm. The parallelizer will block them
@@ -252,6 +265,285 @@ public class PropagatorsParallelizer {
 
     }
 
+    /** Propagate from a start date towards a target date, using time slices.
+     * <p>
+     * This method creates a fixed threads pool with at most {@code maxThreads}
+     * threads, delegates to {@link #propagate(AbsoluteDate, AbsoluteDate, double,
+     * ExecutorService)} and shuts down the pool once propagation is completed.
+     * </p>
+     * @param start start date from which orbit state should be propagated
+     * @param target target date to which orbit state should be propagated
+     * @param sliceDuration duration of the time slices (s, sign is not used)
+     * @param maxThreads maximum number of threads to use
+     * @return propagated states
+     * @since 14.0
+     */
+    public List<SpacecraftState> propagate(final AbsoluteDate start, final AbsoluteDate target,
+                                           final double sliceDuration, final int maxThreads) {
+        final ExecutorService executorService =
+                        Executors.newFixedThreadPool(FastMath.max(1, FastMath.min(maxThreads, propagators.size())));
+        try {
+            return propagate(start, target, sliceDuration, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
+    /** Propagate from a start date towards a target date, using time slices.
+     * <p>
+     * In this mode, the propagation time range is split into slices of
+     * {@code sliceDuration} seconds. For each slice, all propagators are submitted
+     * as independent tasks to the executor service, and each one propagates up to
+     * the end of the slice without waiting for the other ones. Once all tasks
+     * for the slice are completed, the steps they produced are synchronized and
+     * fed to the {@link MultiSatStepHandler global handler} with the same contract
+     * as {@link #propagate(AbsoluteDate, AbsoluteDate)}: the global handler
+     * experiences perfectly synchronized steps. As a propagator does not block
+     * any thread while waiting for the other ones, the executor service may hold
+     * much less threads than there are propagators.
+     * </p>
+     * <p>
+     * As each slice corresponds to a separate call to {@link Propagator#propagate(AbsoluteDate)},
+     * the individual step handlers registered in the propagators see one
+     * {@link OrekitStepHandler#init(SpacecraftState, AbsoluteDate) init} and one
+     * {@link OrekitStepHandler#finish(SpacecraftState) finish} call per slice,
+     * and integration-based propagators restart their integrator at each slice
+     * boundary. Slices should therefore be significantly longer than the typical
+     * step size. If one propagator stops early (typically due to an event),
+     * the other propagators complete the slice, but propagation stops after it
+     * and the returned states are all interpolated at the early stop date.
+     * </p>
+     * <p>
+     * The executor service is <em>not</em> shut down by this method, it remains
+     * under the control of the caller.
+     * </p>
+     * @param start start date from which orbit state should be propagated
+     * @param target target date to which orbit state should be propagated
+     * @param sliceDuration duration of the time slices (s, sign is not used)
+     * @param executorService service for running the propagators
+     * @return propagated states
+     * @since 14.0
+     */
+    public List<SpacecraftState> propagate(final AbsoluteDate start, final AbsoluteDate target,
+                                           final double sliceDuration, final ExecutorService executorService) {
+
+        final double sign     = FastMath.copySign(1.0, target.durationFrom(start));
+        final double slice    = FastMath.abs(sliceDuration);
+        final int    nbSlices = FastMath.max(1, (int) FastMath.ceil(FastMath.abs(target.durationFrom(start)) / slice));
+
+        // set up the steps collectors
+        final List<StepsCollector> collectors = new ArrayList<>(propagators.size());
+        for (final Propagator propagator : propagators) {
+            final StepsCollector collector = new StepsCollector();
+            clearHandlers(propagator, StepsCollector.class);
+            propagator.getMultiplexer().add(collector);
+            collectors.add(collector);
+        }
+
+        try {
+
+            AbsoluteDate                previousDate = start;
+            final List<SpacecraftState> sliceStates  = new ArrayList<>(propagators.size());
+            for (int i = 0; i < nbSlices; ++i) {
+
+                // propagate all satellites independently up to the end of the slice
+                final AbsoluteDate sliceEnd = (i == nbSlices - 1) ? target : start.shiftedBy(sign * (i + 1) * slice);
+                final List<Future<SpacecraftState>> futures = new ArrayList<>(propagators.size());
+                for (final Propagator propagator : propagators) {
+                    futures.add(i == 0 ?
+                                executorService.submit(() -> propagator.propagate(start, sliceEnd)) :
+                                executorService.submit(() -> propagator.propagate(sliceEnd)));
+                }
+                sliceStates.clear();
+                for (final Future<SpacecraftState> future : futures) {
+                    try {
+                        sliceStates.add(future.get());
+                    } catch (InterruptedException | ExecutionException e) {
+                        for (final Future<SpacecraftState> other : futures) {
+                            other.cancel(true);
+                        }
+                        throw convertException(e);
+                    }
+                }
+
+                if (i == 0) {
+                    final List<SpacecraftState> initialStates = new ArrayList<>(collectors.size());
+                    for (final StepsCollector collector : collectors) {
+                        initialStates.add(collector.initialState);
+                    }
+                    globalHandler.init(initialStates, target);
+                }
+
+                // synchronize the batched steps
+                previousDate = handleBatchedSteps(collectors, previousDate, sign);
+
+                // check for early stops
+                boolean stopped = false;
+                for (final SpacecraftState state : sliceStates) {
+                    stopped = stopped || state.getDate().durationFrom(sliceEnd) != 0.0;
+                }
+                if (stopped) {
+                    final List<SpacecraftState> finalStates = new ArrayList<>(collectors.size());
+                    for (int k = 0; k < collectors.size(); ++k) {
+                        final OrekitStepInterpolator last = collectors.get(k).last;
+                        finalStates.add(last == null ? sliceStates.get(k) : last.getInterpolatedState(previousDate));
+                    }
+                    globalHandler.finish(finalStates);
+                    return finalStates;
+                }
+
+            }
+
+            final List<SpacecraftState> finalStates = new ArrayList<>(sliceStates);
+            globalHandler.finish(finalStates);
+            return finalStates;
+
+        } finally {
+            // the collectors are useless after this propagation, they must not
+            // remain registered when the propagators are used on their own
+            for (int k = 0; k < propagators.size(); ++k) {
+                propagators.get(k).getMultiplexer().remove(collectors.get(k));
+            }
+        }
+
+    }
+
+    /** Synchronize the steps batched in collectors and hand them to the global handler.
+     * @param collectors steps collectors
+     * @param start start date of the first synchronized step
+     * @param sign propagation direction
+     * @return end date of the last synchronized step
+     */
+    private AbsoluteDate handleBatchedSteps(final List<StepsCollector> collectors,
+                                            final AbsoluteDate start, final double sign) {
+
+        AbsoluteDate previousDate = start;
+        final List<OrekitStepInterpolator> interpolators = new ArrayList<>(collectors.size());
+        for (boolean exhausted = false; !exhausted;) {
+
+            // select the earliest ending step, according to propagation direction
+            StepsCollector selected        = null;
+            AbsoluteDate   selectedStepEnd = null;
+            for (final StepsCollector collector : collectors) {
+                if (collector.steps.isEmpty()) {
+                    // one propagator did not produce any more step in this slice
+                    selected = null;
+                    break;
+                }
+                final AbsoluteDate stepEnd = collector.steps.peekFirst().getCurrentState().getDate();
+                if (selected == null || sign * selectedStepEnd.durationFrom(stepEnd) > 0) {
+                    selected        = collector;
+                    selectedStepEnd = stepEnd;
+                }
+            }
+            if (selected == null) {
+                break;
+            }
+
+            // restrict steps to a common time range and handle all states at once
+            interpolators.clear();
+            for (final StepsCollector collector : collectors) {
+                final OrekitStepInterpolator interpolator  = collector.steps.peekFirst();
+                final SpacecraftState        previousState = interpolator.getInterpolatedState(previousDate);
+                final SpacecraftState        currentState  = interpolator.getInterpolatedState(selectedStepEnd);
+                interpolators.add(interpolator.restrictStep(previousState, currentState));
+            }
+            globalHandler.handleStep(interpolators);
+
+            // let the selected propagator go one step further
+            selected.last = selected.steps.pollFirst();
+            exhausted     = selected.steps.isEmpty();
+            previousDate  = selectedStepEnd;
+
+        }
+
+        // remaining steps (if any) are either zero length or after an early stop, they can be dropped
+        for (final StepsCollector collector : collectors) {
+            if (!collector.steps.isEmpty()) {
+                collector.last = collector.steps.peekFirst();
+                collector.steps.clear();
+            }
+        }
+
+        return previousDate;
+
+    }
+
+    /** Convert exceptions thrown by propagation tasks.
+     * @param exception exception caught
+     * @return converted exception
+     */
+    private static OrekitException convertException(final Exception exception) {
+        if (exception.getCause() instanceof OrekitException) {
+            // unwrap the original exception
+            return (OrekitException) exception.getCause();
+        } else {
+            return new OrekitException(exception.getCause(),
+                                       LocalizedCoreFormats.SIMPLE_MESSAGE, exception.getLocalizedMessage());
+        }
+    }
+
+    /** Clear existing instances of parallelizer internal handlers in a propagator.
+     * <p>
+     * This is done to avoid propagation getting stuck after several calls to PropagatorsParallelizer.propagate(...)
+     * <p>
+     * See issue <a href="https://gitlab.orekit.org/orekit/orekit/-/issues/1105">1105</a>.
+     * @param propagator propagator whose internal handlers must be cleared
+     * @param handlerClass class of the handlers to clear
+     */
+    private static void clearHandlers(final Propagator propagator,
+                                      final Class<? extends OrekitStepHandler> handlerClass) {
+
+        // First, list instances of the handler class in the propagator multiplexer
+        final StepHandlerMultiplexer multiplexer = propagator.getMultiplexer();
+        final List<OrekitStepHandler> existing = new ArrayList<>();
+        for (final OrekitStepHandler handler : multiplexer.getHandlers()) {
+            if (handlerClass.isInstance(handler)) {
+                existing.add(handler);
+            }
+        }
+        // Then, clear all instances from multiplexer.
+        // This is done in two steps because method "StepHandlerMultiplexer.remove(...)" already loops on the OrekitStepHandlers,
+        // leading to a ConcurrentModificationException if attempting to do everything in a single loop
+        for (final OrekitStepHandler handler : existing) {
+            multiplexer.remove(handler);
+        }
+    }
+
+    /** Local class for batching steps of one propagator during a time slice. */
+    private static class StepsCollector implements OrekitStepHandler {
+
+        /** Steps batched during current slice. */
+        private final Deque<OrekitStepInterpolator> steps;
+
+        /** Initial state of the first slice. */
+        private SpacecraftState initialState;
+
+        /** Last step already handled. */
+        private OrekitStepInterpolator last;
+
+        /** Simple constructor.
+         */
+        StepsCollector() {
+            this.steps = new ArrayDeque<>();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final SpacecraftState s0, final AbsoluteDate t) {
+            if (initialState == null) {
+                initialState = s0;
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final OrekitStepInterpolator interpolator) {
+            steps.addLast(interpolator);
+        }
+
+    }
+
     /** Local exception to stop propagators. */
     private static class PropagatorStoppingException extends OrekitException {
 
@@ -408,7 +700,7 @@ public class PropagatorsParallelizer {
             queue = new SynchronousQueue<>();
 
             // Remove former instances of "MultiplePropagatorsHandler" from step handlers multiplexer
-            clearMultiplePropagatorsHandler(propagator);
+            clearHandlers(propagator, MultiplePropagatorsHandler.class);
 
             // Add MultiplePropagatorsHandler step handler
             propagator.getMultiplexer().add(new MultiplePropagatorsHandler(queue));
@@ -475,32 +767,6 @@ public class PropagatorsParallelizer {
             }
         }
 
-        /** Clear existing instances of MultiplePropagatorsHandler in a monitored propagator.
-         * <p>
-         * Removes former instances of "MultiplePropagatorsHandler" from step handlers multiplexer.
-         * <p>
-         * This is done to avoid propagation getting stuck after several calls to PropagatorsParallelizer.propagate(...)
-         * <p>
-         * See issue <a href="https://gitlab.orekit.org/orekit/orekit/-/issues/1105">1105</a>.
-         * @param propagator monitored propagator whose MultiplePropagatorsHandlers must be cleared
-         */
-        private void clearMultiplePropagatorsHandler(final Propagator propagator) {
-
-            // First, list instances of MultiplePropagatorsHandler in the propagator multiplexer
-            final StepHandlerMultiplexer multiplexer = propagator.getMultiplexer();
-            final List<OrekitStepHandler> existingMultiplePropagatorsHandler = new ArrayList<>();
-            for (final OrekitStepHandler handler : multiplexer.getHandlers()) {
-                if (handler instanceof MultiplePropagatorsHandler) {
-                    existingMultiplePropagatorsHandler.add(handler);
-                }
-            }
-            // Then, clear all MultiplePropagatorsHandler instances from multiplexer.
-            // This is done in two steps because method "StepHandlerMultiplexer.remove(...)" already loops on the OrekitStepHandlers,
-            // leading to a ConcurrentModificationException if attempting to do everything in a single loop
-            for (final OrekitStepHandler handler : existingMultiplePropagatorsHandler) {
-                multiplexer.remove(handler);
-            }
-        }
     }
 
 }
@@ -141,6 +141,29 @@ public class SpacecraftState implements TimeStamped, TimeShiftable<SpacecraftSta
         checkConsistency(orbit, attitude);
     }
 
+    /** Build a spacecraft state from orbit, attitude, mass, mass rate, additional states and derivatives.
+     * <p>
+     * This constructor is intended for performance-critical code like integration
+     * loops, where the mass rate is known at state creation and chaining {@link
+     * #withMassRate(double)} would build intermediate instances.
+     * </p>
+     * @param orbit the orbit
+     * @param attitude attitude
+     * @param mass the mass (kg)
+     * @param massRate the mass rate (kg/s)
+     * @param additional additional data (may be null if no additional states are available)
+     * @param additionalDot additional states derivatives (may be null if no additional states derivatives are available)
+     * @exception IllegalArgumentException if orbit and attitude dates
+     * or frames are not equal
+     * @since 14.0
+     */
+    public SpacecraftState(final Orbit orbit, final Attitude attitude, final double mass, final double massRate,
+                           final DataDictionary additional, final DoubleArrayDictionary additionalDot)
+        throws IllegalArgumentException {
+        this(orbit, null, attitude, mass, massRate, additional, additionalDot, true);
+        checkConsistency(orbit, attitude);
+    }
+
     /** Build a spacecraft state from position-velocity-acceleration only.
      * <p>Attitude and mass are set to unspecified non-null arbitrary values.</p>
      * @param absPva position-velocity-acceleration
@@ -181,6 +204,29 @@ public class SpacecraftState implements TimeStamped, TimeShiftable<SpacecraftSta
         checkConsistency(absPva, attitude);
     }
 
+    /** Build a spacecraft state from position-velocity-acceleration, attitude, mass, mass rate, additional states and derivatives.
+     * <p>
+     * This constructor is intended for performance-critical code like integration
+     * loops, where the mass rate is known at state creation and chaining {@link
+     * #withMassRate(double)} would build intermediate instances.
+     * </p>
+     * @param absPva position-velocity-acceleration
+     * @param attitude attitude
+     * @param mass the mass (kg)
+     * @param massRate the mass rate (kg/s)
+     * @param additional additional data (may be null if no additional data are available)
+     * @param additionalDot additional states derivatives (may be null if no additional states derivatives are available)
+     * @exception IllegalArgumentException if orbit and attitude dates
+     * or frames are not equal
+     * @since 14.0
+     */
+    public SpacecraftState(final AbsolutePVCoordinates absPva, final Attitude attitude, final double mass, final double massRate,
+                           final DataDictionary additional, final DoubleArrayDictionary additionalDot)
+        throws IllegalArgumentException {
+        this(null, absPva, attitude, mass, massRate, additional, additionalDot, true);
+        checkConsistency(absPva, attitude);
+    }
+
     /** Full, private constructor.
      * @param orbit the orbit
      * @param absPva absolute position-velocity
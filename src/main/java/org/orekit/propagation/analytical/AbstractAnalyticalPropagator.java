@@ -20,12 +20,16 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.stream.Collectors;
 
 import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.ode.events.Action;
 import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.AttitudeProvider;
@@ -83,6 +87,12 @@ public abstract class AbstractAnalyticalPropagator extends AbstractPropagator {
     /** All event states, including internal ones. */
     private Collection<EventState<?>> eventStates;
 
+    /** Pool for concurrent evaluation of event detectors (null for sequential evaluation). */
+    private ForkJoinPool eventsPool;
+
+    /** Converter for raw coordinates. */
+    private final RawFrameConverter rawConverter;
+
     /** Build a new instance.
      * @param attitudeProvider provider for attitude computation
      */
@@ -93,6 +103,60 @@ public abstract class AbstractAnalyticalPropagator extends AbstractPropagator {
         lastPropagationEnd   = AbsoluteDate.FUTURE_INFINITY;
         statesInitialized    = false;
         userEventStates = new ArrayList<>();
+        eventsPool      = null;
+        rawConverter    = new RawFrameConverter();
+    }
+
+    /** Set the pool to use for evaluating event detectors concurrently.
+     * <p>
+     * When a pool is set and several event detectors are registered, the detectors
+     * scan each step and locate their roots concurrently, which is worthwhile when
+     * many independent detectors are used in the same propagation (for example
+     * visibility from hundreds of ground stations). Events are still handled
+     * sequentially, in chronological order, and occurrences found during the same
+     * step are queued in the order detectors were added, so the sequence of events
+     * dispatched to handlers is the same as with sequential evaluation.
+     * </p>
+     * <p>
+     * Concurrent evaluation requires that the detectors do not share mutable data
+     * and that orbit computation, the attitude provider and the additional data
+     * providers are thread-safe, as they are called from several threads when states
+     * are interpolated. Orbit computation is thread-safe only for propagators that
+     * {@link #supportsConcurrentEvaluation() declare it}; the pool is ignored
+     * and detectors are evaluated sequentially for other propagators (for example
+     * {@link org.orekit.propagation.analytical.tle.TLEPropagator TLEPropagator},
+     * which stores intermediate results in instance fields, or {@link
+     * org.orekit.propagation.integration.IntegratedEphemeris IntegratedEphemeris},
+     * which should be converted to a {@link ChebyshevEphemeris} beforehand).
+     * </p>
+     * @param eventsPool pool to use, null for sequential evaluation (which is the default)
+     * @see #supportsConcurrentEvaluation()
+     * @since 14.0
+     */
+    public void setEventsPool(final ForkJoinPool eventsPool) {
+        this.eventsPool = eventsPool;
+    }
+
+    /** Get the pool used for evaluating event detectors concurrently.
+     * @return pool used, null if event detectors are evaluated sequentially
+     * @since 14.0
+     */
+    public ForkJoinPool getEventsPool() {
+        return eventsPool;
+    }
+
+    /** Check if orbit computation can be called concurrently from several threads.
+     * <p>
+     * This method returns false by default, so detectors are evaluated sequentially
+     * even if an {@link #setEventsPool(ForkJoinPool) events pool} is set. Propagators
+     * whose {@link #propagateOrbit(AbsoluteDate)} and {@link #getMass(AbsoluteDate)}
+     * methods do not modify the propagator should override it to return true.
+     * </p>
+     * @return true if orbit computation can be called concurrently
+     * @since 14.0
+     */
+    protected boolean supportsConcurrentEvaluation() {
+        return false;
     }
 
     /** {@inheritDoc} */
@@ -234,12 +298,7 @@ public abstract class AbstractAnalyticalPropagator extends AbstractPropagator {
 
             // Evaluate all event detectors for events
             occurringEvents.clear();
-            for (final EventState<?> state : eventStates) {
-                if (state.evaluateStep(interpolator)) {
-                    // the event occurs during the current step
-                    occurringEvents.add(state);
-                }
-            }
+            evaluateStep(interpolator, occurringEvents);
 
             do {
 
@@ -354,6 +413,40 @@ public abstract class AbstractAnalyticalPropagator extends AbstractPropagator {
 
     }
 
+    /** Evaluate all event detectors over a step.
+     * @param interpolator interpolator for the current step
+     * @param occurringEvents queue where to add the events occurring during the step
+     */
+    private void evaluateStep(final OrekitStepInterpolator interpolator,
+                              final Queue<EventState<?>> occurringEvents) {
+        if (eventsPool == null || eventStates.size() < 2 || !supportsConcurrentEvaluation()) {
+            for (final EventState<?> state : eventStates) {
+                if (state.evaluateStep(interpolator)) {
+                    // the event occurs during the current step
+                    occurringEvents.add(state);
+                }
+            }
+        } else {
+
+            // scan the step and locate roots concurrently
+            final List<ForkJoinTask<Boolean>> tasks = new ArrayList<>(eventStates.size());
+            for (final EventState<?> state : eventStates) {
+                tasks.add(eventsPool.submit(() -> state.evaluateStep(interpolator)));
+            }
+
+            // queue occurring events in detectors order, independently of threads scheduling
+            final Iterator<EventState<?>> iterator = eventStates.iterator();
+            for (final ForkJoinTask<Boolean> task : tasks) {
+                final EventState<?> state = iterator.next();
+                if (task.join()) {
+                    // the event occurs during the current step
+                    occurringEvents.add(state);
+                }
+            }
+
+        }
+    }
+
     /** Get the mass.
      * @param date target date for the orbit
      * @return mass mass
@@ -380,6 +473,54 @@ public abstract class AbstractAnalyticalPropagator extends AbstractPropagator {
      */
     public abstract Orbit propagateOrbit(AbsoluteDate date);
 
+    /** {@inheritDoc}
+     * <p>
+     * This implementation relies on {@link #propagateOrbit(AbsoluteDate)}, it
+     * does not compute attitude, mass or additional data and it ignores events
+     * detectors and step handlers. The orbit is still built, but the frame
+     * transform is cached so several queries at the same date do not rebuild it.
+     * </p>
+     */
+    @Override
+    public void getRawPVCoordinates(final AbsoluteDate date, final Frame frame, final double[] pv) {
+        final Orbit orbit = propagateOrbit(date);
+        final Vector3D p = orbit.getPosition();
+        final Vector3D v = orbit.getPVCoordinates().getVelocity();
+        pv[0] = p.getX();
+        pv[1] = p.getY();
+        pv[2] = p.getZ();
+        pv[3] = v.getX();
+        pv[4] = v.getY();
+        pv[5] = v.getZ();
+        rawConverter.convertPV(orbit.getFrame(), frame, date, pv);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This implementation relies on {@link #propagateOrbit(AbsoluteDate)}, it
+     * does not compute attitude, mass or additional data and it ignores events
+     * detectors and step handlers. The orbit is still built, but the frame
+     * transform is cached so several queries at the same date do not rebuild it.
+     * </p>
+     */
+    @Override
+    public void getRawPosition(final AbsoluteDate date, final Frame frame, final double[] position) {
+        final Orbit orbit = propagateOrbit(date);
+        final Vector3D p = orbit.getPosition();
+        position[0] = p.getX();
+        position[1] = p.getY();
+        position[2] = p.getZ();
+        rawConverter.convertPosition(orbit.getFrame(), frame, date, position);
+    }
+
+    /** Get the converter for raw coordinates.
+     * @return converter for raw coordinates
+     * @since 14.0
+     */
+    RawFrameConverter getRawConverter() {
+        return rawConverter;
+    }
+
     /** Propagate an orbit without any fancy features.
      * <p>This method is similar in spirit to the {@link #propagate} method,
      * except that it does <strong>not</strong> call any handler during
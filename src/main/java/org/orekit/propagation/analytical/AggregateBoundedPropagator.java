@@ -153,6 +153,16 @@ public class AggregateBoundedPropagator extends AbstractAnalyticalPropagator
         return getPropagator(date).propagate(date).getPosition(frame);
     }
 
+    @Override
+    public void getRawPVCoordinates(final AbsoluteDate date, final Frame frame, final double[] pv) {
+        getPropagator(date).getRawPVCoordinates(date, frame, pv);
+    }
+
+    @Override
+    public void getRawPosition(final AbsoluteDate date, final Frame frame, final double[] position) {
+        getPropagator(date).getRawPosition(date, frame, position);
+    }
+
     @Override
     public Orbit propagateOrbit(final AbsoluteDate date) {
         return getPropagator(date).propagate(date).getOrbit();
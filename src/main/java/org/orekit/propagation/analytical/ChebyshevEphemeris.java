@@ -0,0 +1,838 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeOffset;
+import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+/** Compact ephemeris storing Chebyshev polynomials in primitive arrays.
+ * <p>
+ * This ephemeris is intended to replace memory intensive ephemerides like
+ * {@link org.orekit.propagation.integration.IntegratedEphemeris IntegratedEphemeris},
+ * which retain all the step interpolators of the integrator. The time range
+ * of a source ephemeris is split into segments, and on each segment position,
+ * velocity and mass are fitted by Chebyshev polynomials sampled at Chebyshev
+ * nodes of the first kind. All coefficients are stored in a single contiguous
+ * buffer, and the segment containing a date is found by binary search in the
+ * segments boundaries. The buffers may be backed by primitive arrays or by
+ * memory-mapped files. Acceleration is computed by differentiating the
+ * velocity polynomials.
+ * </p>
+ * <p>
+ * Instances are immutable, so the {@link #getPVCoordinates(AbsoluteDate, Frame)},
+ * {@link #getPosition(AbsoluteDate, Frame)}, {@link #getRawPVCoordinates(AbsoluteDate,
+ * Frame, double[])} and {@link #getRawPosition(AbsoluteDate, Frame, double[])}
+ * methods, which evaluate the polynomials directly, can be called concurrently from
+ * several threads. The {@link #propagate(AbsoluteDate) propagate} methods follow the
+ * general {@link org.orekit.propagation.Propagator Propagator} contract and are not
+ * thread-safe, as they manage events detectors and step handlers.
+ * </p>
+ * <p>
+ * The ephemeris can be {@link #write(OutputStream) saved} and {@link #read(InputStream,
+ * String, Frame, AttitudeProvider) loaded} back in a compact binary format. Attitude is
+ * not stored, it is recomputed by the attitude provider. Additional data from the source
+ * ephemeris are not stored either. The {@link #writeHeader(DataOutput) header} and
+ * {@link #writeData(DataOutput) data} parts of this encoding are public so other
+ * formats can embed them, as {@link org.orekit.files.general.BinaryEphemerisWriter
+ * BinaryEphemerisWriter} does for multi-satellites files.
+ * </p>
+ * @see org.orekit.propagation.integration.IntegratedEphemeris
+ * @author agent
+ * @since 14.0
+ */
+public class ChebyshevEphemeris extends AbstractAnalyticalPropagator implements BoundedPropagator {
+
+    /** Number of fitted components (position, velocity and mass). */
+    public static final int COMPONENTS = 7;
+
+    /** Format identifier. */
+    private static final String FORMAT = "OREKIT-CHEBYSHEV-EPHEMERIS";
+
+    /** Format version. */
+    private static final int VERSION = 1;
+
+    /** Index of the first velocity component. */
+    private static final int VELOCITY = 3;
+
+    /** Index of the mass component. */
+    private static final int MASS = 6;
+
+    /** Event detection requires evaluating the state slightly before / past an event. */
+    private static final double EXTRAPOLATION_TOLERANCE = 1.0;
+
+    /** Frame in which the polynomials are defined. */
+    private final Frame frame;
+
+    /** Central attraction coefficient. */
+    private final double mu;
+
+    /** Reference date (i.e. first date of the range). */
+    private final AbsoluteDate referenceDate;
+
+    /** Last date of the range. */
+    private final AbsoluteDate maxDate;
+
+    /** Segments boundaries, as offsets from reference date. */
+    private final DoubleBuffer boundaries;
+
+    /** Number of segments. */
+    private final int segments;
+
+    /** Number of Chebyshev nodes (i.e. coefficients) per component and per segment. */
+    private final int nodes;
+
+    /** Chebyshev coefficients, for all segments and components. */
+    private final DoubleBuffer coefficients;
+
+    /** Build an ephemeris with regular segments.
+     * <p>
+     * The time range of the source is split in segments with equal durations,
+     * as close as possible to the specified duration.
+     * </p>
+     * @param source source ephemeris (must contain orbit-defined states)
+     * @param segmentDuration approximate duration of the segments (s)
+     * @param nodes number of Chebyshev nodes per segment (i.e. polynomials degree + 1)
+     */
+    public ChebyshevEphemeris(final BoundedPropagator source, final double segmentDuration, final int nodes) {
+        this(source, regularBoundaries(source, segmentDuration), nodes);
+    }
+
+    /** Build an ephemeris with user-specified segments.
+     * <p>
+     * Specifying boundaries is useful to put them at known discontinuities of
+     * the dynamics, like maneuvers start and end.
+     * </p>
+     * @param source source ephemeris (must contain orbit-defined states)
+     * @param boundaries segments boundaries, in chronological order,
+     * the first and last boundaries define the range of the ephemeris
+     * @param nodes number of Chebyshev nodes per segment (i.e. polynomials degree + 1)
+     */
+    public ChebyshevEphemeris(final BoundedPropagator source, final List<AbsoluteDate> boundaries,
+                              final int nodes) {
+        this(source.getAttitudeProvider(), source.getFrame(), muOf(source),
+             DoubleBuffer.wrap(offsets(boundaries)), boundaries.get(0), nodes,
+             DoubleBuffer.wrap(fit(source, boundaries, nodes)));
+    }
+
+    /** Build an ephemeris from already fitted data.
+     * <p>
+     * This constructor is intended for loading ephemerides stored in files,
+     * where the buffers may be memory-mapped. The buffers are used as is, they
+     * are not copied, so they must not be changed afterwards. Only absolute
+     * get methods are used, so the buffers position and limit are ignored.
+     * </p>
+     * <p>
+     * The boundaries buffer contains n+1 strictly increasing offsets with
+     * respect to the reference date (the first offset is therefore 0) for n
+     * segments. The coefficients buffer contains n &times; 7 &times; nodes
+     * coefficients: for each segment, for each component (position x, y, z,
+     * velocity x, y, z and mass), the coefficients of Chebyshev polynomials
+     * of the first kind, from degree 0 to degree nodes - 1, with respect to
+     * the normalized abscissa in [-1, 1] on the segment.
+     * </p>
+     * @param attitudeProvider attitude provider
+     * @param frame frame in which the polynomials are defined
+     * @param mu central attraction coefficient
+     * @param boundaries segments boundaries, as offsets from reference date
+     * @param referenceDate reference date (i.e. first date of the range)
+     * @param nodes number of Chebyshev nodes per component and per segment
+     * @param coefficients Chebyshev coefficients, for all segments and components
+     */
+    public ChebyshevEphemeris(final AttitudeProvider attitudeProvider, final Frame frame, final double mu,
+                              final DoubleBuffer boundaries, final AbsoluteDate referenceDate,
+                              final int nodes, final DoubleBuffer coefficients) {
+        super(attitudeProvider);
+        if (boundaries.capacity() < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, boundaries.capacity());
+        }
+        if (nodes < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, nodes);
+        }
+        this.frame         = frame;
+        this.mu            = mu;
+        this.referenceDate = referenceDate;
+        this.segments      = boundaries.capacity() - 1;
+        this.maxDate       = referenceDate.shiftedBy(boundaries.get(segments));
+        this.boundaries    = boundaries;
+        this.nodes         = nodes;
+        this.coefficients  = coefficients;
+        if (coefficients.capacity() != segments * COMPONENTS * nodes) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.INCONSISTENT_NUMBER_OF_ELEMENTS,
+                                                     segments * COMPONENTS * nodes, coefficients.capacity());
+        }
+        super.resetInitialState(getInitialState());
+    }
+
+    /** Compute regular segments boundaries.
+     * @param source source ephemeris
+     * @param segmentDuration approximate duration of the segments (s)
+     * @return segments boundaries
+     */
+    private static List<AbsoluteDate> regularBoundaries(final BoundedPropagator source,
+                                                        final double segmentDuration) {
+        if (!(segmentDuration > 0)) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_STRICTLY_POSITIVE, segmentDuration);
+        }
+        final AbsoluteDate      start    = source.getMinDate();
+        final double            span     = source.getMaxDate().durationFrom(start);
+        final int               segments = FastMath.max(1, (int) FastMath.ceil(span / segmentDuration));
+        final List<AbsoluteDate> dates   = new ArrayList<>(segments + 1);
+        for (int i = 0; i < segments; ++i) {
+            dates.add(start.shiftedBy(i * span / segments));
+        }
+        dates.add(source.getMaxDate());
+        return dates;
+    }
+
+    /** Get the central attraction coefficient of a source ephemeris.
+     * @param source source ephemeris
+     * @return central attraction coefficient
+     */
+    private static double muOf(final BoundedPropagator source) {
+        // this throws an exception if the source contains absolute position-velocity-acceleration
+        return source.getInitialState().getOrbit().getMu();
+    }
+
+    /** Convert boundaries to offsets.
+     * @param boundaries segments boundaries, in chronological order
+     * @return offsets from first boundary
+     */
+    private static double[] offsets(final List<AbsoluteDate> boundaries) {
+        if (boundaries.size() < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, boundaries.size());
+        }
+        final double[] offsets = new double[boundaries.size()];
+        for (int i = 1; i < offsets.length; ++i) {
+            offsets[i] = boundaries.get(i).durationFrom(boundaries.get(0));
+            if (!(offsets[i] > offsets[i - 1])) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                                                         boundaries.get(i - 1), boundaries.get(i),
+                                                         offsets[i - 1] - offsets[i]);
+            }
+        }
+        return offsets;
+    }
+
+    /** Fit Chebyshev polynomials on a source ephemeris.
+     * @param source source ephemeris
+     * @param boundaries segments boundaries, in chronological order
+     * @param nodes number of Chebyshev nodes per segment
+     * @return Chebyshev coefficients, for all segments and components
+     */
+    private static double[] fit(final BoundedPropagator source, final List<AbsoluteDate> boundaries,
+                                final int nodes) {
+
+        if (nodes < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, nodes);
+        }
+
+        // cos(π j (k + ½) / n), used both for nodes abscissae (j = 1) and for coefficients
+        final double[][] cosines = new double[nodes][nodes];
+        for (int j = 0; j < nodes; ++j) {
+            for (int k = 0; k < nodes; ++k) {
+                cosines[j][k] = FastMath.cos(FastMath.PI * j * (k + 0.5) / nodes);
+            }
+        }
+
+        final int      segments     = boundaries.size() - 1;
+        final double[] coefficients = new double[segments * COMPONENTS * nodes];
+        final double[] values       = new double[COMPONENTS * nodes];
+        for (int s = 0; s < segments; ++s) {
+
+            final AbsoluteDate start    = boundaries.get(s);
+            final double       duration = boundaries.get(s + 1).durationFrom(start);
+
+            // sample the source at Chebyshev nodes, in chronological order
+            for (int k = nodes - 1; k >= 0; --k) {
+                final AbsoluteDate    date  = start.shiftedBy(0.5 * duration * (1 + cosines[1][k]));
+                final SpacecraftState state = source.propagate(date);
+                final PVCoordinates   pv    = state.getPVCoordinates(source.getFrame());
+                values[k]             = pv.getPosition().getX();
+                values[nodes + k]     = pv.getPosition().getY();
+                values[2 * nodes + k] = pv.getPosition().getZ();
+                values[3 * nodes + k] = pv.getVelocity().getX();
+                values[4 * nodes + k] = pv.getVelocity().getY();
+                values[5 * nodes + k] = pv.getVelocity().getZ();
+                values[6 * nodes + k] = state.getMass();
+            }
+
+            // compute coefficients
+            for (int c = 0; c < COMPONENTS; ++c) {
+                final int offset = (s * COMPONENTS + c) * nodes;
+                for (int j = 0; j < nodes; ++j) {
+                    double sum = 0;
+                    for (int k = 0; k < nodes; ++k) {
+                        sum += values[c * nodes + k] * cosines[j][k];
+                    }
+                    coefficients[offset + j] = (j == 0 ? 1.0 : 2.0) * sum / nodes;
+                }
+            }
+
+        }
+
+        return coefficients;
+
+    }
+
+    /** Load an ephemeris previously saved with {@link #write(OutputStream)}.
+     * <p>
+     * Exactly the bytes written by {@link #write(OutputStream)} are consumed, so
+     * other data following the ephemeris in the stream can be read afterwards.
+     * </p>
+     * @param input input stream (will not be closed)
+     * @param name name of the input (for error messages)
+     * @param frame frame in which the ephemeris was defined
+     * @param attitudeProvider attitude provider
+     * @return loaded ephemeris
+     * @exception IOException if data cannot be read
+     */
+    public static ChebyshevEphemeris read(final InputStream input, final String name,
+                                          final Frame frame, final AttitudeProvider attitudeProvider)
+        throws IOException {
+
+        final DataInputStream dis = new DataInputStream(input);
+
+        // format
+        if (!FORMAT.equals(dis.readUTF())) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+        final int version = dis.readInt();
+        if (version != VERSION) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT_VERSION, version, name, VERSION);
+        }
+
+        // header
+        final Header header = readHeader(dis, name);
+        if (!header.getFrameName().equals(frame.getName())) {
+            throw new OrekitException(OrekitMessages.FRAMES_MISMATCH, header.getFrameName(), frame.getName());
+        }
+
+        // segments boundaries and coefficients
+        final double[] boundaries   = readDoubles(dis, header.getBoundariesSize());
+        final double[] coefficients = readDoubles(dis, header.getCoefficientsSize());
+
+        final DoubleBuffer boundariesBuffer = DoubleBuffer.wrap(boundaries);
+        header.checkBoundaries(boundariesBuffer);
+        return header.build(frame, attitudeProvider, boundariesBuffer, DoubleBuffer.wrap(coefficients));
+
+    }
+
+    /** Read an array of doubles in one bulk operation.
+     * @param input data input
+     * @param n number of doubles to read
+     * @return read doubles
+     * @exception IOException if data cannot be read
+     */
+    private static double[] readDoubles(final DataInput input, final int n) throws IOException {
+        final byte[] bytes = new byte[n * Double.BYTES];
+        input.readFully(bytes);
+        final double[] doubles = new double[n];
+        ByteBuffer.wrap(bytes).asDoubleBuffer().get(doubles);
+        return doubles;
+    }
+
+    /** Read the header part of a stored ephemeris.
+     * <p>
+     * The header is the part written by {@link #writeHeader(DataOutput)}.
+     * It is followed in the stream by {@link Header#getBoundariesSize()}
+     * boundaries and {@link Header#getCoefficientsSize()} coefficients.
+     * </p>
+     * @param input data input
+     * @param name name of the input (for error messages)
+     * @return header
+     * @exception IOException if data cannot be read
+     */
+    public static Header readHeader(final DataInput input, final String name) throws IOException {
+
+        final String       frameName     = input.readUTF();
+        final AbsoluteDate referenceDate = new AbsoluteDate(new TimeOffset(input.readLong(), input.readLong()));
+        final double       mu            = input.readDouble();
+        final int          nodes         = input.readInt();
+        final int          segments      = input.readInt();
+
+        // sizes must be consistent and compatible with buffers indexing
+        if (nodes < 2 || segments < 1 ||
+            (long) segments * COMPONENTS * nodes > Integer.MAX_VALUE) {
+            throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+        }
+
+        return new Header(name, frameName, referenceDate, mu, nodes, segments);
+
+    }
+
+    /** Save the ephemeris.
+     * @param output output stream (will be flushed but not closed)
+     * @exception IOException if data cannot be written
+     */
+    public void write(final OutputStream output) throws IOException {
+
+        final DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(output));
+
+        // format
+        dos.writeUTF(FORMAT);
+        dos.writeInt(VERSION);
+
+        // header, segments boundaries and coefficients
+        writeHeader(dos);
+        writeData(dos);
+
+        dos.flush();
+
+    }
+
+    /** Write the header part of the ephemeris.
+     * <p>
+     * The header contains the frame name (modified UTF-8 string), the reference date
+     * (seconds and attoseconds of the TAI offset as longs), the central attraction
+     * coefficient (double), the number of Chebyshev nodes (int) and the number of
+     * segments (int). It can be read back by {@link #readHeader(DataInput, String)}.
+     * </p>
+     * @param output data output
+     * @exception IOException if data cannot be written
+     */
+    public void writeHeader(final DataOutput output) throws IOException {
+        output.writeUTF(frame.getName());
+        output.writeLong(referenceDate.getSeconds());
+        output.writeLong(referenceDate.getAttoSeconds());
+        output.writeDouble(mu);
+        output.writeInt(nodes);
+        output.writeInt(segments);
+    }
+
+    /** Write the data part of the ephemeris.
+     * <p>
+     * The data contains the segments boundaries followed by the Chebyshev coefficients
+     * (doubles), as described in {@link #ChebyshevEphemeris(AttitudeProvider, Frame,
+     * double, DoubleBuffer, AbsoluteDate, int, DoubleBuffer)}.
+     * </p>
+     * @param output data output
+     * @exception IOException if data cannot be written
+     */
+    public void writeData(final DataOutput output) throws IOException {
+        for (int i = 0; i < boundaries.capacity(); ++i) {
+            output.writeDouble(boundaries.get(i));
+        }
+        for (int i = 0; i < coefficients.capacity(); ++i) {
+            output.writeDouble(coefficients.get(i));
+        }
+    }
+
+    /** Get the central attraction coefficient.
+     * @return central attraction coefficient (m³/s²)
+     */
+    public double getMu() {
+        return mu;
+    }
+
+    /** Get a read-only view of the segments boundaries.
+     * @return read-only view of the segments boundaries, as offsets from {@link #getMinDate()}
+     * @see #ChebyshevEphemeris(AttitudeProvider, Frame, double, DoubleBuffer, AbsoluteDate, int, DoubleBuffer)
+     */
+    public DoubleBuffer getBoundaries() {
+        return boundaries.asReadOnlyBuffer();
+    }
+
+    /** Get a read-only view of the Chebyshev coefficients.
+     * @return read-only view of the Chebyshev coefficients, for all segments and components
+     * @see #ChebyshevEphemeris(AttitudeProvider, Frame, double, DoubleBuffer, AbsoluteDate, int, DoubleBuffer)
+     */
+    public DoubleBuffer getCoefficients() {
+        return coefficients.asReadOnlyBuffer();
+    }
+
+    /** Get the number of segments.
+     * @return number of segments
+     */
+    public int getSegments() {
+        return segments;
+    }
+
+    /** Get the number of Chebyshev nodes per segment.
+     * @return number of Chebyshev nodes per segment (i.e. polynomials degree + 1)
+     */
+    public int getNodes() {
+        return nodes;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMinDate() {
+        return referenceDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getMaxDate() {
+        return maxDate;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Orbit propagateOrbit(final AbsoluteDate date) {
+        final double   t          = offset(date);
+        final int      segment    = segment(t);
+        final double[] pv         = new double[VELOCITY + 3];
+        final double[] derivative = new double[VELOCITY + 3];
+        evaluate(segment, t, 0, pv.length, pv, derivative);
+        final double scale = 2.0 / (boundaries.get(segment + 1) - boundaries.get(segment));
+        return new CartesianOrbit(new TimeStampedPVCoordinates(date,
+                                                               new Vector3D(pv[0], pv[1], pv[2]),
+                                                               new Vector3D(pv[3], pv[4], pv[5]),
+                                                               new Vector3D(scale * derivative[3],
+                                                                            scale * derivative[4],
+                                                                            scale * derivative[5])),
+                                  frame, mu);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected double getMass(final AbsoluteDate date) {
+        final double   t    = offset(date);
+        final double[] mass = new double[1];
+        evaluate(segment(t), t, MASS, 1, mass, null);
+        return mass[0];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsConcurrentEvaluation() {
+        return true;
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This implementation evaluates the polynomials directly, it is thread-safe.
+     * </p>
+     */
+    @Override
+    public TimeStampedPVCoordinates getPVCoordinates(final AbsoluteDate date, final Frame outputFrame) {
+        final double[] pv = new double[VELOCITY + 3];
+        getRawPVCoordinates(date, frame, pv);
+        final TimeStampedPVCoordinates raw = new TimeStampedPVCoordinates(date,
+                                                                          new Vector3D(pv[0], pv[1], pv[2]),
+                                                                          new Vector3D(pv[3], pv[4], pv[5]));
+        return outputFrame == frame ? raw : frame.getTransformTo(outputFrame, date).transformPVCoordinates(raw);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This implementation evaluates the polynomials directly, it is thread-safe.
+     * </p>
+     */
+    @Override
+    public Vector3D getPosition(final AbsoluteDate date, final Frame outputFrame) {
+        final double[] p = new double[3];
+        getRawPosition(date, frame, p);
+        final Vector3D raw = new Vector3D(p[0], p[1], p[2]);
+        return outputFrame == frame ? raw : frame.getStaticTransformTo(outputFrame, date).transformPosition(raw);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This implementation evaluates the polynomials directly, it is thread-safe
+     * and does not allocate any object when output frame is the ephemeris frame
+     * or when the frame transform is the same as in the previous call.
+     * </p>
+     */
+    @Override
+    public void getRawPVCoordinates(final AbsoluteDate date, final Frame outputFrame, final double[] pv) {
+        final double t = offset(date);
+        evaluate(segment(t), t, 0, VELOCITY + 3, pv, null);
+        getRawConverter().convertPV(frame, outputFrame, date, pv);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * This implementation evaluates the polynomials directly, it is thread-safe
+     * and does not allocate any object when output frame is the ephemeris frame
+     * or when the frame transform is the same as in the previous call.
+     * </p>
+     */
+    @Override
+    public void getRawPosition(final AbsoluteDate date, final Frame outputFrame, final double[] position) {
+        final double t = offset(date);
+        evaluate(segment(t), t, 0, 3, position, null);
+        getRawConverter().convertPosition(frame, outputFrame, date, position);
+    }
+
+    /** Compute offset of a date with respect to reference date, checking range.
+     * @param date date to check
+     * @return offset from reference date
+     */
+    private double offset(final AbsoluteDate date) {
+        final double t    = date.durationFrom(referenceDate);
+        final double last = boundaries.get(segments);
+        if (t < -EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE,
+                                      date, referenceDate, maxDate, -t);
+        }
+        if (t > last + EXTRAPOLATION_TOLERANCE) {
+            throw new OrekitException(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER,
+                                      date, referenceDate, maxDate, t - last);
+        }
+        return t;
+    }
+
+    /** Find the segment containing an offset.
+     * @param t offset from reference date
+     * @return index of the segment containing t (first or last segment if t is slightly out of range)
+     */
+    private int segment(final double t) {
+        // binary search for the last boundary lower than or equal to t
+        int low  = 0;
+        int high = segments - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (boundaries.get(mid) <= t) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+
+    /** Evaluate Chebyshev polynomials and their derivatives.
+     * @param segment index of the segment
+     * @param t offset from reference date
+     * @param first index of the first component to evaluate
+     * @param count number of components to evaluate
+     * @param values placeholder for the components values
+     * @param derivatives placeholder for the components derivatives with respect to
+     * the normalized abscissa in [-1, 1] (may be null if derivatives are not needed)
+     */
+    private void evaluate(final int segment, final double t, final int first, final int count,
+                          final double[] values, final double[] derivatives) {
+
+        // normalized abscissa
+        final double a = boundaries.get(segment);
+        final double b = boundaries.get(segment + 1);
+        final double x = (2 * t - (a + b)) / (b - a);
+
+        // order 0 and 1 terms
+        final int base = (segment * COMPONENTS + first) * nodes;
+        for (int c = 0; c < count; ++c) {
+            final int offset = base + c * nodes;
+            values[c] = coefficients.get(offset) + coefficients.get(offset + 1) * x;
+            if (derivatives != null) {
+                derivatives[c] = coefficients.get(offset + 1);
+            }
+        }
+
+        // higher order terms, using T(j+1) = 2 x T(j) - T(j-1) and T'(j+1) = 2 T(j) + 2 x T'(j) - T'(j-1)
+        double tPrev = 1;
+        double tCurr = x;
+        double dPrev = 0;
+        double dCurr = 1;
+        for (int j = 2; j < nodes; ++j) {
+            final double tNext = 2 * x * tCurr - tPrev;
+            final double dNext = 2 * tCurr + 2 * x * dCurr - dPrev;
+            for (int c = 0; c < count; ++c) {
+                final double coefficient = coefficients.get(base + c * nodes + j);
+                values[c] += coefficient * tNext;
+                if (derivatives != null) {
+                    derivatives[c] += coefficient * dNext;
+                }
+            }
+            tPrev = tCurr;
+            tCurr = tNext;
+            dPrev = dCurr;
+            dCurr = dNext;
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void resetInitialState(final SpacecraftState state) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void resetIntermediateState(final SpacecraftState state, final boolean forward) {
+        throw new OrekitException(OrekitMessages.NON_RESETABLE_STATE);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public SpacecraftState getInitialState() {
+        return basicPropagate(getMinDate());
+    }
+
+    /** Header of a stored ephemeris.
+     * @see ChebyshevEphemeris#writeHeader(DataOutput)
+     * @see ChebyshevEphemeris#readHeader(DataInput, String)
+     */
+    public static class Header {
+
+        /** Name of the input (for error messages). */
+        private final String name;
+
+        /** Name of the frame. */
+        private final String frameName;
+
+        /** Reference date. */
+        private final AbsoluteDate referenceDate;
+
+        /** Central attraction coefficient. */
+        private final double mu;
+
+        /** Number of Chebyshev nodes per segment. */
+        private final int nodes;
+
+        /** Number of segments. */
+        private final int segments;
+
+        /** Simple constructor.
+         * @param name name of the input (for error messages)
+         * @param frameName name of the frame
+         * @param referenceDate reference date
+         * @param mu central attraction coefficient
+         * @param nodes number of Chebyshev nodes per segment
+         * @param segments number of segments
+         */
+        private Header(final String name, final String frameName, final AbsoluteDate referenceDate,
+                       final double mu, final int nodes, final int segments) {
+            this.name          = name;
+            this.frameName     = frameName;
+            this.referenceDate = referenceDate;
+            this.mu            = mu;
+            this.nodes         = nodes;
+            this.segments      = segments;
+        }
+
+        /** Get the name of the frame.
+         * @return name of the frame
+         */
+        public String getFrameName() {
+            return frameName;
+        }
+
+        /** Get the reference date.
+         * @return reference date (i.e. first date of the range)
+         */
+        public AbsoluteDate getReferenceDate() {
+            return referenceDate;
+        }
+
+        /** Get the central attraction coefficient.
+         * @return central attraction coefficient (m³/s²)
+         */
+        public double getMu() {
+            return mu;
+        }
+
+        /** Get the number of Chebyshev nodes per segment.
+         * @return number of Chebyshev nodes per segment
+         */
+        public int getNodes() {
+            return nodes;
+        }
+
+        /** Get the number of segments.
+         * @return number of segments
+         */
+        public int getSegments() {
+            return segments;
+        }
+
+        /** Get the number of segments boundaries following the header.
+         * @return number of segments boundaries
+         */
+        public int getBoundariesSize() {
+            return segments + 1;
+        }
+
+        /** Get the number of Chebyshev coefficients following the boundaries.
+         * @return number of Chebyshev coefficients
+         */
+        public int getCoefficientsSize() {
+            return segments * COMPONENTS * nodes;
+        }
+
+        /** Check segments boundaries read after the header.
+         * <p>
+         * The boundaries must start at 0 and be finite and strictly increasing.
+         * </p>
+         * @param boundaries segments boundaries, as offsets from reference date
+         */
+        public void checkBoundaries(final DoubleBuffer boundaries) {
+            if (boundaries.capacity() != getBoundariesSize() || boundaries.get(0) != 0.0) {
+                throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+            }
+            for (int i = 1; i < boundaries.capacity(); ++i) {
+                final double boundary = boundaries.get(i);
+                if (!(boundary > boundaries.get(i - 1)) || Double.isInfinite(boundary)) {
+                    throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+                }
+            }
+        }
+
+        /** Build the ephemeris.
+         * <p>
+         * The buffers are used as is, see {@link ChebyshevEphemeris#ChebyshevEphemeris(AttitudeProvider,
+         * Frame, double, DoubleBuffer, AbsoluteDate, int, DoubleBuffer)}. The boundaries should have
+         * been {@link #checkBoundaries(DoubleBuffer) checked} beforehand.
+         * </p>
+         * @param frame frame in which the ephemeris was defined
+         * @param attitudeProvider attitude provider
+         * @param boundaries segments boundaries, as offsets from reference date
+         * @param coefficients Chebyshev coefficients, for all segments and components
+         * @return ephemeris
+         */
+        public ChebyshevEphemeris build(final Frame frame, final AttitudeProvider attitudeProvider,
+                                        final DoubleBuffer boundaries, final DoubleBuffer coefficients) {
+            return new ChebyshevEphemeris(attitudeProvider, frame, mu, boundaries, referenceDate,
+                                          nodes, coefficients);
+        }
+
+    }
+
+}
@@ -18,6 +18,7 @@ package org.orekit.propagation.analytical;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
 import org.hipparchus.exception.MathIllegalArgumentException;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.linear.RealMatrix;
 import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.AttitudeProvider;
@@ -39,6 +40,7 @@ import org.orekit.time.TimeInterpolator;
 import org.orekit.time.TimeStampedPair;
 import org.orekit.utils.DoubleArrayDictionary;
 import org.orekit.utils.ImmutableTimeStampedCache;
+import org.orekit.utils.PVCoordinates;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -83,6 +85,12 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
     /** Flag defining if states are defined using an orbit or an absolute position-velocity-acceleration. */
     private final boolean statesAreOrbitDefined;
 
+    /** Tabulated orbits, for raw coordinates (null if only full states can be interpolated). */
+    private final ImmutableTimeStampedCache<Orbit> orbitsCache;
+
+    /** Orbit interpolator, for raw coordinates (null if only full states can be interpolated). */
+    private final TimeInterpolator<Orbit> orbitInterpolator;
+
     /**
      * Legacy constructor with tabulated states and default Hermite interpolation.
      * <p>
@@ -228,6 +236,23 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
         }
         this.statesAreOrbitDefined = s0.isOrbitDefined();
 
+        // orbits-only interpolation, for raw coordinates
+        final Optional<TimeInterpolator<Orbit>> orbitOnly =
+                statesAreOrbitDefined && stateInterpolator instanceof SpacecraftStateInterpolator ?
+                ((SpacecraftStateInterpolator) stateInterpolator).getOrbitInterpolator() :
+                Optional.empty();
+        if (orbitOnly.isPresent()) {
+            final List<Orbit> orbits = new ArrayList<>(states.size());
+            for (final SpacecraftState state : states) {
+                orbits.add(state.getOrbit());
+            }
+            this.orbitsCache       = new ImmutableTimeStampedCache<>(stateInterpolator.getNbInterpolationPoints(), orbits);
+            this.orbitInterpolator = orbitOnly.get();
+        } else {
+            this.orbitsCache       = null;
+            this.orbitInterpolator = null;
+        }
+
         // Initialize initial state
         super.resetInitialState(getInitialState());
     }
@@ -364,9 +389,7 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
     @Override
     public SpacecraftState basicPropagate(final AbsoluteDate date) {
 
-        final AbsoluteDate centralDate =
-                AbstractTimeInterpolator.getCentralDate(date, statesCache, stateInterpolator.getExtrapolationThreshold());
-        final SpacecraftState  evaluatedState   = stateInterpolator.interpolate(date, statesCache.getNeighbors(centralDate));
+        final SpacecraftState  evaluatedState   = interpolate(date);
         final AttitudeProvider attitudeProvider = getAttitudeProvider();
         if (attitudeProvider == null) {
             return evaluatedState;
@@ -392,6 +415,86 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
         }
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * When the tabulated states are defined by orbits and interpolated by a {@link
+     * SpacecraftStateInterpolator} with an orbit interpolator, this implementation
+     * interpolates only the orbits, without attitude, mass or additional data.
+     * Otherwise, it interpolates the tabulated states without recomputing attitude.
+     * </p>
+     */
+    @Override
+    public void getRawPVCoordinates(final AbsoluteDate date, final Frame outputFrame, final double[] pv) {
+        final PVCoordinates raw;
+        final Frame         rawFrame;
+        if (orbitsCache == null) {
+            final SpacecraftState state = interpolate(date);
+            raw      = state.getPVCoordinates();
+            rawFrame = state.getFrame();
+        } else {
+            final Orbit orbit = interpolateOrbit(date);
+            raw      = orbit.getPVCoordinates();
+            rawFrame = orbit.getFrame();
+        }
+        final Vector3D p = raw.getPosition();
+        final Vector3D v = raw.getVelocity();
+        pv[0] = p.getX();
+        pv[1] = p.getY();
+        pv[2] = p.getZ();
+        pv[3] = v.getX();
+        pv[4] = v.getY();
+        pv[5] = v.getZ();
+        getRawConverter().convertPV(rawFrame, outputFrame, date, pv);
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * When the tabulated states are defined by orbits and interpolated by a {@link
+     * SpacecraftStateInterpolator} with an orbit interpolator, this implementation
+     * interpolates only the orbits, without attitude, mass or additional data.
+     * Otherwise, it interpolates the tabulated states without recomputing attitude.
+     * </p>
+     */
+    @Override
+    public void getRawPosition(final AbsoluteDate date, final Frame outputFrame, final double[] position) {
+        final Vector3D p;
+        final Frame    rawFrame;
+        if (orbitsCache == null) {
+            final SpacecraftState state = interpolate(date);
+            p        = state.getPosition();
+            rawFrame = state.getFrame();
+        } else {
+            final Orbit orbit = interpolateOrbit(date);
+            p        = orbit.getPosition();
+            rawFrame = orbit.getFrame();
+        }
+        position[0] = p.getX();
+        position[1] = p.getY();
+        position[2] = p.getZ();
+        getRawConverter().convertPosition(rawFrame, outputFrame, date, position);
+    }
+
+    /** Interpolate tabulated orbits only.
+     * @param date interpolation date
+     * @return interpolated orbit
+     */
+    private Orbit interpolateOrbit(final AbsoluteDate date) {
+        // use the same neighbors as full states interpolation
+        final AbsoluteDate centralDate =
+                AbstractTimeInterpolator.getCentralDate(date, statesCache, stateInterpolator.getExtrapolationThreshold());
+        return orbitInterpolator.interpolate(date, orbitsCache.getNeighbors(centralDate));
+    }
+
+    /** Interpolate tabulated states.
+     * @param date interpolation date
+     * @return interpolated state, with interpolated attitude
+     */
+    private SpacecraftState interpolate(final AbsoluteDate date) {
+        final AbsoluteDate centralDate =
+                AbstractTimeInterpolator.getCentralDate(date, statesCache, stateInterpolator.getExtrapolationThreshold());
+        return stateInterpolator.interpolate(date, statesCache.getNeighbors(centralDate));
+    }
+
     /** {@inheritDoc} */
     public Orbit propagateOrbit(final AbsoluteDate date) {
         return basicPropagate(date).getOrbit();
@@ -402,6 +505,12 @@ public class Ephemeris extends AbstractAnalyticalPropagator implements BoundedPr
         return basicPropagate(date).getMass();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsConcurrentEvaluation() {
+        return true;
+    }
+
     /**
      * Try (and fail) to reset the initial state.
      * <p>
@@ -17,9 +17,14 @@
 package org.orekit.propagation.analytical;
 
 import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.SinCos;
 import org.orekit.attitudes.Attitude;
 import org.orekit.attitudes.AttitudeProvider;
 import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.KeplerianAnomalyUtility;
+import org.orekit.orbits.KeplerianOrbit;
 import org.orekit.orbits.Orbit;
 import org.orekit.orbits.OrbitType;
 import org.orekit.orbits.PositionAngleType;
@@ -39,6 +44,9 @@ public class KeplerianPropagator extends AbstractAnalyticalPropagator {
     /** All states. */
     private TimeSpanMap<SpacecraftState> states;
 
+    /** Elements of the last orbit used for raw coordinates. */
+    private volatile RawElements rawElements;
+
     /** Build a propagator from orbit only.
      * <p>The central attraction coefficient μ is set to the same value used
      * for the initial orbit definition. Mass and attitude provider are set to
@@ -191,11 +199,66 @@ public class KeplerianPropagator extends AbstractAnalyticalPropagator {
 
     }
 
+    /** {@inheritDoc}
+     * <p>
+     * For elliptic orbits, this implementation solves Kepler equation and
+     * computes the coordinates directly in the array, without building any
+     * object as long as the frame transform is the same as in the previous call.
+     * </p>
+     */
+    @Override
+    public void getRawPVCoordinates(final AbsoluteDate date, final Frame frame, final double[] pv) {
+        final RawElements elements = getRawElements(states.get(date).getOrbit());
+        if (elements.elliptic) {
+            elements.compute(date, pv, true);
+            getRawConverter().convertPV(elements.frame, frame, date, pv);
+        } else {
+            super.getRawPVCoordinates(date, frame, pv);
+        }
+    }
+
+    /** {@inheritDoc}
+     * <p>
+     * For elliptic orbits, this implementation solves Kepler equation and
+     * computes the position directly in the array, without building any
+     * object as long as the frame transform is the same as in the previous call.
+     * </p>
+     */
+    @Override
+    public void getRawPosition(final AbsoluteDate date, final Frame frame, final double[] position) {
+        final RawElements elements = getRawElements(states.get(date).getOrbit());
+        if (elements.elliptic) {
+            elements.compute(date, position, false);
+            getRawConverter().convertPosition(elements.frame, frame, date, position);
+        } else {
+            super.getRawPosition(date, frame, position);
+        }
+    }
+
+    /** Get the elements for raw coordinates.
+     * @param orbit reference orbit
+     * @return elements of the reference orbit
+     */
+    private RawElements getRawElements(final Orbit orbit) {
+        RawElements elements = rawElements;
+        if (elements == null || elements.orbit != orbit) {
+            elements    = new RawElements(orbit);
+            rawElements = elements;
+        }
+        return elements;
+    }
+
     /** {@inheritDoc}*/
     protected double getMass(final AbsoluteDate date) {
         return states.get(date).getMass();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected boolean supportsConcurrentEvaluation() {
+        return true;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected AbstractMatricesHarvester createHarvester(final String stmName, final RealMatrix initialStm,
@@ -208,4 +271,103 @@ public class KeplerianPropagator extends AbstractAnalyticalPropagator {
         return harvester;
     }
 
+    /** Keplerian elements of a reference orbit, for raw coordinates. */
+    private static class RawElements {
+
+        /** Reference orbit. */
+        private final Orbit orbit;
+
+        /** Frame of the reference orbit. */
+        private final Frame frame;
+
+        /** Indicator for elliptic orbits (raw coordinates are computed only for them). */
+        private final boolean elliptic;
+
+        /** Semi-major axis. */
+        private final double a;
+
+        /** Eccentricity. */
+        private final double e;
+
+        /** √(1 - e²). */
+        private final double b;
+
+        /** Mean motion. */
+        private final double n;
+
+        /** Mean anomaly at reference date. */
+        private final double m0;
+
+        /** √(μ a). */
+        private final double sqrtMuA;
+
+        /** Unit vector towards periapsis. */
+        private final double[] p;
+
+        /** Unit vector in orbital plane, 90° ahead of periapsis. */
+        private final double[] q;
+
+        /** Simple constructor.
+         * @param orbit reference orbit
+         */
+        RawElements(final Orbit orbit) {
+            final KeplerianOrbit keplerian = (KeplerianOrbit) OrbitType.KEPLERIAN.convertType(orbit);
+            this.orbit    = orbit;
+            this.frame    = orbit.getFrame();
+            this.a        = keplerian.getA();
+            this.e        = keplerian.getE();
+            this.elliptic = e < 1.0;
+            this.b        = elliptic ? FastMath.sqrt((1 - e) * (1 + e)) : Double.NaN;
+            this.n        = elliptic ? FastMath.sqrt(orbit.getMu() / a) / a : Double.NaN;
+            this.m0       = keplerian.getMeanAnomaly();
+            this.sqrtMuA  = elliptic ? FastMath.sqrt(orbit.getMu() * a) : Double.NaN;
+
+            final SinCos scI    = FastMath.sinCos(keplerian.getI());
+            final SinCos scPa   = FastMath.sinCos(keplerian.getPerigeeArgument());
+            final SinCos scRaan = FastMath.sinCos(keplerian.getRightAscensionOfAscendingNode());
+            final double crcp   = scRaan.cos() * scPa.cos();
+            final double crsp   = scRaan.cos() * scPa.sin();
+            final double srcp   = scRaan.sin() * scPa.cos();
+            final double srsp   = scRaan.sin() * scPa.sin();
+            this.p = new double[] {
+                crcp - scI.cos() * srsp, srcp + scI.cos() * crsp, scI.sin() * scPa.sin()
+            };
+            this.q = new double[] {
+                -crsp - scI.cos() * srcp, -srsp + scI.cos() * crcp, scI.sin() * scPa.cos()
+            };
+        }
+
+        /** Compute raw coordinates.
+         * @param date target date
+         * @param pv placeholder for position (elements 0 to 2) and velocity (elements 3 to 5)
+         * @param withVelocity if true, compute velocity too
+         */
+        void compute(final AbsoluteDate date, final double[] pv, final boolean withVelocity) {
+
+            // solve Kepler equation
+            final double eA   = KeplerianAnomalyUtility.ellipticMeanToEccentric(e, m0 + n * date.durationFrom(orbit.getDate()));
+            final double cosE = FastMath.cos(eA);
+            final double sinE = FastMath.sin(eA);
+
+            // position in orbital plane
+            final double x = a * (cosE - e);
+            final double y = a * b * sinE;
+            pv[0] = x * p[0] + y * q[0];
+            pv[1] = x * p[1] + y * q[1];
+            pv[2] = x * p[2] + y * q[2];
+
+            if (withVelocity) {
+                // velocity in orbital plane
+                final double factor = sqrtMuA / (a * (1 - e * cosE));
+                final double xDot   = -factor * sinE;
+                final double yDot   = factor * b * cosE;
+                pv[3] = xDot * p[0] + yDot * q[0];
+                pv[4] = xDot * p[1] + yDot * q[1];
+                pv[5] = xDot * p[2] + yDot * q[2];
+            }
+
+        }
+
+    }
+
 }
@@ -0,0 +1,148 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.orekit.frames.Frame;
+import org.orekit.frames.KinematicTransform;
+import org.orekit.time.AbsoluteDate;
+
+/** Converter for raw position-velocity arrays between frames.
+ * <p>
+ * The last transform used is cached, together with its rotation matrix,
+ * so converting several arrays at the same date between the same frames
+ * does not build any object. The converter can be shared between threads.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+class RawFrameConverter {
+
+    /** Last transform used. */
+    private volatile CachedTransform cached;
+
+    /** Convert position-velocity coordinates in place.
+     * @param from frame in which coordinates are defined
+     * @param to frame in which coordinates must be converted
+     * @param date date of the coordinates
+     * @param pv position (elements 0 to 2) and velocity (elements 3 to 5)
+     */
+    void convertPV(final Frame from, final Frame to, final AbsoluteDate date, final double[] pv) {
+        if (from != to) {
+            getTransform(from, to, date).convert(pv, true);
+        }
+    }
+
+    /** Convert position in place.
+     * @param from frame in which position is defined
+     * @param to frame in which position must be converted
+     * @param date date of the position
+     * @param position position (elements 0 to 2)
+     */
+    void convertPosition(final Frame from, final Frame to, final AbsoluteDate date, final double[] position) {
+        if (from != to) {
+            getTransform(from, to, date).convert(position, false);
+        }
+    }
+
+    /** Get the transform between two frames, reusing the cached one if possible.
+     * @param from frame in which coordinates are defined
+     * @param to frame in which coordinates must be converted
+     * @param date date of the coordinates
+     * @return transform between frames
+     */
+    private CachedTransform getTransform(final Frame from, final Frame to, final AbsoluteDate date) {
+        CachedTransform transform = cached;
+        if (transform == null || transform.from != from || transform.to != to || !transform.date.equals(date)) {
+            transform = new CachedTransform(from, to, date);
+            cached    = transform;
+        }
+        return transform;
+    }
+
+    /** Transform between two frames at one date. */
+    private static class CachedTransform {
+
+        /** Frame in which coordinates are defined. */
+        private final Frame from;
+
+        /** Frame in which coordinates must be converted. */
+        private final Frame to;
+
+        /** Date of the transform. */
+        private final AbsoluteDate date;
+
+        /** Rotation matrix. */
+        private final double[][] m;
+
+        /** Translation. */
+        private final double[] t;
+
+        /** Velocity. */
+        private final double[] v;
+
+        /** Rotation rate. */
+        private final double[] w;
+
+        /** Simple constructor.
+         * @param from frame in which coordinates are defined
+         * @param to frame in which coordinates must be converted
+         * @param date date of the transform
+         */
+        CachedTransform(final Frame from, final Frame to, final AbsoluteDate date) {
+            final KinematicTransform transform = from.getKinematicTransformTo(to, date);
+            this.from = from;
+            this.to   = to;
+            this.date = date;
+            this.m    = transform.getRotation().getMatrix();
+            this.t    = transform.getTranslation().toArray();
+            this.v    = transform.getVelocity().toArray();
+            this.w    = transform.getRotationRate().toArray();
+        }
+
+        /** Convert coordinates in place.
+         * @param pv position (elements 0 to 2) and velocity (elements 3 to 5)
+         * @param withVelocity if true, convert velocity too
+         * @see KinematicTransform#transformOnlyPV(org.orekit.utils.PVCoordinates)
+         */
+        void convert(final double[] pv, final boolean withVelocity) {
+
+            // position
+            final double x  = pv[0] + t[0];
+            final double y  = pv[1] + t[1];
+            final double z  = pv[2] + t[2];
+            final double px = m[0][0] * x + m[0][1] * y + m[0][2] * z;
+            final double py = m[1][0] * x + m[1][1] * y + m[1][2] * z;
+            final double pz = m[2][0] * x + m[2][1] * y + m[2][2] * z;
+            pv[0] = px;
+            pv[1] = py;
+            pv[2] = pz;
+
+            if (withVelocity) {
+                final double vx = pv[3] + v[0];
+                final double vy = pv[4] + v[1];
+                final double vz = pv[5] + v[2];
+                pv[3] = m[0][0] * vx + m[0][1] * vy + m[0][2] * vz - (w[1] * pz - w[2] * py);
+                pv[4] = m[1][0] * vx + m[1][1] * vy + m[1][2] * vz - (w[2] * px - w[0] * pz);
+                pv[5] = m[2][0] * vx + m[2][1] * vy + m[2][2] * vz - (w[0] * py - w[1] * px);
+            }
+
+        }
+
+    }
+
+}
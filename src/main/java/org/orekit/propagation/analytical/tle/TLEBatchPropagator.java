@@ -0,0 +1,457 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical.tle;
+
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.MathUtils;
+import org.orekit.annotation.DefaultDataContext;
+import org.orekit.data.DataContext;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/** Batch SGP4/SDP4 engine propagating many TLEs at once.
+ * <p>
+ * This class is intended for catalog-wide screening, where tens of thousands
+ * of TLEs must be propagated to a common date. Contrary to {@link TLEPropagator},
+ * it does not build any {@link org.orekit.propagation.SpacecraftState spacecraft state},
+ * {@link org.orekit.orbits.Orbit orbit} or attitude: the SGP4 model parameters
+ * for all near-Earth satellites are stored in primitive arrays (one array per
+ * parameter, indexed by satellite), and positions and velocities in TEME frame
+ * are written directly into caller-supplied arrays. Propagation of near-Earth
+ * satellites therefore does not allocate any object.
+ * </p>
+ * <p>
+ * Deep-space satellites (i.e. with period greater than 225 minutes) and TLEs
+ * with time-dependent B* are delegated to regular {@link TLEPropagator} instances,
+ * as the SDP4 model is much more involved and these satellites are a small
+ * fraction of typical catalogs.
+ * </p>
+ * <p>
+ * Results are consistent with {@link TLEPropagator#getPVCoordinates(AbsoluteDate)}
+ * up to a few ulps.
+ * </p>
+ * <p>
+ * Instances of this class can be shared between threads, provided each thread
+ * propagates a separate range of satellites indices (see {@link #propagate(AbsoluteDate,
+ * int, int, double[], double[])}).
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+public class TLEBatchPropagator {
+
+    /** Number of satellites. */
+    private final int size;
+
+    /** TLE epochs. */
+    private final AbsoluteDate[] epochs;
+
+    /** Fallback propagators (null for satellites handled in batch). */
+    private final TLEPropagator[] fallback;
+
+    /** Indicator for perigee less than 220 km. */
+    private final boolean[] lessThan220;
+
+    // CHECKSTYLE: stop JavadocVariable check
+    private final double[] meanAnomaly;
+    private final double[] perigeeArgument;
+    private final double[] raan;
+    private final double[] e0;
+    private final double[] i0;
+    private final double[] bStar;
+    private final double[] a0dp;
+    private final double[] xn0dp;
+    private final double[] cosi0;
+    private final double[] sini0;
+    private final double[] xmdot;
+    private final double[] omgdot;
+    private final double[] xnodot;
+    private final double[] xnodcf;
+    private final double[] t2cof;
+    private final double[] eta;
+    private final double[] c1;
+    private final double[] c4;
+    private final double[] c5;
+    private final double[] delM0;
+    private final double[] d2;
+    private final double[] d3;
+    private final double[] d4;
+    private final double[] t3cof;
+    private final double[] t4cof;
+    private final double[] t5cof;
+    private final double[] sinM0;
+    private final double[] omgcof;
+    private final double[] xmcof;
+    // CHECKSTYLE: resume JavadocVariable check
+
+    /** Simple constructor.
+     *
+     * <p>This constructor uses the {@link DataContext#getDefault() default data context}.
+     *
+     * @param tles TLEs to propagate
+     * @see #TLEBatchPropagator(List, Frame)
+     */
+    @DefaultDataContext
+    public TLEBatchPropagator(final List<TLE> tles) {
+        this(tles, DataContext.getDefault().getFrames().getTEME());
+    }
+
+    /** Simple constructor.
+     * @param tles TLEs to propagate
+     * @param teme the TEME frame to use for fallback propagators
+     */
+    public TLEBatchPropagator(final List<TLE> tles, final Frame teme) {
+
+        this.size            = tles.size();
+        this.epochs          = new AbsoluteDate[size];
+        this.fallback        = new TLEPropagator[size];
+        this.lessThan220     = new boolean[size];
+        this.meanAnomaly     = new double[size];
+        this.perigeeArgument = new double[size];
+        this.raan            = new double[size];
+        this.e0              = new double[size];
+        this.i0              = new double[size];
+        this.bStar           = new double[size];
+        this.a0dp            = new double[size];
+        this.xn0dp           = new double[size];
+        this.cosi0           = new double[size];
+        this.sini0           = new double[size];
+        this.xmdot           = new double[size];
+        this.omgdot          = new double[size];
+        this.xnodot          = new double[size];
+        this.xnodcf          = new double[size];
+        this.t2cof           = new double[size];
+        this.eta             = new double[size];
+        this.c1              = new double[size];
+        this.c4              = new double[size];
+        this.c5              = new double[size];
+        this.delM0           = new double[size];
+        this.d2              = new double[size];
+        this.d3              = new double[size];
+        this.d4              = new double[size];
+        this.t3cof           = new double[size];
+        this.t4cof           = new double[size];
+        this.t5cof           = new double[size];
+        this.sinM0           = new double[size];
+        this.omgcof          = new double[size];
+        this.xmcof           = new double[size];
+
+        for (int k = 0; k < size; ++k) {
+
+            final TLE           tle        = tles.get(k);
+            final TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle, teme);
+            epochs[k] = tle.getDate();
+
+            if (!(propagator instanceof SGP4) || tle.getParametersDrivers().get(0).getNbOfValues() > 1) {
+                // this satellite is not handled in batch
+                fallback[k] = propagator;
+                continue;
+            }
+
+            // common parameters, already initialized by the regular propagator
+            meanAnomaly[k]     = tle.getMeanAnomaly();
+            perigeeArgument[k] = tle.getPerigeeArgument();
+            raan[k]            = tle.getRaan();
+            e0[k]              = tle.getE();
+            i0[k]              = tle.getI();
+            bStar[k]           = tle.getBStar();
+            a0dp[k]            = propagator.a0dp;
+            xn0dp[k]           = propagator.xn0dp;
+            cosi0[k]           = propagator.cosi0;
+            sini0[k]           = propagator.sini0;
+            xmdot[k]           = propagator.xmdot;
+            omgdot[k]          = propagator.omgdot;
+            xnodot[k]          = propagator.xnodot;
+            xnodcf[k]          = propagator.xnodcf;
+            t2cof[k]           = propagator.t2cof;
+            eta[k]             = propagator.eta;
+            c1[k]              = propagator.c1;
+            c4[k]              = propagator.c4;
+
+            // SGP4 specific parameters, same computation as in SGP4.sxpInitialize
+            lessThan220[k] = propagator.perige < 220;
+            if (!lessThan220[k]) {
+                final double sM0  = FastMath.sin(meanAnomaly[k]);
+                final double cM0  = FastMath.cos(meanAnomaly[k]);
+                final double c1sq = c1[k] * c1[k];
+                double dm0 = 1.0 + eta[k] * cM0;
+                dm0 *= dm0 * dm0;
+                delM0[k] = dm0;
+                d2[k] = 4 * a0dp[k] * propagator.tsi * c1sq;
+                final double temp = d2[k] * propagator.tsi * c1[k] / 3.0;
+                d3[k] = (17 * a0dp[k] + propagator.s4) * temp;
+                d4[k] = 0.5 * temp * a0dp[k] * propagator.tsi * (221 * a0dp[k] + 31 * propagator.s4) * c1[k];
+                t3cof[k] = d2[k] + 2 * c1sq;
+                t4cof[k] = 0.25 * (3 * d3[k] + c1[k] * (12 * d2[k] + 10 * c1sq));
+                t5cof[k] = 0.2 * (3 * d4[k] + 12 * c1[k] * d3[k] + 6 * d2[k] * d2[k] + 15 * c1sq * (2 * d2[k] + c1sq));
+                sinM0[k] = sM0;
+                if (e0[k] < 1e-4) {
+                    omgcof[k] = 0.;
+                    xmcof[k]  = 0.;
+                } else  {
+                    final double c3 = propagator.coef * propagator.tsi * TLEConstants.A3OVK2 * xn0dp[k] *
+                                      TLEConstants.NORMALIZED_EQUATORIAL_RADIUS * sini0[k] / e0[k];
+                    xmcof[k]  = -TLEConstants.TWO_THIRD * propagator.coef * bStar[k] *
+                                TLEConstants.NORMALIZED_EQUATORIAL_RADIUS / propagator.eeta;
+                    omgcof[k] = bStar[k] * c3 * FastMath.cos(perigeeArgument[k]);
+                }
+            }
+            c5[k] = 2 * propagator.coef1 * a0dp[k] * propagator.beta02 *
+                    (1 + 2.75 * (propagator.etasq + propagator.eeta) + propagator.eeta * propagator.etasq);
+
+        }
+
+    }
+
+    /** Get the number of satellites.
+     * @return number of satellites
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /** Check if a satellite is propagated in batch or delegated to a regular propagator.
+     * @param index index of the satellite
+     * @return true if satellite is propagated in batch
+     */
+    public boolean isBatched(final int index) {
+        return fallback[index] == null;
+    }
+
+    /** Propagate all satellites.
+     * @param date target date
+     * @param positions array where positions in TEME should be stored (m),
+     * it must contain at least 3 * {@link #getSize()} elements, position of
+     * satellite k is stored in elements 3k, 3k+1 and 3k+2
+     * @param velocities array where velocities in TEME should be stored (m/s),
+     * it must contain at least 3 * {@link #getSize()} elements, velocity of
+     * satellite k is stored in elements 3k, 3k+1 and 3k+2
+     */
+    public void propagate(final AbsoluteDate date, final double[] positions, final double[] velocities) {
+        propagate(date, 0, size, positions, velocities);
+    }
+
+    /** Propagate a range of satellites.
+     * <p>
+     * This method can be called concurrently from several threads, as long
+     * as the satellites ranges do not overlap.
+     * </p>
+     * @param date target date
+     * @param from index of the first satellite to propagate (included)
+     * @param to index of the last satellite to propagate (excluded)
+     * @param positions array where positions in TEME should be stored (m),
+     * it must contain at least 3 * {@link #getSize()} elements, position of
+     * satellite k is stored in elements 3k, 3k+1 and 3k+2
+     * @param velocities array where velocities in TEME should be stored (m/s),
+     * it must contain at least 3 * {@link #getSize()} elements, velocity of
+     * satellite k is stored in elements 3k, 3k+1 and 3k+2
+     */
+    public void propagate(final AbsoluteDate date, final int from, final int to,
+                          final double[] positions, final double[] velocities) {
+        for (int k = from; k < to; ++k) {
+            if (fallback[k] == null) {
+                propagateSGP4(k, date.durationFrom(epochs[k]) / 60.0, positions, velocities);
+            } else {
+                final PVCoordinates pv = fallback[k].getPVCoordinates(date);
+                final Vector3D      p  = pv.getPosition();
+                final Vector3D      v  = pv.getVelocity();
+                positions[3 * k]      = p.getX();
+                positions[3 * k + 1]  = p.getY();
+                positions[3 * k + 2]  = p.getZ();
+                velocities[3 * k]     = v.getX();
+                velocities[3 * k + 1] = v.getY();
+                velocities[3 * k + 2] = v.getZ();
+            }
+        }
+    }
+
+    /** Propagate one near-Earth satellite.
+     * <p>
+     * This method merges {@link SGP4#sxpPropagate(double)} and
+     * {@link TLEPropagator#getPVCoordinates(AbsoluteDate)}, using
+     * local variables instead of instance fields.
+     * </p>
+     * @param k index of the satellite
+     * @param tSince the offset from initial epoch (min)
+     * @param positions array where positions should be stored
+     * @param velocities array where velocities should be stored
+     */
+    private void propagateSGP4(final int k, final double tSince,
+                               final double[] positions, final double[] velocities) {
+
+        // Update for secular gravity and atmospheric drag.
+        final double xmdf   = meanAnomaly[k] + xmdot[k] * tSince;
+        final double omgadf = perigeeArgument[k] + omgdot[k] * tSince;
+        final double xn0ddf = raan[k] + xnodot[k] * tSince;
+        double omega = omgadf;
+        double xmp   = xmdf;
+        final double tsq   = tSince * tSince;
+        final double xnode = xn0ddf + xnodcf[k] * tsq;
+        double tempa = 1 - c1[k] * tSince;
+        double tempe = bStar[k] * c4[k] * tSince;
+        double templ = t2cof[k] * tsq;
+
+        if (!lessThan220[k]) {
+            final double delomg = omgcof[k] * tSince;
+            double delm = 1. + eta[k] * FastMath.cos(xmdf);
+            delm = xmcof[k] * (delm * delm * delm - delM0[k]);
+            final double temp = delomg + delm;
+            xmp   = xmdf + temp;
+            omega = omgadf - temp;
+            final double tcube = tsq * tSince;
+            final double tfour = tSince * tcube;
+            tempa = tempa - d2[k] * tsq - d3[k] * tcube - d4[k] * tfour;
+            tempe = tempe + bStar[k] * c5[k] * (FastMath.sin(xmp) - sinM0[k]);
+            templ = templ + t3cof[k] * tcube + tfour * (t4cof[k] + tSince * t5cof[k]);
+        }
+
+        final double a = a0dp[k] * tempa * tempa;
+        double e = e0[k] - tempe;
+
+        // A highly arbitrary lower limit on e,  of 1e-6:
+        if (e < 1e-6) {
+            e = 1e-6;
+        }
+
+        final double xl = xmp + omega + xnode + xn0dp[k] * templ;
+        final double i  = i0[k];
+        final double ci = cosi0[k];
+        final double si = sini0[k];
+
+        // Long period periodics
+        final double axn = e * FastMath.cos(omega);
+        double temp = 1.0 / (a * (1.0 - e * e));
+        final double xlcof = 0.125 * TLEConstants.A3OVK2 * si * (3.0 + 5.0 * ci) / (1.0 + ci);
+        final double aycof = 0.25 * TLEConstants.A3OVK2 * si;
+        final double xll = temp * xlcof * axn;
+        final double aynl = temp * aycof;
+        final double xlt = xl + xll;
+        final double ayn = e * FastMath.sin(omega) + aynl;
+        final double elsq = axn * axn + ayn * ayn;
+        final double capu = MathUtils.normalizeAngle(xlt - xnode, FastMath.PI);
+        double epw = capu;
+        double ecosE = 0;
+        double esinE = 0;
+        double sinEPW = 0;
+        double cosEPW = 0;
+
+        // Dundee changes:  items dependent on cosio get recomputed:
+        final double cosi0Sq = ci * ci;
+        final double x3thm1 = 3.0 * cosi0Sq - 1.0;
+        final double x1mth2 = 1.0 - cosi0Sq;
+        final double x7thm1 = 7.0 * cosi0Sq - 1.0;
+
+        if (e > (1 - 1e-6)) {
+            throw new OrekitException(OrekitMessages.TOO_LARGE_ECCENTRICITY_FOR_PROPAGATION_MODEL, e);
+        }
+
+        // Solve Kepler's' Equation.
+        final double newtonRaphsonEpsilon = 1e-12;
+        for (int j = 0; j < 10; j++) {
+
+            boolean doSecondOrderNewtonRaphson = true;
+
+            sinEPW = FastMath.sin(epw);
+            cosEPW = FastMath.cos(epw);
+            ecosE = axn * cosEPW + ayn * sinEPW;
+            esinE = axn * sinEPW - ayn * cosEPW;
+            final double f = capu - epw + esinE;
+            if (FastMath.abs(f) < newtonRaphsonEpsilon) {
+                break;
+            }
+            final double fdot = 1.0 - ecosE;
+            double delta_epw = f / fdot;
+            if (j == 0) {
+                final double maxNewtonRaphson = 1.25 * FastMath.abs(e);
+                doSecondOrderNewtonRaphson = false;
+                if (delta_epw > maxNewtonRaphson) {
+                    delta_epw = maxNewtonRaphson;
+                } else if (delta_epw < -maxNewtonRaphson) {
+                    delta_epw = -maxNewtonRaphson;
+                } else {
+                    doSecondOrderNewtonRaphson = true;
+                }
+            }
+            if (doSecondOrderNewtonRaphson) {
+                delta_epw = f / (fdot + 0.5 * esinE * delta_epw);
+            }
+            epw += delta_epw;
+        }
+
+        // Short period preliminary quantities
+        temp = 1.0 - elsq;
+        final double pl = a * temp;
+        final double r = a * (1.0 - ecosE);
+        double temp2 = a / r;
+        final double betal = FastMath.sqrt(temp);
+        temp = esinE / (1.0 + betal);
+        final double cosu = temp2 * (cosEPW - axn + ayn * temp);
+        final double sinu = temp2 * (sinEPW - ayn - axn * temp);
+        final double u = FastMath.atan2(sinu, cosu);
+        final double sin2u = 2.0 * sinu * cosu;
+        final double cos2u = 2.0 * cosu * cosu - 1.0;
+        final double temp1 = TLEConstants.CK2 / pl;
+        temp2 = temp1 / pl;
+
+        // Update for short periodics
+        final double rk = r * (1.0 - 1.5 * temp2 * betal * x3thm1) + 0.5 * temp1 * x1mth2 * cos2u;
+        final double uk = u - 0.25 * temp2 * x7thm1 * sin2u;
+        final double xnodek = xnode + 1.5 * temp2 * ci * sin2u;
+        final double xinck = i + 1.5 * temp2 * ci * si * cos2u;
+
+        // Orientation vectors
+        final double sinuk  = FastMath.sin(uk);
+        final double cosuk  = FastMath.cos(uk);
+        final double sinik  = FastMath.sin(xinck);
+        final double cosik  = FastMath.cos(xinck);
+        final double sinnok = FastMath.sin(xnodek);
+        final double cosnok = FastMath.cos(xnodek);
+        final double xmx = -sinnok * cosik;
+        final double xmy = cosnok * cosik;
+        final double ux  = xmx * sinuk + cosnok * cosuk;
+        final double uy  = xmy * sinuk + sinnok * cosuk;
+        final double uz  = sinik * sinuk;
+
+        // Position and velocity
+        final double cr = 1000 * rk * TLEConstants.EARTH_RADIUS;
+        positions[3 * k]     = cr * ux;
+        positions[3 * k + 1] = cr * uy;
+        positions[3 * k + 2] = cr * uz;
+
+        final double rdot   = TLEConstants.XKE * FastMath.sqrt(a) * esinE / r;
+        final double rfdot  = TLEConstants.XKE * FastMath.sqrt(pl) / r;
+        final double xn     = TLEConstants.XKE / (a * FastMath.sqrt(a));
+        final double rdotk  = rdot - xn * temp1 * x1mth2 * sin2u;
+        final double rfdotk = rfdot + xn * temp1 * (x1mth2 * cos2u + 1.5 * x3thm1);
+        final double vx     = xmx * cosuk - cosnok * sinuk;
+        final double vy     = xmy * cosuk - sinnok * sinuk;
+        final double vz     = sinik * cosuk;
+
+        final double cv = 1000.0 * TLEConstants.EARTH_RADIUS / 60.0;
+        velocities[3 * k]     = cv * (rdotk * ux + rfdotk * vx);
+        velocities[3 * k + 1] = cv * (rdotk * uy + rfdotk * vy);
+        velocities[3 * k + 2] = cv * (rdotk * uz + rfdotk * vz);
+
+    }
+
+}
@@ -0,0 +1,343 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.covariance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.hipparchus.random.CorrelatedRandomVectorGenerator;
+import org.hipparchus.random.GaussianRandomGenerator;
+import org.hipparchus.random.RandomGenerator;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.Propagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.sampling.OrekitStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+
+/** Monte-Carlo propagation of an ensemble of states sampled from a covariance.
+ * <p>
+ * The initial states of the ensemble are drawn from a Gaussian distribution
+ * centered on a nominal state, with a {@link StateCovariance state covariance}.
+ * Sampling is performed in the orbit type and position angle of the covariance
+ * (after conversion to the nominal orbit frame if needed), so for example a
+ * covariance in Keplerian elements leads to samples that follow the curvature
+ * of the orbit. All samples are drawn at construction, so the ensemble only
+ * depends on the random generator, not on the threads scheduling.
+ * </p>
+ * <p>
+ * Samples are propagated concurrently in a {@link ForkJoinPool fork-join pool}.
+ * Force models, maneuvers and atmosphere models generally hold mutable caches
+ * and cannot be shared between threads, so instead of cloning them, the ensemble
+ * uses a user-provided factory to build one propagator per worker. Each worker
+ * then propagates its share of the samples sequentially, {@link
+ * Propagator#resetInitialState(SpacecraftState) resetting} its propagator for
+ * each sample. The factory is called only from the thread that calls {@link
+ * #propagate(ForkJoinPool, List)}.
+ * </p>
+ * <p>
+ * Trajectories are not stored. Samples are propagated in successive batches of
+ * a fixed number of samples per worker: as each sample reaches an output date,
+ * its Cartesian position-velocity is buffered in the {@link EnsembleStatistics
+ * statistics} for this date, and once all samples of the batch have been
+ * propagated, statistics (mean, covariance and percentiles) are updated in sample
+ * index order and the buffers are cleared. The results are therefore reproducible
+ * regardless of the number of threads and of their scheduling. The buffers hold
+ * six doubles per sample of the current batch and output date, so memory does
+ * not depend on the total number of samples.
+ * </p>
+ * <p>
+ * The attitude of each sample is recomputed from its perturbed orbit, using the
+ * attitude provider of the propagator, it is not copied from the nominal state.
+ * </p>
+ * @see EnsembleStatistics
+ * @author agent
+ * @since 14.0
+ */
+public class EnsemblePropagator {
+
+    /** Threshold for covariance matrix rank determination. */
+    private static final double SMALL = 1.0e-12;
+
+    /** Number of samples per worker in each batch. */
+    private static final int SAMPLES_PER_WORKER = 16;
+
+    /** Factory for propagators. */
+    private final Supplier<? extends Propagator> factory;
+
+    /** Nominal state. */
+    private final SpacecraftState nominal;
+
+    /** Orbit type used for sampling. */
+    private final OrbitType orbitType;
+
+    /** Position angle used for sampling. */
+    private final PositionAngleType angleType;
+
+    /** Nominal orbit parameters. */
+    private final double[] nominalParameters;
+
+    /** Deviations of the samples with respect to nominal orbit parameters. */
+    private final double[][] deviations;
+
+    /** Percentile levels. */
+    private final double[] levels;
+
+    /** Simple constructor.
+     * @param factory factory for propagators, each call must return a new propagator
+     * that does not share any mutable object with the previously built ones
+     * @param nominal nominal state (must be orbit-defined)
+     * @param covariance covariance of the nominal state
+     * @param samples number of samples in the ensemble
+     * @param random random generator used for sampling
+     * @param levels percentile levels (in (0, 100]) for the statistics
+     */
+    public EnsemblePropagator(final Supplier<? extends Propagator> factory,
+                              final SpacecraftState nominal, final StateCovariance covariance,
+                              final int samples, final RandomGenerator random,
+                              final double... levels) {
+
+        if (samples < 2) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, samples);
+        }
+        if (!covariance.getDate().isEqualTo(nominal.getDate())) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.STATE_AND_COVARIANCE_DATES_MISMATCH,
+                                                     nominal.getDate(), covariance.getDate());
+        }
+
+        // express covariance in the nominal orbit frame
+        final Orbit orbit = nominal.getOrbit();
+        final StateCovariance inFrame = (covariance.getLOF() == null && covariance.getFrame() == orbit.getFrame()) ?
+                                        covariance :
+                                        covariance.changeCovarianceFrame(orbit, orbit.getFrame());
+
+        this.factory           = factory;
+        this.nominal           = nominal;
+        this.orbitType         = inFrame.getOrbitType();
+        this.angleType         = inFrame.getPositionAngleType();
+        this.nominalParameters = new double[StateCovariance.STATE_DIMENSION];
+        orbitType.mapOrbitToArray(orbit, angleType, nominalParameters, null);
+
+        // draw all samples
+        final CorrelatedRandomVectorGenerator generator =
+                        new CorrelatedRandomVectorGenerator(inFrame.getMatrix(), SMALL,
+                                                            new GaussianRandomGenerator(random));
+        this.deviations = new double[samples][];
+        for (int i = 0; i < samples; ++i) {
+            deviations[i] = generator.nextVector();
+        }
+
+        this.levels = levels.clone();
+
+    }
+
+    /** Get the number of samples in the ensemble.
+     * @return number of samples in the ensemble
+     */
+    public int getSamples() {
+        return deviations.length;
+    }
+
+    /** Get the nominal state.
+     * @return nominal state
+     */
+    public SpacecraftState getNominalState() {
+        return nominal;
+    }
+
+    /** Get the initial state of one sample.
+     * @param index index of the sample
+     * @param attitudeProvider provider for computing the attitude of the sample
+     * (typically the attitude provider of the propagator)
+     * @return initial state of the sample
+     */
+    public SpacecraftState getSample(final int index, final AttitudeProvider attitudeProvider) {
+        final Orbit    orbit      = nominal.getOrbit();
+        final double[] parameters = new double[StateCovariance.STATE_DIMENSION];
+        for (int j = 0; j < parameters.length; ++j) {
+            parameters[j] = nominalParameters[j] + deviations[index][j];
+        }
+        final Orbit sample = orbitType.mapArrayToOrbit(parameters, null, angleType,
+                                                       orbit.getDate(), orbit.getMu(), orbit.getFrame());
+        return new SpacecraftState(sample, attitudeProvider.getAttitude(sample, sample.getDate(), sample.getFrame()),
+                                   nominal.getMass(), nominal.getAdditionalDataValues(), null);
+    }
+
+    /** Propagate the ensemble using the {@link ForkJoinPool#commonPool() common pool}.
+     * @param dates output dates (at least one date is needed)
+     * @return statistics at output dates, sorted in propagation order
+     */
+    public List<EnsembleStatistics> propagate(final List<AbsoluteDate> dates) {
+        return propagate(ForkJoinPool.commonPool(), dates);
+    }
+
+    /** Propagate the ensemble.
+     * <p>
+     * Output dates are sorted chronologically, unless the first
+     * date in the list is after the last one, in which case they
+     * are sorted in reverse chronological order and propagation
+     * is performed backward. Statistics are computed in the
+     * frame of the nominal orbit.
+     * </p>
+     * <p>
+     * This method blocks until all samples have been propagated. If one
+     * propagation fails, the exception is propagated to the caller.
+     * </p>
+     * @param pool fork-join pool in which propagations should be run
+     * @param dates output dates (at least one date is needed)
+     * @return statistics at output dates, sorted in propagation order
+     */
+    public List<EnsembleStatistics> propagate(final ForkJoinPool pool, final List<AbsoluteDate> dates) {
+
+        if (dates.isEmpty()) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, 0);
+        }
+        final List<AbsoluteDate> sorted = new ArrayList<>(dates);
+        Collections.sort(sorted);
+        if (dates.get(0).isAfter(dates.get(dates.size() - 1))) {
+            Collections.reverse(sorted);
+        }
+
+        // build one propagator per worker, in the calling thread
+        final int workers = FastMath.max(1, FastMath.min(pool.getParallelism(), deviations.length));
+        final List<Propagator> propagators = new ArrayList<>(workers);
+        for (int w = 0; w < workers; ++w) {
+            propagators.add(factory.get());
+        }
+
+        // set up statistics
+        final Frame frame     = nominal.getFrame();
+        final int   batchSize = FastMath.min(workers * SAMPLES_PER_WORKER, deviations.length);
+        final List<EnsembleStatistics> statistics = new ArrayList<>(sorted.size());
+        for (final AbsoluteDate date : sorted) {
+            statistics.add(new EnsembleStatistics(date, frame, levels, batchSize));
+        }
+
+        for (int start = 0; start < deviations.length; start += batchSize) {
+
+            // propagate one batch of samples
+            final int           batchStart = start;
+            final int           batchEnd   = FastMath.min(start + batchSize, deviations.length);
+            final AtomicInteger next       = new AtomicInteger(start);
+            final List<ForkJoinTask<?>> tasks = new ArrayList<>(workers);
+            for (final Propagator propagator : propagators) {
+                tasks.add(pool.submit(() -> propagateSamples(propagator, next, batchStart, batchEnd,
+                                                             sorted, statistics)));
+            }
+            for (final ForkJoinTask<?> task : tasks) {
+                task.join();
+            }
+
+            // update statistics in sample index order, independently of threads scheduling
+            for (final EnsembleStatistics current : statistics) {
+                current.reduce();
+            }
+
+        }
+
+        return statistics;
+
+    }
+
+    /** Propagate samples until all samples of a batch have been processed.
+     * @param propagator propagator to use
+     * @param next index of the next sample to propagate
+     * @param batchStart index of the first sample of the batch
+     * @param batchEnd index after the last sample of the batch
+     * @param dates output dates, sorted in propagation order
+     * @param statistics statistics at output dates
+     */
+    private void propagateSamples(final Propagator propagator, final AtomicInteger next,
+                                  final int batchStart, final int batchEnd,
+                                  final List<AbsoluteDate> dates, final List<EnsembleStatistics> statistics) {
+        final StatisticsUpdater updater = new StatisticsUpdater(dates, statistics);
+        propagator.getMultiplexer().add(updater);
+        try {
+            for (int index = next.getAndIncrement(); index < batchEnd; index = next.getAndIncrement()) {
+                updater.slot = index - batchStart;
+                propagator.resetInitialState(getSample(index, propagator.getAttitudeProvider()));
+                final SpacecraftState finalState = propagator.propagate(dates.get(0), dates.get(dates.size() - 1));
+                if (updater.next < dates.size() &&
+                    finalState.getDate().isEqualTo(dates.get(updater.next))) {
+                    // degenerate grid, propagation did not produce any step
+                    statistics.get(updater.next).add(updater.slot,
+                                                     finalState.getPVCoordinates(statistics.get(0).getFrame()));
+                }
+            }
+        } finally {
+            propagator.getMultiplexer().remove(updater);
+        }
+    }
+
+    /** Local step handler updating statistics at output dates. */
+    private static class StatisticsUpdater implements OrekitStepHandler {
+
+        /** Output dates, sorted in propagation order. */
+        private final List<AbsoluteDate> dates;
+
+        /** Statistics at output dates. */
+        private final List<EnsembleStatistics> statistics;
+
+        /** Index of the sample being propagated, within the current batch. */
+        private int slot;
+
+        /** Index of the next output date. */
+        private int next;
+
+        /** Simple constructor.
+         * @param dates output dates, sorted in propagation order
+         * @param statistics statistics at output dates
+         */
+        StatisticsUpdater(final List<AbsoluteDate> dates, final List<EnsembleStatistics> statistics) {
+            this.dates      = dates;
+            this.statistics = statistics;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final SpacecraftState s0, final AbsoluteDate t) {
+            next = 0;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final OrekitStepInterpolator interpolator) {
+            final AbsoluteDate stepEnd = interpolator.getCurrentState().getDate();
+            final boolean      forward = interpolator.isForward();
+            while (next < dates.size() &&
+                   (forward ? !dates.get(next).isAfter(stepEnd) : !dates.get(next).isBefore(stepEnd))) {
+                final EnsembleStatistics current = statistics.get(next++);
+                current.add(slot,
+                            interpolator.getInterpolatedState(current.getDate()).getPVCoordinates(current.getFrame()));
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,228 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.covariance;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.stat.descriptive.rank.PSquarePercentile;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeStamped;
+import org.orekit.utils.PVCoordinates;
+
+/** Statistics of an ensemble of states at one date.
+ * <p>
+ * The states of each batch of samples are buffered by sample index while the
+ * batch is propagated, and reduced once all samples of the batch have been
+ * propagated, always in sample index order, so the statistics do not depend
+ * on the order in which concurrent propagations reach the date. Mean and covariance use Welford's algorithm,
+ * percentiles use the P<sup>2</sup> algorithm from Jain and Chlamtac, which
+ * provides estimates (not exact values) depending on the order in which states
+ * are reduced. All statistics are computed component-wise on the Cartesian
+ * position and velocity.
+ * </p>
+ * @see EnsemblePropagator
+ * @author agent
+ * @since 14.0
+ */
+public class EnsembleStatistics implements TimeStamped {
+
+    /** Dimension of the statistics. */
+    private static final int DIMENSION = StateCovariance.STATE_DIMENSION;
+
+    /** Date of the states. */
+    private final AbsoluteDate date;
+
+    /** Frame of the states. */
+    private final Frame frame;
+
+    /** Percentile levels. */
+    private final double[] levels;
+
+    /** Number of states. */
+    private int size;
+
+    /** Mean of the states. */
+    private final double[] mean;
+
+    /** Sum of products of deviations from the mean. */
+    private final double[][] m2;
+
+    /** Percentiles estimators (one per level and per component). */
+    private final PSquarePercentile[][] percentiles;
+
+    /** States of the current batch, buffered by sample index until reduction. */
+    private final double[][] buffer;
+
+    /** Simple constructor.
+     * @param date date of the states
+     * @param frame frame of the states
+     * @param levels percentile levels (in (0, 100])
+     * @param batchSize number of samples in each batch
+     */
+    EnsembleStatistics(final AbsoluteDate date, final Frame frame, final double[] levels, final int batchSize) {
+        this.date        = date;
+        this.frame       = frame;
+        this.levels      = levels.clone();
+        this.buffer      = new double[batchSize][];
+        this.size        = 0;
+        this.mean        = new double[DIMENSION];
+        this.m2          = new double[DIMENSION][DIMENSION];
+        this.percentiles = new PSquarePercentile[levels.length][DIMENSION];
+        for (int i = 0; i < levels.length; ++i) {
+            for (int j = 0; j < DIMENSION; ++j) {
+                percentiles[i][j] = new PSquarePercentile(levels[i]);
+            }
+        }
+    }
+
+    /** Add one state to the statistics.
+     * <p>
+     * Each sample index is handled by only one thread, so no synchronization
+     * is needed, visibility being ensured by the completion of the tasks
+     * before {@link #reduce()} is called.
+     * </p>
+     * @param slot index of the sample within the current batch
+     * @param pv position-velocity of the state, in statistics frame
+     */
+    void add(final int slot, final PVCoordinates pv) {
+        final Vector3D p = pv.getPosition();
+        final Vector3D v = pv.getVelocity();
+        buffer[slot] = new double[] {
+            p.getX(), p.getY(), p.getZ(), v.getX(), v.getY(), v.getZ()
+        };
+    }
+
+    /** Reduce the buffered states of the current batch, in sample index order.
+     * <p>
+     * The buffer is cleared, so it can be used for the next batch.
+     * </p>
+     */
+    void reduce() {
+
+        for (int k = 0; k < buffer.length; ++k) {
+
+            final double[] x = buffer[k];
+            if (x == null) {
+                // this sample did not reach the statistics date (or the batch is not full)
+                continue;
+            }
+            buffer[k] = null;
+
+            // Welford update
+            ++size;
+            final double[] delta = new double[DIMENSION];
+            for (int i = 0; i < DIMENSION; ++i) {
+                delta[i] = x[i] - mean[i];
+                mean[i] += delta[i] / size;
+            }
+            for (int i = 0; i < DIMENSION; ++i) {
+                for (int j = i; j < DIMENSION; ++j) {
+                    m2[i][j] += delta[i] * (x[j] - mean[j]);
+                }
+            }
+
+            // percentiles update
+            for (final PSquarePercentile[] level : percentiles) {
+                for (int j = 0; j < DIMENSION; ++j) {
+                    level[j].increment(x[j]);
+                }
+            }
+
+        }
+
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public AbsoluteDate getDate() {
+        return date;
+    }
+
+    /** Get the frame of the statistics.
+     * @return frame of the statistics
+     */
+    public Frame getFrame() {
+        return frame;
+    }
+
+    /** Get the number of states.
+     * <p>
+     * The number of states may be less than the ensemble size
+     * if some propagations stopped before the statistics date.
+     * </p>
+     * @return number of states
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /** Get the mean of the states.
+     * @return mean position-velocity
+     */
+    public PVCoordinates getMean() {
+        return toPV(mean);
+    }
+
+    /** Get the sample covariance of the states.
+     * @return sample covariance (with n-1 normalization), in Cartesian elements
+     */
+    public StateCovariance getCovariance() {
+        final RealMatrix covariance = MatrixUtils.createRealMatrix(DIMENSION, DIMENSION);
+        if (size > 1) {
+            for (int i = 0; i < DIMENSION; ++i) {
+                for (int j = i; j < DIMENSION; ++j) {
+                    final double c = m2[i][j] / (size - 1);
+                    covariance.setEntry(i, j, c);
+                    covariance.setEntry(j, i, c);
+                }
+            }
+        }
+        return new StateCovariance(covariance, date, frame, OrbitType.CARTESIAN, PositionAngleType.TRUE);
+    }
+
+    /** Get the percentile levels.
+     * @return percentile levels
+     */
+    public double[] getPercentileLevels() {
+        return levels.clone();
+    }
+
+    /** Get a component-wise percentile estimate of the states.
+     * @param index index of the percentile level in {@link #getPercentileLevels()}
+     * @return component-wise percentile estimate
+     */
+    public PVCoordinates getPercentile(final int index) {
+        final double[] x = new double[DIMENSION];
+        for (int j = 0; j < DIMENSION; ++j) {
+            x[j] = percentiles[index][j].getResult();
+        }
+        return toPV(x);
+    }
+
+    /** Convert an array into position-velocity.
+     * @param x array containing position and velocity
+     * @return position-velocity
+     */
+    private static PVCoordinates toPV(final double[] x) {
+        return new PVCoordinates(new Vector3D(x[0], x[1], x[2]), new Vector3D(x[3], x[4], x[5]));
+    }
+
+}
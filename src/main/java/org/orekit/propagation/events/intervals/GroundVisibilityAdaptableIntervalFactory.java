@@ -0,0 +1,211 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.intervals;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.hipparchus.util.SinCos;
+import org.orekit.frames.Frame;
+import org.orekit.frames.TopocentricFrame;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.GroundFieldOfViewDetector;
+import org.orekit.time.AbsoluteDate;
+
+/**
+ * Factory class for {@link RateBoundedAdaptableInterval} suitable for visibility from ground.
+ * <p>
+ * The switching functions of {@link ElevationDetector} (with constant minimum elevation)
+ * and {@link GroundFieldOfViewDetector} are angular distances between the line of sight
+ * and some boundary fixed with respect to the central body. Their rate of change is
+ * therefore bounded by the angular rate of the line of sight in the body frame, which
+ * is at most (v<sub>p</sub> + ω r<sub>a</sub>) / ρ<sub>min</sub>, where v<sub>p</sub> is
+ * the velocity at perigee, r<sub>a</sub> the apogee radius, ω the body rotation rate and
+ * ρ<sub>min</sub> a lower bound of the range. The range is at least the perigee altitude
+ * above the sensor, and for elevation detection it is at least the range at minimum elevation
+ * as long as the spacecraft is not visible, which is much larger for low orbits. This bound
+ * only involves Keplerian elements, so it avoids the frames transforms needed by the
+ * switching functions themselves, and the check interval can be stretched up to the time
+ * needed to cover the angular distance to the boundary.
+ * </p>
+ * <p>
+ * The bound is only used when the spacecraft state is defined by an elliptical orbit in
+ * a frame centered on the body, otherwise the minimum check interval is used.
+ * </p>
+ * @see ElevationDetectionAdaptableIntervalFactory
+ * @author agent
+ * @since 14.0
+ */
+public class GroundVisibilityAdaptableIntervalFactory {
+
+    /** Tolerance on the distance between frames origins to consider them as centered on the body (m). */
+    private static final double CENTER_TOLERANCE = 1.0e-3;
+
+    /**
+     * Private constructor.
+     */
+    private GroundVisibilityAdaptableIntervalFactory() {
+        // factory class
+    }
+
+    /**
+     * Get an interval for an elevation detector.
+     * <p>
+     * Only detectors with a constant minimum elevation and without refraction model have
+     * a switching function with bounded rate. For other detectors, the returned interval is
+     * the constant {@code minCheckInterval}.
+     * </p>
+     * @param detector elevation detector
+     * @param bodyRotationRate rotation rate of the body (rad/s),
+     *                         (typically {@link org.orekit.utils.Constants#WGS84_EARTH_ANGULAR_VELOCITY})
+     * @param minCheckInterval minimum check interval, used when close to visibility switch (s)
+     * @param maxCheckInterval maximum check interval (s)
+     * @return adaptable interval for the detector
+     */
+    public static AdaptableInterval getAdaptableInterval(final ElevationDetector detector,
+                                                         final double bodyRotationRate,
+                                                         final double minCheckInterval,
+                                                         final double maxCheckInterval) {
+        if (detector.getElevationMask() != null || detector.getRefractionModel() != null) {
+            return AdaptableInterval.of(minCheckInterval);
+        }
+        final TopocentricFrame topo = detector.getTopocentricFrame();
+
+        // the geocentric elevation may exceed the topocentric one by the zenith deflection
+        final double deflection = Vector3D.angle(topo.getZenith(), topo.getCartesianPoint());
+        final double elevation  = FastMath.min(0.5 * FastMath.PI, detector.getMinElevation() + deflection);
+
+        return new RateBoundedAdaptableInterval(detector.getEventFunction(),
+                                                new LineOfSightRateBound(topo.getParentShape().getBodyFrame(),
+                                                                         topo.getCartesianPoint().getNorm(),
+                                                                         bodyRotationRate, elevation),
+                                                minCheckInterval, maxCheckInterval);
+    }
+
+    /**
+     * Get an interval for a ground field of view detector.
+     * <p>
+     * The sensor frame of the detector must be fixed with respect to the body frame.
+     * </p>
+     * @param detector ground field of view detector
+     * @param bodyFrame body-fixed frame, centered on the body
+     * @param bodyRotationRate rotation rate of the body (rad/s),
+     *                         (typically {@link org.orekit.utils.Constants#WGS84_EARTH_ANGULAR_VELOCITY})
+     * @param minCheckInterval minimum check interval, used when close to visibility switch (s)
+     * @param maxCheckInterval maximum check interval (s)
+     * @return adaptable interval for the detector
+     */
+    public static AdaptableInterval getAdaptableInterval(final GroundFieldOfViewDetector detector,
+                                                         final Frame bodyFrame,
+                                                         final double bodyRotationRate,
+                                                         final double minCheckInterval,
+                                                         final double maxCheckInterval) {
+        final double sensorRadius = detector.getFrame().
+                                    getStaticTransformTo(bodyFrame, AbsoluteDate.ARBITRARY_EPOCH).
+                                    transformPosition(Vector3D.ZERO).
+                                    getNorm();
+        return new RateBoundedAdaptableInterval(detector.getEventFunction(),
+                                                new LineOfSightRateBound(bodyFrame, sensorRadius,
+                                                                         bodyRotationRate, Double.NaN),
+                                                minCheckInterval, maxCheckInterval);
+    }
+
+    /** Bound of the line of sight angular rate in body frame. */
+    private static class LineOfSightRateBound implements SwitchingFunctionRateBound {
+
+        /** Body-fixed frame. */
+        private final Frame bodyFrame;
+
+        /** Distance of the sensor to the body center. */
+        private final double sensorRadius;
+
+        /** Rotation rate of the body. */
+        private final double bodyRotationRate;
+
+        /** Geocentric elevation below which spacecraft is not visible (NaN if not applicable). */
+        private final double elevation;
+
+        /** Cache for frames suitability. */
+        private final Map<Frame, Boolean> suitable;
+
+        /** Simple constructor.
+         * @param bodyFrame body-fixed frame
+         * @param sensorRadius distance of the sensor to the body center (m)
+         * @param bodyRotationRate rotation rate of the body (rad/s)
+         * @param elevation geocentric elevation below which spacecraft is not visible
+         * (NaN if not applicable)
+         */
+        LineOfSightRateBound(final Frame bodyFrame, final double sensorRadius,
+                             final double bodyRotationRate, final double elevation) {
+            this.bodyFrame        = bodyFrame;
+            this.sensorRadius     = sensorRadius;
+            this.bodyRotationRate = bodyRotationRate;
+            this.elevation        = elevation;
+            this.suitable         = new ConcurrentHashMap<>();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double maxRate(final SpacecraftState state, final double g) {
+
+            if (!state.isOrbitDefined() ||
+                !suitable.computeIfAbsent(state.getFrame(), f -> isCentered(f, state.getDate()))) {
+                // we cannot bound the line of sight rate with simple geometry
+                return Double.POSITIVE_INFINITY;
+            }
+
+            final Orbit  orbit = state.getOrbit();
+            final double e     = orbit.getE();
+            final double rp    = orbit.getA() * (1 - e);
+            if (e >= 1 || rp <= sensorRadius) {
+                return Double.POSITIVE_INFINITY;
+            }
+            final double ra = orbit.getA() * (1 + e);
+            final double vp = FastMath.sqrt(orbit.getMu() * (1 + e) / rp);
+
+            // lower bound of the range, taking visibility into account if possible
+            final double minRange;
+            if (g < 0 && !Double.isNaN(elevation)) {
+                // range decreases with elevation, it cannot be below range at minimum elevation
+                final SinCos sc = FastMath.sinCos(elevation);
+                minRange = FastMath.sqrt(rp * rp - sensorRadius * sensorRadius * sc.cos() * sc.cos()) -
+                           sensorRadius * sc.sin();
+            } else {
+                minRange = rp - sensorRadius;
+            }
+
+            // maximum velocity with respect to body frame divided by minimum range
+            return (vp + bodyRotationRate * ra) / minRange;
+
+        }
+
+        /** Check if a frame is centered on the body.
+         * @param frame frame to check
+         * @param date date
+         * @return true if frame is centered on the body
+         */
+        private boolean isCentered(final Frame frame, final AbsoluteDate date) {
+            return frame.getStaticTransformTo(bodyFrame, date).transformPosition(Vector3D.ZERO).getNorm() <= CENTER_TOLERANCE;
+        }
+
+    }
+
+}
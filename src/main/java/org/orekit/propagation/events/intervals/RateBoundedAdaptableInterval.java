@@ -0,0 +1,88 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.intervals;
+
+import org.hipparchus.util.FastMath;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.events.functions.EventFunction;
+
+/** Adaptable interval based on a bound of the switching function rate of change.
+ * <p>
+ * If the rate of change of the switching function g is bounded by some value
+ * ġ<sub>max</sub>, no sign change can occur before |g| / ġ<sub>max</sub>, so
+ * this duration can be used as the next check interval. This allows skipping
+ * most evaluations when the event is far away, as long as the bound is
+ * conservative and much cheaper to compute than g itself.
+ * </p>
+ * <p>
+ * The interval is clipped between a minimum value, which should be the check
+ * interval that would be used without the bound, and a maximum value.
+ * </p>
+ * <p>
+ * The event function is evaluated by the interval itself, so each check costs
+ * one more evaluation of the switching function than with a constant interval.
+ * The bound is therefore worth using only when it allows to skip many checks.
+ * As the interval does not depend on the detector that uses it, it can be shared
+ * with detectors that wrap the original one and change the sign of its switching
+ * function (like {@link org.orekit.propagation.events.NegateDetector NegateDetector}
+ * or {@link org.orekit.propagation.events.EventSlopeFilter EventSlopeFilter}).
+ * </p>
+ * @see GroundVisibilityAdaptableIntervalFactory
+ * @author agent
+ * @since 14.0
+ */
+public class RateBoundedAdaptableInterval implements AdaptableInterval {
+
+    /** Event function. */
+    private final EventFunction function;
+
+    /** Bound of the event function rate of change. */
+    private final SwitchingFunctionRateBound rateBound;
+
+    /** Minimum check interval. */
+    private final double minCheckInterval;
+
+    /** Maximum check interval. */
+    private final double maxCheckInterval;
+
+    /** Simple constructor.
+     * @param function event function
+     * @param rateBound bound of the event function rate of change
+     * @param minCheckInterval minimum check interval (s)
+     * @param maxCheckInterval maximum check interval (s)
+     */
+    public RateBoundedAdaptableInterval(final EventFunction function,
+                                        final SwitchingFunctionRateBound rateBound,
+                                        final double minCheckInterval,
+                                        final double maxCheckInterval) {
+        this.function         = function;
+        this.rateBound        = rateBound;
+        this.minCheckInterval = minCheckInterval;
+        this.maxCheckInterval = maxCheckInterval;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public double currentInterval(final SpacecraftState state, final boolean isForward) {
+        final double value    = function.value(state);
+        final double interval = FastMath.abs(value) / rateBound.maxRate(state, value);
+        return Double.isNaN(interval) ?
+               minCheckInterval :
+               FastMath.max(minCheckInterval, FastMath.min(maxCheckInterval, interval));
+    }
+
+}
@@ -0,0 +1,43 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.intervals;
+
+import org.orekit.propagation.SpacecraftState;
+
+/** Bound of the rate of change of an event switching function.
+ * @see RateBoundedAdaptableInterval
+ * @author agent
+ * @since 14.0
+ */
+@FunctionalInterface
+public interface SwitchingFunctionRateBound {
+
+    /** Get an upper bound of the absolute value of the switching function rate of change.
+     * <p>
+     * The bound must be conservative: it must hold from {@code state} until the
+     * switching function changes sign. It should be much cheaper to compute than the
+     * switching function itself. {@link Double#POSITIVE_INFINITY} can be returned
+     * when no bound is available.
+     * </p>
+     * @param state current state
+     * @param g value of the switching function at {@code state}, as evaluated by the
+     * event function the bound is associated with (its sign can therefore be trusted)
+     * @return upper bound of the absolute value of the switching function rate of change
+     */
+    double maxRate(SpacecraftState state, double g);
+
+}
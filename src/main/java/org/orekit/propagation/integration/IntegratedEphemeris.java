@@ -62,7 +62,9 @@ import java.util.stream.Stream;
  * </p>
  * <p>
  * Note that this class stores all intermediate states along with interpolation
- * models, so it may be memory intensive.
+ * models, so it may be memory intensive. A {@link
+ * org.orekit.propagation.analytical.ChebyshevEphemeris ChebyshevEphemeris} can
+ * be built from it to get a compact representation that can also be saved.
  * </p>
  *
  * @see org.orekit.propagation.numerical.NumericalPropagator
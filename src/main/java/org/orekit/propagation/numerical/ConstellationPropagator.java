@@ -0,0 +1,482 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.numerical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.exception.MathRuntimeException;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.ODEIntegrator;
+import org.hipparchus.ode.ODEState;
+import org.hipparchus.ode.ODEStateAndDerivative;
+import org.hipparchus.ode.OrdinaryDifferentialEquation;
+import org.hipparchus.ode.sampling.ODEStateInterpolator;
+import org.hipparchus.ode.sampling.ODEStepHandler;
+import org.hipparchus.util.FastMath;
+import org.orekit.attitudes.Attitude;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.ForceModel;
+import org.orekit.frames.Frame;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.sampling.MultiSatStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+/** Numerical propagator integrating several satellites together as a single packed state.
+ * <p>
+ * This propagator is intended for homogeneous constellations (typically built
+ * using {@link org.orekit.orbits.WalkerConstellation}), where all satellites
+ * share the same force models and the same attitude law. Instead of running one
+ * {@link NumericalPropagator} per satellite, with one integrator, one state mapper
+ * and one step handler each, the Cartesian positions and velocities of all
+ * satellites are packed in a single state vector of dimension 6N, integrated
+ * by one integrator with a common step.
+ * </p>
+ * <p>
+ * As all satellites are evaluated at the same date, force models are called
+ * through {@link ForceModel#acceleration(SpacecraftState[], double[])}, which
+ * allows them to compute shared quantities (Earth frame transforms, Sun and
+ * Moon positions...) only once per evaluation for all satellites. The force
+ * models parameters are also retrieved only once per evaluation.
+ * </p>
+ * <p>
+ * As all satellites share the same step, the step size is driven by the
+ * satellite with the most demanding dynamics when an adaptive integrator is used,
+ * so this propagator is best suited to fixed step integrators or to constellations
+ * with similar orbits. The central attraction is computed from the μ of each initial
+ * orbit and should not be added as a force model. The mass of each satellite is
+ * constant. Event detection, including the detectors provided by force models,
+ * additional states and state transition matrices are not supported.
+ * </p>
+ * @see NumericalPropagator
+ * @see org.orekit.propagation.PropagatorsParallelizer
+ * @author agent
+ * @since 14.0
+ */
+public class ConstellationPropagator {
+
+    /** Dimension of one satellite state. */
+    private static final int SATELLITE_DIMENSION = 6;
+
+    /** Integrator for the packed state. */
+    private final ODEIntegrator integrator;
+
+    /** Force models shared by all satellites. */
+    private final List<ForceModel> forceModels;
+
+    /** Reference date for the integration. */
+    private final AbsoluteDate referenceDate;
+
+    /** Inertial frame for integration. */
+    private final Frame frame;
+
+    /** Central attraction coefficients of the satellites. */
+    private final double[] mu;
+
+    /** Masses of the satellites. */
+    private final double[] masses;
+
+    /** Current states. */
+    private List<SpacecraftState> states;
+
+    /** Attitude provider. */
+    private AttitudeProvider attitudeProvider;
+
+    /** Step handler (may be null). */
+    private MultiSatStepHandler stepHandler;
+
+    /** Simple constructor.
+     * <p>
+     * The attitude provider is set to a {@link FrameAlignedProvider} aligned
+     * with the frame of the initial states.
+     * </p>
+     * @param integrator integrator for the packed state (will be used exclusively by
+     * this propagator, its step handlers will be cleared)
+     * @param initialStates initial states of all satellites (must be orbit-defined and
+     * share the same date and pseudo-inertial frame)
+     */
+    public ConstellationPropagator(final ODEIntegrator integrator, final List<SpacecraftState> initialStates) {
+
+        if (initialStates.isEmpty()) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NOT_ENOUGH_DATA, 0);
+        }
+
+        final SpacecraftState first = initialStates.get(0);
+        if (!first.getFrame().isPseudoInertial()) {
+            throw new OrekitIllegalArgumentException(OrekitMessages.NON_PSEUDO_INERTIAL_FRAME,
+                                                     first.getFrame().getName());
+        }
+
+        this.integrator    = integrator;
+        this.forceModels   = new ArrayList<>();
+        this.referenceDate = first.getDate();
+        this.frame         = first.getFrame();
+        this.mu            = new double[initialStates.size()];
+        this.masses        = new double[initialStates.size()];
+        for (int i = 0; i < initialStates.size(); ++i) {
+            final SpacecraftState state = initialStates.get(i);
+            if (!state.getDate().isEqualTo(referenceDate)) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.DATES_MISMATCH,
+                                                         referenceDate, state.getDate());
+            }
+            if (state.getFrame() != frame) {
+                throw new OrekitIllegalArgumentException(OrekitMessages.FRAMES_MISMATCH,
+                                                         frame.getName(), state.getFrame().getName());
+            }
+            mu[i]     = state.getOrbit().getMu();
+            masses[i] = state.getMass();
+        }
+
+        this.states           = Collections.unmodifiableList(new ArrayList<>(initialStates));
+        this.attitudeProvider = new FrameAlignedProvider(frame);
+        this.stepHandler      = null;
+
+    }
+
+    /** Add a force model shared by all satellites.
+     * <p>
+     * Event detectors are not supported by this propagator, so force models
+     * that rely on {@link ForceModel#getEventDetectors() event detectors}
+     * (for example eclipses in radiation pressure or maneuvers triggers)
+     * are rejected.
+     * </p>
+     * @param model force model to add
+     * @exception OrekitIllegalArgumentException if the force model has event detectors
+     */
+    public void addForceModel(final ForceModel model) {
+        if (model.getEventDetectors().findAny().isPresent()) {
+            throw new OrekitIllegalArgumentException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                     "force models event detectors are not supported by constellation propagator");
+        }
+        forceModels.add(model);
+    }
+
+    /** Get the force models shared by all satellites.
+     * @return unmodifiable list of force models
+     */
+    public List<ForceModel> getForceModels() {
+        return Collections.unmodifiableList(forceModels);
+    }
+
+    /** Set the attitude provider shared by all satellites.
+     * @param attitudeProvider attitude provider
+     */
+    public void setAttitudeProvider(final AttitudeProvider attitudeProvider) {
+        this.attitudeProvider = attitudeProvider;
+    }
+
+    /** Get the attitude provider shared by all satellites.
+     * @return attitude provider
+     */
+    public AttitudeProvider getAttitudeProvider() {
+        return attitudeProvider;
+    }
+
+    /** Set the step handler.
+     * @param stepHandler step handler, receiving synchronized interpolators
+     * for all satellites (null to remove existing handler)
+     */
+    public void setStepHandler(final MultiSatStepHandler stepHandler) {
+        this.stepHandler = stepHandler;
+    }
+
+    /** Get the current states of all satellites.
+     * <p>
+     * These are the initial states before the first propagation,
+     * and the final states of the last propagation afterwards.
+     * </p>
+     * @return unmodifiable list of current states
+     */
+    public List<SpacecraftState> getStates() {
+        return states;
+    }
+
+    /** Propagate all satellites from current states towards a target date.
+     * @param target target date
+     * @return states at target date
+     */
+    public List<SpacecraftState> propagate(final AbsoluteDate target) {
+
+        final AbsoluteDate start = states.get(0).getDate();
+        if (target.isEqualTo(start)) {
+            return states;
+        }
+
+        // initialize force models
+        for (final ForceModel model : forceModels) {
+            model.init(states.get(0), target);
+        }
+
+        // pack current states
+        final double[] y = new double[SATELLITE_DIMENSION * states.size()];
+        for (int i = 0; i < states.size(); ++i) {
+            final PVCoordinates pv = states.get(i).getPVCoordinates();
+            pack(pv.getPosition(), y, SATELLITE_DIMENSION * i);
+            pack(pv.getVelocity(), y, SATELLITE_DIMENSION * i + 3);
+        }
+
+        integrator.clearStepHandlers();
+        if (stepHandler != null) {
+            integrator.addStepHandler(new PackedStepHandler());
+        }
+
+        try {
+            final ODEStateAndDerivative finalState =
+                            integrator.integrate(new PackedEquations(), new ODEState(start.durationFrom(referenceDate), y),
+                                                 target.durationFrom(referenceDate));
+            states = Collections.unmodifiableList(unpack(finalState));
+            return states;
+        } catch (MathRuntimeException mre) {
+            throw OrekitException.unwrap(mre);
+        } finally {
+            integrator.clearStepHandlers();
+        }
+
+    }
+
+    /** Pack a vector into an array.
+     * @param v vector to pack
+     * @param array array where to pack the vector
+     * @param offset offset of the first component in the array
+     */
+    private static void pack(final Vector3D v, final double[] array, final int offset) {
+        array[offset]     = v.getX();
+        array[offset + 1] = v.getY();
+        array[offset + 2] = v.getZ();
+    }
+
+    /** Unpack a packed state into spacecraft states.
+     * @param packed packed state
+     * @return spacecraft states for all satellites
+     */
+    private List<SpacecraftState> unpack(final ODEStateAndDerivative packed) {
+        final List<SpacecraftState> unpacked = new ArrayList<>(mu.length);
+        for (int i = 0; i < mu.length; ++i) {
+            unpacked.add(extract(packed, i));
+        }
+        return unpacked;
+    }
+
+    /** Unpack one satellite from a packed state.
+     * @param date state date
+     * @param y packed state
+     * @param yDot packed state derivative (may be null)
+     * @param index index of the satellite
+     * @return spacecraft state
+     */
+    private SpacecraftState unpack(final AbsoluteDate date, final double[] y, final double[] yDot, final int index) {
+        final int k = SATELLITE_DIMENSION * index;
+        final Vector3D p = new Vector3D(y[k],     y[k + 1], y[k + 2]);
+        final Vector3D v = new Vector3D(y[k + 3], y[k + 4], y[k + 5]);
+        final PVCoordinates pv = (yDot == null) ?
+                                 new PVCoordinates(p, v) :
+                                 new PVCoordinates(p, v, new Vector3D(yDot[k + 3], yDot[k + 4], yDot[k + 5]));
+        final Orbit    orbit    = new CartesianOrbit(pv, frame, date, mu[index]);
+        final Attitude attitude = attitudeProvider.getAttitude(orbit, date, frame);
+        return new SpacecraftState(orbit, attitude, masses[index], null, null);
+    }
+
+    /** Extract one satellite state from a packed state.
+     * @param state packed state
+     * @param index index of the satellite
+     * @return satellite state
+     */
+    private SpacecraftState extract(final ODEStateAndDerivative state, final int index) {
+        return unpack(referenceDate.shiftedBy(state.getTime()),
+                      state.getPrimaryState(), state.getPrimaryDerivative(), index);
+    }
+
+    /** Packed differential equations for all satellites. */
+    private class PackedEquations implements OrdinaryDifferentialEquation {
+
+        /** {@inheritDoc} */
+        @Override
+        public int getDimension() {
+            return SATELLITE_DIMENSION * mu.length;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public double[] computeDerivatives(final double t, final double[] y) {
+
+            final double[] yDot = new double[y.length];
+
+            // build all states, with Keplerian acceleration
+            final AbsoluteDate      date    = referenceDate.shiftedBy(t);
+            final SpacecraftState[] current = new SpacecraftState[mu.length];
+            for (int i = 0; i < mu.length; ++i) {
+                current[i] = unpack(date, y, null, i);
+                final int    k  = SATELLITE_DIMENSION * i;
+                final double r2 = y[k] * y[k] + y[k + 1] * y[k + 1] + y[k + 2] * y[k + 2];
+                final double c  = -mu[i] / (r2 * FastMath.sqrt(r2));
+                yDot[k]     = y[k + 3];
+                yDot[k + 1] = y[k + 4];
+                yDot[k + 2] = y[k + 5];
+                yDot[k + 3] = c * y[k];
+                yDot[k + 4] = c * y[k + 1];
+                yDot[k + 5] = c * y[k + 2];
+            }
+
+            // add perturbing accelerations, evaluating each force model once for all satellites
+            for (final ForceModel model : forceModels) {
+                final Vector3D[] accelerations = model.acceleration(current, model.getParameters(date));
+                for (int i = 0; i < mu.length; ++i) {
+                    final int k = SATELLITE_DIMENSION * i;
+                    yDot[k + 3] += accelerations[i].getX();
+                    yDot[k + 4] += accelerations[i].getY();
+                    yDot[k + 5] += accelerations[i].getZ();
+                }
+            }
+
+            return yDot;
+
+        }
+
+    }
+
+    /** Adapter from packed steps to synchronized satellites steps. */
+    private class PackedStepHandler implements ODEStepHandler {
+
+        /** {@inheritDoc} */
+        @Override
+        public void init(final ODEStateAndDerivative initialState, final double finalTime) {
+            stepHandler.init(unpack(initialState), referenceDate.shiftedBy(finalTime));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void handleStep(final ODEStateInterpolator interpolator) {
+            final List<OrekitStepInterpolator> interpolators = new ArrayList<>(mu.length);
+            for (int i = 0; i < mu.length; ++i) {
+                interpolators.add(new SatelliteInterpolator(interpolator, i));
+            }
+            stepHandler.handleStep(interpolators);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void finish(final ODEStateAndDerivative finalState) {
+            stepHandler.finish(unpack(finalState));
+        }
+
+    }
+
+    /** Interpolator for one satellite within a packed step. */
+    private class SatelliteInterpolator implements OrekitStepInterpolator {
+
+        /** Packed interpolator. */
+        private final ODEStateInterpolator packed;
+
+        /** Index of the satellite. */
+        private final int index;
+
+        /** Previous state. */
+        private final SpacecraftState previous;
+
+        /** Current state. */
+        private final SpacecraftState current;
+
+        /** Indicator for restricted previous state. */
+        private final boolean previousRestricted;
+
+        /** Indicator for restricted current state. */
+        private final boolean currentRestricted;
+
+        /** Simple constructor.
+         * @param packed packed interpolator
+         * @param index index of the satellite
+         */
+        SatelliteInterpolator(final ODEStateInterpolator packed, final int index) {
+            this(packed, index, extract(packed.getPreviousState(), index), extract(packed.getCurrentState(), index),
+                 false, false);
+        }
+
+        /** Constructor for restricted steps.
+         * @param packed packed interpolator
+         * @param index index of the satellite
+         * @param previous previous state
+         * @param current current state
+         * @param previousRestricted indicator for restricted previous state
+         * @param currentRestricted indicator for restricted current state
+         */
+        private SatelliteInterpolator(final ODEStateInterpolator packed, final int index,
+                                      final SpacecraftState previous, final SpacecraftState current,
+                                      final boolean previousRestricted, final boolean currentRestricted) {
+            this.packed             = packed;
+            this.index              = index;
+            this.previous           = previous;
+            this.current            = current;
+            this.previousRestricted = previousRestricted;
+            this.currentRestricted  = currentRestricted;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SpacecraftState getPreviousState() {
+            return previous;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isPreviousStateInterpolated() {
+            return previousRestricted || packed.isPreviousStateInterpolated();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SpacecraftState getCurrentState() {
+            return current;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isCurrentStateInterpolated() {
+            return currentRestricted || packed.isCurrentStateInterpolated();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SpacecraftState getInterpolatedState(final AbsoluteDate date) {
+            return extract(packed.getInterpolatedState(date.durationFrom(referenceDate)), index);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean isForward() {
+            return packed.isForward();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SatelliteInterpolator restrictStep(final SpacecraftState newPreviousState,
+                                                 final SpacecraftState newCurrentState) {
+            return new SatelliteInterpolator(packed, index, newPreviousState, newCurrentState, true, true);
+        }
+
+    }
+
+}
@@ -949,13 +949,13 @@ public class NumericalPropagator extends AbstractIntegratedPropagator {
                 }
 
                 final Attitude attitude = getAttitudeProvider().getAttitude(absPva, date, getFrame());
-                return new SpacecraftState(absPva, attitude).withMassRate(massRate).withMass(mass);
+                return new SpacecraftState(absPva, attitude, mass, massRate, null, null);
             } else {
                 // propagation uses regular orbits
                 final Orbit orbit       = super.getOrbitType().mapArrayToOrbit(y, yDot, super.getPositionAngleType(), date, getMu(), getFrame());
                 final Attitude attitude = getAttitudeProvider().getAttitude(orbit, date, getFrame());
 
-                return new SpacecraftState(orbit, attitude).withMassRate(massRate).withMass(mass);
+                return new SpacecraftState(orbit, attitude, mass, massRate, null, null);
             }
 
         }
@@ -993,6 +993,9 @@ public class NumericalPropagator extends AbstractIntegratedPropagator {
         /** Flag keeping track whether Jacobian matrix needs to be recomputed or not. */
         private final boolean recomputingJacobian;
 
+        /** Reusable Jacobian matrix of orbital parameters with respect to Cartesian ones. */
+        private final double[][] jacobian;
+
         /** Simple constructor.
          * @param integrator numerical integrator to use for propagation.
          * @param orbitType orbit type
@@ -1013,6 +1016,7 @@ public class NumericalPropagator extends AbstractIntegratedPropagator {
             } else {
                 recomputingJacobian = false;
             }
+            jacobian = recomputingJacobian ? new double[6][6] : null;
 
             // feed internal event detectors
             setUpInternalDetectors(integrator);
@@ -1082,7 +1086,7 @@ public class NumericalPropagator extends AbstractIntegratedPropagator {
             setCurrentState(state);
             if (recomputingJacobian) {
                 // propagation uses Jacobian matrix of orbital parameters w.r.t. Cartesian ones
-                final double[][] jacobian = new double[6][6];
+                // (the matrix is fully overwritten, so it can be reused from one call to the next)
                 state.getOrbit().getJacobianWrtCartesian(getPositionAngleType(), jacobian);
                 setCoordinatesJacobian(jacobian);
             }
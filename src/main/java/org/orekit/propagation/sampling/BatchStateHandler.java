@@ -0,0 +1,85 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.sampling;
+
+import org.orekit.errors.OrekitException;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+
+/** This interface is a space-dynamics aware handler for {@link
+ * org.orekit.propagation.BatchPropagator batch propagation} of independent satellites.
+ * <p>
+ * As the satellites are propagated concurrently, the methods of this interface
+ * are called from several threads at once and implementations <em>must</em>
+ * be thread-safe. All calls related to one satellite are performed by the same
+ * thread, and in chronological order (according to propagation direction) for
+ * this satellite, but calls related to different satellites are interleaved.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+public interface BatchStateHandler {
+
+    /** Initialize handler at the start of one satellite propagation.
+     * <p>
+     * The default method does nothing
+     * </p>
+     * @param index index of the satellite in the batch
+     * @param initialState initial state
+     * @param target target date of the propagation
+     */
+    default void init(final int index, final SpacecraftState initialState, final AbsoluteDate target) {
+        // nothing by default
+    }
+
+    /** Handle one state at an output date.
+     * @param index index of the satellite in the batch
+     * @param state state at one of the output dates
+     */
+    void handleState(int index, SpacecraftState state);
+
+    /** Finalize one satellite propagation.
+     * <p>
+     * The default method does nothing
+     * </p>
+     * @param index index of the satellite in the batch
+     * @param finalState state at propagation end
+     */
+    default void finish(final int index, final SpacecraftState finalState) {
+        // nothing by default
+    }
+
+    /** Handle the failure of one satellite propagation.
+     * <p>
+     * Failures are isolated: the other satellites propagations are not affected.
+     * If this method throws an exception, the failure is considered unhandled and
+     * the exception is rethrown by {@link org.orekit.propagation.BatchPropagator#propagate(
+     * java.util.concurrent.ForkJoinPool, BatchStateHandler) BatchPropagator.propagate} once
+     * all the other propagations are completed. Implementations that want to ignore some
+     * failures or gather them must therefore override this method and return normally.
+     * </p>
+     * <p>
+     * The default method rethrows the failure, so failures are never silently lost
+     * </p>
+     * @param index index of the satellite in the batch
+     * @param failure exception that stopped the propagation
+     */
+    default void handleFailure(final int index, final OrekitException failure) {
+        throw failure;
+    }
+
+}
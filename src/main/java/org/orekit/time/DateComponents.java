@@ -18,8 +18,6 @@ package org.orekit.time;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.orekit.errors.OrekitIllegalArgumentException;
 import org.orekit.errors.OrekitInternalError;
@@ -137,16 +135,6 @@ public class DateComponents implements Serializable, Comparable<DateComponents>
     /** Offset between J2000 epoch and modified julian day epoch. */
     private static final int MJD_TO_J2000 = 51544;
 
-
-    /** Basic and extended format calendar date. */
-    private static final Pattern CALENDAR_FORMAT = Pattern.compile("^(-?\\d\\d\\d\\d)-?(\\d\\d)-?(\\d\\d)$");
-
-    /** Basic and extended format ordinal date. */
-    private static final Pattern ORDINAL_FORMAT = Pattern.compile("^(-?\\d\\d\\d\\d)-?(\\d\\d\\d)$");
-
-    /** Basic and extended format week date. */
-    private static final Pattern WEEK_FORMAT = Pattern.compile("^(-?\\d\\d\\d\\d)-?W(\\d\\d)-?(\\d)$");
-
     static {
         // this static statement makes sure the reference epoch are initialized
         // once AFTER the various factories have been set up
@@ -337,32 +325,93 @@ public class DateComponents implements Serializable, Comparable<DateComponents>
      * @exception IllegalArgumentException if string cannot be parsed
      */
     public static  DateComponents parseDate(final String string) {
+        return parseDate(string, 0, string.length());
+    }
 
-        // is the date a calendar date ?
-        final Matcher calendarMatcher = CALENDAR_FORMAT.matcher(string);
-        if (calendarMatcher.matches()) {
-            return new DateComponents(Integer.parseInt(calendarMatcher.group(1)),
-                                      Integer.parseInt(calendarMatcher.group(2)),
-                                      Integer.parseInt(calendarMatcher.group(3)));
-        }
+    /** Parse a part of a character sequence in ISO-8601 format to build a date.
+     * <p>
+     * The supported formats are the same as {@link #parseDate(String)}. This method
+     * does not use regular expressions and does not extract a sub-string, so it is
+     * suited to parse large numbers of dates, for example in ephemeris files.
+     * </p>
+     * @param sequence character sequence containing the date
+     * @param start index of the first character of the date
+     * @param end index after the last character of the date
+     * @return a parsed date
+     * @exception IllegalArgumentException if sequence part cannot be parsed
+     * @since 14.0
+     */
+    public static DateComponents parseDate(final CharSequence sequence, final int start, final int end) {
 
-        // is the date an ordinal date ?
-        final Matcher ordinalMatcher = ORDINAL_FORMAT.matcher(string);
-        if (ordinalMatcher.matches()) {
-            return new DateComponents(Integer.parseInt(ordinalMatcher.group(1)),
-                                      Integer.parseInt(ordinalMatcher.group(2)));
+        int index = start;
+        final boolean negative = index < end && sequence.charAt(index) == '-';
+        if (negative) {
+            ++index;
         }
 
-        // is the date a week date ?
-        final Matcher weekMatcher = WEEK_FORMAT.matcher(string);
-        if (weekMatcher.matches()) {
-            return createFromWeekComponents(Integer.parseInt(weekMatcher.group(1)),
-                                            Integer.parseInt(weekMatcher.group(2)),
-                                            Integer.parseInt(weekMatcher.group(3)));
+        final int absYear = parseDigits(sequence, index, 4, end);
+        if (absYear >= 0) {
+
+            final int year = negative ? -absYear : absYear;
+            index += 4;
+            if (index < end && sequence.charAt(index) == '-') {
+                ++index;
+            }
+
+            if (index < end && sequence.charAt(index) == 'W') {
+                // is the date a week date ?
+                final int week = parseDigits(sequence, index + 1, 2, end);
+                index += 3;
+                if (index < end && sequence.charAt(index) == '-') {
+                    ++index;
+                }
+                final int dayOfWeek = parseDigits(sequence, index, 1, end);
+                if (week >= 0 && dayOfWeek >= 0 && index + 1 == end) {
+                    return createFromWeekComponents(year, week, dayOfWeek);
+                }
+            } else if (end - index == 3) {
+                // the date is an ordinal date
+                final int dayNumber = parseDigits(sequence, index, 3, end);
+                if (dayNumber >= 0) {
+                    return new DateComponents(year, dayNumber);
+                }
+            } else if (end - index == 4 || end - index == 5 && sequence.charAt(index + 2) == '-') {
+                // the date is a calendar date
+                final int month = parseDigits(sequence, index, 2, end);
+                final int day   = parseDigits(sequence, end - 2, 2, end);
+                if (month >= 0 && day >= 0) {
+                    return new DateComponents(year, month, day);
+                }
+            }
+
         }
 
-        throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_DATE, string);
+        throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_DATE,
+                                                 sequence.subSequence(start, end).toString());
+
+    }
 
+    /** Parse a fixed number of decimal digits.
+     * @param sequence character sequence containing the digits
+     * @param start index of the first digit
+     * @param count number of digits
+     * @param end index after the last character that can be used
+     * @return parsed value, or -1 if the characters are not all decimal digits
+     * @since 14.0
+     */
+    static int parseDigits(final CharSequence sequence, final int start, final int count, final int end) {
+        if (start < 0 || start + count > end) {
+            return -1;
+        }
+        int value = 0;
+        for (int i = start; i < start + count; ++i) {
+            final char c = sequence.charAt(i);
+            if (c < '0' || c > '9') {
+                return -1;
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
     }
 
     /** Get the year number.
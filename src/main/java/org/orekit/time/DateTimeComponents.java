@@ -256,18 +256,52 @@ public class DateTimeComponents implements Serializable, Comparable<DateTimeComp
      * @exception IllegalArgumentException if string cannot be parsed
      */
     public static DateTimeComponents parseDateTime(final String string) {
+        return parseDateTime(string, 0, string.length());
+    }
+
+    /** Parse a part of a character sequence in ISO-8601 format to build a date/time.
+     * <p>
+     * The supported formats are the same as {@link #parseDateTime(String)}. This method
+     * does not use regular expressions and does not extract sub-strings, so it is
+     * suited to parse large numbers of dates, for example in ephemeris files.
+     * </p>
+     * @param sequence character sequence containing the date/time
+     * @param start index of the first character of the date/time
+     * @param end index after the last character of the date/time
+     * @return a parsed date/time
+     * @exception IllegalArgumentException if sequence part cannot be parsed
+     * @see DateTimeParser
+     * @since 14.0
+     */
+    public static DateTimeComponents parseDateTime(final CharSequence sequence, final int start, final int end) {
 
         // is there a time ?
-        final int tIndex = string.indexOf('T');
-        if (tIndex > 0) {
-            return new DateTimeComponents(DateComponents.parseDate(string.substring(0, tIndex)),
-                                          TimeComponents.parseTime(string.substring(tIndex + 1)));
+        final int tIndex = timeSeparatorIndex(sequence, start, end);
+        if (tIndex > start) {
+            return new DateTimeComponents(DateComponents.parseDate(sequence, start, tIndex),
+                                          TimeComponents.parseTime(sequence, tIndex + 1, end));
         }
 
-        return new DateTimeComponents(DateComponents.parseDate(string), TimeComponents.H00);
+        return new DateTimeComponents(DateComponents.parseDate(sequence, start, end), TimeComponents.H00);
 
     }
 
+    /** Find the time separator in a part of a character sequence.
+     * @param sequence character sequence containing the date/time
+     * @param start index of the first character of the date/time
+     * @param end index after the last character of the date/time
+     * @return index of the first 'T' character, or -1 if there are none
+     * @since 14.0
+     */
+    static int timeSeparatorIndex(final CharSequence sequence, final int start, final int end) {
+        for (int i = start; i < end; ++i) {
+            if (sequence.charAt(i) == 'T') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
     /** Compute the seconds offset between two instances.
      * @param dateTime dateTime to subtract from the instance
      * @return offset in seconds between the two instants
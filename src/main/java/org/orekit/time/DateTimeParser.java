@@ -0,0 +1,151 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+/** Parser for large numbers of ISO-8601 dates in one time scale.
+ * <p>
+ * This parser is intended to be used when parsing files containing lots of dates,
+ * like ephemeris or measurements files. It supports the same formats as
+ * {@link DateTimeComponents#parseDateTime(String)}, but it works directly on parts of
+ * character sequences (which may be {@code String}, {@code StringBuilder} or
+ * {@link java.nio.CharBuffer CharBuffer} slices) without using regular expressions
+ * or extracting sub-strings.
+ * </p>
+ * <p>
+ * As consecutive dates in such files generally share the same day, the parser
+ * memorizes the last parsed day, and parsing and validating the calendar part is
+ * avoided when the next date refers to the same day.
+ * </p>
+ * <p>
+ * Instances of this class can be shared between threads, the memorized day is
+ * stored in an immutable holder.
+ * </p>
+ * @see DateTimeComponents#parseDateTime(CharSequence, int, int)
+ * @author agent
+ * @since 14.0
+ */
+public class DateTimeParser {
+
+    /** Time scale in which dates are parsed. */
+    private final TimeScale timeScale;
+
+    /** Last parsed day. */
+    private Day last;
+
+    /** Simple constructor.
+     * @param timeScale time scale in which dates are parsed
+     */
+    public DateTimeParser(final TimeScale timeScale) {
+        this.timeScale = timeScale;
+        this.last      = null;
+    }
+
+    /** Get the time scale in which dates are parsed.
+     * @return time scale in which dates are parsed
+     */
+    public TimeScale getTimeScale() {
+        return timeScale;
+    }
+
+    /** Parse a date.
+     * @param sequence character sequence containing only the date
+     * @return parsed date
+     * @exception IllegalArgumentException if sequence cannot be parsed
+     */
+    public AbsoluteDate parse(final CharSequence sequence) {
+        return parse(sequence, 0, sequence.length());
+    }
+
+    /** Parse a date.
+     * @param sequence character sequence containing the date
+     * @param start index of the first character of the date
+     * @param end index after the last character of the date
+     * @return parsed date
+     * @exception IllegalArgumentException if sequence part cannot be parsed
+     */
+    public AbsoluteDate parse(final CharSequence sequence, final int start, final int end) {
+
+        final int tIndex = DateTimeComponents.timeSeparatorIndex(sequence, start, end);
+        if (tIndex > start) {
+            return new AbsoluteDate(parseDay(sequence, start, tIndex),
+                                    TimeComponents.parseTime(sequence, tIndex + 1, end),
+                                    timeScale);
+        }
+
+        return new AbsoluteDate(parseDay(sequence, start, end), TimeComponents.H00, timeScale);
+
+    }
+
+    /** Parse the day part of a date.
+     * @param sequence character sequence containing the day
+     * @param start index of the first character of the day
+     * @param end index after the last character of the day
+     * @return parsed day
+     */
+    private DateComponents parseDay(final CharSequence sequence, final int start, final int end) {
+
+        final Day cached = last;
+        if (cached != null && cached.matches(sequence, start, end)) {
+            // same day as the last parsed date
+            return cached.date;
+        }
+
+        final DateComponents date = DateComponents.parseDate(sequence, start, end);
+        last = new Day(sequence.subSequence(start, end).toString(), date);
+        return date;
+
+    }
+
+    /** Holder for parsed day. */
+    private static class Day {
+
+        /** Text of the day. */
+        private final String text;
+
+        /** Parsed day. */
+        private final DateComponents date;
+
+        /** Simple constructor.
+         * @param text text of the day
+         * @param date parsed day
+         */
+        Day(final String text, final DateComponents date) {
+            this.text = text;
+            this.date = date;
+        }
+
+        /** Check if a part of a character sequence matches the day text.
+         * @param sequence character sequence containing the day
+         * @param start index of the first character of the day
+         * @param end index after the last character of the day
+         * @return true if the part of the sequence matches the day text
+         */
+        boolean matches(final CharSequence sequence, final int start, final int end) {
+            if (end - start != text.length()) {
+                return false;
+            }
+            for (int i = 0; i < text.length(); ++i) {
+                if (sequence.charAt(start + i) != text.charAt(i)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+}
@@ -0,0 +1,83 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.orekit.data.ParsedDataCodec;
+
+/** Codec for caching UTC-TAI offsets parsed from one file.
+ * <p>
+ * Offsets models do not depend on any configuration, so a single instance is shared.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+class OffsetModelsCodec implements ParsedDataCodec<List<OffsetModel>> {
+
+    /** Single instance. */
+    static final OffsetModelsCodec INSTANCE = new OffsetModelsCodec();
+
+    /** Codec identifier, including version of the binary layout. */
+    private static final String IDENTIFIER = "UTC-TAI-1";
+
+    /** Private constructor for the single instance.
+     */
+    private OffsetModelsCodec() {
+        // nothing to do
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String getIdentifier() {
+        return IDENTIFIER;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void encode(final List<OffsetModel> parsed, final DataOutput output)
+        throws IOException {
+        output.writeInt(parsed.size());
+        for (final OffsetModel model : parsed) {
+            output.writeInt(model.getStart().getMJD());
+            output.writeInt(model.getMJDRef());
+            output.writeLong(model.getOffset().getSeconds());
+            output.writeLong(model.getOffset().getAttoSeconds());
+            output.writeInt(model.getSlope());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<OffsetModel> decode(final ByteBuffer buffer, final String name) {
+        final int n = buffer.getInt();
+        final List<OffsetModel> offsets = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            final DateComponents start  = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, buffer.getInt());
+            final int            mjdRef = buffer.getInt();
+            final TimeOffset     offset = new TimeOffset(buffer.getLong(), buffer.getLong());
+            final int            slope  = buffer.getInt();
+            offsets.add(new OffsetModel(start, mjdRef, offset, slope));
+        }
+        return offsets;
+    }
+
+}
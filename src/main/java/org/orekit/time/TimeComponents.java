@@ -18,8 +18,6 @@ package org.orekit.time;
 
 import java.io.IOException;
 import java.io.Serializable;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import org.hipparchus.util.FastMath;
 import org.orekit.errors.OrekitIllegalArgumentException;
@@ -65,7 +63,7 @@ public class TimeComponents implements Serializable, Comparable<TimeComponents>
         new FastLongFormatter(18, true)
     };
 
-    /** Scaling factors used for rounding. */
+    /** Scaling factors used for rounding and parsing. */
     // CHECKSTYLE: stop Indentation check
     private static final long[] SCALING = new long[] {
        1000000000000000000L,
@@ -117,9 +115,6 @@ public class TimeComponents implements Serializable, Comparable<TimeComponents>
     /** Serializable UID. */
     private static final long serialVersionUID = 20240712L;
 
-    /** Basic and extends formats for local time, with optional timezone. */
-    private static final Pattern ISO8601_FORMATS = Pattern.compile("^(\\d\\d):?(\\d\\d):?(\\d\\d(?:[.,]\\d+)?)?(?:Z|([-+]\\d\\d(?::?\\d\\d)?))?$");
-
     /** Number of seconds in one hour. */
     private static final int HOUR = 3600;
 
@@ -449,34 +444,95 @@ public class TimeComponents implements Serializable, Comparable<TimeComponents>
      * @exception IllegalArgumentException if string cannot be parsed
      */
     public static TimeComponents parseTime(final String string) {
+        return parseTime(string, 0, string.length());
+    }
 
-        // is the date a calendar date ?
-        final Matcher timeMatcher = ISO8601_FORMATS.matcher(string);
-        if (timeMatcher.matches()) {
-            final int        hour    = Integer.parseInt(timeMatcher.group(1));
-            final int        minute  = Integer.parseInt(timeMatcher.group(2));
-            final TimeOffset second  = timeMatcher.group(3) == null ?
-                                       TimeOffset.ZERO :
-                                       TimeOffset.parse(timeMatcher.group(3).replace(',', '.'));
-            final String     offset  = timeMatcher.group(4);
-            final int    minutesFromUTC;
-            if (offset == null) {
-                // no offset from UTC is given
-                minutesFromUTC = 0;
-            } else {
-                // we need to parse an offset from UTC
+    /** Parse a part of a character sequence in ISO-8601 format to build a time.
+     * <p>
+     * The supported formats are the same as {@link #parseTime(String)}. This method
+     * does not use regular expressions and does not extract a sub-string, so it is
+     * suited to parse large numbers of dates, for example in ephemeris files.
+     * </p>
+     * @param sequence character sequence containing the time
+     * @param start index of the first character of the time
+     * @param end index after the last character of the time
+     * @return a parsed time
+     * @exception IllegalArgumentException if sequence part cannot be parsed
+     * @since 14.0
+     */
+    public static TimeComponents parseTime(final CharSequence sequence, final int start, final int end) {
+
+        // hours and minutes, with optional separator
+        final int hour = DateComponents.parseDigits(sequence, start, 2, end);
+        int index = skip(sequence, start + 2, end, ':');
+        final int minute = DateComponents.parseDigits(sequence, index, 2, end);
+        index = skip(sequence, index + 2, end, ':');
+        boolean valid = hour >= 0 && minute >= 0;
+
+        // optional seconds, with optional decimal part
+        TimeOffset second = TimeOffset.ZERO;
+        final int wholeSeconds = DateComponents.parseDigits(sequence, index, 2, end);
+        if (valid && wholeSeconds >= 0) {
+            index += 2;
+            long attoSeconds = 0L;
+            if (index < end && (sequence.charAt(index) == '.' || sequence.charAt(index) == ',')) {
+                // we keep only the digits down to attoseconds, and ignore the extra ones
+                int digits = 0;
+                while (++index < end && sequence.charAt(index) >= '0' && sequence.charAt(index) <= '9') {
+                    if (digits < SCALING.length - 1) {
+                        attoSeconds = attoSeconds * 10L + (sequence.charAt(index) - '0');
+                        ++digits;
+                    }
+                }
+                valid = digits > 0;
+                attoSeconds *= SCALING[digits];
+            }
+            second = new TimeOffset(wholeSeconds, attoSeconds);
+        }
+
+        // optional UTC indicator or offset from UTC
+        int minutesFromUTC = 0;
+        if (valid && index < end) {
+            final char c = sequence.charAt(index);
+            if (c == 'Z') {
+                valid = index + 1 == end;
+            } else if (c == '-' || c == '+') {
                 // the sign is mandatory and the ':' separator is optional
                 // so we can have offsets given as -06:00 or +0100
-                final int sign          = offset.codePointAt(0) == '-' ? -1 : +1;
-                final int hourOffset    = Integer.parseInt(offset.substring(1, 3));
-                final int minutesOffset = offset.length() <= 3 ? 0 : Integer.parseInt(offset.substring(offset.length() - 2));
-                minutesFromUTC          = sign * (minutesOffset + MINUTE * hourOffset);
+                final int hourOffset = DateComponents.parseDigits(sequence, index + 1, 2, end);
+                int minutesOffset = 0;
+                if (index + 3 < end) {
+                    final int minutesStart = skip(sequence, index + 3, end, ':');
+                    minutesOffset = DateComponents.parseDigits(sequence, minutesStart, 2, end);
+                    valid = minutesStart + 2 == end;
+                } else {
+                    valid = index + 3 == end;
+                }
+                valid          = valid && hourOffset >= 0 && minutesOffset >= 0;
+                minutesFromUTC = (c == '-' ? -1 : +1) * (minutesOffset + MINUTE * hourOffset);
+            } else {
+                valid = false;
             }
+        }
+
+        if (valid) {
             return new TimeComponents(hour, minute, second, minutesFromUTC);
         }
 
-        throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_TIME, string);
+        throw new OrekitIllegalArgumentException(OrekitMessages.NON_EXISTENT_TIME,
+                                                 sequence.subSequence(start, end).toString());
+
+    }
 
+    /** Skip an optional separator.
+     * @param sequence character sequence
+     * @param index index of the character to check
+     * @param end index after the last character that can be used
+     * @param separator optional separator
+     * @return index after the separator if present, {@code index} otherwise
+     */
+    private static int skip(final CharSequence sequence, final int index, final int end, final char separator) {
+        return index < end && sequence.charAt(index) == separator ? index + 1 : index;
     }
 
     /** Get the hour number.
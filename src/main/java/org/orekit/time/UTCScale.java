@@ -62,6 +62,21 @@ public class UTCScale implements TimeScale {
     /** UTC-TAI offsets. */
     private final UTCTAIOffset[] offsets;
 
+    /** Index of the first day covered by {@link #dayIndex}, counted in days since AbsoluteDate epoch.
+     * @since 14.0
+     */
+    private final long firstDay;
+
+    /** Index of the offset valid at the start of each day, from the first to the last known leap.
+     * @since 14.0
+     */
+    private final int[] dayIndex;
+
+    /** Shift from Modified Julian Day to the day in {@link #dayIndex} containing its noon.
+     * @since 14.0
+     */
+    private final long mjdShift;
+
     /** Package private constructor for the factory.
      * Used to create the prototype instance of this class that is used to
      * clone all subsequent instances of {@link UTCScale}. Initializes the offset
@@ -151,6 +166,15 @@ public class UTCScale implements TimeScale {
 
         }
 
+        // create day-indexed table, so offsets lookups do not need any search
+        this.firstDay = day(offsets[0].getDate());
+        this.dayIndex = new int[(int) (day(offsets[offsets.length - 1].getDate()) - firstDay + 1)];
+        for (int i = 0; i < dayIndex.length; ++i) {
+            dayIndex[i] = searchOffsetIndex(new AbsoluteDate(new TimeOffset((firstDay + i) * SEC_PER_DAY, 0L)));
+        }
+        this.mjdShift = day(AbsoluteDate.createMJDDate(offsets[0].getMJD(), SEC_PER_DAY / 2, tai)) -
+                        offsets[0].getMJD();
+
     }
 
     /** Get the base offsets.
@@ -313,10 +337,52 @@ public class UTCScale implements TimeScale {
     }
 
     /** Find the index of the offset valid at some date.
+     * <p>
+     * This method uses the day-indexed table, so it only needs to check
+     * whether a leap occurs during the day.
+     * </p>
      * @param date date at which offset is requested
      * @return index of the offset valid at this date, or -1 if date is before first offset.
      */
     private int findOffsetIndex(final AbsoluteDate date) {
+
+        if (!date.isFinite()) {
+            return searchOffsetIndex(date);
+        }
+
+        final long day = day(date) - firstDay;
+        if (day < 0) {
+            // the date is before the first known leap second
+            return -1;
+        } else if (day >= dayIndex.length) {
+            // the date is after the last known leap second
+            return offsets.length - 1;
+        }
+
+        // the offset at start of day may change during the day
+        int index = dayIndex[(int) day];
+        while (index + 1 < offsets.length && date.compareTo(offsets[index + 1].getDate()) >= 0) {
+            ++index;
+        }
+        return index;
+
+    }
+
+    /** Get the day containing a date.
+     * @param date date to check
+     * @return index of the day containing the date, counted in days since AbsoluteDate epoch
+     * @since 14.0
+     */
+    private static long day(final AbsoluteDate date) {
+        return FastMath.floorDiv(date.getSeconds(), SEC_PER_DAY);
+    }
+
+    /** Search the index of the offset valid at some date, using bisection.
+     * @param date date at which offset is requested
+     * @return index of the offset valid at this date, or -1 if date is before first offset.
+     * @since 14.0
+     */
+    private int searchOffsetIndex(final AbsoluteDate date) {
         int inf = 0;
         int sup = offsets.length;
         while (sup - inf > 1) {
@@ -343,25 +409,21 @@ public class UTCScale implements TimeScale {
      * @return offset valid at this date, or null if date is before first offset.
      */
     private UTCTAIOffset findOffset(final int mjd) {
-        int inf = 0;
-        int sup = offsets.length;
-        while (sup - inf > 1) {
-            final int middle = (inf + sup) >>> 1;
-            if (mjd < offsets[middle].getMJD()) {
-                sup = middle;
-            } else {
-                inf = middle;
-            }
+
+        // start from the offset valid at noon, leaps being always at midnight
+        final long day = FastMath.max(0, FastMath.min(dayIndex.length - 1, mjd + mjdShift - firstDay));
+        int index = dayIndex[(int) day];
+
+        // adjust if the day is out of the table
+        while (index + 1 < offsets.length && offsets[index + 1].getMJD() <= mjd) {
+            ++index;
         }
-        if (sup == offsets.length) {
-            // the date is after the last known leap second
-            return offsets[offsets.length - 1];
-        } else if (mjd < offsets[inf].getMJD()) {
-            // the date is before the first known leap
-            return null;
-        } else {
-            return offsets[inf];
+        while (index >= 0 && offsets[index].getMJD() > mjd) {
+            --index;
         }
+
+        return index < 0 ? null : offsets[index];
+
     }
 
     /** Create a linear model.
@@ -21,16 +21,22 @@ import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.orekit.data.CacheableDataLoader;
 import org.orekit.data.DataLoader;
+import org.orekit.data.ParsedDataCodec;
 
 /**
  * A {@link DataLoader} based on a {@link UTCTAIOffsetsLoader.Parser} that loads a single
  * file.
+ * <p>
+ * Since 14.0, parsed offsets can be stored in a {@link org.orekit.data.ParsedDataCache
+ * parsed data cache}.
+ * </p>
  *
  * @author Evan Ward
  * @since 10.1
  */
-class UtcTaiOffsetLoader implements DataLoader {
+class UtcTaiOffsetLoader implements CacheableDataLoader<List<OffsetModel>> {
 
     /** Leap second parser. */
     private final UTCTAIOffsetsLoader.Parser parser;
@@ -62,11 +68,24 @@ class UtcTaiOffsetLoader implements DataLoader {
         return offsets.isEmpty();
     }
 
+    /** {@inheritDoc} */
     @Override
-    public void loadData(final InputStream input, final String name)
+    public ParsedDataCodec<List<OffsetModel>> getCodec() {
+        return OffsetModelsCodec.INSTANCE;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<OffsetModel> parse(final InputStream input, final String name)
             throws IOException {
+        return parser.parse(input, name);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void merge(final List<OffsetModel> parsed, final String name) {
         offsets.clear();
-        offsets.addAll(parser.parse(input, name));
+        offsets.addAll(parsed);
     }
 
 }
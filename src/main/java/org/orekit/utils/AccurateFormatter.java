@@ -62,9 +62,11 @@ public class AccurateFormatter implements Formatter {
                            final int hour, final int minute, final double seconds) {
         final double truncated = seconds < LOW_TRUNCATION ? 0.0 : seconds;
         final String s = RyuDouble.doubleToString(truncated, LOW_EXP, RyuDouble.DEFAULT_HIGH_EXP);
-        return String.format(STANDARDIZED_LOCALE, DATE_FORMAT,
-                             year, month, day,
-                             hour, minute, s.charAt(1) == '.' ? "0" + s : s);
+        final StringBuilder builder = DatePrefix.build(year, month, day, hour, minute);
+        if (s.charAt(1) == '.') {
+            builder.append('0');
+        }
+        return builder.append(s).toString();
     }
 
 }
@@ -0,0 +1,75 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.utils;
+
+import java.io.IOException;
+
+import org.orekit.errors.OrekitInternalError;
+import org.orekit.utils.formatting.FastLongFormatter;
+
+/** Builder for the date part of {@link Formatter} outputs, up to the minutes.
+ * <p>
+ * This is equivalent to {@link Formatter#DATE_FORMAT} without the seconds,
+ * without the overhead of {@code String.format}.
+ * </p>
+ * @author agent
+ * @since 14.0
+ */
+class DatePrefix {
+
+    /** Formatter for years. */
+    private static final FastLongFormatter PADDED_FOUR_DIGITS_INTEGER = new FastLongFormatter(4, true);
+
+    /** Formatter for months, days, hours and minutes. */
+    private static final FastLongFormatter PADDED_TWO_DIGITS_INTEGER = new FastLongFormatter(2, true);
+
+    /** Private constructor for a utility class.
+     */
+    private DatePrefix() {
+        // nothing to do
+    }
+
+    /** Build a date prefix.
+     * @param year year
+     * @param month month
+     * @param day day of month
+     * @param hour hour
+     * @param minute minute
+     * @return builder containing "YYYY-MM-DDTHH:MM:", ready for seconds to be appended
+     */
+    static StringBuilder build(final int year, final int month, final int day,
+                               final int hour, final int minute) {
+        try {
+            final StringBuilder builder = new StringBuilder();
+            PADDED_FOUR_DIGITS_INTEGER.appendTo(builder, year);
+            builder.append('-');
+            PADDED_TWO_DIGITS_INTEGER.appendTo(builder, month);
+            builder.append('-');
+            PADDED_TWO_DIGITS_INTEGER.appendTo(builder, day);
+            builder.append('T');
+            PADDED_TWO_DIGITS_INTEGER.appendTo(builder, hour);
+            builder.append(':');
+            PADDED_TWO_DIGITS_INTEGER.appendTo(builder, minute);
+            builder.append(':');
+            return builder;
+        } catch (IOException ioe) {
+            // this should never happen
+            throw new OrekitInternalError(ioe);
+        }
+    }
+
+}
@@ -17,12 +17,12 @@
 package org.orekit.utils;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Stream;
 
 import org.hipparchus.exception.LocalizedCoreFormats;
@@ -36,6 +36,13 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.time.TimeStamped;
 
 /** Generic thread-safe cache for {@link TimeStamped time-stamped} data.
+ * <p>
+ * The cached slots are published as immutable snapshots. Readers looking for
+ * data already cached never block: they only read the current snapshot. When
+ * data is missing, generation is serialized so that several threads requesting
+ * the same missing range do not call the generator several times. The newly
+ * generated data is then published as a new snapshot.
+ * </p>
 
  * @param <T> Type of the cached data.
 
@@ -70,8 +77,8 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
     /** Maximum number of entries in a neighbors array. */
     private final int maxNeighborsSize;
 
-    /** Independent time slots cached. */
-    private final List<Slot> slots;
+    /** Independent time slots cached (immutable snapshot). */
+    private final AtomicReference<List<Slot>> slots;
 
     /** Number of calls to the getNeighbors method. */
     private final AtomicInteger getNeighborsCalls;
@@ -82,8 +89,8 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
     /** Number of evictions. */
     private final AtomicInteger evictions;
 
-    /** Global lock. */
-    private final ReadWriteLock lock;
+    /** Lock serializing data generation and snapshots publication. */
+    private final Lock generationLock;
 
     /** Simple constructor.
      * @param maxNeighborsSize maximum size of the arrays to be returned by {@link
@@ -142,11 +149,11 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
         this.generator          = generator;
         this.overridingMeanStep = overridingMeanStep;
         this.maxNeighborsSize   = maxNeighborsSize;
-        this.slots              = new ArrayList<>(maxSlots);
+        this.slots              = new AtomicReference<>(Collections.emptyList());
         this.getNeighborsCalls  = new AtomicInteger(0);
         this.generateCalls      = new AtomicInteger(0);
         this.evictions          = new AtomicInteger(0);
-        this.lock               = new ReentrantReadWriteLock();
+        this.generationLock     = new ReentrantLock();
 
     }
 
@@ -226,64 +233,38 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
      * @return number of slots in use
      */
     public int getSlots() {
-
-        lock.readLock().lock();
-        try {
-            return slots.size();
-        } finally {
-            lock.readLock().unlock();
-        }
-
+        return slots.get().size();
     }
 
     /** Get the total number of entries cached.
      * @return total number of entries cached
      */
     public int getEntries() {
-
-        lock.readLock().lock();
-        try {
-            int entries = 0;
-            for (final Slot slot : slots) {
-                entries += slot.getEntries();
-            }
-            return entries;
-        } finally {
-            lock.readLock().unlock();
+        int entries = 0;
+        for (final Slot slot : slots.get()) {
+            entries += slot.getEntries();
         }
-
+        return entries;
     }
 
     /** {@inheritDoc} */
     @Override
     public T getEarliest() throws IllegalStateException {
-
-        lock.readLock().lock();
-        try {
-            if (slots.isEmpty()) {
-                throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
-            }
-            return slots.get(0).getEarliest();
-        } finally {
-            lock.readLock().unlock();
+        final List<Slot> snapshot = slots.get();
+        if (snapshot.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
         }
-
+        return snapshot.get(0).getEarliest();
     }
 
     /** {@inheritDoc} */
     @Override
     public T getLatest() throws IllegalStateException {
-
-        lock.readLock().lock();
-        try {
-            if (slots.isEmpty()) {
-                throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
-            }
-            return slots.get(slots.size() - 1).getLatest();
-        } finally {
-            lock.readLock().unlock();
+        final List<Slot> snapshot = slots.get();
+        if (snapshot.isEmpty()) {
+            throw new OrekitIllegalStateException(OrekitMessages.NO_CACHED_ENTRIES);
         }
-
+        return snapshot.get(snapshot.size() - 1).getLatest();
     }
 
     /** {@inheritDoc} */
@@ -300,21 +281,27 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
             throw new OrekitException(OrekitMessages.NOT_ENOUGH_DATA, maxNeighborsSize);
         }
 
-        lock.readLock().lock();
-        try {
-            getNeighborsCalls.incrementAndGet();
-            final long dateQuantum = quantum(central);
-            return selectSlot(central, dateQuantum).getNeighbors(central, dateQuantum, n);
-        } finally {
-            lock.readLock().unlock();
+        getNeighborsCalls.incrementAndGet();
+        final long dateQuantum = quantum(central);
+
+        // fast path: look up the current snapshot, without any lock
+        final List<Slot> snapshot = slots.get();
+        if (!snapshot.isEmpty()) {
+            final Slot slot = snapshot.get(slotIndex(snapshot, dateQuantum));
+            if (covers(slot, dateQuantum)) {
+                final int firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+                if (firstNeighbor >= 0 && firstNeighbor + n <= slot.getEntries()) {
+                    return slot.getNeighbors(firstNeighbor, n);
+                }
+            }
         }
 
+        // slow path: the snapshot does not contain the requested data, we have to generate it
+        return generateNeighbors(central, dateQuantum, n);
+
     }
 
     /** Convert a date to a rough global quantum.
-     * <p>
-     * We own a global read lock while calling this method.
-     * </p>
      * @param date date to convert
      * @return quantum corresponding to the date
      */
@@ -323,99 +310,158 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
         return FastMath.round(date.durationFrom(reference.get()) / QUANTUM_STEP);
     }
 
-    /** Select a slot containing a date.
+    /** Check if a slot is suitable for a date.
+     * @param slot slot to check
+     * @param dateQuantum global quantum of the date
+     * @return true if the slot covers the date or can be extended to cover it
+     */
+    private boolean covers(final Slot slot, final long dateQuantum) {
+        return slot.getEarliestQuantum() <= dateQuantum + newSlotQuantumGap &&
+               slot.getLatestQuantum()   >= dateQuantum - newSlotQuantumGap;
+    }
+
+    /** Generate the neighbors of a date, creating or extending a slot as needed.
      * <p>
-     * We own a global read lock while calling this method.
+     * Generation is serialized by the generation lock: if several threads miss
+     * the same range concurrently, only the first one calls the generator, the
+     * other ones find the published data when they check the snapshot again.
      * </p>
-     * @param date target date
+     * @param central central date
      * @param dateQuantum global quantum of the date
-     * @return slot covering the date
+     * @param n number of neighbors
+     * @return neighbors of the central date
      */
-    private Slot selectSlot(final AbsoluteDate date, final long dateQuantum) {
-
-        Slot selected = null;
-
-        int index = slots.isEmpty() ? 0 : slotIndex(dateQuantum);
-        if (slots.isEmpty() ||
-            slots.get(index).getEarliestQuantum() > dateQuantum + newSlotQuantumGap ||
-            slots.get(index).getLatestQuantum()   < dateQuantum - newSlotQuantumGap) {
-            // no existing slot is suitable
-
-            // upgrade the read lock to a write lock so we can change the list of available slots
-            lock.readLock().unlock();
-            lock.writeLock().lock();
-
-            try {
-                // check slots again as another thread may have changed
-                // the list while we were waiting for the write lock
-                index = slots.isEmpty() ? 0 : slotIndex(dateQuantum);
-                if (slots.isEmpty() ||
-                    slots.get(index).getEarliestQuantum() > dateQuantum + newSlotQuantumGap ||
-                    slots.get(index).getLatestQuantum()   < dateQuantum - newSlotQuantumGap) {
-
-                    // we really need to create a new slot in the current thread
-                    // (no other threads have created it while we were waiting for the lock)
-                    if (!slots.isEmpty() &&
-                        slots.get(index).getLatestQuantum() < dateQuantum - newSlotQuantumGap) {
-                        ++index;
-                    }
+    private Stream<T> generateNeighbors(final AbsoluteDate central, final long dateQuantum, final int n) {
 
-                    if (slots.size() >= maxSlots) {
-                        // we must prevent exceeding allowed max
+        generationLock.lock();
+        try {
 
-                        // select the oldest accessed slot for eviction
-                        int evict = 0;
-                        for (int i = 0; i < slots.size(); ++i) {
-                            if (slots.get(i).getLastAccess() < slots.get(evict).getLastAccess()) {
-                                evict = i;
-                            }
-                        }
+            // check slots again as another thread may have published
+            // the data we need while we were waiting for the lock
+            List<Slot> current = slots.get();
+            int index = current.isEmpty() ? 0 : slotIndex(current, dateQuantum);
+            if (current.isEmpty() || !covers(current.get(index), dateQuantum)) {
 
-                        // evict the selected slot
-                        evictions.incrementAndGet();
-                        slots.remove(evict);
+                // we really need to create a new slot in the current thread
+                if (!current.isEmpty() && current.get(index).getLatestQuantum() < dateQuantum - newSlotQuantumGap) {
+                    ++index;
+                }
+
+                final List<Slot> updated = new ArrayList<>(current);
+                if (updated.size() >= maxSlots) {
+                    // we must prevent exceeding allowed max
 
-                        if (evict < index) {
-                            // adjust index of created slot as it was shifted by the eviction
-                            index--;
+                    // select the oldest accessed slot for eviction
+                    int evict = 0;
+                    for (int i = 0; i < updated.size(); ++i) {
+                        if (updated.get(i).getLastAccess() < updated.get(evict).getLastAccess()) {
+                            evict = i;
                         }
                     }
 
-                    slots.add(index, new Slot(date));
+                    // evict the selected slot
+                    evictions.incrementAndGet();
+                    updated.remove(evict);
 
+                    if (evict < index) {
+                        // adjust index of created slot as it was shifted by the eviction
+                        index--;
+                    }
                 }
 
-            } finally {
-                // downgrade back to a read lock
-                lock.readLock().lock();
-                lock.writeLock().unlock();
+                updated.add(index, new Slot(central));
+                current = publish(updated);
+
             }
-        }
 
-        selected = slots.get(index);
+            Slot slot = current.get(index);
+            int firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+            while (firstNeighbor < 0 || firstNeighbor + n > slot.getEntries()) {
+                // the slot is not balanced around the desired date, we can try to generate new data
+
+                // estimate which data we need to be generated
+                final double step = slot.getMeanStep();
+                final AbsoluteDate existingDate;
+                final AbsoluteDate generationDate;
+                final boolean simplyRebalance;
+                if (firstNeighbor < 0) {
+                    existingDate    = slot.getEarliest().getDate();
+                    generationDate  = existingDate.shiftedBy(step * firstNeighbor);
+                    simplyRebalance = existingDate.compareTo(central) <= 0;
+                } else {
+                    existingDate    = slot.getLatest().getDate();
+                    generationDate  = existingDate.shiftedBy(step * (firstNeighbor + n - slot.getEntries()));
+                    simplyRebalance = existingDate.compareTo(central) >= 0;
+                }
+                generateCalls.incrementAndGet();
 
+                // generate data and publish an extended copy of the slot
+                try {
+                    slot = firstNeighbor < 0 ?
+                           slot.insertAtStart(generateAndCheck(existingDate, generationDate), central) :
+                           slot.appendAtEnd(generateAndCheck(existingDate, generationDate), central);
+                } catch (TimeStampedCacheException tce) {
+                    if (simplyRebalance) {
+                        // we were simply trying to rebalance an unbalanced interval near slot end
+                        // we failed, but the central date is already covered by the existing (unbalanced) data
+                        // so we ignore the exception and stop the loop, we will continue with what we have
+                        break;
+                    } else {
+                        throw tce;
+                    }
+                }
+                final List<Slot> updated = new ArrayList<>(current);
+                updated.set(index, slot);
+                current = publish(updated);
 
-        return selected;
+                firstNeighbor = slot.entryIndex(dateQuantum) - (n - 1) / 2;
+
+            }
+
+            if (firstNeighbor + n > slot.getEntries()) {
+                // we end up with a non-balanced neighborhood,
+                // adjust the start point to fit within the cache
+                firstNeighbor = slot.getEntries() - n;
+            }
+            if (firstNeighbor < 0) {
+                firstNeighbor = 0;
+            }
+            return slot.getNeighbors(firstNeighbor, n);
+
+        } finally {
+            generationLock.unlock();
+        }
 
     }
 
-    /** Get the index of the slot in which a date could be cached.
+    /** Publish a new snapshot.
      * <p>
-     * We own a global read lock while calling this method.
+     * We own the generation lock while calling this method.
      * </p>
+     * @param updated updated list of slots (must not be modified after this call)
+     * @return published snapshot
+     */
+    private List<Slot> publish(final List<Slot> updated) {
+        final List<Slot> snapshot = Collections.unmodifiableList(updated);
+        slots.set(snapshot);
+        return snapshot;
+    }
+
+    /** Get the index of the slot in which a date could be cached.
+     * @param snapshot non-empty snapshot of slots
      * @param dateQuantum quantum of the date to search for
      * @return the slot in which the date could be cached
      */
-    private int slotIndex(final long dateQuantum) {
+    private int slotIndex(final List<Slot> snapshot, final long dateQuantum) {
 
         int  iInf = 0;
-        final long qInf = slots.get(iInf).getEarliestQuantum();
-        int  iSup = slots.size() - 1;
-        final long qSup = slots.get(iSup).getLatestQuantum();
+        final long qInf = snapshot.get(iInf).getEarliestQuantum();
+        int  iSup = snapshot.size() - 1;
+        final long qSup = snapshot.get(iSup).getLatestQuantum();
         while (iSup - iInf > 0) {
             final int iInterp = (int) ((iInf * (qSup - dateQuantum) + iSup * (dateQuantum - qInf)) / (qSup - qInf));
             final int iMed    = FastMath.max(iInf, FastMath.min(iInterp, iSup));
-            final Slot slot   = slots.get(iMed);
+            final Slot slot   = snapshot.get(iMed);
             if (dateQuantum < slot.getEarliestQuantum()) {
                 iSup = iMed - 1;
             } else if (dateQuantum > slot.getLatestQuantum()) {
@@ -429,23 +475,50 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
 
     }
 
-    /** Time slot. */
+    /** Generate entries and check ordering.
+     * @param existingDate date of the closest already existing entry (may be null)
+     * @param date date that must be covered by the range of the generated array
+     * @return chronologically sorted list of generated entries
+     */
+    private List<T> generateAndCheck(final AbsoluteDate existingDate, final AbsoluteDate date) {
+        final List<T> entries = generator.generate(existingDate, date);
+        if (entries.isEmpty()) {
+            throw new TimeStampedCacheException(OrekitMessages.NO_DATA_GENERATED, date);
+        }
+        for (int i = 1; i < entries.size(); ++i) {
+            final AbsoluteDate previous = entries.get(i - 1).getDate();
+            final AbsoluteDate current = entries.get(i).getDate();
+            if (current.compareTo(previous) < 0) {
+                throw new TimeStampedCacheException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
+                        previous, current, previous.durationFrom(current));
+            }
+        }
+        return entries;
+    }
+
+    /** Time slot.
+     * <p>
+     * Slots are immutable once published (except for the search hint, which
+     * is only an optimization). Extending a slot creates a new slot that
+     * replaces the former one in a new snapshot.
+     * </p>
+     */
     private final class Slot {
 
         /** Cached time-stamped entries. */
         private final List<Entry> cache;
 
         /** Earliest quantum. */
-        private final AtomicLong earliestQuantum;
+        private final long earliestQuantum;
 
         /** Latest quantum. */
-        private final AtomicLong latestQuantum;
+        private final long latestQuantum;
 
         /** Index from a previous recent call. */
         private final AtomicInteger guessedIndex;
 
         /** Last access time. */
-        private final AtomicLong lastAccess;
+        private final long lastAccess;
 
         /** Simple constructor.
          * @param date central date for initial entries to insert in the slot
@@ -453,45 +526,58 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
         Slot(final AbsoluteDate date) {
 
             // allocate cache
-            this.cache = new ArrayList<>();
+            final List<Entry> entries = new ArrayList<>();
 
             // set up first entries
             AbsoluteDate generationDate = date;
 
             generateCalls.incrementAndGet();
             for (final T entry : generateAndCheck(null, generationDate)) {
-                cache.add(new Entry(entry, quantum(entry.getDate())));
+                entries.add(new Entry(entry, quantum(entry.getDate())));
             }
-            earliestQuantum = new AtomicLong(cache.get(0).getQuantum());
-            latestQuantum   = new AtomicLong(cache.get(cache.size() - 1).getQuantum());
 
-            while (cache.size() < maxNeighborsSize) {
+            while (entries.size() < maxNeighborsSize) {
                 // we need to generate more entries
 
-                final AbsoluteDate entry0 = cache.get(0).getData().getDate();
-                final AbsoluteDate entryN = cache.get(cache.size() - 1).getData().getDate();
+                final AbsoluteDate entry0 = entries.get(0).getData().getDate();
+                final AbsoluteDate entryN = entries.get(entries.size() - 1).getData().getDate();
                 generateCalls.incrementAndGet();
 
                 final AbsoluteDate existingDate;
-                if (entryN.getDate().durationFrom(date) <= date.durationFrom(entry0.getDate())) {
+                if (entryN.durationFrom(date) <= date.durationFrom(entry0)) {
                     // generate additional point at the end of the slot
                     existingDate = entryN;
-                    generationDate = entryN.getDate().shiftedBy(getMeanStep() * (maxNeighborsSize - cache.size()));
-                    appendAtEnd(generateAndCheck(existingDate, generationDate), date);
+                    generationDate = entryN.shiftedBy(meanStep(entries) * (maxNeighborsSize - entries.size()));
+                    appendEntriesAtEnd(entries, generateAndCheck(existingDate, generationDate), date);
                 } else {
                     // generate additional point at the start of the slot
                     existingDate = entry0;
-                    generationDate = entry0.getDate().shiftedBy(-getMeanStep() * (maxNeighborsSize - cache.size()));
-                    insertAtStart(generateAndCheck(existingDate, generationDate), date);
+                    generationDate = entry0.shiftedBy(-meanStep(entries) * (maxNeighborsSize - entries.size()));
+                    insertEntriesAtStart(entries, generateAndCheck(existingDate, generationDate), date);
                 }
 
             }
 
-            guessedIndex    = new AtomicInteger(cache.size() / 2);
-            lastAccess      = new AtomicLong(System.currentTimeMillis());
+            this.cache           = entries;
+            this.earliestQuantum = entries.get(0).getQuantum();
+            this.latestQuantum   = entries.get(entries.size() - 1).getQuantum();
+            this.guessedIndex    = new AtomicInteger(entries.size() / 2);
+            this.lastAccess      = System.currentTimeMillis();
 
         }
 
+        /** Constructor for extended copies.
+         * @param cache cached entries (will not be modified anymore)
+         * @param lastAccess last access time
+         */
+        private Slot(final List<Entry> cache, final long lastAccess) {
+            this.cache           = cache;
+            this.earliestQuantum = cache.get(0).getQuantum();
+            this.latestQuantum   = cache.get(cache.size() - 1).getQuantum();
+            this.guessedIndex    = new AtomicInteger(cache.size() / 2);
+            this.lastAccess      = lastAccess;
+        }
+
         /** Get the earliest entry contained in the slot.
          * @return earliest entry contained in the slot
          */
@@ -503,7 +589,7 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
          * @return quantum of the earliest date contained in the slot
          */
         public long getEarliestQuantum() {
-            return earliestQuantum.get();
+            return earliestQuantum;
         }
 
         /** Get the latest entry contained in the slot.
@@ -517,7 +603,7 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
          * @return quantum of the latest date contained in the slot
          */
         public long getLatestQuantum() {
-            return latestQuantum.get();
+            return latestQuantum;
         }
 
         /** Get the number of entries contained in the slot.
@@ -528,141 +614,39 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
         }
 
         /** Get the mean step between entries.
-         * <p>
-         * If an overriding mean step has been defined at construction, then it will be returned instead.
          * @return mean step between entries (or an arbitrary non-null value
          * if there are fewer than 2 entries)
          */
-        private double getMeanStep() {
-            if (cache.size() < 2) {
-                return 1.0;
-            } else {
-                if (!Double.isNaN(overridingMeanStep)) {
-                    return overridingMeanStep;
-                } else {
-                    final AbsoluteDate t0 = cache.get(0).getData().getDate();
-                    final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
-                    return tn.durationFrom(t0) / (cache.size() - 1);
-                }
-            }
+        public double getMeanStep() {
+            return meanStep(cache);
         }
 
         /** Get last access time of slot.
          * @return last known access time
          */
         public long getLastAccess() {
-            return lastAccess.get();
-        }
-
-        /** Get the entries surrounding a central date.
-         * <p>
-         * If the central date is well within covered slot, the returned array
-         * will be balanced with half the points before central date and half the
-         * points after it (depending on n parity, of course). If the central date
-         * is near slot boundary and the underlying {@link TimeStampedGenerator
-         * generator} cannot extend it (i.e. it returns null), then the returned
-         * array will be unbalanced and will contain only the n earliest (or latest)
-         * cached entries. A typical example of the later case is leap seconds cache,
-         * since the number of leap seconds cannot be arbitrarily increased.
-         * </p>
-         * @param central central date
-         * @param dateQuantum global quantum of the date
-         * @param n number of neighbors
-         * @return a new array containing date neighbors
-         */
-        public Stream<T> getNeighbors(final AbsoluteDate central, final long dateQuantum, final int n) {
-            int index         = entryIndex(central, dateQuantum);
-            int firstNeighbor = index - (n - 1) / 2;
-
-            if (firstNeighbor < 0 || firstNeighbor + n > cache.size()) {
-                // the cache is not balanced around the desired date, we can try to generate new data
-
-                // upgrade the read lock to a write lock so we can change the list of available slots
-                lock.readLock().unlock();
-                lock.writeLock().lock();
-
-                try {
-                    // check entries again as another thread may have changed
-                    // the list while we were waiting for the write lock
-                    boolean loop = true;
-                    while (loop) {
-                        index         = entryIndex(central, dateQuantum);
-                        firstNeighbor = index - (n - 1) / 2;
-                        if (firstNeighbor < 0 || firstNeighbor + n > cache.size()) {
-
-                            // estimate which data we need to be generated
-                            final double step = getMeanStep();
-                            final AbsoluteDate existingDate;
-                            final AbsoluteDate generationDate;
-                            final boolean simplyRebalance;
-                            if (firstNeighbor < 0) {
-                                existingDate    = cache.get(0).getData().getDate();
-                                generationDate  = existingDate.getDate().shiftedBy(step * firstNeighbor);
-                                simplyRebalance = existingDate.getDate().compareTo(central) <= 0;
-                            } else {
-                                existingDate    = cache.get(cache.size() - 1).getData().getDate();
-                                generationDate  = existingDate.getDate().shiftedBy(step * (firstNeighbor + n - cache.size()));
-                                simplyRebalance = existingDate.getDate().compareTo(central) >= 0;
-                            }
-                            generateCalls.incrementAndGet();
-
-                            // generated data and add it to the slot
-                            try {
-                                if (firstNeighbor < 0) {
-                                    insertAtStart(generateAndCheck(existingDate, generationDate), central);
-                                } else {
-                                    appendAtEnd(generateAndCheck(existingDate, generationDate), central);
-                                }
-                            } catch (TimeStampedCacheException tce) {
-                                if (simplyRebalance) {
-                                    // we were simply trying to rebalance an unbalanced interval near slot end
-                                    // we failed, but the central date is already covered by the existing (unbalanced) data
-                                    // so we ignore the exception and stop the loop, we will continue with what we have
-                                    loop = false;
-                                } else {
-                                    throw tce;
-                                }
-                            }
-
-                        } else {
-                            loop = false;
-                        }
-                    }
-                } finally {
-                    // downgrade back to a read lock
-                    lock.readLock().lock();
-                    lock.writeLock().unlock();
-                }
-
-            }
+            return lastAccess;
+        }
 
-            if (firstNeighbor + n > cache.size()) {
-                // we end up with a non-balanced neighborhood,
-                // adjust the start point to fit within the cache
-                firstNeighbor = cache.size() - n;
-            }
-            if (firstNeighbor < 0) {
-                firstNeighbor = 0;
-            }
+        /** Get a range of entries.
+         * @param firstNeighbor index of the first entry
+         * @param n number of entries
+         * @return a new stream containing entries
+         */
+        public Stream<T> getNeighbors(final int firstNeighbor, final int n) {
             final Stream.Builder<T> builder = Stream.builder();
             for (int i = 0; i < n; ++i) {
                 builder.accept(cache.get(firstNeighbor + i).getData());
             }
-
             return builder.build();
-
         }
 
         /** Get the index of the entry corresponding to a date.
-         * <p>
-         * We own a local read lock while calling this method.
-         * </p>
-         * @param date date
          * @param dateQuantum global quantum of the date
          * @return index in the array such that entry[index] is before
          * date and entry[index + 1] is after date (or they are at array boundaries)
          */
-        private int entryIndex(final AbsoluteDate date, final long dateQuantum) {
+        public int entryIndex(final long dateQuantum) {
 
             // first quick guesses, assuming a recent search was close enough
             final int guess = guessedIndex.get();
@@ -723,140 +707,158 @@ public class GenericTimeStampedCache<T extends TimeStamped> implements TimeStamp
 
         }
 
-        /** Insert data at slot start.
+        /** Create a copy of the slot with data inserted at start.
          * @param data data to insert
          * @param requestedDate use for the error message.
+         * @return extended copy of the slot
          */
-        private void insertAtStart(final List<T> data, final AbsoluteDate requestedDate) {
-
-            // insert data at start
-            boolean inserted = false;
-            final long q0 = earliestQuantum.get();
-            for (int i = 0; i < data.size(); ++i) {
-                final long quantum = quantum(data.get(i).getDate());
-                if (quantum < q0) {
-                    cache.add(i, new Entry(data.get(i), quantum));
-                    inserted = true;
-                } else {
-                    break;
-                }
-            }
-
-            if (!inserted) {
-                final AbsoluteDate earliest = cache.get(0).getData().getDate();
-                throw new TimeStampedCacheException(
-                        OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
-                        earliest, requestedDate, earliest.durationFrom(requestedDate));
-            }
-
-            // evict excess data at end
-            final AbsoluteDate t0 = cache.get(0).getData().getDate();
-            while (cache.size() > maxNeighborsSize &&
-                   cache.get(cache.size() - 1).getData().getDate().durationFrom(t0) > maxSpan) {
-                cache.remove(cache.size() - 1);
-            }
-
-            // update boundaries
-            earliestQuantum.set(cache.get(0).getQuantum());
-            latestQuantum.set(cache.get(cache.size() - 1).getQuantum());
-
+        public Slot insertAtStart(final List<T> data, final AbsoluteDate requestedDate) {
+            final List<Entry> entries = new ArrayList<>(cache.size() + data.size());
+            entries.addAll(cache);
+            insertEntriesAtStart(entries, data, requestedDate);
+            return new Slot(entries, lastAccess);
         }
 
-        /** Append data at slot end.
+        /** Create a copy of the slot with data appended at end.
          * @param data data to append
-         * @param requestedDate use for error message.
+         * @param requestedDate use for the error message.
+         * @return extended copy of the slot
          */
-        private void appendAtEnd(final List<T> data, final AbsoluteDate requestedDate) {
-
-            // append data at end
-            boolean appended = false;
-            final long qn = latestQuantum.get();
-            final int  n  = cache.size();
-            for (int i = data.size() - 1; i >= 0; --i) {
-                final long quantum = quantum(data.get(i).getDate());
-                if (quantum > qn) {
-                    cache.add(n, new Entry(data.get(i), quantum));
-                    appended = true;
-                } else {
-                    break;
-                }
-            }
+        public Slot appendAtEnd(final List<T> data, final AbsoluteDate requestedDate) {
+            final List<Entry> entries = new ArrayList<>(cache.size() + data.size());
+            entries.addAll(cache);
+            appendEntriesAtEnd(entries, data, requestedDate);
+            return new Slot(entries, lastAccess);
+        }
+
+    }
 
-            if (!appended) {
-                final AbsoluteDate latest = cache.get(cache.size() - 1).getData().getDate();
-                throw new TimeStampedCacheException(
-                        OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
-                        latest, requestedDate, requestedDate.durationFrom(latest));
+    /** Get the mean step between entries.
+     * <p>
+     * If an overriding mean step has been defined at construction, then it will be returned instead.
+     * @param entries entries to consider
+     * @return mean step between entries (or an arbitrary non-null value
+     * if there are fewer than 2 entries)
+     */
+    private double meanStep(final List<Entry> entries) {
+        if (entries.size() < 2) {
+            return 1.0;
+        } else {
+            if (!Double.isNaN(overridingMeanStep)) {
+                return overridingMeanStep;
+            } else {
+                final AbsoluteDate t0 = entries.get(0).getData().getDate();
+                final AbsoluteDate tn = entries.get(entries.size() - 1).getData().getDate();
+                return tn.durationFrom(t0) / (entries.size() - 1);
             }
+        }
+    }
 
-            // evict excess data at start
-            final AbsoluteDate tn = cache.get(cache.size() - 1).getData().getDate();
-            while (cache.size() > maxNeighborsSize &&
-                   tn.durationFrom(cache.get(0).getData().getDate()) > maxSpan) {
-                cache.remove(0);
+    /** Insert data at start of a not yet published list of entries.
+     * @param entries entries to extend
+     * @param data data to insert
+     * @param requestedDate use for the error message.
+     */
+    private void insertEntriesAtStart(final List<Entry> entries, final List<T> data, final AbsoluteDate requestedDate) {
+
+        // insert data at start
+        boolean inserted = false;
+        final long q0 = entries.get(0).getQuantum();
+        for (int i = 0; i < data.size(); ++i) {
+            final long quantum = quantum(data.get(i).getDate());
+            if (quantum < q0) {
+                entries.add(i, new Entry(data.get(i), quantum));
+                inserted = true;
+            } else {
+                break;
             }
+        }
 
-            // update boundaries
-            earliestQuantum.set(cache.get(0).getQuantum());
-            latestQuantum.set(cache.get(cache.size() - 1).getQuantum());
+        if (!inserted) {
+            final AbsoluteDate earliest = entries.get(0).getData().getDate();
+            throw new TimeStampedCacheException(
+                    OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_BEFORE,
+                    earliest, requestedDate, earliest.durationFrom(requestedDate));
+        }
 
+        // evict excess data at end
+        final AbsoluteDate t0 = entries.get(0).getData().getDate();
+        while (entries.size() > maxNeighborsSize &&
+               entries.get(entries.size() - 1).getData().getDate().durationFrom(t0) > maxSpan) {
+            entries.remove(entries.size() - 1);
         }
 
-        /** Generate entries and check ordering.
-         * @param existingDate date of the closest already existing entry (may be null)
-         * @param date date that must be covered by the range of the generated array
-         * (guaranteed to lie between {@link #getEarliest()} and {@link #getLatest()})
-         * @return chronologically sorted list of generated entries
-         */
-        private List<T> generateAndCheck(final AbsoluteDate existingDate, final AbsoluteDate date) {
-            final List<T> entries = generator.generate(existingDate, date);
-            if (entries.isEmpty()) {
-                throw new TimeStampedCacheException(OrekitMessages.NO_DATA_GENERATED, date);
-            }
-            for (int i = 1; i < entries.size(); ++i) {
-                final AbsoluteDate previous = entries.get(i - 1).getDate();
-                final AbsoluteDate current = entries.get(i).getDate();
-                if (current.compareTo(previous) < 0) {
-                    throw new TimeStampedCacheException(OrekitMessages.NON_CHRONOLOGICALLY_SORTED_ENTRIES,
-                            previous, current, previous.durationFrom(current));
-                }
+    }
+
+    /** Append data at end of a not yet published list of entries.
+     * @param entries entries to extend
+     * @param data data to append
+     * @param requestedDate use for error message.
+     */
+    private void appendEntriesAtEnd(final List<Entry> entries, final List<T> data, final AbsoluteDate requestedDate) {
+
+        // append data at end
+        boolean appended = false;
+        final long qn = entries.get(entries.size() - 1).getQuantum();
+        final int  n  = entries.size();
+        for (int i = data.size() - 1; i >= 0; --i) {
+            final long quantum = quantum(data.get(i).getDate());
+            if (quantum > qn) {
+                entries.add(n, new Entry(data.get(i), quantum));
+                appended = true;
+            } else {
+                break;
             }
-            return entries;
         }
 
-        /** Container for entries. */
-        private class Entry {
+        if (!appended) {
+            final AbsoluteDate latest = entries.get(entries.size() - 1).getData().getDate();
+            throw new TimeStampedCacheException(
+                    OrekitMessages.UNABLE_TO_GENERATE_NEW_DATA_AFTER,
+                    latest, requestedDate, requestedDate.durationFrom(latest));
+        }
 
-            /** Entry data. */
-            private final T data;
+        // evict excess data at start
+        final AbsoluteDate tn = entries.get(entries.size() - 1).getData().getDate();
+        while (entries.size() > maxNeighborsSize &&
+               tn.durationFrom(entries.get(0).getData().getDate()) > maxSpan) {
+            entries.remove(0);
+        }
 
-            /** Global quantum of the entry. */
-            private final long quantum;
+    }
 
-            /** Simple constructor.
-             * @param data entry data
-             * @param quantum entry quantum
-             */
-            Entry(final T data, final long quantum) {
-                this.quantum = quantum;
-                this.data  = data;
-            }
+    /** Container for entries. */
+    private class Entry {
 
-            /** Get the quantum.
-             * @return quantum
-             */
-            public long getQuantum() {
-                return quantum;
-            }
+        /** Entry data. */
+        private final T data;
 
-            /** Get the data.
-             * @return data
-             */
-            public T getData() {
-                return data;
-            }
+        /** Global quantum of the entry. */
+        private final long quantum;
 
+        /** Simple constructor.
+         * @param data entry data
+         * @param quantum entry quantum
+         */
+        Entry(final T data, final long quantum) {
+            this.quantum = quantum;
+            this.data  = data;
+        }
+
+        /** Get the quantum.
+         * @return quantum
+         */
+        public long getQuantum() {
+            return quantum;
         }
+
+        /** Get the data.
+         * @return data
+         */
+        public T getData() {
+            return data;
+        }
+
     }
 
 }
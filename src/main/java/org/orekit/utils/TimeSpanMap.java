@@ -16,6 +16,8 @@
  */
 package org.orekit.utils;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
 import org.orekit.errors.OrekitException;
@@ -56,7 +58,13 @@ import org.orekit.time.TimeStamped;
  * Trees work.
  * </p>
  * <p>
- * Since 11.1, this class is thread-safe
+ * Since 11.1, this class is thread-safe. Since 14.0, the {@link #get(AbsoluteDate)}
+ * and {@link #getSpan(AbsoluteDate)} lookups are lock-free once the map is stable:
+ * they use an immutable sorted snapshot of the spans, so concurrent readers sharing
+ * a map do not serialize on it. While the map is being modified (for example when
+ * additions and lookups are interleaved during a propagation), lookups use the
+ * locked linked spans directly, and the snapshot is rebuilt only after enough
+ * lookups have been performed without modifications to amortize its cost.
  * </p>
  * @param <T> Type of the data.
  * @author Luc Maisonobe
@@ -105,6 +113,16 @@ public class TimeSpanMap<T> {
      */
     private ExpungePolicy expungePolicy;
 
+    /** Snapshot for lock-free lookups (null if it must be rebuilt).
+     * @since 14.0
+     */
+    private volatile Snapshot<T> snapshot;
+
+    /** Number of locked lookups performed since last modification.
+     * @since 14.0
+     */
+    private int lockedLookups;
+
     /** Create a map containing a single object, initially valid throughout the timeline.
      * <p>
      * The real validity of this first entry will be truncated as other
@@ -147,6 +165,7 @@ public class TimeSpanMap<T> {
      * @since 13.1
      */
     public synchronized void configureExpunge(final int newMaxNbSpans, final double newMaxRange, final ExpungePolicy newExpungePolicy) {
+        invalidateSnapshot();
         this.maxNbSpans    = newMaxNbSpans;
         this.maxRange      = newMaxRange;
         this.expungePolicy = newExpungePolicy;
@@ -199,6 +218,9 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidBefore(final T entry, final AbsoluteDate latestValidityDate, final boolean erasesEarlier) {
 
+        // invalidate lookup snapshot
+        invalidateSnapshot();
+
         // update current reference to transition date
         locate(latestValidityDate);
 
@@ -279,6 +301,9 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidAfter(final T entry, final AbsoluteDate earliestValidityDate, final boolean erasesLater) {
 
+        // invalidate lookup snapshot
+        invalidateSnapshot();
+
         // update current reference to transition date
         locate(earliestValidityDate);
 
@@ -334,6 +359,9 @@ public class TimeSpanMap<T> {
      */
     public synchronized Span<T> addValidBetween(final T entry, final AbsoluteDate earliestValidityDate, final AbsoluteDate latestValidityDate) {
 
+        // invalidate lookup snapshot
+        invalidateSnapshot();
+
         // handle special cases
         if (AbsoluteDate.PAST_INFINITY.equals(earliestValidityDate)) {
             if (AbsoluteDate.FUTURE_INFINITY.equals(latestValidityDate)) {
@@ -400,13 +428,14 @@ public class TimeSpanMap<T> {
      * <p>
      * The expected complexity is O(1) for successive calls with
      * neighboring dates, which is the more frequent use in propagation
-     * or orbit determination applications, and O(n) for random calls.
+     * or orbit determination applications, and O(log n) for random calls
+     * once the map is stable. This method does not lock a stable map.
      * </p>
      * @param date date at which the entry must be valid
      * @return valid entry at specified date
      * @see #getSpan(AbsoluteDate)
      */
-    public synchronized T get(final AbsoluteDate date) {
+    public T get(final AbsoluteDate date) {
         return getSpan(date).getData();
     }
 
@@ -414,13 +443,43 @@ public class TimeSpanMap<T> {
      * <p>
      * The expected complexity is O(1) for successive calls with
      * neighboring dates, which is the more frequent use in propagation
-     * or orbit determination applications, and O(n) for random calls.
+     * or orbit determination applications, and O(log n) for random calls
+     * once the map is stable. This method does not lock a stable map.
      * </p>
      * @param date date belonging to the desired time span
      * @return time span containing the specified date
      * @since 9.3
      */
-    public synchronized Span<T> getSpan(final AbsoluteDate date) {
+    public Span<T> getSpan(final AbsoluteDate date) {
+
+        final Snapshot<T> view = snapshot;
+        if (view == null) {
+            // the map has been modified since last snapshot
+            return lockedGetSpan(date);
+        }
+
+        // safety check
+        if (date.isBefore(view.expungedEarly) || date.isAfter(view.expungedLate)) {
+            throw new OrekitException(OrekitMessages.EXPUNGED_SPAN, date);
+        }
+
+        return view.locate(date);
+
+    }
+
+    /** Get the time span containing a specified date, using the linked spans.
+     * <p>
+     * This method is used while the map is being modified, as rebuilding the
+     * snapshot at each lookup would be O(n) when additions and lookups are
+     * interleaved. The snapshot is rebuilt only once the number of lookups
+     * performed since the last modification reaches the number of spans, so
+     * its cost is amortized.
+     * </p>
+     * @param date date belonging to the desired time span
+     * @return time span containing the specified date
+     * @since 14.0
+     */
+    private synchronized Span<T> lockedGetSpan(final AbsoluteDate date) {
 
         // safety check
         if (date.isBefore(expungedEarly) || date.isAfter(expungedLate)) {
@@ -428,7 +487,26 @@ public class TimeSpanMap<T> {
         }
 
         locate(date);
-        return current;
+        final Span<T> span = current;
+
+        if (snapshot == null && ++lockedLookups >= nbSpans) {
+            // the map seems stable, switch to lock-free lookups
+            snapshot = new Snapshot<>(firstSpan, expungedEarly, expungedLate);
+        }
+
+        return span;
+
+    }
+
+    /** Invalidate the lookup snapshot.
+     * <p>
+     * This method must be called with the map lock held, before any modification.
+     * </p>
+     * @since 14.0
+     */
+    private void invalidateSnapshot() {
+        snapshot      = null;
+        lockedLookups = 0;
     }
 
     /** Locate the time span containing a specified date.
@@ -648,6 +726,87 @@ public class TimeSpanMap<T> {
         }
     }
 
+    /** Immutable sorted view of the spans, for lock-free lookups.
+     * @param <S> Type of the data.
+     * @since 14.0
+     */
+    private static class Snapshot<S> {
+
+        /** Spans, in chronological order. */
+        private final List<Span<S>> spans;
+
+        /** Transitions dates, transition i being the start of span i + 1. */
+        private final AbsoluteDate[] transitions;
+
+        /** End of early expunged range. */
+        private final AbsoluteDate expungedEarly;
+
+        /** Start of late expunged range. */
+        private final AbsoluteDate expungedLate;
+
+        /** Index of the last located span.
+         * <p>
+         * This is only a hint for temporal locality, shared between threads
+         * without synchronization. It is always checked before being used.
+         * </p>
+         */
+        private int hint;
+
+        /** Simple constructor.
+         * @param firstSpan first span
+         * @param expungedEarly end of early expunged range
+         * @param expungedLate start of late expunged range
+         */
+        Snapshot(final Span<S> firstSpan, final AbsoluteDate expungedEarly, final AbsoluteDate expungedLate) {
+            this.spans = new ArrayList<>();
+            for (Span<S> span = firstSpan; span != null; span = span.next()) {
+                spans.add(span);
+            }
+            this.transitions = new AbsoluteDate[spans.size() - 1];
+            for (int i = 0; i < transitions.length; ++i) {
+                transitions[i] = spans.get(i + 1).getStart();
+            }
+            this.expungedEarly = expungedEarly;
+            this.expungedLate  = expungedLate;
+            this.hint          = 0;
+        }
+
+        /** Locate the time span containing a specified date.
+         * @param date date belonging to the desired time span
+         * @return time span containing the specified date
+         */
+        Span<S> locate(final AbsoluteDate date) {
+
+            // first attempt: the last located span or the next one
+            final int last = hint;
+            if (last == 0 || transitions[last - 1].isBeforeOrEqualTo(date)) {
+                if (last == transitions.length || transitions[last].isAfter(date)) {
+                    return spans.get(last);
+                } else if (last + 1 == transitions.length || transitions[last + 1].isAfter(date)) {
+                    hint = last + 1;
+                    return spans.get(last + 1);
+                }
+            }
+
+            // binary search for the first transition after date
+            int low  = 0;
+            int high = transitions.length;
+            while (low < high) {
+                final int middle = (low + high) >>> 1;
+                if (transitions[middle].isAfter(date)) {
+                    high = middle;
+                } else {
+                    low = middle + 1;
+                }
+            }
+
+            hint = low;
+            return spans.get(low);
+
+        }
+
+    }
+
     /** Class holding transition times.
      * <p>
      * This data type is dual to {@link Span}, it is
@@ -739,6 +898,7 @@ public class TimeSpanMap<T> {
 
                 synchronized (map) {
                     // perform update
+                    map.invalidateSnapshot();
                     date = newDate;
                     after = newAfter;
                     after.start = this;
@@ -771,6 +931,7 @@ public class TimeSpanMap<T> {
 
                 synchronized (map) {
                     // perform update
+                    map.invalidateSnapshot();
                     date = newDate;
                     before = newBefore;
                     before.end = this;
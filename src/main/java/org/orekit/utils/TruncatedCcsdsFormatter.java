@@ -75,8 +75,6 @@ public class TruncatedCcsdsFormatter implements Formatter {
         formatter.setMaximumFractionDigits(MAXIMUM_ODM_DIGITS - 2);
         formatter.setMinimumIntegerDigits(2);
 
-        return String.format(STANDARDIZED_LOCALE, DATE_FORMAT,
-                year, month, day,
-                hour, minute, formatter.format(seconds));
+        return DatePrefix.build(year, month, day, hour, minute).append(formatter.format(seconds)).toString();
     }
 }
@@ -16,20 +16,29 @@
  */
 package org.orekit.bodies;
 
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
 import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.orekit.Utils;
 import org.orekit.data.DataContext;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
 import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.PVCoordinates;
 
 import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 
 public class JPLEphemeridesLoaderTest {
 
@@ -260,6 +269,107 @@ public class JPLEphemeridesLoaderTest {
 
     }
 
+    @Test
+    void testMappedVsStream() throws URISyntaxException {
+        final Path path = resource("regular-data/de430-ephemeris/lnxp2023.430");
+        final AbsoluteDate start = new AbsoluteDate(2023, 1, 9, TimeScalesFactory.getTDB());
+        final AbsoluteDate end   = new AbsoluteDate(2023, 4, 13, TimeScalesFactory.getTDB());
+        final Frame gcrf = FramesFactory.getGCRF();
+        for (final JPLEphemeridesLoader.EphemerisType type :
+             new JPLEphemeridesLoader.EphemerisType[] {
+                 JPLEphemeridesLoader.EphemerisType.MOON,
+                 JPLEphemeridesLoader.EphemerisType.SUN,
+                 JPLEphemeridesLoader.EphemerisType.MARS
+             }) {
+            final JPLEphemeridesLoader streamLoader = new JPLEphemeridesLoader("^lnxp2023\\.430$", type);
+            final JPLEphemeridesLoader mappedLoader = new JPLEphemeridesLoader(path, type);
+            final CelestialBody streamBody = streamLoader.loadCelestialBody(type.name());
+            final CelestialBody mappedBody = mappedLoader.loadCelestialBody(type.name());
+            Assertions.assertEquals(streamLoader.getLoadedAstronomicalUnit(),
+                                    mappedLoader.getLoadedAstronomicalUnit(), 1.0e-15);
+            Assertions.assertEquals(streamLoader.getLoadedGravitationalCoefficient(type),
+                                    mappedLoader.getLoadedGravitationalCoefficient(type), 1.0e-15);
+            for (AbsoluteDate date = start; date.compareTo(end) < 0; date = date.shiftedBy(7654.321)) {
+                final PVCoordinates streamPV = streamBody.getPVCoordinates(date, gcrf);
+                final PVCoordinates mappedPV = mappedBody.getPVCoordinates(date, gcrf);
+                Assertions.assertEquals(0.0, Vector3D.distance(streamPV.getPosition(), mappedPV.getPosition()), 1.0e-6);
+                Assertions.assertEquals(0.0, Vector3D.distance(streamPV.getVelocity(), mappedPV.getVelocity()), 1.0e-9);
+                Assertions.assertEquals(0.0, Vector3D.distance(streamPV.getPosition(), mappedBody.getPosition(date, gcrf)), 1.0e-6);
+            }
+            Assertions.assertEquals(streamLoader.getMaxChunksDuration(), mappedLoader.getMaxChunksDuration(), 1.0e-10);
+        }
+    }
+
+    @Test
+    void testMappedEndianness() throws URISyntaxException {
+        Utils.setDataRoot("inpop");
+        final JPLEphemeridesLoader.EphemerisType type = JPLEphemeridesLoader.EphemerisType.MARS;
+        final CelestialBody big =
+                new JPLEphemeridesLoader(resource("inpop/inpop10b_TCB_summer_1969_bigendian.dat"), type).
+                loadCelestialBody(CelestialBodyFactory.MARS);
+        final CelestialBody little =
+                new JPLEphemeridesLoader(resource("inpop/inpop10b_TCB_summer_1969_littleendian.dat"), type).
+                loadCelestialBody(CelestialBodyFactory.MARS);
+        final CelestialBody stream =
+                new JPLEphemeridesLoader("^inpop.*_TCB_.*_bigendian\\.dat$", type).
+                loadCelestialBody(CelestialBodyFactory.MARS);
+        final AbsoluteDate t0 = new AbsoluteDate(1969, 7, 17, 10, 43, 23.4, TimeScalesFactory.getTT());
+        final Frame eme2000   = FramesFactory.getEME2000();
+        for (double dt = 0; dt < 30 * Constants.JULIAN_DAY; dt += 3600) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            final Vector3D pBig     = big.getPosition(date, eme2000);
+            Assertions.assertEquals(0.0, pBig.distance(little.getPosition(date, eme2000)), 1.0e-10);
+            Assertions.assertEquals(0.0, pBig.distance(stream.getPosition(date, eme2000)), 1.0e-6);
+        }
+    }
+
+    @Test
+    void testMappedField() throws URISyntaxException {
+        final CelestialBody moon =
+                new JPLEphemeridesLoader(resource("regular-data/de430-ephemeris/lnxp2023.430"),
+                                         JPLEphemeridesLoader.EphemerisType.MOON).
+                loadCelestialBody(CelestialBodyFactory.MOON);
+        final Frame gcrf = FramesFactory.getGCRF();
+        final AbsoluteDate t0 = new AbsoluteDate(2023, 2, 1, TimeScalesFactory.getTDB());
+        for (double dt = 0; dt < 10 * Constants.JULIAN_DAY; dt += 5432.1) {
+            final AbsoluteDate date = t0.shiftedBy(dt);
+            final FieldVector3D<Binary64> fieldP =
+                    moon.getPosition(new FieldAbsoluteDate<>(Binary64Field.getInstance(), date), gcrf);
+            Assertions.assertEquals(0.0, Vector3D.distance(moon.getPosition(date, gcrf), fieldP.toVector3D()), 1.0e-6);
+        }
+    }
+
+    @Test
+    void testMappedOutOfRange() throws URISyntaxException {
+        final CelestialBody moon =
+                new JPLEphemeridesLoader(resource("regular-data/de430-ephemeris/lnxp2023.430"),
+                                         JPLEphemeridesLoader.EphemerisType.MOON).
+                loadCelestialBody(CelestialBodyFactory.MOON);
+        try {
+            moon.getPosition(new AbsoluteDate(2022, 12, 1, TimeScalesFactory.getTDB()), FramesFactory.getGCRF());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_BEFORE, oe.getSpecifier());
+        }
+        try {
+            moon.getPosition(new AbsoluteDate(2023, 6, 1, TimeScalesFactory.getTDB()), FramesFactory.getGCRF());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    void testMappedMissingFile() {
+        Assertions.assertThrows(OrekitException.class,
+                                () -> new JPLEphemeridesLoader(Paths.get("no-such-directory", "lnxp2023.430"),
+                                                               JPLEphemeridesLoader.EphemerisType.MOON));
+    }
+
+    private Path resource(final String name) throws URISyntaxException {
+        return Paths.get(getClass().getClassLoader().getResource(name).toURI());
+    }
+
     private void checkDerivative(String supportedNames, AbsoluteDate date, double maxChunkDuration)
         {
         JPLEphemeridesLoader loader =
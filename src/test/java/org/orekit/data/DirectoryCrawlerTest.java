@@ -26,6 +26,9 @@ import java.io.InputStream;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.regex.Pattern;
 
 public class DirectoryCrawlerTest {
@@ -117,6 +120,64 @@ public class DirectoryCrawlerTest {
         });
     }
 
+    @Test
+    public void testParallelParsing() throws URISyntaxException {
+        URL url = DirectoryCrawlerTest.class.getClassLoader().getResource("compressed-data");
+        File root = new File(url.toURI().getPath());
+
+        DataProvidersManager sequentialManager = new DataProvidersManager();
+        sequentialManager.addProvider(new DirectoryCrawler(root));
+        SizeLoader sequential = new SizeLoader(Integer.MAX_VALUE);
+        Assertions.assertTrue(sequentialManager.feed(".*", sequential));
+        Assertions.assertTrue(sequential.names.size() > 10);
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            DataProvidersManager parallelManager = new DataProvidersManager();
+            parallelManager.addProvider(new DirectoryCrawler(root));
+            Assertions.assertNull(parallelManager.getParsingPool());
+            parallelManager.setParsingPool(pool);
+            Assertions.assertSame(pool, parallelManager.getParsingPool());
+            SizeLoader parallel = new SizeLoader(Integer.MAX_VALUE);
+            Assertions.assertTrue(parallelManager.feed(".*", parallel));
+
+            // merged data must be identical, and in the same order
+            Assertions.assertEquals(sequential.names, parallel.names);
+            Assertions.assertEquals(sequential.sizes, parallel.sizes);
+            Assertions.assertEquals(new ArrayList<>(sequentialManager.getLoadedDataNames()),
+                                    new ArrayList<>(parallelManager.getLoadedDataNames()));
+
+            // merging stops as soon as loader does not accept data anymore
+            SizeLoader limited = new SizeLoader(3);
+            Assertions.assertTrue(parallelManager.feed(".*", limited));
+            Assertions.assertEquals(sequential.names.subList(0, 3), limited.names);
+
+        } finally {
+            pool.shutdown();
+        }
+
+    }
+
+    @Test
+    public void testParallelIOException() throws URISyntaxException {
+        URL url = DirectoryCrawlerTest.class.getClassLoader().getResource("regular-data");
+        DataProvidersManager manager = new DataProvidersManager();
+        ForkJoinPool pool = new ForkJoinPool(4);
+        manager.setParsingPool(pool);
+        try {
+            new DirectoryCrawler(new File(url.toURI().getPath())).feed(Pattern.compile(".*"), new ParallelIOExceptionLoader(),
+                                                                       manager);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            // expected behavior
+            Assertions.assertNotNull(oe.getCause());
+            Assertions.assertEquals(IOException.class, oe.getCause().getClass());
+            Assertions.assertEquals("dummy error", oe.getMessage());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
     private static class CountingLoader implements DataLoader {
         private int count = 0;
         public boolean stillAcceptsData() {
@@ -152,4 +213,43 @@ public class DirectoryCrawlerTest {
         }
     }
 
+    private static class SizeLoader implements ParallelDataLoader<Integer> {
+        private final int max;
+        private final List<String> names = new ArrayList<>();
+        private final List<Integer> sizes = new ArrayList<>();
+        SizeLoader(int max) {
+            this.max = max;
+        }
+        public boolean stillAcceptsData() {
+            return names.size() < max;
+        }
+        public Integer parse(InputStream input, String name) throws IOException {
+            int size = 0;
+            final byte[] buffer = new byte[4096];
+            for (int n = input.read(buffer); n >= 0; n = input.read(buffer)) {
+                size += n;
+            }
+            return size;
+        }
+        public void merge(Integer parsed, String name) {
+            names.add(name);
+            sizes.add(parsed);
+        }
+    }
+
+    private static class ParallelIOExceptionLoader implements ParallelDataLoader<String> {
+        public boolean stillAcceptsData() {
+            return true;
+        }
+        public String parse(InputStream input, String name) throws IOException {
+            if (name.endsWith("UTC-TAI.history")) {
+                throw new IOException("dummy error");
+            }
+            return name;
+        }
+        public void merge(String parsed, String name) {
+            // nothing to do
+        }
+    }
+
 }
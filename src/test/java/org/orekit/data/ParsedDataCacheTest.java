@@ -0,0 +1,257 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.data;
+
+import java.io.DataOutput;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitMessages;
+
+public class ParsedDataCacheTest {
+
+    @TempDir
+    Path tempDir;
+
+    private DataProvidersManager manager;
+
+    @Test
+    public void testNotADirectory() throws IOException {
+        final File file = Files.createFile(tempDir.resolve("not-a-directory")).toFile();
+        try {
+            new ParsedDataCache(file);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NOT_A_DIRECTORY, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testReuse() {
+
+        final ParsedDataCache cache = new ParsedDataCache(tempDir.toFile());
+        Assertions.assertEquals(tempDir.toFile(), cache.getDirectory());
+        Assertions.assertNull(manager.getParsedDataCache());
+        manager.setParsedDataCache(cache);
+        Assertions.assertSame(cache, manager.getParsedDataCache());
+
+        final LinesLoader first = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", first));
+        Assertions.assertTrue(first.parsed.get() > 10);
+        Assertions.assertEquals(first.parsed.get(), entries());
+
+        // second loading uses only cached data
+        final LinesLoader second = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", second));
+        Assertions.assertEquals(0, second.parsed.get());
+        Assertions.assertEquals(first.names, second.names);
+        Assertions.assertEquals(first.lines, second.lines);
+
+        // a different codec identifier leads to different entries
+        final LinesLoader other = new LinesLoader("lines-2");
+        Assertions.assertTrue(manager.feed(".*", other));
+        Assertions.assertEquals(first.parsed.get(), other.parsed.get());
+        Assertions.assertEquals(first.lines, other.lines);
+        Assertions.assertEquals(2 * first.parsed.get(), entries());
+
+    }
+
+    @Test
+    public void testParallelParsing() {
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+            manager.setParsingPool(pool);
+            final LinesLoader first = new LinesLoader("lines-1");
+            Assertions.assertTrue(manager.feed(".*", first));
+            final LinesLoader second = new LinesLoader("lines-1");
+            Assertions.assertTrue(manager.feed(".*", second));
+            Assertions.assertEquals(0, second.parsed.get());
+            Assertions.assertEquals(first.names, second.names);
+            Assertions.assertEquals(first.lines, second.lines);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testCorruptedEntries() throws IOException {
+
+        manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        final LinesLoader first = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", first));
+
+        // truncate all entries
+        final File[] files = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(files);
+        for (final File file : files) {
+            final byte[] content = Files.readAllBytes(file.toPath());
+            Files.write(file.toPath(), Arrays.copyOf(content, content.length / 2));
+        }
+
+        // corrupted entries are replaced
+        final LinesLoader second = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", second));
+        Assertions.assertEquals(first.parsed.get(), second.parsed.get());
+        Assertions.assertEquals(first.lines, second.lines);
+
+        final LinesLoader third = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", third));
+        Assertions.assertEquals(0, third.parsed.get());
+        Assertions.assertEquals(first.lines, third.lines);
+
+    }
+
+    @Test
+    public void testAlteredPayload() throws IOException {
+
+        manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        final LinesLoader first = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", first));
+
+        // flip one bit in the payload of all entries, they could still be decoded
+        final File[] files = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(files);
+        for (final File file : files) {
+            final byte[] content = Files.readAllBytes(file.toPath());
+            content[content.length - 1] ^= 0x01;
+            Files.write(file.toPath(), content);
+        }
+
+        // altered entries are detected and replaced
+        final LinesLoader second = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", second));
+        Assertions.assertEquals(first.parsed.get(), second.parsed.get());
+        Assertions.assertEquals(first.lines, second.lines);
+
+    }
+
+    @Test
+    public void testDecodingFailure() {
+
+        manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        final LinesLoader first = new LinesLoader("lines-1");
+        Assertions.assertTrue(manager.feed(".*", first));
+
+        // decoding failures fall back to parsing
+        final LinesLoader second = new LinesLoader("lines-1", true);
+        Assertions.assertTrue(manager.feed(".*", second));
+        Assertions.assertEquals(first.parsed.get(), second.parsed.get());
+        Assertions.assertEquals(first.lines, second.lines);
+
+    }
+
+    @Test
+    public void testNotCacheable() {
+        manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        final int[] count = new int[1];
+        Assertions.assertTrue(manager.feed(".*", new DataLoader() {
+            public boolean stillAcceptsData() {
+                return true;
+            }
+            public void loadData(InputStream input, String name) {
+                ++count[0];
+            }
+        }));
+        Assertions.assertTrue(count[0] > 10);
+        Assertions.assertEquals(0, entries());
+    }
+
+    private int entries() {
+        final File[] files = tempDir.toFile().listFiles();
+        return files == null ? 0 : files.length;
+    }
+
+    @BeforeEach
+    public void setUp() throws URISyntaxException {
+        manager = new DataProvidersManager();
+        manager.addProvider(new DirectoryCrawler(new File(getClass().getClassLoader().
+                                                          getResource("compressed-data").toURI().getPath())));
+    }
+
+    private static class LinesLoader implements CacheableDataLoader<Integer> {
+
+        private final String identifier;
+        private final boolean failDecoding;
+        private final AtomicInteger parsed = new AtomicInteger();
+        private final List<String> names = new ArrayList<>();
+        private final List<Integer> lines = new ArrayList<>();
+
+        LinesLoader(final String identifier) {
+            this(identifier, false);
+        }
+
+        LinesLoader(final String identifier, final boolean failDecoding) {
+            this.identifier   = identifier;
+            this.failDecoding = failDecoding;
+        }
+
+        public boolean stillAcceptsData() {
+            return true;
+        }
+
+        public Integer parse(InputStream input, String name) throws IOException {
+            parsed.incrementAndGet();
+            int count = 0;
+            for (int c = input.read(); c >= 0; c = input.read()) {
+                if (c == '\n') {
+                    ++count;
+                }
+            }
+            return count;
+        }
+
+        public void merge(Integer parsed, String name) {
+            names.add(name);
+            lines.add(parsed);
+        }
+
+        public ParsedDataCodec<Integer> getCodec() {
+            return new ParsedDataCodec<Integer>() {
+                public String getIdentifier() {
+                    return identifier;
+                }
+                public void encode(Integer parsed, DataOutput output) throws IOException {
+                    output.writeInt(parsed);
+                }
+                public Integer decode(ByteBuffer buffer, String name) {
+                    if (failDecoding) {
+                        throw new OrekitException(OrekitMessages.UNSUPPORTED_FILE_FORMAT, name);
+                    }
+                    return buffer.getInt();
+                }
+            };
+        }
+
+    }
+
+}
@@ -559,6 +559,43 @@ public class PoissonSeriesParserTest {
 
     }
 
+    @Test
+    public void testCompileBatch() throws SecurityException, NoSuchMethodException, IllegalArgumentException, IllegalAccessException, InvocationTargetException {
+        String directory = "/assets/org/orekit/IERS-conventions/";
+        PoissonSeriesParser parser =
+                new PoissonSeriesParser(17).withPolynomialPart('t', PolynomialParser.Unit.NO_UNITS).
+                    withFirstDelaunay(4).withFirstPlanetary(9).withSinCos(0, 2, 1.0, 3, 1.0);
+        PoissonSeries xSeries =
+                        parser.parse(getClass().getResourceAsStream(directory + "2010/tab5.2a.txt"), "2010/tab5.2a.txt");
+        PoissonSeries ySeries =
+                        parser.parse(getClass().getResourceAsStream(directory + "2010/tab5.2b.txt"), "2010/tab5.2b.txt");
+        PoissonSeries sSeries =
+                        parser.parse(getClass().getResourceAsStream(directory + "2010/tab5.2d.txt"), "2010/tab5.2d.txt");
+        PoissonSeries.CompiledSeries xysSeries =
+                PoissonSeries.compile(xSeries, ySeries, sSeries);
+
+        Method m = IERSConventions.class.getDeclaredMethod("getNutationArguments", TimeScale.class);
+        m.setAccessible(true);
+        FundamentalNutationArguments arguments =
+                (FundamentalNutationArguments) m.invoke(IERSConventions.IERS_2010, (TimeScale) null);
+
+        // use a number of dates that is not a multiple of internal blocks size
+        final BodiesElements[] elements = new BodiesElements[1001];
+        for (int k = 0; k < elements.length; ++k) {
+            elements[k] = arguments.evaluateAll(AbsoluteDate.J2000_EPOCH.shiftedBy(k * 3 * Constants.JULIAN_DAY));
+        }
+
+        for (final boolean parallel : new boolean[] { false, true }) {
+            final double[][] batch = xysSeries.value(elements, parallel);
+            Assertions.assertEquals(elements.length, batch.length);
+            for (int k = 0; k < elements.length; ++k) {
+                // batch evaluation preserves summation order, results are identical
+                Assertions.assertArrayEquals(xysSeries.value(elements[k]), batch[k], 0.0);
+            }
+        }
+
+    }
+
     @Test
     public void testDerivativesAsField() {
 
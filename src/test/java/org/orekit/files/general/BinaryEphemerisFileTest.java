@@ -0,0 +1,253 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.files.general;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.files.general.OrekitEphemerisFile.OrekitSatelliteEphemeris;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.ChebyshevEphemeris;
+import org.orekit.propagation.analytical.Ephemeris;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeInterval;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+
+class BinaryEphemerisFileTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Frame              frame;
+    private KeplerianPropagator propagator1;
+    private KeplerianPropagator propagator2;
+    private AbsoluteDate       start;
+
+    @Test
+    void testMultipleSatellites() throws IOException {
+
+        // first satellite from an ephemeris file with two segments
+        final OrekitEphemerisFile      ephemerisFile = new OrekitEphemerisFile();
+        final OrekitSatelliteEphemeris satellite     = ephemerisFile.addSatellite("SAT-1");
+        satellite.addNewSegment(sample(propagator1, 0.0, 10800.0));
+        satellite.addNewSegment(sample(propagator1, 10800.0, 21600.0));
+
+        // second satellite from a bounded propagator
+        final Ephemeris ephemeris = new Ephemeris(sample(propagator2, 0.0, 21600.0), 8);
+
+        final BinaryEphemerisWriter writer = new BinaryEphemerisWriter(600.0, 16);
+        writer.addSatellites(ephemerisFile, TimeScalesFactory.getUTC());
+        writer.addSatellite("SAT-2", ephemeris, TimeScalesFactory.getTAI());
+        final Path path = tempDir.resolve("constellation.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writer.write(out);
+        }
+
+        final BinaryEphemerisFile file = BinaryEphemerisFile.open(path, name -> frame);
+        Assertions.assertEquals(Arrays.asList("SAT-1", "SAT-2"), file.getSatellites());
+        Assertions.assertEquals(frame.getName(), file.getFrameName("SAT-1"));
+        Assertions.assertEquals("UTC", file.getTimeScaleName("SAT-1"));
+        Assertions.assertEquals("TAI", file.getTimeScaleName("SAT-2"));
+
+        final BoundedPropagator loaded1 = file.getPropagator("SAT-1");
+        final BoundedPropagator loaded2 = file.getPropagator("SAT-2");
+        Assertions.assertEquals(36, ((ChebyshevEphemeris) loaded1).getSegments());
+        Assertions.assertEquals(1, file.getCoveredRanges("SAT-1").size());
+        Assertions.assertEquals(0.0, loaded1.getMinDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(21600.0, loaded1.getMaxDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(propagator1.getInitialState().getOrbit().getMu(),
+                                ((ChebyshevEphemeris) loaded1).getMu(), 1.0e-15);
+        for (double dt = 0; dt < 21600.0; dt += 97.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(propagator1.getPosition(date, frame),
+                                                      loaded1.getPosition(date, frame)),
+                                    1.0e-2);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(propagator2.getPosition(date, frame),
+                                                      loaded2.getPosition(date, frame)),
+                                    1.0e-2);
+        }
+
+        // propagators built from the file can be used as regular propagators
+        final SpacecraftState state = loaded2.propagate(start.shiftedBy(5000.0));
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(propagator2.getPosition(state.getDate(), frame), state.getPosition()),
+                                1.0e-2);
+
+    }
+
+    @Test
+    void testGappedEphemerisFile() throws IOException {
+
+        // ephemeris file with a one hour gap between two segments
+        final OrekitEphemerisFile      ephemerisFile = new OrekitEphemerisFile();
+        final OrekitSatelliteEphemeris satellite     = ephemerisFile.addSatellite("SAT-1");
+        satellite.addNewSegment(sample(propagator1, 0.0, 7200.0));
+        satellite.addNewSegment(sample(propagator1, 10800.0, 18000.0));
+
+        final BinaryEphemerisWriter writer = new BinaryEphemerisWriter(600.0, 16);
+        writer.addSatellites(ephemerisFile, TimeScalesFactory.getUTC());
+        final Path path = tempDir.resolve("gapped.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writer.write(out);
+        }
+        final BinaryEphemerisFile file = BinaryEphemerisFile.open(path, name -> frame);
+        Assertions.assertEquals(Collections.singletonList("SAT-1"), file.getSatellites());
+
+        // each part of the ephemeris is a separate covered range
+        final List<TimeInterval> ranges = file.getCoveredRanges("SAT-1");
+        Assertions.assertEquals(2, ranges.size());
+        Assertions.assertEquals(0.0,     ranges.get(0).getStartDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(7200.0,  ranges.get(0).getEndDate().durationFrom(start),   1.0e-15);
+        Assertions.assertEquals(10800.0, ranges.get(1).getStartDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(18000.0, ranges.get(1).getEndDate().durationFrom(start),   1.0e-15);
+
+        final BoundedPropagator loaded = file.getPropagator("SAT-1");
+        Assertions.assertEquals(0.0,     loaded.getMinDate().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(18000.0, loaded.getMaxDate().durationFrom(start), 1.0e-15);
+        for (double dt = 0.0; dt < 18000.0; dt += 97.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            if (dt > 7200.0 && dt < 10800.0) {
+                // there are no data inside the gap
+                try {
+                    loaded.getPosition(date, frame);
+                    Assertions.fail("an exception should have been thrown");
+                } catch (OrekitException oe) {
+                    Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+                }
+            } else {
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(propagator1.getPosition(date, frame),
+                                                          loaded.getPosition(date, frame)),
+                                        1.0e-2);
+            }
+        }
+
+    }
+
+    @Test
+    void testUnknownSatellite() throws IOException {
+        final BinaryEphemerisWriter writer = new BinaryEphemerisWriter(900.0, 12);
+        writer.addSatellite("SAT-1", new Ephemeris(sample(propagator1, 0.0, 3600.0), 8), TimeScalesFactory.getUTC());
+        final Path path = tempDir.resolve("single.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writer.write(out);
+        }
+        final BinaryEphemerisFile file = BinaryEphemerisFile.open(path, name -> null);
+        try {
+            file.getPropagator("SAT-2");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.INVALID_SATELLITE_ID, oiae.getSpecifier());
+        }
+        try {
+            file.getPropagator("SAT-1");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.FRAME_NOT_ATTACHED, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    void testWrongFormat() throws IOException {
+        final Path path = tempDir.resolve("wrong.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(path))) {
+            out.writeUTF("NOT-A-BINARY-EPHEMERIS");
+            out.writeInt(1);
+        }
+        try {
+            BinaryEphemerisFile.open(path, name -> frame);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+        Assertions.assertThrows(OrekitIllegalArgumentException.class, () -> new BinaryEphemerisWriter(-1.0, 12));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class, () -> new BinaryEphemerisWriter(600.0, 1));
+    }
+
+    @Test
+    void testCorruptedBoundaries() throws IOException {
+        final BinaryEphemerisWriter writer = new BinaryEphemerisWriter(900.0, 12);
+        writer.addSatellite("SAT-1", new Ephemeris(sample(propagator1, 0.0, 3600.0), 8), TimeScalesFactory.getUTC());
+        final Path path = tempDir.resolve("corrupted.bin");
+        try (OutputStream out = Files.newOutputStream(path)) {
+            writer.write(out);
+        }
+
+        // set the second boundary of the first satellite to 0
+        final byte[]     data      = Files.readAllBytes(path);
+        final ByteBuffer buffer    = ByteBuffer.wrap(data);
+        final int        dataStart = (int) buffer.getLong(2 + BinaryEphemerisWriter.FORMAT.length() + Integer.BYTES);
+        buffer.putDouble(dataStart + Double.BYTES, 0.0);
+        Files.write(path, data);
+
+        try {
+            BinaryEphemerisFile.open(path, name -> frame);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+    }
+
+    private List<SpacecraftState> sample(final KeplerianPropagator propagator, final double t0, final double t1) {
+        final List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = t0; dt <= t1; dt += 60.0) {
+            states.add(propagator.propagate(start.shiftedBy(dt)));
+        }
+        return states;
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        frame = FramesFactory.getGCRF();
+        start = new AbsoluteDate(2024, 3, 14, 12, 0, 0.0, TimeScalesFactory.getUTC());
+        propagator1 = new KeplerianPropagator(new KeplerianOrbit(7.0e6, 0.001, FastMath.toRadians(51.6), 0.0, 0.0, 0.0,
+                                                                 PositionAngleType.TRUE, frame, start,
+                                                                 Constants.EIGEN5C_EARTH_MU));
+        propagator2 = new KeplerianPropagator(new KeplerianOrbit(2.66e7, 0.01, FastMath.toRadians(55.0), 1.0, 2.0, 3.0,
+                                                                 PositionAngleType.TRUE, frame, start,
+                                                                 Constants.EIGEN5C_EARTH_MU));
+    }
+
+}
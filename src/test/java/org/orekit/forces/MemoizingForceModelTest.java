@@ -0,0 +1,280 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.FieldCartesianOrbit;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.FieldPVCoordinates;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+class MemoizingForceModelTest {
+
+    private HolmesFeatherstoneAttractionModel gravity;
+    private SpacecraftState state;
+
+    @Test
+    void testRepeatedEvaluation() {
+        final MemoizingForceModel memoizing = new MemoizingForceModel(gravity);
+        Assertions.assertSame(gravity, memoizing.getUnderlyingModel());
+        Assertions.assertTrue(memoizing.dependsOnPositionOnly());
+
+        final double[] parameters = gravity.getParameters(state.getDate());
+        final Vector3D reference  = gravity.acceleration(state, parameters);
+        final Vector3D first      = memoizing.acceleration(state, parameters);
+        final Vector3D second     = memoizing.acceleration(state, parameters);
+        Assertions.assertEquals(reference, first);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(1, memoizing.getMisses());
+
+        // changing either date, position or parameters is a cache miss
+        memoizing.acceleration(state.shiftedBy(1.0), parameters);
+        memoizing.acceleration(state, new double[] { 1.001 * parameters[0] });
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(3, memoizing.getMisses());
+
+        memoizing.clear();
+        memoizing.acceleration(state, parameters);
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(4, memoizing.getMisses());
+
+    }
+
+    @Test
+    void testEviction() {
+        final MemoizingForceModel memoizing = new MemoizingForceModel(gravity, 2);
+        final double[] parameters = gravity.getParameters(state.getDate());
+        memoizing.acceleration(state, parameters);
+        memoizing.acceleration(state.shiftedBy(10.0), parameters);
+        memoizing.acceleration(state, parameters);
+        Assertions.assertEquals(1, memoizing.getHits());
+        memoizing.acceleration(state.shiftedBy(20.0), parameters);
+        // entry not referenced since its insertion has been evicted, referenced entry is still there
+        memoizing.acceleration(state, parameters);
+        Assertions.assertEquals(2, memoizing.getHits());
+        memoizing.acceleration(state.shiftedBy(10.0), parameters);
+        Assertions.assertEquals(2, memoizing.getHits());
+        Assertions.assertEquals(4, memoizing.getMisses());
+    }
+
+    @Test
+    void testConcurrentMisses() throws InterruptedException, ExecutionException, TimeoutException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final ForceModel underlying = Mockito.mock(ForceModel.class);
+        Mockito.when(underlying.dependsOnPositionOnly()).thenReturn(true);
+        Mockito.when(underlying.acceleration(Mockito.any(SpacecraftState.class), Mockito.any(double[].class))).
+                thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    return Vector3D.PLUS_I;
+                });
+        final MemoizingForceModel memoizing = new MemoizingForceModel(underlying);
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Vector3D> first = executorService.submit(() -> memoizing.acceleration(state, new double[0]));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // a concurrent request for the same key waits for the first evaluation
+            final Future<Vector3D> second = executorService.submit(() -> memoizing.acceleration(state, new double[0]));
+            Assertions.assertFalse(first.isDone());
+            release.countDown();
+            Assertions.assertSame(Vector3D.PLUS_I, first.get(10, TimeUnit.SECONDS));
+            Assertions.assertSame(Vector3D.PLUS_I, second.get(10, TimeUnit.SECONDS));
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Mockito.verify(underlying, Mockito.times(1)).acceleration(Mockito.any(SpacecraftState.class),
+                                                                  Mockito.any(double[].class));
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(1, memoizing.getMisses());
+    }
+
+    @Test
+    void testFailedEvaluationIsNotCached() {
+        final ForceModel underlying = Mockito.mock(ForceModel.class);
+        Mockito.when(underlying.dependsOnPositionOnly()).thenReturn(true);
+        Mockito.when(underlying.acceleration(Mockito.any(SpacecraftState.class), Mockito.any(double[].class))).
+                thenThrow(new IllegalStateException("inTest")).
+                thenReturn(Vector3D.PLUS_J);
+        final MemoizingForceModel memoizing = new MemoizingForceModel(underlying);
+        final IllegalStateException ise =
+                Assertions.assertThrows(IllegalStateException.class,
+                                        () -> memoizing.acceleration(state, new double[0]));
+        Assertions.assertEquals("inTest", ise.getMessage());
+        Assertions.assertSame(Vector3D.PLUS_J, memoizing.acceleration(state, new double[0]));
+        Assertions.assertSame(Vector3D.PLUS_J, memoizing.acceleration(state, new double[0]));
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(2, memoizing.getMisses());
+    }
+
+    @Test
+    void testBatchedEvaluation() {
+        final MemoizingForceModel memoizing = new MemoizingForceModel(gravity);
+        final double[] parameters = gravity.getParameters(state.getDate());
+        final SpacecraftState other =
+                new SpacecraftState(new CartesianOrbit(new PVCoordinates(state.getPosition().scalarMultiply(1.01),
+                                                                         state.getPVCoordinates().getVelocity()),
+                                                       state.getFrame(), state.getDate(), state.getOrbit().getMu()));
+        final SpacecraftState[] states = new SpacecraftState[] { state, other };
+
+        // only the missing acceleration is computed
+        final Vector3D single = memoizing.acceleration(state, parameters);
+        final Vector3D[] first = memoizing.acceleration(states, parameters);
+        Assertions.assertSame(single, first[0]);
+        Assertions.assertEquals(gravity.acceleration(other, parameters), first[1]);
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(2, memoizing.getMisses());
+
+        // everything is cached now
+        final Vector3D[] second = memoizing.acceleration(states, parameters);
+        Assertions.assertSame(first[0], second[0]);
+        Assertions.assertSame(first[1], second[1]);
+        Assertions.assertEquals(3, memoizing.getHits());
+        Assertions.assertEquals(2, memoizing.getMisses());
+    }
+
+    @Test
+    void testModifierBatchedEvaluation() {
+        final ForceModel         underlying = Mockito.mock(ForceModel.class);
+        final ForceModelModifier modifier   = new ForceModelModifier() {
+            public ForceModel getUnderlyingModel() {
+                return underlying;
+            }
+            public Vector3D acceleration(final SpacecraftState s, final double[] parameters) {
+                // the modifier changes the underlying acceleration
+                return getUnderlyingModel().acceleration(s, parameters).scalarMultiply(2.0);
+            }
+        };
+        final SpacecraftState[]  states     = new SpacecraftState[] { state, state.shiftedBy(1.0) };
+        final double[]           parameters = new double[0];
+        Mockito.when(underlying.acceleration(states[0], parameters)).thenReturn(Vector3D.PLUS_I);
+        Mockito.when(underlying.acceleration(states[1], parameters)).thenReturn(Vector3D.PLUS_J);
+        final Vector3D[] accelerations = modifier.acceleration(states, parameters);
+        Assertions.assertEquals(new Vector3D(2.0, 0.0, 0.0), accelerations[0]);
+        Assertions.assertEquals(new Vector3D(0.0, 2.0, 0.0), accelerations[1]);
+        Mockito.verify(underlying, Mockito.never()).acceleration(states, parameters);
+    }
+
+    @Test
+    void testGradient() {
+        final MemoizingForceModel memoizing = new MemoizingForceModel(gravity);
+        final FieldSpacecraftState<Gradient> fieldState = gradientState();
+        final Gradient[] parameters = gravity.getParameters(fieldState.getDate().getField());
+
+        final FieldVector3D<Gradient> reference = gravity.acceleration(fieldState, parameters);
+        final FieldVector3D<Gradient> first     = memoizing.acceleration(fieldState, parameters);
+        final FieldVector3D<Gradient> second    = memoizing.acceleration(fieldState, parameters);
+        Assertions.assertEquals(reference, first);
+        Assertions.assertSame(first, second);
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(1, memoizing.getMisses());
+
+        // the value part of the gradient evaluation is not reused for regular evaluation,
+        // so the result does not depend on the evaluations order
+        final Vector3D value = memoizing.acceleration(state, gravity.getParameters(state.getDate()));
+        Assertions.assertEquals(1, memoizing.getHits());
+        Assertions.assertEquals(2, memoizing.getMisses());
+        Assertions.assertEquals(gravity.acceleration(state, gravity.getParameters(state.getDate())), value);
+
+    }
+
+    @Test
+    void testNotPositionOnly() {
+        final ForceModel underlying = Mockito.mock(ForceModel.class);
+        Mockito.when(underlying.dependsOnPositionOnly()).thenReturn(false);
+        Mockito.when(underlying.acceleration(Mockito.any(SpacecraftState.class), Mockito.any(double[].class))).
+                thenReturn(Vector3D.PLUS_I);
+        final MemoizingForceModel memoizing = new MemoizingForceModel(underlying);
+        memoizing.acceleration(state, new double[0]);
+        memoizing.acceleration(state, new double[0]);
+        Mockito.verify(underlying, Mockito.times(2)).acceleration(Mockito.any(SpacecraftState.class),
+                                                                  Mockito.any(double[].class));
+        Assertions.assertEquals(0, memoizing.getHits());
+        Assertions.assertEquals(0, memoizing.getMisses());
+    }
+
+    @Test
+    void testWrongCapacity() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new MemoizingForceModel(gravity, 0));
+    }
+
+    private FieldSpacecraftState<Gradient> gradientState() {
+        final GradientField field = GradientField.getField(6);
+        final PVCoordinates   pv  = state.getPVCoordinates();
+        final FieldVector3D<Gradient> p =
+                new FieldVector3D<>(Gradient.variable(6, 0, pv.getPosition().getX()),
+                                    Gradient.variable(6, 1, pv.getPosition().getY()),
+                                    Gradient.variable(6, 2, pv.getPosition().getZ()));
+        final FieldVector3D<Gradient> v =
+                new FieldVector3D<>(Gradient.variable(6, 3, pv.getVelocity().getX()),
+                                    Gradient.variable(6, 4, pv.getVelocity().getY()),
+                                    Gradient.variable(6, 5, pv.getVelocity().getZ()));
+        final FieldCartesianOrbit<Gradient> orbit =
+                new FieldCartesianOrbit<>(new FieldPVCoordinates<>(p, v), state.getFrame(),
+                                          new FieldAbsoluteDate<>(field, state.getDate()),
+                                          field.getZero().newInstance(state.getOrbit().getMu()));
+        return new FieldSpacecraftState<>(orbit);
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        gravity = new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                                        GravityFieldFactory.getNormalizedProvider(20, 20));
+        final Orbit orbit = new KeplerianOrbit(7201009.7124401, 1e-3, 1.72, 1.62, 5.89, 0.0,
+                                               PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                               new AbsoluteDate(2004, 4, 1, TimeScalesFactory.getUTC()),
+                                               Constants.EIGEN5C_EARTH_MU);
+        state = new SpacecraftState(new CartesianOrbit(orbit));
+    }
+
+}
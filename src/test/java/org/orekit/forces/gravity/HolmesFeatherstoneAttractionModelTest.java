@@ -18,6 +18,8 @@ package org.orekit.forces.gravity;
 
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
 
 import org.hipparchus.Field;
 import org.hipparchus.analysis.differentiation.DSFactory;
@@ -631,6 +633,70 @@ public class HolmesFeatherstoneAttractionModelTest extends AbstractLegacyForceMo
 
     }
 
+    @Test
+    void testBatchedGradient() {
+
+        int max = 50;
+        NormalizedSphericalHarmonicsProvider provider = new GleasonProvider(max, max);
+        HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, provider);
+
+        final List<Vector3D> list = new ArrayList<>();
+        for (double r = 1.1; r < 1.5; r += 0.2) {
+            for (double lambda = 0; lambda < 2 * FastMath.PI; lambda += 0.5) {
+                for (double theta = 0.05; theta < 3.11; theta += 0.13) {
+                    list.add(new Vector3D(r * FastMath.sin(theta) * FastMath.cos(lambda),
+                                          r * FastMath.sin(theta) * FastMath.sin(lambda),
+                                          r * FastMath.cos(theta)));
+                }
+            }
+        }
+        final Vector3D[] positions = list.toArray(new Vector3D[0]);
+
+        // batched evaluation performs the same operations as single evaluation
+        final double[][] gradients = model.gradient(null, positions, model.getMu());
+        Assertions.assertEquals(positions.length, gradients.length);
+        for (int i = 0; i < positions.length; ++i) {
+            Assertions.assertArrayEquals(model.gradient(null, positions[i], model.getMu()), gradients[i], 0.0);
+        }
+
+        Assertions.assertEquals(0, model.gradient(null, new Vector3D[0], model.getMu()).length);
+
+    }
+
+    @Test
+    void testBatchedAcceleration() {
+
+        Utils.setDataRoot("regular-data:potential/grgs-format");
+        GravityFieldFactory.addPotentialCoefficientsReader(new GRGSFormatReader("grim4s4_gr", true));
+        HolmesFeatherstoneAttractionModel model =
+                new HolmesFeatherstoneAttractionModel(itrf, GravityFieldFactory.getNormalizedProvider(50, 50));
+
+        final AbsoluteDate date = new AbsoluteDate(new DateComponents(2000, 7, 1),
+                                                   new TimeComponents(13, 59, 27.816),
+                                                   TimeScalesFactory.getUTC());
+        final SpacecraftState[] sameDate      = new SpacecraftState[8];
+        final SpacecraftState[] differentDate = new SpacecraftState[8];
+        for (int i = 0; i < sameDate.length; ++i) {
+            final Orbit orbit = new KeplerianOrbit(7201009.7124401 + 1000.0 * i, 1e-3,
+                                                   FastMath.toRadians(98.7 - 5 * i),
+                                                   FastMath.toRadians(93.0), FastMath.toRadians(15.0 * i),
+                                                   0.3 * i, PositionAngleType.MEAN,
+                                                   FramesFactory.getEME2000(), date, mu);
+            sameDate[i]      = new SpacecraftState(orbit);
+            differentDate[i] = new SpacecraftState(orbit.shiftedBy(10.0 * i));
+        }
+
+        for (final SpacecraftState[] states : new SpacecraftState[][] { sameDate, differentDate }) {
+            final Vector3D[] accelerations = model.acceleration(states, model.getParameters(date));
+            for (int i = 0; i < states.length; ++i) {
+                final Vector3D single = model.acceleration(states[i], model.getParameters(date));
+                Assertions.assertEquals(0.0, Vector3D.distance(single, accelerations[i]), 0.0);
+            }
+        }
+
+    }
+
     @Test
     void testHessian() {
 
@@ -0,0 +1,227 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.forces.gravity;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import org.hipparchus.analysis.differentiation.Gradient;
+import org.hipparchus.analysis.differentiation.GradientField;
+import org.hipparchus.geometry.euclidean.threed.FieldVector3D;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.CartesianOrbit;
+import org.orekit.orbits.FieldCartesianOrbit;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.FieldSpacecraftState;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.FieldPVCoordinates;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+public class TabulatedAttractionModelTest {
+
+    private Frame                                itrf;
+    private NormalizedSphericalHarmonicsProvider provider;
+    private AbsoluteDate                         date;
+    private TabulatedAttractionModel             tabulated;
+
+    @Test
+    public void testInterpolationError() {
+        Assertions.assertEquals(0.0, tabulated.getDate().durationFrom(date), 1.0e-15);
+        Assertions.assertEquals(6.7e6, tabulated.getMinRadius(), 1.0e-9);
+        Assertions.assertEquals(7.2e6, tabulated.getMaxRadius(), 1.0e-9);
+        Assertions.assertTrue(tabulated.getNodesNumber() >= 11 * 90 * 180);
+        final double error = tabulated.estimateMaxError(1000, 0x5c5d7a5f8a1b3e2dL);
+        Assertions.assertTrue(error > 0);
+        Assertions.assertTrue(error < 1.0e-8);
+    }
+
+    @Test
+    public void testAcceleration() {
+        final HolmesFeatherstoneAttractionModel exact = tabulated.getExactModel();
+        for (double dt = 0; dt < 6000; dt += 60) {
+            final SpacecraftState s = state(7.0e6).shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(exact.acceleration(s, exact.getParameters(s.getDate())),
+                                                      tabulated.acceleration(s, tabulated.getParameters(s.getDate()))),
+                                    1.0e-8);
+        }
+    }
+
+    @Test
+    public void testOutsideShell() {
+        final HolmesFeatherstoneAttractionModel exact = tabulated.getExactModel();
+        for (final double a : new double[] { 6.6e6, 8.0e6 }) {
+            // outside of the shell, we get the exact acceleration
+            final SpacecraftState s = state(a);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(exact.acceleration(s, exact.getParameters(s.getDate())),
+                                                      tabulated.acceleration(s, tabulated.getParameters(s.getDate()))),
+                                    1.0e-20);
+        }
+    }
+
+    @Test
+    public void testMuScaling() {
+        final SpacecraftState s = state(7.0e6);
+        final double[] parameters = tabulated.getParameters(s.getDate());
+        final Vector3D reference  = tabulated.acceleration(s, parameters);
+        final Vector3D scaled     = tabulated.acceleration(s, new double[] { 1.5 * parameters[0] });
+        Assertions.assertEquals(0.0, Vector3D.distance(reference.scalarMultiply(1.5), scaled), 1.0e-15 * scaled.getNorm());
+    }
+
+    @Test
+    public void testGradient() {
+        final SpacecraftState                   s      = state(7.0e6);
+        final FieldSpacecraftState<Gradient>    fs     = gradientState(s);
+        final HolmesFeatherstoneAttractionModel exact  = tabulated.getExactModel();
+        final FieldVector3D<Gradient> aTab = tabulated.acceleration(fs, tabulated.getParameters(fs.getDate().getField()));
+        final FieldVector3D<Gradient> aRef = exact.acceleration(fs, exact.getParameters(fs.getDate().getField()));
+
+        // value part is consistent with regular evaluation
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(tabulated.acceleration(s, tabulated.getParameters(s.getDate())),
+                                                  aTab.toVector3D()),
+                                1.0e-15);
+
+        // derivatives with respect to position are the derivatives of the interpolating polynomials
+        for (int i = 0; i < 3; ++i) {
+            Assertions.assertEquals(aRef.getX().getPartialDerivative(i), aTab.getX().getPartialDerivative(i), 1.0e-12);
+            Assertions.assertEquals(aRef.getY().getPartialDerivative(i), aTab.getY().getPartialDerivative(i), 1.0e-12);
+            Assertions.assertEquals(aRef.getZ().getPartialDerivative(i), aTab.getZ().getPartialDerivative(i), 1.0e-12);
+        }
+
+    }
+
+    @Test
+    public void testWriteRead() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        tabulated.write(bos);
+        Assertions.assertTrue(bos.size() > 8 * 3 * tabulated.getNodesNumber());
+        bos.write(42);
+        final ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
+        final TabulatedAttractionModel loaded = TabulatedAttractionModel.read(bis, "grid", itrf, provider);
+
+        // trailing data in the caller stream are not consumed
+        Assertions.assertEquals(42, bis.read());
+        Assertions.assertEquals(-1, bis.read());
+
+        Assertions.assertEquals(0.0, loaded.getDate().durationFrom(date), 1.0e-15);
+        Assertions.assertEquals(tabulated.getNodesNumber(), loaded.getNodesNumber());
+        for (double dt = 0; dt < 6000; dt += 600) {
+            final SpacecraftState s = state(7.0e6).shiftedBy(dt);
+            Assertions.assertEquals(tabulated.acceleration(s, tabulated.getParameters(s.getDate())),
+                                    loaded.acceleration(s, loaded.getParameters(s.getDate())));
+        }
+    }
+
+    @Test
+    public void testReadWrongFormat() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        final DataOutputStream      dos = new DataOutputStream(bos);
+        dos.writeUTF("NOT-A-GRAVITY-GRID");
+        dos.flush();
+        try {
+            TabulatedAttractionModel.read(new ByteArrayInputStream(bos.toByteArray()), "dummy", itrf, provider);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+            Assertions.assertEquals("dummy", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    public void testReadWrongDegree() throws IOException {
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        tabulated.write(bos);
+        try {
+            TabulatedAttractionModel.read(new ByteArrayInputStream(bos.toByteArray()), "grid",
+                                          itrf, GravityFieldFactory.getNormalizedProvider(4, 4));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.INCONSISTENT_NUMBER_OF_ELEMENTS, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    public void testWrongSettings() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new TabulatedAttractionModel(itrf, provider, date, 6.7e6, 7.2e6,
+                                                                   5.0e4, FastMath.toRadians(2.0), 1));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new TabulatedAttractionModel(itrf, provider, date, 6.7e6, 7.2e6,
+                                                                   -5.0e4, FastMath.toRadians(2.0), 6));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new TabulatedAttractionModel(itrf, provider, date, 7.2e6, 6.7e6,
+                                                                   5.0e4, FastMath.toRadians(2.0), 6));
+    }
+
+    private SpacecraftState state(final double a) {
+        final Orbit orbit = new KeplerianOrbit(a, 1.0e-3, 1.72, 1.62, 5.89, 0.0,
+                                               PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                               date, provider.getMu());
+        return new SpacecraftState(new CartesianOrbit(orbit));
+    }
+
+    private FieldSpacecraftState<Gradient> gradientState(final SpacecraftState state) {
+        final GradientField field = GradientField.getField(6);
+        final PVCoordinates pv    = state.getPVCoordinates();
+        final FieldVector3D<Gradient> p =
+                new FieldVector3D<>(Gradient.variable(6, 0, pv.getPosition().getX()),
+                                    Gradient.variable(6, 1, pv.getPosition().getY()),
+                                    Gradient.variable(6, 2, pv.getPosition().getZ()));
+        final FieldVector3D<Gradient> v =
+                new FieldVector3D<>(Gradient.variable(6, 3, pv.getVelocity().getX()),
+                                    Gradient.variable(6, 4, pv.getVelocity().getY()),
+                                    Gradient.variable(6, 5, pv.getVelocity().getZ()));
+        final FieldCartesianOrbit<Gradient> orbit =
+                new FieldCartesianOrbit<>(new FieldPVCoordinates<>(p, v), state.getFrame(),
+                                          new FieldAbsoluteDate<>(field, state.getDate()),
+                                          field.getZero().newInstance(state.getOrbit().getMu()));
+        return new FieldSpacecraftState<>(orbit);
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        itrf      = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        provider  = GravityFieldFactory.getNormalizedProvider(8, 8);
+        date      = new AbsoluteDate(2004, 4, 1, TimeScalesFactory.getUTC());
+        tabulated = new TabulatedAttractionModel(itrf, provider, date, 6.7e6, 7.2e6,
+                                                 5.0e4, FastMath.toRadians(2.0), 6);
+    }
+
+}
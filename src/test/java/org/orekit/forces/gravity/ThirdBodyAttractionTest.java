@@ -395,6 +395,35 @@ public class ThirdBodyAttractionTest extends AbstractLegacyForceModelTest {
 
     }
 
+    @Test
+    void testBatchedAcceleration() {
+        final AbsoluteDate date = new AbsoluteDate(2004, 4, 1, TimeScalesFactory.getUTC());
+        final ThirdBodyAttraction sun = new ThirdBodyAttraction(CelestialBodyFactory.getSun());
+        final double[] parameters = sun.getParameters(date);
+        final SpacecraftState[] states = new SpacecraftState[5];
+        for (int i = 0; i < states.length; ++i) {
+            states[i] = new SpacecraftState(new KeplerianOrbit(7.0e6 + i * 1.0e5, 0.01, 0.3 * i, 0.2, 0.4, 1.1 * i,
+                                                               PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                                               date, mu));
+        }
+
+        // shared date and frame, body position is computed once
+        final Vector3D[] batched = sun.acceleration(states, parameters);
+        for (int i = 0; i < states.length; ++i) {
+            Assertions.assertEquals(sun.acceleration(states[i], parameters), batched[i]);
+        }
+
+        // different dates, fall back to individual evaluations
+        states[2] = states[2].shiftedBy(60.0);
+        final Vector3D[] fallback = sun.acceleration(states, parameters);
+        for (int i = 0; i < states.length; ++i) {
+            Assertions.assertEquals(sun.acceleration(states[i], parameters), fallback[i]);
+        }
+
+        Assertions.assertEquals(0, sun.acceleration(new SpacecraftState[0], parameters).length);
+
+    }
+
     private static abstract class ReferenceChecker implements OrekitFixedStepHandler {
 
         private final AbsoluteDate reference;
@@ -245,6 +245,67 @@ public class CachedTransformProviderTest {
 
     }
 
+    @Test
+    public void testCounters() {
+        final CachedTransformProvider cachedTransformProvider = buildCache(20);
+        final List<AbsoluteDate> dates = generateDates(new Well19937a(0x5ad3e1b6a42c93f1L), 200, 5);
+        for (final AbsoluteDate date : dates) {
+            cachedTransformProvider.getTransform(date);
+        }
+        Assertions.assertEquals(dates.size(), cachedTransformProvider.getHits() + cachedTransformProvider.getMisses());
+        Assertions.assertEquals(earth1.count, cachedTransformProvider.getMisses());
+        Assertions.assertEquals(cachedTransformProvider.getMisses() - cachedTransformProvider.getCacheSize(),
+                                cachedTransformProvider.getEvictions());
+    }
+
+    @Test
+    public void testPopulate() throws InterruptedException, ExecutionException {
+        final CachedTransformProvider cachedTransformProvider = buildCache(100);
+        final List<AbsoluteDate> grid = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            grid.add(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(60.0 * i));
+        }
+        cachedTransformProvider.populate(grid);
+        cachedTransformProvider.populateKinematic(grid);
+        cachedTransformProvider.populateStatic(grid);
+        Assertions.assertEquals(300, earth1.count);
+        Assertions.assertEquals(300, cachedTransformProvider.getMisses());
+
+        // parallel run on the same grid only hits the cache
+        final List<Callable<Transform>> tasks = new ArrayList<>();
+        for (int k = 0; k < 10; k++) {
+            for (final AbsoluteDate date : grid) {
+                tasks.add(() -> {
+                    cachedTransformProvider.getKinematicTransform(date);
+                    cachedTransformProvider.getStaticTransform(date);
+                    return cachedTransformProvider.getTransform(date);
+                });
+            }
+        }
+        final ExecutorService executorService = Executors.newFixedThreadPool(8);
+        for (final Future<Transform> future : executorService.invokeAll(tasks)) {
+            Assertions.assertNotNull(future.get());
+        }
+        executorService.shutdown();
+        Assertions.assertEquals(300, earth1.count);
+        Assertions.assertEquals(3000, cachedTransformProvider.getHits());
+        Assertions.assertEquals(0, cachedTransformProvider.getEvictions());
+    }
+
+    @Test
+    public void testPeerProvider() {
+        final Frame frame = new Frame(inertialFrame, Transform.IDENTITY, "peered", true);
+        Assertions.assertNull(frame.getPeerCachedTransformProvider());
+        frame.setPeerCaching(inertialFrame, 10);
+        final CachedTransformProvider provider = frame.getPeerCachedTransformProvider();
+        Assertions.assertSame(frame, provider.getOrigin());
+        Assertions.assertSame(inertialFrame, provider.getDestination());
+        frame.getTransformTo(inertialFrame, AbsoluteDate.ARBITRARY_EPOCH);
+        frame.getTransformTo(inertialFrame, AbsoluteDate.ARBITRARY_EPOCH);
+        Assertions.assertEquals(1, provider.getMisses());
+        Assertions.assertEquals(1, provider.getHits());
+    }
+
     private CachedTransformProvider buildCache(final int size) {
         return new CachedTransformProvider(earth1, inertialFrame,
                                            d -> earth1.getTransformTo(inertialFrame, d),
@@ -0,0 +1,117 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.orekit.time.AbsoluteDate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ClockCacheTest {
+
+    @Test
+    public void testSlowGenerationDoesNotBlockOtherDates()
+        throws InterruptedException, ExecutionException, TimeoutException {
+
+        final AbsoluteDate   slowDate = AbsoluteDate.ARBITRARY_EPOCH;
+        final CountDownLatch started  = new CountDownLatch(1);
+        final CountDownLatch release  = new CountDownLatch(1);
+        final AtomicInteger  calls    = new AtomicInteger();
+        final ClockCache<Double> cache = new ClockCache<>(10, date -> {
+            calls.incrementAndGet();
+            if (date.equals(slowDate)) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return date.durationFrom(slowDate);
+        });
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        try {
+            final Future<Double> slow = executorService.submit(() -> cache.get(slowDate));
+            Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+            // other dates are served while the slow generation is in progress
+            for (int i = 1; i <= 50; ++i) {
+                Assertions.assertEquals(i, cache.get(slowDate.shiftedBy(i)), 1.0e-15);
+            }
+
+            // a concurrent request for the slow date waits for the first generation
+            final Future<Double> waiting = executorService.submit(() -> cache.get(slowDate));
+            Assertions.assertFalse(slow.isDone());
+            release.countDown();
+            Assertions.assertEquals(0.0, slow.get(10, TimeUnit.SECONDS), 1.0e-15);
+            Assertions.assertEquals(0.0, waiting.get(10, TimeUnit.SECONDS), 1.0e-15);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // the slow date was generated only once
+        Assertions.assertEquals(51, calls.get());
+        Assertions.assertEquals(51, cache.getMisses());
+        Assertions.assertEquals(1, cache.getHits());
+
+    }
+
+    @Test
+    public void testReentrantGeneration() {
+        // generating a value may need values from the same cache at other dates
+        final ClockCache<Integer>[] holder = new ClockCache[1];
+        holder[0] = new ClockCache<>(10, date -> {
+            final double dt = date.durationFrom(AbsoluteDate.ARBITRARY_EPOCH);
+            return dt <= 0 ? 0 : 1 + holder[0].get(date.shiftedBy(-1.0));
+        });
+        Assertions.assertEquals(5, holder[0].get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5.0)));
+        Assertions.assertEquals(6, holder[0].getMisses());
+        Assertions.assertEquals(6, holder[0].get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(6.0)));
+        Assertions.assertEquals(7, holder[0].getMisses());
+        Assertions.assertEquals(1, holder[0].getHits());
+    }
+
+    @Test
+    public void testFailedGenerationIsNotCached() {
+        final AtomicInteger calls = new AtomicInteger();
+        final ClockCache<Integer> cache = new ClockCache<>(10, date -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("inTest");
+            }
+            return calls.get();
+        });
+        try {
+            cache.get(AbsoluteDate.ARBITRARY_EPOCH);
+            Assertions.fail("an exception should have been thrown");
+        } catch (IllegalStateException ise) {
+            Assertions.assertEquals("inTest", ise.getMessage());
+        }
+        Assertions.assertEquals(2, cache.get(AbsoluteDate.ARBITRARY_EPOCH));
+        Assertions.assertEquals(2, cache.get(AbsoluteDate.ARBITRARY_EPOCH));
+        Assertions.assertEquals(0, cache.getEvictions());
+    }
+
+}
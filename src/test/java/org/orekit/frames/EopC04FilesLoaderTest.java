@@ -18,13 +18,22 @@ package org.orekit.frames;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.orekit.data.AbstractFilesLoaderTest;
+import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DirectoryCrawler;
+import org.orekit.data.ParsedDataCache;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.time.ChronologicalComparator;
 import org.orekit.time.TimeScalesFactory;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
@@ -136,6 +145,74 @@ public class EopC04FilesLoaderTest extends AbstractFilesLoaderTest {
 
     }
 
+    @Test
+    void testParsedDataCache(@TempDir Path tempDir) throws URISyntaxException {
+        setRoot("eopc04");
+        DataProvidersManager cachedManager = new DataProvidersManager();
+        cachedManager.addProvider(new DirectoryCrawler(new File(getClass().getClassLoader().
+                                                                getResource("eopc04").toURI().getPath())));
+        cachedManager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        IERSConventions.NutationCorrectionConverter converter =
+                IERSConventions.IERS_2010.getNutationCorrectionConverter();
+
+        SortedSet<EOPEntry> reference = new TreeSet<>(new ChronologicalComparator());
+        new EopC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME, manager, () -> utc).fillHistory(converter, reference);
+
+        // first loading fills up the cache, second loading uses it
+        for (int i = 0; i < 2; ++i) {
+            SortedSet<EOPEntry> cached = new TreeSet<>(new ChronologicalComparator());
+            new EopC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME, cachedManager, () -> utc).
+                fillHistory(IERSConventions.IERS_2010, converter, cached);
+            checkSameEntries(reference, cached);
+        }
+        File[] entries = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(entries);
+        int nbEntries = entries.length;
+        Assertions.assertTrue(nbEntries > 0);
+
+        // other conventions use other cache entries
+        SortedSet<EOPEntry> other = new TreeSet<>(new ChronologicalComparator());
+        new EopC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME, cachedManager, () -> utc).
+            fillHistory(IERSConventions.IERS_2003, IERSConventions.IERS_2003.getNutationCorrectionConverter(), other);
+        Assertions.assertEquals(reference.size(), other.size());
+        entries = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(entries);
+        Assertions.assertEquals(2 * nbEntries, entries.length);
+
+        // without conventions, the converter cannot be identified and the cache is not used
+        SortedSet<EOPEntry> unknown = new TreeSet<>(new ChronologicalComparator());
+        new EopC04FilesLoader(FramesFactory.EOPC04_2000_FILENAME, cachedManager, () -> utc).
+            fillHistory(IERSConventions.IERS_1996.getNutationCorrectionConverter(), unknown);
+        Assertions.assertEquals(reference.size(), unknown.size());
+        entries = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(entries);
+        Assertions.assertEquals(2 * nbEntries, entries.length);
+
+    }
+
+    private void checkSameEntries(SortedSet<EOPEntry> reference, SortedSet<EOPEntry> cached) {
+        Assertions.assertEquals(reference.size(), cached.size());
+        List<EOPEntry> list = new ArrayList<>(cached);
+        int i = 0;
+        for (final EOPEntry r : reference) {
+            final EOPEntry c = list.get(i++);
+            Assertions.assertEquals(r.getMjd(),           c.getMjd());
+            Assertions.assertEquals(r.getDate(),          c.getDate());
+            Assertions.assertEquals(r.getUT1MinusUTC(),   c.getUT1MinusUTC(), 0.0);
+            Assertions.assertEquals(r.getLOD(),           c.getLOD(),         0.0);
+            Assertions.assertEquals(r.getX(),             c.getX(),           0.0);
+            Assertions.assertEquals(r.getY(),             c.getY(),           0.0);
+            Assertions.assertEquals(r.getXRate(),         c.getXRate(),       0.0);
+            Assertions.assertEquals(r.getYRate(),         c.getYRate(),       0.0);
+            Assertions.assertEquals(r.getDdPsi(),         c.getDdPsi(),       0.0);
+            Assertions.assertEquals(r.getDdEps(),         c.getDdEps(),       0.0);
+            Assertions.assertEquals(r.getDx(),            c.getDx(),          0.0);
+            Assertions.assertEquals(r.getDy(),            c.getDy(),          0.0);
+            Assertions.assertEquals(r.getITRFType(),      c.getITRFType());
+            Assertions.assertEquals(r.getEopDataType(),   c.getEopDataType());
+        }
+    }
+
     private double asToRad(double as) {
         return as * Constants.ARC_SECONDS_TO_RADIANS;
     }
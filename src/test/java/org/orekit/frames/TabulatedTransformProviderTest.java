@@ -0,0 +1,148 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.frames;
+
+import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.Binary64;
+import org.hipparchus.util.Binary64Field;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.FieldAbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.AngularDerivativesFilter;
+import org.orekit.utils.CartesianDerivativesFilter;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+public class TabulatedTransformProviderTest {
+
+    private AbsoluteDate start;
+    private AbsoluteDate end;
+
+    @Test
+    public void testCIRF() {
+        final TransformProvider raw = rawCIRF();
+        final TabulatedTransformProvider tabulated =
+                new TabulatedTransformProvider(raw,
+                                               CartesianDerivativesFilter.USE_PVA,
+                                               AngularDerivativesFilter.USE_R,
+                                               6, start, end, Constants.JULIAN_DAY / 24);
+        Assertions.assertSame(raw, tabulated.getRawProvider());
+        Assertions.assertEquals(6, tabulated.getGridPoints());
+        Assertions.assertEquals(3600.0, tabulated.getStep(), 1.0e-15);
+        Assertions.assertEquals(0.0, tabulated.getStart().durationFrom(start), 1.0e-15);
+        Assertions.assertEquals(0.0, tabulated.getEnd().durationFrom(end), 1.0e-15);
+        Assertions.assertTrue(tabulated.getMaxRotationError() < 1.0e-12);
+        Assertions.assertEquals(0.0, tabulated.getMaxTranslationError(), 1.0e-15);
+
+        // the error measured at grid intervals middle points is representative of the error everywhere
+        final double bound = 2.0 * tabulated.getMaxRotationError() + 1.0e-15;
+        for (double dt = 0; dt < end.durationFrom(start); dt += 1234.5) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Rotation.distance(raw.getTransform(date).getRotation(),
+                                                      tabulated.getTransform(date).getRotation()),
+                                    bound);
+        }
+
+    }
+
+    @Test
+    public void testOutsideRange() {
+        final TransformProvider raw = rawCIRF();
+        final TabulatedTransformProvider tabulated =
+                new TabulatedTransformProvider(raw,
+                                               CartesianDerivativesFilter.USE_PVA,
+                                               AngularDerivativesFilter.USE_R,
+                                               6, start, end, Constants.JULIAN_DAY / 24);
+        for (final AbsoluteDate date : new AbsoluteDate[] { start.shiftedBy(-1.0), end.shiftedBy(1.0) }) {
+            // outside of tabulated range, we get the exact raw transform
+            Assertions.assertEquals(0.0,
+                                    Rotation.distance(raw.getTransform(date).getRotation(),
+                                                      tabulated.getTransform(date).getRotation()),
+                                    1.0e-20);
+        }
+    }
+
+    @Test
+    public void testField() {
+        final TransformProvider raw = rawCIRF();
+        final TabulatedTransformProvider tabulated =
+                new TabulatedTransformProvider(raw,
+                                               CartesianDerivativesFilter.USE_PVA,
+                                               AngularDerivativesFilter.USE_R,
+                                               6, start, end, Constants.JULIAN_DAY / 24);
+        for (double dt = 0; dt < end.durationFrom(start); dt += 43210.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            final FieldTransform<Binary64> fieldTransform =
+                    tabulated.getTransform(new FieldAbsoluteDate<>(Binary64Field.getInstance(), date));
+            Assertions.assertEquals(0.0,
+                                    Rotation.distance(tabulated.getTransform(date).getRotation(),
+                                                      fieldTransform.getRotation().toRotation()),
+                                    1.0e-15);
+        }
+    }
+
+    @Test
+    public void testTabulatedITRF() {
+        final Frame gcrf       = FramesFactory.getGCRF();
+        final Frame itrf       = FramesFactory.getITRF(IERSConventions.IERS_2010, true);
+        final Frame tabulated  = FramesFactory.buildTabulatedITRF(IERSConventions.IERS_2010, true,
+                                                                  start, end, Constants.JULIAN_DAY / 24);
+        Assertions.assertEquals(itrf.getName() + " (tabulated)", tabulated.getName());
+        Assertions.assertSame(FramesFactory.findEOP(itrf), FramesFactory.findEOP(tabulated));
+        final Vector3D p = new Vector3D(Constants.WGS84_EARTH_EQUATORIAL_RADIUS, 0, 0);
+        for (double dt = 0; dt < end.durationFrom(start); dt += 6789.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            final Vector3D pRef = itrf.getStaticTransformTo(gcrf, date).transformPosition(p);
+            final Vector3D pTab = tabulated.getStaticTransformTo(gcrf, date).transformPosition(p);
+            Assertions.assertEquals(0.0, Vector3D.distance(pRef, pTab), 1.0e-4);
+        }
+    }
+
+    @Test
+    public void testWrongRange() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new TabulatedTransformProvider(rawCIRF(),
+                                                                     CartesianDerivativesFilter.USE_PVA,
+                                                                     AngularDerivativesFilter.USE_R,
+                                                                     6, end, start, 3600.0));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new TabulatedTransformProvider(rawCIRF(),
+                                                                     CartesianDerivativesFilter.USE_PVA,
+                                                                     AngularDerivativesFilter.USE_R,
+                                                                     6, start, end, -3600.0));
+    }
+
+    private TransformProvider rawCIRF() {
+        final Frame cirf = FramesFactory.getCIRF(IERSConventions.IERS_2010, true);
+        return ((ShiftingTransformProvider) cirf.getTransformProvider()).getRawProvider();
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("compressed-data");
+        start = new AbsoluteDate(2003, 3, 1, TimeScalesFactory.getUTC());
+        end   = start.shiftedBy(5 * Constants.JULIAN_DAY);
+    }
+
+}
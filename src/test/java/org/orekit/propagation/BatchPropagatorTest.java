@@ -0,0 +1,261 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation;
+
+import org.hipparchus.exception.LocalizedCoreFormats;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.events.DateDetector;
+import org.orekit.propagation.sampling.BatchStateHandler;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BatchPropagatorTest {
+
+    @Test
+    public void testGridDates() {
+        final List<Propagator> propagators = buildPropagators(20);
+        final List<AbsoluteDate> dates = buildGrid(orbit.getDate(), 60.0, 121);
+        final ConcurrentHashMap<Integer, List<SpacecraftState>> results = new ConcurrentHashMap<>();
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        final List<SpacecraftState> finalStates;
+        try {
+            finalStates = new BatchPropagator(propagators, dates).
+                          propagate(pool, (index, state) -> results.computeIfAbsent(index, i -> new ArrayList<>()).add(state));
+        } finally {
+            pool.shutdownNow();
+        }
+
+        Assertions.assertEquals(20, finalStates.size());
+        Assertions.assertEquals(20, results.size());
+        for (int i = 0; i < propagators.size(); ++i) {
+            final List<SpacecraftState> states = results.get(i);
+            Assertions.assertEquals(dates.size(), states.size());
+            final Propagator reference = buildPropagator(i);
+            for (int k = 0; k < dates.size(); ++k) {
+                Assertions.assertEquals(0.0, states.get(k).getDate().durationFrom(dates.get(k)), 1.0e-15);
+                final Vector3D expected = reference.getPosition(dates.get(k), orbit.getFrame());
+                Assertions.assertEquals(0.0, Vector3D.distance(expected, states.get(k).getPosition()), 1.0e-6);
+            }
+            Assertions.assertEquals(0.0, finalStates.get(i).getDate().durationFrom(dates.get(dates.size() - 1)), 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testBackward() {
+        final List<AbsoluteDate> dates = buildGrid(orbit.getDate().shiftedBy(-3600.0), 600.0, 7);
+        Collections.reverse(dates);
+        final BatchPropagator batch = new BatchPropagator(buildPropagators(3), dates);
+        Assertions.assertTrue(batch.getDates().get(0).isAfter(batch.getDates().get(6)));
+        final AtomicInteger count = new AtomicInteger();
+        final List<SpacecraftState> finalStates = batch.propagate((index, state) -> count.incrementAndGet());
+        Assertions.assertEquals(21, count.get());
+        for (final SpacecraftState state : finalStates) {
+            Assertions.assertEquals(0.0, state.getDate().durationFrom(orbit.getDate().shiftedBy(-3600.0)), 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testFailureIsolation() {
+        final List<Propagator> propagators = buildPropagators(5);
+        propagators.get(2).addEventDetector(new DateDetector(orbit.getDate().shiftedBy(900.0)).
+                                            withHandler((state, detector, increasing) -> {
+                                                throw new OrekitException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                                          "inTest");
+                                            }));
+        final AtomicInteger failed   = new AtomicInteger(-1);
+        final AtomicInteger finished = new AtomicInteger();
+        final List<SpacecraftState> finalStates =
+                        new BatchPropagator(propagators, buildGrid(orbit.getDate(), 60.0, 61)).
+                        propagate(new BatchStateHandler() {
+                            public void handleState(final int index, final SpacecraftState state) {
+                                // nothing to do
+                            }
+                            public void finish(final int index, final SpacecraftState finalState) {
+                                finished.incrementAndGet();
+                            }
+                            public void handleFailure(final int index, final OrekitException failure) {
+                                Assertions.assertEquals("inTest", failure.getParts()[0]);
+                                failed.set(index);
+                            }
+                        });
+        Assertions.assertEquals(2, failed.get());
+        Assertions.assertEquals(4, finished.get());
+        for (int i = 0; i < finalStates.size(); ++i) {
+            if (i == 2) {
+                Assertions.assertNull(finalStates.get(i));
+            } else {
+                Assertions.assertNotNull(finalStates.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testCancel() {
+        final BatchPropagator batch = new BatchPropagator(buildPropagators(10),
+                                                          buildGrid(orbit.getDate(), 60.0, 61));
+        final ForkJoinPool pool = new ForkJoinPool(1);
+        final List<SpacecraftState> finalStates;
+        try {
+            finalStates = batch.propagate(pool, (index, state) -> batch.cancel());
+        } finally {
+            pool.shutdownNow();
+        }
+        // the cancellation request is cleared at the end of the run
+        Assertions.assertFalse(batch.isCancelled());
+        // analytical propagators perform one single step, so the first one completes
+        int nbNull = 0;
+        for (final SpacecraftState state : finalStates) {
+            if (state == null) {
+                ++nbNull;
+            }
+        }
+        Assertions.assertEquals(9, nbNull);
+    }
+
+    @Test
+    public void testCancelBeforeRun() {
+        final BatchPropagator batch = new BatchPropagator(buildPropagators(5),
+                                                          buildGrid(orbit.getDate(), 60.0, 61));
+        batch.cancel();
+        Assertions.assertTrue(batch.isCancelled());
+        final AtomicInteger count = new AtomicInteger();
+        final List<SpacecraftState> finalStates = batch.propagate((index, state) -> count.incrementAndGet());
+        Assertions.assertEquals(0, count.get());
+        for (final SpacecraftState state : finalStates) {
+            Assertions.assertNull(state);
+        }
+        Assertions.assertFalse(batch.isCancelled());
+
+        // the next run is not affected
+        Assertions.assertEquals(5, batch.propagate((index, state) -> count.incrementAndGet()).size());
+        Assertions.assertEquals(5 * 61, count.get());
+    }
+
+    @Test
+    public void testRuntimeExceptionIsolation() {
+        final List<Propagator> propagators = buildPropagators(5);
+        final AtomicInteger failed   = new AtomicInteger(-1);
+        final AtomicInteger finished = new AtomicInteger();
+        final List<SpacecraftState> finalStates =
+                        new BatchPropagator(propagators, buildGrid(orbit.getDate(), 60.0, 61)).
+                        propagate(new BatchStateHandler() {
+                            public void handleState(final int index, final SpacecraftState state) {
+                                if (index == 3) {
+                                    throw new IllegalStateException("inTest");
+                                }
+                            }
+                            public void finish(final int index, final SpacecraftState finalState) {
+                                finished.incrementAndGet();
+                            }
+                            public void handleFailure(final int index, final OrekitException failure) {
+                                failed.set(index);
+                            }
+                        });
+        Assertions.assertEquals(3, failed.get());
+        Assertions.assertEquals(4, finished.get());
+        Assertions.assertNull(finalStates.get(3));
+    }
+
+    @Test
+    public void testUnhandledFailure() {
+        final List<Propagator> propagators = buildPropagators(5);
+        for (final int i : new int[] { 1, 3 }) {
+            propagators.get(i).addEventDetector(new DateDetector(orbit.getDate().shiftedBy(900.0)).
+                                                withHandler((state, detector, increasing) -> {
+                                                    throw new OrekitException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                                              "inTest-" + i);
+                                                }));
+        }
+        final AtomicInteger count = new AtomicInteger();
+        try {
+            // the default handleFailure method does not accept failures
+            new BatchPropagator(propagators, buildGrid(orbit.getDate(), 60.0, 61)).
+            propagate((index, state) -> count.incrementAndGet());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals("inTest-1", oe.getParts()[0]);
+            Assertions.assertEquals(1, oe.getSuppressed().length);
+            Assertions.assertEquals("inTest-3", ((OrekitException) oe.getSuppressed()[0]).getParts()[0]);
+        }
+        // the other propagations were completed
+        Assertions.assertTrue(count.get() >= 3 * 61);
+    }
+
+    @Test
+    public void testEmptyGrid() {
+        try {
+            new BatchPropagator(buildPropagators(1), Collections.emptyList());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NOT_ENOUGH_DATA, oiae.getSpecifier());
+        }
+    }
+
+    private List<AbsoluteDate> buildGrid(final AbsoluteDate start, final double step, final int n) {
+        final List<AbsoluteDate> dates = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            dates.add(start.shiftedBy(i * step));
+        }
+        return dates;
+    }
+
+    private List<Propagator> buildPropagators(final int n) {
+        final List<Propagator> propagators = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            propagators.add(buildPropagator(i));
+        }
+        return propagators;
+    }
+
+    private Propagator buildPropagator(final int i) {
+        final KeplerianOrbit k = (KeplerianOrbit) orbit;
+        return new KeplerianPropagator(new KeplerianOrbit(k.getA() + 1000.0 * i, k.getE(), k.getI(),
+                                                          k.getPerigeeArgument(), k.getRightAscensionOfAscendingNode(),
+                                                          k.getTrueAnomaly() + 0.1 * i, PositionAngleType.TRUE,
+                                                          k.getFrame(), k.getDate(), k.getMu()));
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        orbit = new KeplerianOrbit(7.0e6, 0.001, FastMath.toRadians(98.0), 0.5, 1.0, 0.0, PositionAngleType.TRUE,
+                                   FramesFactory.getEME2000(), AbsoluteDate.J2000_EPOCH, Constants.EIGEN5C_EARTH_MU);
+    }
+
+    private Orbit orbit;
+
+}
@@ -74,6 +74,24 @@ class PropagatorTest {
         Assertions.assertEquals(expectedState.getVelocity(), actualState.getVelocity());
     }
 
+    @Test
+    void testGetRawPVCoordinates() {
+        // GIVEN
+        final TestPropagator testPropagator = new TestPropagator();
+        final AbsoluteDate date = AbsoluteDate.ARBITRARY_EPOCH;
+        final Frame frame = FramesFactory.getGCRF();
+        final double[] pv = new double[6];
+        final double[] p  = new double[3];
+        // WHEN
+        testPropagator.getRawPVCoordinates(date, frame, pv);
+        testPropagator.getRawPosition(date, frame, p);
+        // THEN
+        final PVCoordinates expectedState = testPropagator.propagate(date).getPVCoordinates(frame);
+        Assertions.assertEquals(expectedState.getPosition(), new Vector3D(pv[0], pv[1], pv[2]));
+        Assertions.assertEquals(expectedState.getVelocity(), new Vector3D(pv[3], pv[4], pv[5]));
+        Assertions.assertEquals(expectedState.getPosition(), new Vector3D(p));
+    }
+
     private static SpacecraftState mockSpacecraftState(final AbsoluteDate date) {
         final SpacecraftState mockedSpacecraftState = Mockito.mock(SpacecraftState.class);
         Mockito.when(mockedSpacecraftState.getDate()).thenReturn(date);
@@ -59,6 +59,8 @@ import org.orekit.utils.IERSConventions;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -400,6 +402,118 @@ public class PropagatorsParallelizerTest {
         Assertions.assertEquals(expected1, results.get(1).getAdditionalState(name)[0], 5.0e-8 * expected1);
     }
 
+    @Test
+    public void testSlicedVsThreadPerPropagator() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        final double       h         = 60.0;
+        final int          n         = 6;
+
+        final List<List<SpacecraftState>> reference = new ArrayList<>();
+        new PropagatorsParallelizer(buildMixedPropagators(n), h, reference::add).propagate(startDate, endDate);
+
+        final List<List<SpacecraftState>> sliced = new ArrayList<>();
+        final ExecutorService executorService = Executors.newFixedThreadPool(2);
+        final List<SpacecraftState> results;
+        try {
+            results = new PropagatorsParallelizer(buildMixedPropagators(n), h, sliced::add).
+                      propagate(startDate, endDate, 900.0, executorService);
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        Assertions.assertEquals(n, results.size());
+        for (final SpacecraftState state : results) {
+            Assertions.assertEquals(0.0, state.getDate().durationFrom(endDate), 1.0e-15);
+        }
+        Assertions.assertEquals(reference.size(), sliced.size());
+        for (int i = 0; i < reference.size(); ++i) {
+            for (int k = 0; k < n; ++k) {
+                final SpacecraftState r = reference.get(i).get(k);
+                final SpacecraftState s = sliced.get(i).get(k);
+                Assertions.assertEquals(0.0, s.getDate().durationFrom(r.getDate()), 1.0e-10);
+                // numerical propagators restart their integrator at slice boundaries
+                Assertions.assertEquals(0.0, Vector3D.distance(r.getPosition(), s.getPosition()), 10.0);
+            }
+        }
+
+    }
+
+    @Test
+    public void testSlicedStopOnLateEvent() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        final AbsoluteDate stopDate  = startDate.shiftedBy(1000.0);
+        List<Propagator> propagators = buildMixedPropagators(4);
+        propagators.get(1).addEventDetector(new DateDetector(stopDate).withHandler(new StopOnEvent()));
+        List<SpacecraftState> results = new PropagatorsParallelizer(propagators, interpolators -> {}).
+                        propagate(startDate, endDate, 600.0, 3);
+        Assertions.assertEquals(4, results.size());
+        for (final SpacecraftState state : results) {
+            Assertions.assertEquals(0.0, state.getDate().durationFrom(stopDate), 1.0e-15);
+        }
+    }
+
+    @Test
+    public void testSlicedCollectorsRemoved() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        List<Propagator> propagators = buildMixedPropagators(4);
+        final int[] nbHandlers = new int[propagators.size()];
+        for (int k = 0; k < nbHandlers.length; ++k) {
+            nbHandlers[k] = propagators.get(k).getMultiplexer().getHandlers().size();
+        }
+        new PropagatorsParallelizer(propagators, interpolators -> {}).propagate(startDate, endDate, 600.0, 2);
+        for (int k = 0; k < nbHandlers.length; ++k) {
+            Assertions.assertEquals(nbHandlers[k], propagators.get(k).getMultiplexer().getHandlers().size());
+        }
+
+        // collectors are also removed when propagation fails
+        propagators.get(2).addEventDetector(new DateDetector(endDate.shiftedBy(900.0)).
+                                            withHandler((state, detector, increasing) -> {
+                                                throw new OrekitException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                                          "inTest");
+                                            }));
+        try {
+            new PropagatorsParallelizer(propagators, interpolators -> {}).
+            propagate(endDate, endDate.shiftedBy(3600.0), 600.0, 1);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals("inTest", (String) oe.getParts()[0]);
+        }
+        for (int k = 0; k < nbHandlers.length; ++k) {
+            Assertions.assertEquals(nbHandlers[k], propagators.get(k).getMultiplexer().getHandlers().size());
+        }
+    }
+
+    @Test
+    public void testSlicedOrekitException() {
+        final AbsoluteDate startDate =  orbit.getDate();
+        final AbsoluteDate endDate   = startDate.shiftedBy(3600.0);
+        List<Propagator> propagators = buildMixedPropagators(4);
+        propagators.get(2).addEventDetector(new DateDetector(startDate.shiftedBy(900.0)).
+                                            withHandler((state, detector, increasing) -> {
+                                                throw new OrekitException(LocalizedCoreFormats.SIMPLE_MESSAGE,
+                                                                          "inTest");
+                                            }));
+        try {
+            new PropagatorsParallelizer(propagators, interpolators -> {}).propagate(startDate, endDate, 600.0, 2);
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertNull(oe.getCause());
+            Assertions.assertEquals(LocalizedCoreFormats.SIMPLE_MESSAGE, oe.getSpecifier());
+            Assertions.assertEquals("inTest", (String) oe.getParts()[0]);
+        }
+    }
+
+    private List<Propagator> buildMixedPropagators(final int n) {
+        final List<Propagator> propagators = new ArrayList<>(n);
+        for (int i = 0; i < n; ++i) {
+            propagators.add(i % 2 == 0 ? buildEcksteinHechler() : buildNumerical());
+        }
+        return propagators;
+    }
+
     private static class Exponential implements AdditionalDerivativesProvider {
         final String name;
         final double base;
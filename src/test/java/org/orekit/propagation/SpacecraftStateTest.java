@@ -187,6 +187,40 @@ class SpacecraftStateTest {
         Assertions.assertEquals(state.getOrbit(), stateWithMassRate.getOrbit());
     }
 
+    @Test
+    void testMassRateConstructorOrbit() {
+        // GIVEN
+        final SpacecraftState reference = new SpacecraftState(orbit).withMassRate(-1.0e-3).withMass(1234.0);
+        // WHEN
+        final SpacecraftState state = new SpacecraftState(orbit, reference.getAttitude(), 1234.0, -1.0e-3, null, null);
+        // THEN
+        Assertions.assertEquals(reference.getMassRate(), state.getMassRate());
+        Assertions.assertEquals(reference.getMass(), state.getMass());
+        Assertions.assertEquals(reference.getAttitude(), state.getAttitude());
+        Assertions.assertEquals(reference.getOrbit(), state.getOrbit());
+        Assertions.assertEquals(0, state.getAdditionalDataValues().size());
+        Assertions.assertEquals(0, state.getAdditionalStatesDerivatives().size());
+        Assertions.assertThrows(IllegalArgumentException.class,
+                                () -> new SpacecraftState(orbit.shiftedBy(10.0), reference.getAttitude(),
+                                                          1234.0, -1.0e-3, null, null));
+    }
+
+    @Test
+    void testMassRateConstructorAbsolutePV() {
+        // GIVEN
+        final AbsolutePVCoordinates absolutePVCoordinates = new AbsolutePVCoordinates(FramesFactory.getEME2000(),
+                AbsoluteDate.ARBITRARY_EPOCH, new PVCoordinates());
+        final SpacecraftState reference = new SpacecraftState(absolutePVCoordinates).withMassRate(-1.0e-3).withMass(1234.0);
+        // WHEN
+        final SpacecraftState state = new SpacecraftState(absolutePVCoordinates, reference.getAttitude(),
+                                                          1234.0, -1.0e-3, null, null);
+        // THEN
+        Assertions.assertEquals(reference.getMassRate(), state.getMassRate());
+        Assertions.assertEquals(reference.getMass(), state.getMass());
+        Assertions.assertEquals(reference.getAttitude(), state.getAttitude());
+        Assertions.assertEquals(reference.getAbsPVA(), state.getAbsPVA());
+    }
+
     @Test
     void testWithAdditionalDataAndOrbit() {
         // GIVEN
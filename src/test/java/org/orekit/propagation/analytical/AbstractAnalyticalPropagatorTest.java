@@ -17,13 +17,20 @@
 package org.orekit.propagation.analytical;
 
 import org.hipparchus.geometry.euclidean.threed.Rotation;
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
 import org.hipparchus.ode.events.Action;
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.orekit.Utils;
 import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
+import org.orekit.frames.TopocentricFrame;
 import org.orekit.orbits.CartesianOrbit;
 import org.orekit.orbits.KeplerianOrbit;
 import org.orekit.orbits.Orbit;
@@ -32,13 +39,21 @@ import org.orekit.propagation.AdditionalDataProvider;
 import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.events.DateDetector;
 import org.orekit.propagation.events.EventDetectionSettings;
+import org.orekit.propagation.events.ElevationDetector;
 import org.orekit.propagation.events.EventDetector;
+import org.orekit.propagation.events.EventsLogger;
 import org.orekit.propagation.events.handlers.ContinueOnEvent;
 import org.orekit.propagation.events.handlers.EventHandler;
 import org.orekit.propagation.events.handlers.StopOnEvent;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Stream;
 
 
@@ -126,6 +141,82 @@ class AbstractAnalyticalPropagatorTest {
         Assertions.assertTrue(handler.isFinished);
     }
 
+    @Test
+    void testRawPVCoordinates() {
+        // GIVEN
+        final AbsoluteDate date = AbsoluteDate.ARBITRARY_EPOCH;
+        final KeplerianPropagator propagator = new KeplerianPropagator(getOrbit(date));
+        final double[] pv = new double[6];
+        final double[] p  = new double[3];
+        for (final Frame frame : Arrays.asList(FramesFactory.getEME2000(), FramesFactory.getGCRF())) {
+            for (double dt = 0; dt < 7200; dt += 300) {
+                final AbsoluteDate target = date.shiftedBy(dt);
+                // WHEN
+                propagator.getRawPVCoordinates(target, frame, pv);
+                propagator.getRawPosition(target, frame, p);
+                // THEN
+                final PVCoordinates expected = propagator.getPVCoordinates(target, frame);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(expected.getPosition(), new Vector3D(pv[0], pv[1], pv[2])),
+                                        1.0e-7);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(expected.getVelocity(), new Vector3D(pv[3], pv[4], pv[5])),
+                                        1.0e-10);
+                Assertions.assertEquals(0.0,
+                                        Vector3D.distance(expected.getPosition(), new Vector3D(p)),
+                                        1.0e-7);
+            }
+        }
+    }
+
+    @Test
+    void testEventsPool() {
+        // GIVEN
+        Utils.setDataRoot("regular-data");
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING,
+                                                            FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        final List<TopocentricFrame> stations = new ArrayList<>();
+        for (int i = 0; i < 48; ++i) {
+            final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(-60.0 + 2.5 * i),
+                                                          FastMath.toRadians(7.5 * i), 0.0);
+            stations.add(new TopocentricFrame(earth, point, "station-" + i));
+        }
+        final AbsoluteDate date = AbsoluteDate.ARBITRARY_EPOCH;
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        // WHEN
+        final List<EventsLogger.LoggedEvent> sequential = logVisibilities(date, stations, null);
+        final List<EventsLogger.LoggedEvent> parallel   = logVisibilities(date, stations, pool);
+        pool.shutdown();
+
+        // THEN
+        Assertions.assertTrue(sequential.size() > 100);
+        Assertions.assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); ++i) {
+            Assertions.assertEquals(sequential.get(i).getDate(), parallel.get(i).getDate());
+            Assertions.assertEquals(sequential.get(i).isIncreasing(), parallel.get(i).isIncreasing());
+            Assertions.assertEquals(((ElevationDetector) sequential.get(i).getEventDetector()).getTopocentricFrame().getName(),
+                                    ((ElevationDetector) parallel.get(i).getEventDetector()).getTopocentricFrame().getName());
+        }
+    }
+
+    private static List<EventsLogger.LoggedEvent> logVisibilities(final AbsoluteDate date,
+                                                                  final List<TopocentricFrame> stations,
+                                                                  final ForkJoinPool pool) {
+        final KeplerianPropagator propagator = new KeplerianPropagator(getOrbit(date));
+        propagator.setEventsPool(pool);
+        Assertions.assertSame(pool, propagator.getEventsPool());
+        final EventsLogger logger = new EventsLogger();
+        for (final TopocentricFrame station : stations) {
+            propagator.addEventDetector(logger.monitorDetector(new ElevationDetector(60.0, 1.0e-6, station).
+                                                               withConstantElevation(FastMath.toRadians(5.0)).
+                                                               withHandler(new ContinueOnEvent())));
+        }
+        propagator.propagate(date.shiftedBy(Constants.JULIAN_DAY));
+        return logger.getLoggedEvents();
+    }
+
     private static Orbit getOrbit(final AbsoluteDate date) {
         return new KeplerianOrbit(8000000.0, 0.01, 0.87, 2.44, 0.21, -1.05,
                 PositionAngleType.MEAN, FramesFactory.getEME2000(), date, Constants.EIGEN5C_EARTH_MU);
@@ -0,0 +1,255 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.DormandPrince853Integrator;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitException;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.EquinoctialOrbit;
+import org.orekit.orbits.Orbit;
+import org.orekit.propagation.BoundedPropagator;
+import org.orekit.propagation.CartesianToleranceProvider;
+import org.orekit.propagation.EphemerisGenerator;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.ToleranceProvider;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+import org.orekit.utils.TimeStampedPVCoordinates;
+
+class ChebyshevEphemerisTest {
+
+    private BoundedPropagator source;
+
+    @Test
+    void testAccuracy() {
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 600.0, 16);
+        Assertions.assertEquals(144, ephemeris.getSegments());
+        Assertions.assertEquals(16, ephemeris.getNodes());
+        Assertions.assertEquals(source.getMinDate(), ephemeris.getMinDate());
+        Assertions.assertEquals(source.getMaxDate(), ephemeris.getMaxDate());
+        Assertions.assertSame(source.getFrame(), ephemeris.getFrame());
+
+        double maxP = 0;
+        double maxV = 0;
+        double maxA = 0;
+        for (double dt = 0; dt < Constants.JULIAN_DAY; dt += 37.0) {
+            final AbsoluteDate    date      = source.getMinDate().shiftedBy(dt);
+            final SpacecraftState reference = source.propagate(date);
+            final SpacecraftState fitted    = ephemeris.propagate(date);
+            final PVCoordinates   pvRef     = reference.getPVCoordinates();
+            final PVCoordinates   pvFit     = fitted.getPVCoordinates();
+            maxP = Math.max(maxP, Vector3D.distance(pvRef.getPosition(),     pvFit.getPosition()));
+            maxV = Math.max(maxV, Vector3D.distance(pvRef.getVelocity(),     pvFit.getVelocity()));
+            maxA = Math.max(maxA, Vector3D.distance(pvRef.getAcceleration(), pvFit.getAcceleration()));
+            Assertions.assertEquals(reference.getMass(), fitted.getMass(), 1.0e-10);
+        }
+        Assertions.assertEquals(0.0, maxP, 1.0e-3);
+        Assertions.assertEquals(0.0, maxV, 1.0e-6);
+        Assertions.assertEquals(0.0, maxA, 1.0e-5);
+
+    }
+
+    @Test
+    void testConcurrentQueries() {
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 900.0, 18);
+        final double[][] sequential = new double[2000][6];
+        for (int i = 0; i < sequential.length; ++i) {
+            ephemeris.getRawPVCoordinates(source.getMinDate().shiftedBy(43.0 * i), source.getFrame(), sequential[i]);
+        }
+        final double[][] parallel = new double[sequential.length][6];
+        IntStream.range(0, parallel.length).parallel().
+            forEach(i -> ephemeris.getRawPVCoordinates(source.getMinDate().shiftedBy(43.0 * i), source.getFrame(), parallel[i]));
+        for (int i = 0; i < sequential.length; ++i) {
+            Assertions.assertArrayEquals(sequential[i], parallel[i], 0.0);
+        }
+
+        // raw and object-based accesses are consistent, also in other frames
+        final AbsoluteDate date = source.getMinDate().shiftedBy(12345.0);
+        final TimeStampedPVCoordinates pv = ephemeris.getPVCoordinates(date, FramesFactory.getGCRF());
+        final double[] raw = new double[6];
+        ephemeris.getRawPVCoordinates(date, FramesFactory.getGCRF(), raw);
+        Assertions.assertEquals(0.0, Vector3D.distance(pv.getPosition(), new Vector3D(raw[0], raw[1], raw[2])), 1.0e-8);
+        Assertions.assertEquals(0.0, Vector3D.distance(pv.getPosition(), ephemeris.getPosition(date, FramesFactory.getGCRF())), 1.0e-6);
+        final double[] position = new double[3];
+        ephemeris.getRawPosition(date, source.getFrame(), position);
+        Assertions.assertEquals(0.0,
+                                Vector3D.distance(ephemeris.propagate(date).getPosition(), new Vector3D(position)),
+                                1.0e-15);
+    }
+
+    @Test
+    void testWriteRead() throws IOException {
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 1200.0, 20);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ephemeris.write(bos);
+        Assertions.assertTrue(bos.size() < 8 * (7 * 20 + 1) * ephemeris.getSegments() + 100);
+
+        final ChebyshevEphemeris loaded = ChebyshevEphemeris.read(new ByteArrayInputStream(bos.toByteArray()),
+                                                                  "memory", source.getFrame(),
+                                                                  source.getAttitudeProvider());
+        Assertions.assertEquals(ephemeris.getSegments(), loaded.getSegments());
+        Assertions.assertEquals(ephemeris.getNodes(), loaded.getNodes());
+        Assertions.assertEquals(ephemeris.getMinDate(), loaded.getMinDate());
+        Assertions.assertEquals(ephemeris.getMaxDate(), loaded.getMaxDate());
+        for (double dt = 0; dt < Constants.JULIAN_DAY; dt += 1000.0) {
+            final AbsoluteDate date = source.getMinDate().shiftedBy(dt);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(ephemeris.getPosition(date, source.getFrame()),
+                                                      loaded.getPosition(date, source.getFrame())),
+                                    0.0);
+        }
+
+        // corrupted data
+        final byte[] corrupted = bos.toByteArray();
+        corrupted[3] = (byte) 'X';
+        try {
+            ChebyshevEphemeris.read(new ByteArrayInputStream(corrupted), "corrupted",
+                                    source.getFrame(), source.getAttitudeProvider());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+        }
+
+        // wrong frame
+        try {
+            ChebyshevEphemeris.read(new ByteArrayInputStream(bos.toByteArray()), "memory",
+                                    FramesFactory.getGCRF(), source.getAttitudeProvider());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.FRAMES_MISMATCH, oe.getSpecifier());
+        }
+    }
+
+    @Test
+    void testCorruptedBoundaries() throws IOException {
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 1200.0, 20);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ephemeris.write(bos);
+        final int start = bos.size() - 8 * (ephemeris.getBoundaries().capacity() +
+                                            ephemeris.getCoefficients().capacity());
+
+        // first boundary not at 0
+        checkCorrupted(bos.toByteArray(), start, 1.0);
+
+        // non-increasing boundaries
+        checkCorrupted(bos.toByteArray(), start + 8, 0.0);
+        checkCorrupted(bos.toByteArray(), start + 16, ephemeris.getBoundaries().get(1));
+
+        // non-finite boundaries
+        checkCorrupted(bos.toByteArray(), start + 8, Double.NaN);
+        checkCorrupted(bos.toByteArray(), start + 8 * ephemeris.getSegments(), Double.POSITIVE_INFINITY);
+
+    }
+
+    private void checkCorrupted(final byte[] data, final int index, final double value) throws IOException {
+        ByteBuffer.wrap(data).putDouble(index, value);
+        try {
+            ChebyshevEphemeris.read(new ByteArrayInputStream(data), "corrupted",
+                                    source.getFrame(), source.getAttitudeProvider());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.UNSUPPORTED_FILE_FORMAT, oe.getSpecifier());
+            Assertions.assertEquals("corrupted", oe.getParts()[0]);
+        }
+    }
+
+    @Test
+    void testReadDoesNotConsumeTrailingData() throws IOException {
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 3600.0, 12);
+        final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        ephemeris.write(bos);
+        ephemeris.write(bos);
+        bos.write(42);
+
+        // the two ephemerides and the trailing byte are read back from the same stream
+        final ByteArrayInputStream bis = new ByteArrayInputStream(bos.toByteArray());
+        for (int i = 0; i < 2; ++i) {
+            final ChebyshevEphemeris loaded = ChebyshevEphemeris.read(bis, "memory", source.getFrame(),
+                                                                      source.getAttitudeProvider());
+            Assertions.assertEquals(ephemeris.getSegments(), loaded.getSegments());
+            Assertions.assertEquals(ephemeris.getMaxDate(), loaded.getMaxDate());
+        }
+        Assertions.assertEquals(42, bis.read());
+        Assertions.assertEquals(-1, bis.read());
+    }
+
+    @Test
+    void testWrongSettings() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ChebyshevEphemeris(source, 0.0, 16));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ChebyshevEphemeris(source, 600.0, 1));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ChebyshevEphemeris(source,
+                                                             Arrays.asList(source.getMaxDate(), source.getMinDate()),
+                                                             16));
+
+        final ChebyshevEphemeris ephemeris = new ChebyshevEphemeris(source, 600.0, 16);
+        try {
+            ephemeris.propagate(source.getMaxDate().shiftedBy(10.0));
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.OUT_OF_RANGE_EPHEMERIDES_DATE_AFTER, oe.getSpecifier());
+        }
+        try {
+            ephemeris.resetInitialState(ephemeris.getInitialState());
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitException oe) {
+            Assertions.assertEquals(OrekitMessages.NON_RESETABLE_STATE, oe.getSpecifier());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        final Orbit initialOrbit =
+                new EquinoctialOrbit(new PVCoordinates(new Vector3D(7.0e6, 1.0e6, 4.0e6),
+                                                       new Vector3D(-500.0, 8000.0, 1000.0)),
+                                     FramesFactory.getEME2000(), AbsoluteDate.J2000_EPOCH.shiftedBy(584.0),
+                                     Constants.EIGEN5C_EARTH_MU);
+        final double[][] tolerances =
+                ToleranceProvider.of(CartesianToleranceProvider.of(1.0e-4)).getTolerances(initialOrbit, initialOrbit.getType());
+        final NumericalPropagator propagator =
+                new NumericalPropagator(new DormandPrince853Integrator(0.001, 500, tolerances[0], tolerances[1]));
+        propagator.addForceModel(new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                                                       GravityFieldFactory.getNormalizedProvider(4, 4)));
+        propagator.setInitialState(new SpacecraftState(initialOrbit).withMass(1200.0));
+        final EphemerisGenerator generator = propagator.getEphemerisGenerator();
+        propagator.propagate(initialOrbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+        source = generator.getGeneratedEphemeris();
+    }
+
+}
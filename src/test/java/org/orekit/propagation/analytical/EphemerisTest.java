@@ -590,6 +590,44 @@ class EphemerisTest {
 
     }
 
+    @Test
+    void testRawCoordinates() {
+        setUp();
+
+        List<SpacecraftState> states = new ArrayList<>();
+        for (double dt = 0; dt >= -1200; dt -= 60.0) {
+            final SpacecraftState original = propagator.propagate(initDate.shiftedBy(dt));
+            states.add(original.addAdditionalData("dt", original.getDate().durationFrom(finalDate)));
+        }
+        final AttitudeProvider attitudeProvider = Mockito.spy(new LofOffset(inertialFrame, LOFType.LVLH_CCSDS));
+        final Ephemeris ephem = new Ephemeris(states, new SpacecraftStateInterpolator(inertialFrame), attitudeProvider);
+        final AbsoluteDate date = initDate.shiftedBy(-270.0);
+        final List<PVCoordinates> expected = new ArrayList<>();
+        for (final Frame frame : Arrays.asList(inertialFrame, FramesFactory.getGCRF())) {
+            expected.add(ephem.getPVCoordinates(date, frame));
+        }
+        Mockito.clearInvocations(attitudeProvider);
+
+        final double[] pv = new double[6];
+        final double[] p  = new double[3];
+        for (int i = 0; i < expected.size(); ++i) {
+            final Frame frame = i == 0 ? inertialFrame : FramesFactory.getGCRF();
+            ephem.getRawPVCoordinates(date, frame, pv);
+            ephem.getRawPosition(date, frame, p);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(expected.get(i).getPosition(), new Vector3D(pv[0], pv[1], pv[2])),
+                                    1.0e-8);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(expected.get(i).getVelocity(), new Vector3D(pv[3], pv[4], pv[5])),
+                                    1.0e-11);
+            Assertions.assertEquals(0.0, Vector3D.distance(expected.get(i).getPosition(), new Vector3D(p)), 1.0e-8);
+        }
+
+        // raw coordinates do not need attitude
+        Mockito.verifyNoInteractions(attitudeProvider);
+
+    }
+
     @Test
     void testProtectedMethods()
             throws SecurityException, NoSuchMethodException,
@@ -0,0 +1,87 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.analytical.tle;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.utils.PVCoordinates;
+
+import java.util.Arrays;
+import java.util.List;
+
+public class TLEBatchPropagatorTest {
+
+    private List<TLE> tles;
+
+    @Test
+    public void testConsistencyWithRegularPropagator() {
+
+        final TLEBatchPropagator batch = new TLEBatchPropagator(tles);
+        Assertions.assertEquals(3, batch.getSize());
+        Assertions.assertTrue(batch.isBatched(0));
+        Assertions.assertTrue(batch.isBatched(1));
+        Assertions.assertFalse(batch.isBatched(2));
+
+        final double[] positions  = new double[3 * batch.getSize()];
+        final double[] velocities = new double[3 * batch.getSize()];
+        final AbsoluteDate start = tles.get(0).getDate();
+        for (double dt = 0; dt < 86400.0; dt += 600.0) {
+            final AbsoluteDate date = start.shiftedBy(dt);
+            batch.propagate(date, positions, velocities);
+            for (int k = 0; k < batch.getSize(); ++k) {
+                final PVCoordinates reference = TLEPropagator.selectExtrapolator(tles.get(k)).getPVCoordinates(date);
+                final Vector3D p = new Vector3D(positions[3 * k], positions[3 * k + 1], positions[3 * k + 2]);
+                final Vector3D v = new Vector3D(velocities[3 * k], velocities[3 * k + 1], velocities[3 * k + 2]);
+                Assertions.assertEquals(0.0, Vector3D.distance(reference.getPosition(), p), 1.0e-8);
+                Assertions.assertEquals(0.0, Vector3D.distance(reference.getVelocity(), v), 1.0e-11);
+            }
+        }
+
+    }
+
+    @Test
+    public void testRange() {
+        final TLEBatchPropagator batch = new TLEBatchPropagator(tles);
+        final double[] positions  = new double[3 * batch.getSize()];
+        final double[] velocities = new double[3 * batch.getSize()];
+        Arrays.fill(positions, Double.NaN);
+        Arrays.fill(velocities, Double.NaN);
+        batch.propagate(tles.get(1).getDate().shiftedBy(3600.0), 1, 2, positions, velocities);
+        for (int j = 0; j < 3; ++j) {
+            Assertions.assertTrue(Double.isNaN(positions[j]));
+            Assertions.assertFalse(Double.isNaN(positions[3 + j]));
+            Assertions.assertFalse(Double.isNaN(velocities[3 + j]));
+            Assertions.assertTrue(Double.isNaN(velocities[6 + j]));
+        }
+    }
+
+    @BeforeEach
+    public void setUp() {
+        Utils.setDataRoot("regular-data");
+        tles = Arrays.asList(new TLE("1 43196U 18015E   21055.59816856  .00000894  00000-0  38966-4 0  9996",
+                                     "2 43196  97.4662 188.8169 0016935 299.6845  60.2706 15.24746686170319"),
+                             new TLE("1 27421U 02021A   02124.48976499 -.00021470  00000-0 -89879-2 0    20",
+                                     "2 27421  98.7490 199.5121 0001333 133.9522 226.1918 14.26113993    62"),
+                             new TLE("1 37753U 11036A   12090.13205652 -.00000006  00000-0  00000+0 0  2272",
+                                     "2 37753  55.0032 176.5796 0004733  13.2285 346.8266  2.00565440  5153"));
+    }
+
+}
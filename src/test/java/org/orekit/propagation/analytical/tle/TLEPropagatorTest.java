@@ -28,22 +28,31 @@ import org.junit.jupiter.api.Test;
 import org.orekit.OrekitMatchers;
 import org.orekit.Utils;
 import org.orekit.attitudes.BodyCenterPointing;
+import org.orekit.bodies.GeodeticPoint;
 import org.orekit.bodies.OneAxisEllipsoid;
 import org.orekit.frames.Frame;
 import org.orekit.frames.FramesFactory;
 import org.orekit.frames.StaticTransform;
+import org.orekit.frames.TopocentricFrame;
 import org.orekit.orbits.Orbit;
 import org.orekit.propagation.BoundedPropagator;
 import org.orekit.propagation.EphemerisGenerator;
 import org.orekit.propagation.Propagator;
 import org.orekit.propagation.SpacecraftState;
 import org.orekit.propagation.events.DateDetector;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.EventsLogger;
+import org.orekit.propagation.events.handlers.ContinueOnEvent;
 import org.orekit.propagation.events.handlers.EventHandler;
 import org.orekit.propagation.sampling.OrekitFixedStepHandler;
 import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.Constants;
 import org.orekit.utils.IERSConventions;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
 
 public class TLEPropagatorTest {
 
@@ -277,6 +286,55 @@ public class TLEPropagatorTest {
         Assertions.assertEquals(expectedPosition.getZ(), actualPosition.getZ(), tolerance);
     }
 
+    @Test
+    void testEventsPool() {
+        // GIVEN
+        final OneAxisEllipsoid earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                                            Constants.WGS84_EARTH_FLATTENING,
+                                                            FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        final List<TopocentricFrame> stations = new ArrayList<>();
+        for (int i = 0; i < 24; ++i) {
+            final GeodeticPoint point = new GeodeticPoint(FastMath.toRadians(-60.0 + 5.0 * i),
+                                                          FastMath.toRadians(15.0 * i), 0.0);
+            stations.add(new TopocentricFrame(earth, point, "station-" + i));
+        }
+        final ForkJoinPool pool = new ForkJoinPool(4);
+
+        // WHEN
+        final List<EventsLogger.LoggedEvent> sequential;
+        final List<EventsLogger.LoggedEvent> parallel;
+        try {
+            sequential = logVisibilities(stations, null);
+            parallel   = logVisibilities(stations, pool);
+        } finally {
+            pool.shutdown();
+        }
+
+        // THEN
+        Assertions.assertTrue(sequential.size() > 24);
+        Assertions.assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); ++i) {
+            Assertions.assertEquals(sequential.get(i).getDate(), parallel.get(i).getDate());
+            Assertions.assertEquals(sequential.get(i).isIncreasing(), parallel.get(i).isIncreasing());
+            Assertions.assertSame(((ElevationDetector) sequential.get(i).getEventDetector()).getTopocentricFrame(),
+                                  ((ElevationDetector) parallel.get(i).getEventDetector()).getTopocentricFrame());
+        }
+    }
+
+    private List<EventsLogger.LoggedEvent> logVisibilities(final List<TopocentricFrame> stations,
+                                                           final ForkJoinPool pool) {
+        final TLEPropagator propagator = TLEPropagator.selectExtrapolator(tle);
+        propagator.setEventsPool(pool);
+        final EventsLogger logger = new EventsLogger();
+        for (final TopocentricFrame station : stations) {
+            propagator.addEventDetector(logger.monitorDetector(new ElevationDetector(60.0, 1.0e-6, station).
+                                                               withConstantElevation(FastMath.toRadians(5.0)).
+                                                               withHandler(new ContinueOnEvent())));
+        }
+        propagator.propagate(tle.getDate().shiftedBy(2 * period));
+        return logger.getLoggedEvents();
+    }
+
     @BeforeEach
     public void setUp() {
         Utils.setDataRoot("regular-data");
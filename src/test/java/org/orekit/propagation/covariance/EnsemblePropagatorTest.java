@@ -0,0 +1,266 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.covariance;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.linear.MatrixUtils;
+import org.hipparchus.linear.RealMatrix;
+import org.hipparchus.ode.nonstiff.ClassicalRungeKuttaIntegrator;
+import org.hipparchus.random.Well19937a;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.attitudes.AttitudeProvider;
+import org.orekit.attitudes.FrameAlignedProvider;
+import org.orekit.attitudes.LofOffset;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.forces.gravity.potential.NormalizedSphericalHarmonicsProvider;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.LOFType;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.numerical.NumericalPropagator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.IERSConventions;
+import org.orekit.utils.PVCoordinates;
+
+class EnsemblePropagatorTest {
+
+    private SpacecraftState nominal;
+    private StateCovariance covariance;
+
+    @Test
+    void testInitialStatistics() {
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, covariance, 4000, new Well19937a(0x3f8a2c61e5d4b7a9L),
+                                       50.0);
+        Assertions.assertEquals(4000, ensemble.getSamples());
+        Assertions.assertSame(nominal, ensemble.getNominalState());
+
+        final List<EnsembleStatistics> statistics =
+                ensemble.propagate(Collections.singletonList(nominal.getDate()));
+        Assertions.assertEquals(1, statistics.size());
+        final EnsembleStatistics initial = statistics.get(0);
+        Assertions.assertEquals(4000, initial.getSize());
+        Assertions.assertSame(nominal.getFrame(), initial.getFrame());
+
+        // mean is close to nominal, covariance is close to input covariance
+        final PVCoordinates mean = initial.getMean();
+        Assertions.assertEquals(0.0, Vector3D.distance(nominal.getPosition(), mean.getPosition()), 10.0);
+        Assertions.assertEquals(0.0, Vector3D.distance(nominal.getPVCoordinates().getVelocity(), mean.getVelocity()), 0.01);
+        final RealMatrix computed = initial.getCovariance().getMatrix();
+        final RealMatrix expected = covariance.getMatrix();
+        for (int i = 0; i < 6; ++i) {
+            Assertions.assertEquals(expected.getEntry(i, i), computed.getEntry(i, i), 0.1 * expected.getEntry(i, i));
+        }
+
+        // median of a Gaussian distribution is close to its mean
+        Assertions.assertArrayEquals(new double[] { 50.0 }, initial.getPercentileLevels(), 0.0);
+        Assertions.assertEquals(0.0, Vector3D.distance(mean.getPosition(), initial.getPercentile(0).getPosition()), 10.0);
+
+    }
+
+    @Test
+    void testReproducibleSamples() {
+        final AttitudeProvider aligned = new FrameAlignedProvider(nominal.getFrame());
+        final EnsemblePropagator e1 =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, covariance, 10, new Well19937a(0x52c1f0e8d7b3a496L));
+        final EnsemblePropagator e2 =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, covariance, 10, new Well19937a(0x52c1f0e8d7b3a496L));
+        for (int i = 0; i < e1.getSamples(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(e1.getSample(i, aligned).getPosition(), e2.getSample(i, aligned).getPosition()),
+                                    0.0);
+            Assertions.assertEquals(nominal.getDate(), e1.getSample(i, aligned).getDate());
+        }
+    }
+
+    @Test
+    void testLofCovariance() {
+        // 1 km along-track uncertainty only
+        final RealMatrix matrix = MatrixUtils.createRealDiagonalMatrix(new double[] {
+            1.0e-6, 1.0e6, 1.0e-6, 1.0e-12, 1.0e-12, 1.0e-12
+        });
+        final StateCovariance lofCovariance = new StateCovariance(matrix, nominal.getDate(), LOFType.TNW);
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, lofCovariance, 200, new Well19937a(0x7e6d5c4b3a291807L));
+        final Vector3D t = nominal.getPVCoordinates().getVelocity().normalize();
+        final AttitudeProvider aligned = new FrameAlignedProvider(nominal.getFrame());
+        for (int i = 0; i < ensemble.getSamples(); ++i) {
+            // samples are displaced along velocity
+            final Vector3D delta = ensemble.getSample(i, aligned).getPosition().subtract(nominal.getPosition());
+            Assertions.assertEquals(0.0, Vector3D.crossProduct(delta, t).getNorm(), 0.01);
+        }
+    }
+
+    @Test
+    void testNumericalSpreading() {
+        final NormalizedSphericalHarmonicsProvider gravity = GravityFieldFactory.getNormalizedProvider(2, 0);
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> {
+                    // each worker gets its own propagator and force models
+                    final NumericalPropagator propagator =
+                            new NumericalPropagator(new ClassicalRungeKuttaIntegrator(60.0));
+                    propagator.setOrbitType(OrbitType.CARTESIAN);
+                    propagator.addForceModel(new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010,
+                                                                                                         true),
+                                                                                   gravity));
+                    propagator.setInitialState(nominal);
+                    return propagator;
+                }, nominal, covariance, 64, new Well19937a(0x1b2c3d4e5f60718fL), 5.0, 95.0);
+
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (int i = 0; i < 4; ++i) {
+            dates.add(nominal.getDate().shiftedBy(i * 1200.0));
+        }
+        Collections.swap(dates, 1, 2);
+        final ForkJoinPool             pool       = new ForkJoinPool(4);
+        final List<EnsembleStatistics> statistics = ensemble.propagate(pool, dates);
+        pool.shutdown();
+
+        // dates are sorted chronologically as first date is before last date
+        Assertions.assertEquals(4, statistics.size());
+        double previousSpread = 0;
+        for (int i = 0; i < statistics.size(); ++i) {
+            final EnsembleStatistics current = statistics.get(i);
+            Assertions.assertEquals(i * 1200.0, current.getDate().durationFrom(nominal.getDate()), 1.0e-10);
+            Assertions.assertEquals(64, current.getSize());
+
+            // velocity uncertainty makes the ensemble spread out
+            final RealMatrix c = current.getCovariance().getMatrix();
+            final double spread = c.getEntry(0, 0) + c.getEntry(1, 1) + c.getEntry(2, 2);
+            Assertions.assertTrue(spread > previousSpread);
+            previousSpread = spread;
+
+            // 5% and 95% percentiles bracket the mean
+            final Vector3D low  = current.getPercentile(0).getPosition();
+            final Vector3D mean = current.getMean().getPosition();
+            final Vector3D high = current.getPercentile(1).getPosition();
+            Assertions.assertTrue(low.getX() < mean.getX() && mean.getX() < high.getX());
+            Assertions.assertTrue(low.getY() < mean.getY() && mean.getY() < high.getY());
+            Assertions.assertTrue(low.getZ() < mean.getZ() && mean.getZ() < high.getZ());
+        }
+
+    }
+
+    @Test
+    void testIndependentOfThreads() {
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, covariance, 500, new Well19937a(0x4d3c2b1a09f8e7d6L),
+                                       10.0, 50.0, 90.0);
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (int i = 0; i < 5; ++i) {
+            dates.add(nominal.getDate().shiftedBy(i * 900.0));
+        }
+        final List<EnsembleStatistics> reference = propagate(ensemble, 1, dates);
+        for (int run = 0; run < 3; ++run) {
+            final List<EnsembleStatistics> other = propagate(ensemble, 4, dates);
+            for (int i = 0; i < dates.size(); ++i) {
+                // results are strictly identical, not only close
+                final EnsembleStatistics r = reference.get(i);
+                final EnsembleStatistics o = other.get(i);
+                Assertions.assertEquals(r.getSize(), o.getSize());
+                Assertions.assertEquals(0.0, Vector3D.distance(r.getMean().getPosition(), o.getMean().getPosition()), 0.0);
+                Assertions.assertEquals(0.0,
+                                        r.getCovariance().getMatrix().subtract(o.getCovariance().getMatrix()).getNorm1(),
+                                        0.0);
+                for (int k = 0; k < 3; ++k) {
+                    Assertions.assertEquals(0.0,
+                                            Vector3D.distance(r.getPercentile(k).getPosition(),
+                                                              o.getPercentile(k).getPosition()),
+                                            0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testSampleAttitude() {
+        final AttitudeProvider lof = new LofOffset(nominal.getFrame(), LOFType.TNW);
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit(), lof),
+                                       nominal, covariance, 10, new Well19937a(0x0a1b2c3d4e5f6071L));
+        for (int i = 0; i < ensemble.getSamples(); ++i) {
+            // attitude follows the perturbed orbit, not the nominal one
+            final SpacecraftState sample = ensemble.getSample(i, lof);
+            final Vector3D t = sample.getPVCoordinates().getVelocity().normalize();
+            Assertions.assertEquals(0.0,
+                                    Vector3D.angle(t, sample.getAttitude().getRotation().applyInverseTo(Vector3D.PLUS_I)),
+                                    1.0e-12);
+        }
+    }
+
+    private List<EnsembleStatistics> propagate(final EnsemblePropagator ensemble, final int threads,
+                                               final List<AbsoluteDate> dates) {
+        final ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return ensemble.propagate(pool, dates);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testWrongSettings() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                                             nominal, covariance, 1, new Well19937a(0L)));
+        final StateCovariance shifted = new StateCovariance(covariance.getMatrix(),
+                                                            nominal.getDate().shiftedBy(1.0),
+                                                            covariance.getFrame(),
+                                                            OrbitType.CARTESIAN, PositionAngleType.TRUE);
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                                             nominal, shifted, 10, new Well19937a(0L)));
+        final EnsemblePropagator ensemble =
+                new EnsemblePropagator(() -> new KeplerianPropagator(nominal.getOrbit()),
+                                       nominal, covariance, 10, new Well19937a(0L));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> ensemble.propagate(Collections.emptyList()));
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        final KeplerianOrbit orbit = new KeplerianOrbit(7.0e6, 1.0e-3, 1.2, 0.3, 0.4, 0.5, PositionAngleType.MEAN,
+                                                        FramesFactory.getEME2000(),
+                                                        new AbsoluteDate(2004, 4, 1, TimeScalesFactory.getUTC()),
+                                                        3.986004415e14);
+        nominal = new SpacecraftState(orbit);
+        final double[] variances = new double[] { 1.0e4, 1.0e4, 1.0e4, 1.0e-2, 1.0e-2, 1.0e-2 };
+        covariance = new StateCovariance(MatrixUtils.createRealDiagonalMatrix(variances), orbit.getDate(),
+                                         orbit.getFrame(), OrbitType.CARTESIAN, PositionAngleType.TRUE);
+    }
+
+}
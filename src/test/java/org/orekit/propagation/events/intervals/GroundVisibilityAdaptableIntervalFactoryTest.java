@@ -0,0 +1,231 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.events.intervals;
+
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.GeodeticPoint;
+import org.orekit.bodies.OneAxisEllipsoid;
+import org.orekit.frames.Frame;
+import org.orekit.frames.FramesFactory;
+import org.orekit.frames.TopocentricFrame;
+import org.orekit.geometry.fov.CircularFieldOfView;
+import org.orekit.models.earth.ITURP834AtmosphericRefraction;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.analytical.KeplerianPropagator;
+import org.orekit.propagation.events.AbstractDetector;
+import org.orekit.propagation.events.ElevationDetector;
+import org.orekit.propagation.events.EventsLogger;
+import org.orekit.propagation.events.GroundFieldOfViewDetector;
+import org.orekit.propagation.events.NegateDetector;
+import org.orekit.propagation.events.handlers.ContinueOnEvent;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.AbsolutePVCoordinates;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+class GroundVisibilityAdaptableIntervalFactoryTest {
+
+    private OneAxisEllipsoid earth;
+    private TopocentricFrame topo;
+    private KeplerianOrbit   orbit;
+
+    @Test
+    void testElevation() {
+        final ElevationDetector detector = new ElevationDetector(topo).
+                                           withConstantElevation(FastMath.toRadians(5.0)).
+                                           withHandler(new ContinueOnEvent());
+        final CountingInterval reference = new CountingInterval(AdaptableInterval.of(60.0));
+        final CountingInterval bounded   =
+                new CountingInterval(GroundVisibilityAdaptableIntervalFactory.
+                                     getAdaptableInterval(detector, Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                          60.0, 3600.0));
+        checkSameEvents(detector, reference, bounded);
+        Assertions.assertTrue(bounded.count < reference.count / 2);
+    }
+
+    @Test
+    void testNegatedElevation() {
+        // the negated detector reuses the max check of the wrapped detector,
+        // but its switching function has the opposite sign
+        final ElevationDetector detector = new ElevationDetector(topo).
+                                           withConstantElevation(FastMath.toRadians(5.0));
+        final AdaptableInterval bounded =
+                GroundVisibilityAdaptableIntervalFactory.getAdaptableInterval(detector,
+                                                                              Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                                              60.0, 3600.0);
+        final NegateDetector reference = new NegateDetector(detector.withMaxCheck(60.0)).
+                                         withHandler(new ContinueOnEvent());
+        final NegateDetector negated   = new NegateDetector(detector.withMaxCheck(bounded)).
+                                         withHandler(new ContinueOnEvent());
+        Assertions.assertSame(bounded, negated.getMaxCheckInterval());
+
+        final List<EventsLogger.LoggedEvent> referenceEvents = propagate(reference);
+        final List<EventsLogger.LoggedEvent> negatedEvents   = propagate(negated);
+        Assertions.assertTrue(referenceEvents.size() > 4);
+        Assertions.assertEquals(referenceEvents.size(), negatedEvents.size());
+        for (int i = 0; i < referenceEvents.size(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    negatedEvents.get(i).getDate().durationFrom(referenceEvents.get(i).getDate()),
+                                    1.0e-3);
+            Assertions.assertEquals(referenceEvents.get(i).isIncreasing(), negatedEvents.get(i).isIncreasing());
+        }
+    }
+
+    @Test
+    void testSwitchingFunctionEvaluations() {
+        // the interval evaluates the switching function by itself, this must be
+        // compensated by the number of skipped checks
+        final CountingTopocentricFrame counting =
+                new CountingTopocentricFrame(earth, topo.getPoint(), topo.getName());
+        final ElevationDetector detector = new ElevationDetector(counting).
+                                           withConstantElevation(FastMath.toRadians(5.0)).
+                                           withHandler(new ContinueOnEvent());
+        final AdaptableInterval bounded =
+                GroundVisibilityAdaptableIntervalFactory.getAdaptableInterval(detector,
+                                                                              Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                                              60.0, 3600.0);
+
+        propagate(detector.withMaxCheck(60.0));
+        final int reference = counting.count;
+        counting.count = 0;
+        propagate(detector.withMaxCheck(bounded));
+        Assertions.assertTrue(counting.count < reference);
+    }
+
+    @Test
+    void testGroundFieldOfView() {
+        final GroundFieldOfViewDetector detector =
+                new GroundFieldOfViewDetector(topo, new CircularFieldOfView(Vector3D.PLUS_K, FastMath.toRadians(70.0), 0.0)).
+                withHandler(new ContinueOnEvent());
+        final CountingInterval reference = new CountingInterval(AdaptableInterval.of(60.0));
+        final CountingInterval bounded   =
+                new CountingInterval(GroundVisibilityAdaptableIntervalFactory.
+                                     getAdaptableInterval(detector, earth.getBodyFrame(),
+                                                          Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                          60.0, 3600.0));
+        checkSameEvents(detector, reference, bounded);
+        Assertions.assertTrue(bounded.count < reference.count);
+    }
+
+    @Test
+    void testUnboundedDetector() {
+        final ElevationDetector detector = new ElevationDetector(topo).
+                                           withRefraction(new ITURP834AtmosphericRefraction(0.0));
+        final AdaptableInterval interval =
+                GroundVisibilityAdaptableIntervalFactory.getAdaptableInterval(detector,
+                                                                              Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                                              60.0, 3600.0);
+        Assertions.assertEquals(60.0, interval.currentInterval(new SpacecraftState(orbit), true), 1.0e-15);
+    }
+
+    @Test
+    void testNonOrbitState() {
+        final ElevationDetector detector = new ElevationDetector(topo).withConstantElevation(FastMath.toRadians(5.0));
+        final AdaptableInterval interval =
+                GroundVisibilityAdaptableIntervalFactory.getAdaptableInterval(detector,
+                                                                              Constants.WGS84_EARTH_ANGULAR_VELOCITY,
+                                                                              60.0, 3600.0);
+        final SpacecraftState inertial = new SpacecraftState(orbit);
+        final SpacecraftState bodyFixed =
+                new SpacecraftState(new AbsolutePVCoordinates(earth.getBodyFrame(), orbit.getDate(),
+                                                              orbit.getPVCoordinates(earth.getBodyFrame())));
+        Assertions.assertTrue(interval.currentInterval(inertial, true) >= 60.0);
+        Assertions.assertEquals(60.0, interval.currentInterval(bodyFixed, true), 1.0e-15);
+    }
+
+    private void checkSameEvents(final AbstractDetector<?> detector,
+                                 final AdaptableInterval reference, final AdaptableInterval bounded) {
+        final List<EventsLogger.LoggedEvent> referenceEvents = propagate(detector.withMaxCheck(reference));
+        final List<EventsLogger.LoggedEvent> boundedEvents   = propagate(detector.withMaxCheck(bounded));
+        Assertions.assertTrue(referenceEvents.size() > 4);
+        Assertions.assertEquals(referenceEvents.size(), boundedEvents.size());
+        for (int i = 0; i < referenceEvents.size(); ++i) {
+            Assertions.assertEquals(0.0,
+                                    boundedEvents.get(i).getDate().durationFrom(referenceEvents.get(i).getDate()),
+                                    1.0e-3);
+        }
+    }
+
+    private List<EventsLogger.LoggedEvent> propagate(final AbstractDetector<?> detector) {
+        final KeplerianPropagator propagator = new KeplerianPropagator(orbit);
+        final EventsLogger logger = new EventsLogger();
+        propagator.addEventDetector(logger.monitorDetector(detector));
+        propagator.propagate(orbit.getDate().shiftedBy(Constants.JULIAN_DAY));
+        return logger.getLoggedEvents();
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        earth = new OneAxisEllipsoid(Constants.WGS84_EARTH_EQUATORIAL_RADIUS,
+                                     Constants.WGS84_EARTH_FLATTENING,
+                                     FramesFactory.getITRF(IERSConventions.IERS_2010, true));
+        topo  = new TopocentricFrame(earth,
+                                     new GeodeticPoint(FastMath.toRadians(43.6), FastMath.toRadians(1.44), 150.0),
+                                     "Toulouse");
+        orbit = new KeplerianOrbit(6378137.0 + 550.0e3, 0.001, FastMath.toRadians(51.6),
+                                   0.5, 1.2, 0.3, PositionAngleType.MEAN, FramesFactory.getEME2000(),
+                                   new AbsoluteDate(2024, 6, 21, 0, 0, 0.0, TimeScalesFactory.getUTC()),
+                                   Constants.EIGEN5C_EARTH_MU);
+    }
+
+    private static class CountingInterval implements AdaptableInterval {
+
+        private final AdaptableInterval interval;
+        private int count;
+
+        CountingInterval(final AdaptableInterval interval) {
+            this.interval = interval;
+            this.count    = 0;
+        }
+
+        @Override
+        public double currentInterval(final SpacecraftState state, final boolean isForward) {
+            ++count;
+            return interval.currentInterval(state, isForward);
+        }
+
+    }
+
+    private static class CountingTopocentricFrame extends TopocentricFrame {
+
+        private int count;
+
+        CountingTopocentricFrame(final OneAxisEllipsoid parentShape, final GeodeticPoint point, final String name) {
+            super(parentShape, point, name);
+            this.count = 0;
+        }
+
+        @Override
+        public double getElevation(final Vector3D extPoint, final Frame frame, final AbsoluteDate date) {
+            ++count;
+            return super.getElevation(extPoint, frame, date);
+        }
+
+    }
+
+}
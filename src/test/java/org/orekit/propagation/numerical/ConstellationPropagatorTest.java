@@ -0,0 +1,182 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.propagation.numerical;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.hipparchus.geometry.euclidean.threed.Vector3D;
+import org.hipparchus.ode.nonstiff.ClassicalRungeKuttaIntegrator;
+import org.hipparchus.util.FastMath;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.bodies.CelestialBodyFactory;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.forces.ForceModel;
+import org.orekit.forces.maneuvers.ConstantThrustManeuver;
+import org.orekit.forces.gravity.HolmesFeatherstoneAttractionModel;
+import org.orekit.forces.gravity.ThirdBodyAttraction;
+import org.orekit.forces.gravity.potential.GravityFieldFactory;
+import org.orekit.frames.FramesFactory;
+import org.orekit.orbits.KeplerianOrbit;
+import org.orekit.orbits.OrbitType;
+import org.orekit.orbits.PositionAngleType;
+import org.orekit.orbits.WalkerConstellation;
+import org.orekit.orbits.WalkerConstellationSlot;
+import org.orekit.propagation.SpacecraftState;
+import org.orekit.propagation.sampling.MultiSatStepHandler;
+import org.orekit.propagation.sampling.OrekitStepInterpolator;
+import org.orekit.time.AbsoluteDate;
+import org.orekit.time.TimeScalesFactory;
+import org.orekit.utils.Constants;
+import org.orekit.utils.IERSConventions;
+
+class ConstellationPropagatorTest {
+
+    private List<SpacecraftState> initialStates;
+    private List<ForceModel>      forceModels;
+
+    @Test
+    void testVsIndividualPropagators() {
+
+        final ConstellationPropagator constellation =
+                new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(30.0), initialStates);
+        forceModels.forEach(constellation::addForceModel);
+        Assertions.assertEquals(3, constellation.getForceModels().size());
+        final AbsoluteDate target = initialStates.get(0).getDate().shiftedBy(3 * 3600.0);
+        final List<SpacecraftState> finalStates = constellation.propagate(target);
+        Assertions.assertEquals(initialStates.size(), finalStates.size());
+        Assertions.assertSame(finalStates, constellation.getStates());
+
+        for (int i = 0; i < initialStates.size(); ++i) {
+            final NumericalPropagator single = new NumericalPropagator(new ClassicalRungeKuttaIntegrator(30.0));
+            single.setOrbitType(OrbitType.CARTESIAN);
+            forceModels.forEach(single::addForceModel);
+            single.setInitialState(initialStates.get(i));
+            final SpacecraftState reference = single.propagate(target);
+            Assertions.assertEquals(0.0, finalStates.get(i).getDate().durationFrom(target), 1.0e-10);
+            Assertions.assertEquals(0.0,
+                                    Vector3D.distance(reference.getPosition(), finalStates.get(i).getPosition()),
+                                    1.0e-4);
+        }
+
+    }
+
+    @Test
+    void testStepHandler() {
+        final ConstellationPropagator constellation =
+                new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(60.0), initialStates);
+        forceModels.forEach(constellation::addForceModel);
+        final int[] counts = new int[3];
+        constellation.setStepHandler(new MultiSatStepHandler() {
+            @Override
+            public void init(final List<SpacecraftState> states0, final AbsoluteDate t) {
+                Assertions.assertEquals(initialStates.size(), states0.size());
+                ++counts[0];
+            }
+            @Override
+            public void handleStep(final List<OrekitStepInterpolator> interpolators) {
+                Assertions.assertEquals(initialStates.size(), interpolators.size());
+                final AbsoluteDate previous = interpolators.get(0).getPreviousState().getDate();
+                final AbsoluteDate current  = interpolators.get(0).getCurrentState().getDate();
+                Assertions.assertEquals(60.0, current.durationFrom(previous), 1.0e-10);
+                final AbsoluteDate middle = previous.shiftedBy(30.0);
+                for (final OrekitStepInterpolator interpolator : interpolators) {
+                    Assertions.assertTrue(interpolator.isForward());
+                    Assertions.assertEquals(0.0, interpolator.getCurrentState().getDate().durationFrom(current), 1.0e-10);
+                    final SpacecraftState s = interpolator.getInterpolatedState(middle);
+                    Assertions.assertEquals(0.0, s.getDate().durationFrom(middle), 1.0e-10);
+                    final double r = s.getPosition().getNorm();
+                    Assertions.assertTrue(r > 7.0e6 && r < 7.2e6);
+                }
+                ++counts[1];
+            }
+            @Override
+            public void finish(final List<SpacecraftState> finalStates) {
+                Assertions.assertEquals(initialStates.size(), finalStates.size());
+                ++counts[2];
+            }
+        });
+        constellation.propagate(initialStates.get(0).getDate().shiftedBy(1800.0));
+        Assertions.assertEquals(1,  counts[0]);
+        Assertions.assertEquals(30, counts[1]);
+        Assertions.assertEquals(1,  counts[2]);
+
+        // a new propagation continues from the last states
+        constellation.setStepHandler(null);
+        final List<SpacecraftState> states = constellation.propagate(initialStates.get(0).getDate().shiftedBy(3600.0));
+        Assertions.assertEquals(3600.0, states.get(0).getDate().durationFrom(initialStates.get(0).getDate()), 1.0e-10);
+        Assertions.assertEquals(30, counts[1]);
+    }
+
+    @Test
+    void testWrongStates() {
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(60.0),
+                                                                  Collections.emptyList()));
+
+        final List<SpacecraftState> shifted = new ArrayList<>(initialStates);
+        shifted.set(1, shifted.get(1).shiftedBy(1.0));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(60.0), shifted));
+
+        final List<SpacecraftState> mixed = new ArrayList<>(initialStates);
+        final KeplerianOrbit gcrf = new KeplerianOrbit(mixed.get(1).getPVCoordinates(FramesFactory.getGCRF()),
+                                                       FramesFactory.getGCRF(), mixed.get(1).getDate(),
+                                                       Constants.EIGEN5C_EARTH_MU);
+        mixed.set(1, new SpacecraftState(gcrf));
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(60.0), mixed));
+    }
+
+    @Test
+    void testForceModelWithEventDetectors() {
+        final ConstellationPropagator constellation =
+                new ConstellationPropagator(new ClassicalRungeKuttaIntegrator(60.0), initialStates);
+        final ConstantThrustManeuver maneuver =
+                new ConstantThrustManeuver(initialStates.get(0).getDate().shiftedBy(600.0), 60.0,
+                                           400.0, 300.0, Vector3D.PLUS_I);
+        Assertions.assertThrows(OrekitIllegalArgumentException.class,
+                                () -> constellation.addForceModel(maneuver));
+        Assertions.assertTrue(constellation.getForceModels().isEmpty());
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data:potential/icgem-format");
+        final KeplerianOrbit reference =
+                new KeplerianOrbit(7.1e6, 1.0e-3, FastMath.toRadians(55.0), 0.0, 0.0, 0.0, PositionAngleType.MEAN,
+                                   FramesFactory.getEME2000(), new AbsoluteDate(2004, 4, 1, TimeScalesFactory.getUTC()),
+                                   Constants.EIGEN5C_EARTH_MU);
+        initialStates = new ArrayList<>();
+        for (final List<WalkerConstellationSlot<KeplerianOrbit>> plane :
+             new WalkerConstellation(6, 2, 1).buildRegularSlots(reference)) {
+            for (final WalkerConstellationSlot<KeplerianOrbit> slot : plane) {
+                initialStates.add(new SpacecraftState(slot.getOrbit()));
+            }
+        }
+        forceModels = new ArrayList<>();
+        forceModels.add(new HolmesFeatherstoneAttractionModel(FramesFactory.getITRF(IERSConventions.IERS_2010, true),
+                                                              GravityFieldFactory.getNormalizedProvider(4, 4)));
+        forceModels.add(new ThirdBodyAttraction(CelestialBodyFactory.getSun()));
+        forceModels.add(new ThirdBodyAttraction(CelestialBodyFactory.getMoon()));
+    }
+
+}
@@ -18,6 +18,8 @@ package org.orekit.time;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
 
 
 public class DateComponentsTest {
@@ -225,6 +227,29 @@ public class DateComponentsTest {
         Assertions.assertEquals(-5377, DateComponents.parseDate("1985-W15-5").getJ2000Day());
     }
 
+    @Test
+    public void testParseSubSequence() {
+        final StringBuilder builder = new StringBuilder("xx1985-04-12yy1985W155zz1985102");
+        Assertions.assertEquals(-5377, DateComponents.parseDate(builder,  2, 12).getJ2000Day());
+        Assertions.assertEquals(-5377, DateComponents.parseDate(builder, 14, 22).getJ2000Day());
+        Assertions.assertEquals(-5377, DateComponents.parseDate(builder, 24, 31).getJ2000Day());
+        Assertions.assertEquals(-5377, DateComponents.parseDate("1985-0412").getJ2000Day());
+        Assertions.assertEquals(-5377, DateComponents.parseDate("198504-12").getJ2000Day());
+        for (final String wrong : new String[] {
+            "", "-", "1985", "1985-", "1985-04", "1985-04-1", "1985-04-123", "1985--0412",
+            "1985-04+12", "1985-1x2", "85-04-12", "1985W15", "1985W15-", "1985-W15-55", "1985-W1a-5",
+            "+1985-04-12", " 1985-04-12", "1985-04-12 "
+        }) {
+            try {
+                DateComponents.parseDate(wrong);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitIllegalArgumentException oiae) {
+                Assertions.assertEquals(OrekitMessages.NON_EXISTENT_DATE, oiae.getSpecifier());
+                Assertions.assertEquals(wrong, oiae.getParts()[0]);
+            }
+        }
+    }
+
     @SuppressWarnings("unlikely-arg-type")
     @Test
     public void testComparisons() {
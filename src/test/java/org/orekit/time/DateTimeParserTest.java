@@ -0,0 +1,99 @@
+/* Copyright 2002-2026 CS GROUP
+ * Licensed to CS GROUP (CS) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * CS licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.orekit.time;
+
+import java.nio.CharBuffer;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.orekit.Utils;
+import org.orekit.errors.OrekitIllegalArgumentException;
+import org.orekit.errors.OrekitMessages;
+
+class DateTimeParserTest {
+
+    private TimeScale utc;
+
+    @Test
+    void testSameAsAbsoluteDate() {
+        final DateTimeParser parser = new DateTimeParser(utc);
+        Assertions.assertSame(utc, parser.getTimeScale());
+        for (final String s : new String[] {
+            "2016-12-31T23:59:58.5", "2016-12-31T23:59:59.999999999999999999", "2016-12-31T23:59:60.25",
+            "2017-01-01T00:00:00", "2017-01-01T00:00:00.001Z", "2017-01-01T12:34:56.789+02:00",
+            "2017-01-01", "20170101T123456", "2017001T12:00", "2016W527T12:00", "1960-06-15T06:30:00.125"
+        }) {
+            Assertions.assertEquals(new AbsoluteDate(s, utc), parser.parse(s), s);
+            // parse again, now with memorized day
+            Assertions.assertEquals(new AbsoluteDate(s, utc), parser.parse(s), s);
+        }
+    }
+
+    @Test
+    void testConsecutiveDates() {
+        final DateTimeParser parser = new DateTimeParser(utc);
+        final AbsoluteDate   start  = new AbsoluteDate(2016, 12, 31, 22, 0, 0.0, utc);
+        for (double dt = 0; dt < 7200.0; dt += 0.75) {
+            final AbsoluteDate expected = start.shiftedBy(dt);
+            Assertions.assertEquals(expected, parser.parse(expected.toString(utc)));
+        }
+    }
+
+    @Test
+    void testSubSequences() {
+        final DateTimeParser parser = new DateTimeParser(utc);
+        final CharBuffer buffer = CharBuffer.wrap("2024-03-14T12:00:00.5 2024-03-14T12:00:01 2024-03-15");
+        Assertions.assertEquals(new AbsoluteDate(2024, 3, 14, 12, 0, 0.5, utc), parser.parse(buffer, 0, 21));
+        Assertions.assertEquals(new AbsoluteDate(2024, 3, 14, 12, 0, 1.0, utc), parser.parse(buffer, 22, 41));
+        Assertions.assertEquals(new AbsoluteDate(2024, 3, 15, 0, 0, 0.0, utc), parser.parse(buffer, 42, 52));
+        buffer.position(22);
+        Assertions.assertEquals(new AbsoluteDate(2024, 3, 14, 12, 0, 1.0, utc), parser.parse(buffer.slice(), 0, 19));
+    }
+
+    @Test
+    void testWrongFormat() {
+        final DateTimeParser parser = new DateTimeParser(utc);
+        parser.parse("2024-03-14T12:00:00");
+        try {
+            parser.parse("2024-03-14T12h00");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NON_EXISTENT_TIME, oiae.getSpecifier());
+            Assertions.assertEquals("12h00", oiae.getParts()[0]);
+        }
+        try {
+            parser.parse("2024-02-30T12:00:00");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NON_EXISTENT_YEAR_MONTH_DAY, oiae.getSpecifier());
+        }
+        try {
+            parser.parse("T12:00:00");
+            Assertions.fail("an exception should have been thrown");
+        } catch (OrekitIllegalArgumentException oiae) {
+            Assertions.assertEquals(OrekitMessages.NON_EXISTENT_DATE, oiae.getSpecifier());
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        Utils.setDataRoot("regular-data");
+        utc = TimeScalesFactory.getUTC();
+    }
+
+}
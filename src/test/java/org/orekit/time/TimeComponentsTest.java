@@ -148,6 +148,38 @@ public class TimeComponentsTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> TimeComponents.parseTime("23h59m59s"));
     }
 
+    @Test
+    public void testParseSubSequence() {
+        final StringBuilder builder = new StringBuilder("xx23:59:59.900+01:30yy235959zz12:34Z");
+        final TimeComponents t1 = TimeComponents.parseTime(builder, 2, 20);
+        Assertions.assertEquals(86399.9, t1.getSecondsInLocalDay(), 1.0e-10);
+        Assertions.assertEquals(90, t1.getMinutesFromUTC());
+        Assertions.assertEquals(86399.0, TimeComponents.parseTime(builder, 22, 28).getSecondsInLocalDay(), 1.0e-10);
+        Assertions.assertEquals(45240.0, TimeComponents.parseTime(builder, 30, 36).getSecondsInLocalDay(), 1.0e-10);
+        Assertions.assertEquals(-90, TimeComponents.parseTime("23:59:59-0130").getMinutesFromUTC());
+        Assertions.assertEquals(45240.0, TimeComponents.parseTime("12:34:").getSecondsInLocalDay(), 1.0e-10);
+
+        // fractional seconds are parsed exactly, down to attoseconds
+        final TimeOffset second = TimeComponents.parseTime("12:34:56.123456789012345678999").getSplitSecond();
+        Assertions.assertEquals(56L, second.getSeconds());
+        Assertions.assertEquals(123456789012345678L, second.getAttoSeconds());
+        Assertions.assertEquals(100000000000000000L,
+                                TimeComponents.parseTime("12:34:56,1").getSplitSecond().getAttoSeconds());
+
+        for (final String wrong : new String[] {
+            "", "1", "12", "12:3", "12:34:5", "12:34:56.", "12:34:56.+01", "12:34:56Z0", "12:34:56+1",
+            "12:34:56+01:", "12:34:56+01:3", "12:34:56+013", "12:34:56+01:300", "12:34:56 ", "12::34:56"
+        }) {
+            try {
+                TimeComponents.parseTime(wrong);
+                Assertions.fail("an exception should have been thrown");
+            } catch (OrekitIllegalArgumentException oiae) {
+                Assertions.assertEquals(OrekitMessages.NON_EXISTENT_TIME, oiae.getSpecifier());
+                Assertions.assertEquals(wrong, oiae.getParts()[0]);
+            }
+        }
+    }
+
     @Test
     public void testLocalTime() {
         Assertions.assertEquals(60, TimeComponents.parseTime("23:59:59+01:00").getMinutesFromUTC());
@@ -429,6 +429,51 @@ public class UTCScaleTest {
         Assertions.assertEquals(57754, lastOffset.getMJD()); // 2017-01-01
     }
 
+    @Test
+    public void testOffsetLookupConsistency() {
+        final List<UTCTAIOffset> offsets = utc.getUTCTAIOffsets();
+
+        // dates around each leap and random dates
+        final List<AbsoluteDate> dates = new ArrayList<>();
+        for (final UTCTAIOffset offset : offsets) {
+            dates.add(offset.getDate().shiftedBy(new TimeOffset(0L, -1L)));
+            dates.add(offset.getDate());
+            dates.add(offset.getDate().shiftedBy(new TimeOffset(0L, 1L)));
+            dates.add(offset.getValidityStart());
+        }
+        final RandomGenerator random = new Well1024a(0x6d3a8e0b47c1f25dL);
+        final AbsoluteDate start = new AbsoluteDate(1955, 1, 1, TimeScalesFactory.getTAI());
+        for (int i = 0; i < 10000; ++i) {
+            dates.add(start.shiftedBy(random.nextDouble() * 80 * Constants.JULIAN_YEAR));
+        }
+
+        for (final AbsoluteDate date : dates) {
+            UTCTAIOffset reference = null;
+            for (final UTCTAIOffset offset : offsets) {
+                if (date.compareTo(offset.getDate()) >= 0) {
+                    reference = offset;
+                }
+            }
+            Assertions.assertEquals(reference == null ? TimeOffset.ZERO : reference.getOffset(date).negate(),
+                                    utc.offsetFromTAI(date));
+            Assertions.assertEquals(reference == null ? TimeOffset.ZERO : reference.getLeap(),
+                                    utc.getLeap(date));
+        }
+
+        for (int mjd = 36000; mjd < 62000; ++mjd) {
+            final DateComponents dc = new DateComponents(DateComponents.MODIFIED_JULIAN_EPOCH, mjd);
+            UTCTAIOffset reference = null;
+            for (final UTCTAIOffset offset : offsets) {
+                if (mjd >= offset.getMJD()) {
+                    reference = offset;
+                }
+            }
+            Assertions.assertEquals(reference == null ? TimeOffset.ZERO : reference.getOffset(dc, TimeComponents.H12),
+                                    utc.offsetToTAI(dc, TimeComponents.H12));
+        }
+
+    }
+
     @BeforeEach
     public void setUp() {
         Utils.setDataRoot("regular-data");
@@ -16,10 +16,19 @@
  */
 package org.orekit.time;
 
+import java.io.File;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.util.List;
+
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.orekit.Utils;
+import org.orekit.data.DataProvidersManager;
+import org.orekit.data.DirectoryCrawler;
+import org.orekit.data.ParsedDataCache;
 
 public class UTCTAIHistoryFilesLoaderRegularDataTest {
 
@@ -48,6 +57,29 @@ public class UTCTAIHistoryFilesLoaderRegularDataTest {
                             1.0e-12);
     }
 
+    @Test
+    public void testParsedDataCache(@TempDir Path tempDir) throws URISyntaxException {
+        DataProvidersManager manager = new DataProvidersManager();
+        manager.addProvider(new DirectoryCrawler(new File(getClass().getClassLoader().
+                                                          getResource("regular-data").toURI().getPath())));
+        List<OffsetModel> reference = new UTCTAIHistoryFilesLoader(manager).loadOffsets();
+        manager.setParsedDataCache(new ParsedDataCache(tempDir.toFile()));
+        for (int i = 0; i < 2; ++i) {
+            // first loading fills up the cache, second loading uses it
+            List<OffsetModel> cached = new UTCTAIHistoryFilesLoader(manager).loadOffsets();
+            Assertions.assertEquals(reference.size(), cached.size());
+            for (int j = 0; j < reference.size(); ++j) {
+                Assertions.assertEquals(reference.get(j).getStart(),  cached.get(j).getStart());
+                Assertions.assertEquals(reference.get(j).getMJDRef(), cached.get(j).getMJDRef());
+                Assertions.assertEquals(reference.get(j).getOffset(), cached.get(j).getOffset());
+                Assertions.assertEquals(reference.get(j).getSlope(),  cached.get(j).getSlope());
+            }
+        }
+        File[] entries = tempDir.toFile().listFiles();
+        Assertions.assertNotNull(entries);
+        Assertions.assertEquals(1, entries.length);
+    }
+
     @BeforeEach
     public void setUp() {
         Utils.setDataRoot("regular-data");
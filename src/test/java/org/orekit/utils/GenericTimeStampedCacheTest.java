@@ -201,6 +201,21 @@ public class GenericTimeStampedCacheTest {
                 ", ratio = " + (n / cache.getSlotsEvictions()) + ")");
     }
 
+    @Test
+    public void testMultithreadedSameRangeGeneratedOnce() throws TimeStampedCacheException {
+        GenericTimeStampedCache<AbsoluteDate> cache = createCache(10, 3600, 13);
+        List<AbsoluteDate> list = new ArrayList<>();
+        for (int i = 0; i < 200; ++i) {
+            list.add(AbsoluteDate.GALILEO_EPOCH);
+        }
+        Assertions.assertEquals(200, checkDatesMultiThread(list, cache, 16));
+        Assertions.assertEquals(200, cache.getGetNeighborsCalls());
+        // all threads share the single generation performed by the first one
+        Assertions.assertEquals(4, cache.getGenerateCalls());
+        Assertions.assertEquals(1, cache.getSlots());
+        Assertions.assertEquals(0, cache.getSlotsEvictions());
+    }
+
     @Test
     public void testSmallShift() throws TimeStampedCacheException {
         double hour = 3600;
@@ -16,6 +16,7 @@
  */
 package org.orekit.utils;
 
+import org.hipparchus.util.FastMath;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -26,7 +27,9 @@ import org.orekit.time.AbsoluteDate;
 import org.orekit.utils.TimeSpanMap.Span;
 import org.orekit.utils.TimeSpanMap.Transition;
 
+import java.time.Duration;
 import java.util.function.Consumer;
+import java.util.stream.IntStream;
 
 public class TimeSpanMapTest {
 
@@ -1059,6 +1062,64 @@ public class TimeSpanMapTest {
         }
     }
 
+    @Test
+    public void testConcurrentLookups() {
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(null);
+        for (int i = 0; i < 1000; ++i) {
+            map.addValidAfter(i, AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10.0 * i), false);
+        }
+
+        // random and sequential lookups from several threads
+        final int[] found = new int[20000];
+        IntStream.range(0, found.length).parallel().forEach(k -> {
+            final double dt = (k % 2 == 0) ? 0.5 * k : (k * 7919) % 10000;
+            found[k] = map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(dt));
+        });
+        for (int k = 0; k < found.length; ++k) {
+            final double dt = (k % 2 == 0) ? 0.5 * k : (k * 7919) % 10000;
+            Assertions.assertEquals(FastMath.min(999, (int) FastMath.floor(dt / 10.0)), found[k]);
+        }
+        Assertions.assertNull(map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(-1.0)));
+        Assertions.assertEquals(999, map.get(AbsoluteDate.FUTURE_INFINITY));
+        Assertions.assertNull(map.get(AbsoluteDate.PAST_INFINITY));
+
+        // modifications are visible to later lookups
+        Assertions.assertEquals(500, map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5005.0)));
+        map.addValidBetween(-1, AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5002.0), AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5008.0));
+        Assertions.assertEquals(-1, map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5005.0)));
+        map.getSpan(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5005.0)).getEndTransition().
+            resetDate(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5004.0), false);
+        Assertions.assertEquals(500, map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5005.0)));
+        map.configureExpunge(10, Double.POSITIVE_INFINITY, ExpungePolicy.EXPUNGE_EARLIEST);
+        map.addValidAfter(1000, AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10000.0), false);
+        checkException(map, m -> m.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(5005.0)), OrekitMessages.EXPUNGED_SPAN);
+        Assertions.assertEquals(1000, map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10005.0)));
+    }
+
+    @Test
+    public void testInterleavedAddGet() {
+        // pattern used for example when events add spans during propagation
+        // and force models look up the same map at each step; rebuilding the
+        // lookup snapshot at each step would make this quadratic
+        final int n = 200000;
+        final TimeSpanMap<Integer> map = new TimeSpanMap<>(null);
+        Assertions.assertTimeout(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < n; ++i) {
+                map.addValidAfter(i, AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10.0 * i), false);
+                Assertions.assertEquals(i,     map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10.0 * i + 5.0)));
+                Assertions.assertEquals(i == 0 ? null : Integer.valueOf(i - 1),
+                                        map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10.0 * i - 5.0)));
+            }
+        });
+
+        // once the map is stable, lookups switch to the lock-free snapshot
+        for (int k = 0; k < 2 * n; ++k) {
+            final int i = (int) ((k * 7919L) % n);
+            Assertions.assertEquals(i, map.get(AbsoluteDate.ARBITRARY_EPOCH.shiftedBy(10.0 * i + 5.0)));
+        }
+        Assertions.assertEquals(n, map.getSpansNumber() - 1);
+    }
+
     private <T> void checkException(final TimeSpanMap<T> map,
                                     final Consumer<TimeSpanMap<T>> f,
                                     OrekitMessages expected) {